@@ -0,0 +1,106 @@
+package net.minecraftforge.gradle.benchmarks;
+
+import com.google.common.collect.ImmutableMap;
+import net.minecraftforge.gradle.patching.ContextualPatch;
+import net.minecraftforge.gradle.patching.PatchBundle;
+import net.minecraftforge.gradle.patching.SourceLines;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applying corpus/mcp.patch to the corpus as the FF fixes leave it, the way the decompile applies the MCP patches.
+ * The throughput counts the files the patch changes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContextualPatchBenchmark {
+    @Benchmark
+    public void parseAndApply(Patches patches, SourceThroughput throughput, Blackhole hole) throws Exception {
+        Provider provider = new Provider(patches.files);
+        hole.consume(ContextualPatch.create(patches.text, provider).patch(false));
+        hole.consume(provider.patched);
+        throughput.add(patches.targets);
+    }
+
+    @Benchmark
+    public void apply(Patches patches, SourceThroughput throughput, Blackhole hole) throws Exception {
+        Provider provider = new Provider(patches.files);
+        hole.consume(patches.bundle.create("mcp", provider).patch(false));
+        hole.consume(provider.patched);
+        throughput.add(patches.targets);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Patches {
+        String text;
+        PatchBundle bundle;
+
+        // file name -> text
+        final Map<String, String> files = new HashMap<String, String>();
+        final List<String> targets = new ArrayList<String>();
+
+        @Setup
+        public void setup(Corpus corpus) throws Exception {
+            for (int i = 0; i < corpus.names.size(); i++)
+                files.put(corpus.names.get(i), corpus.fixed.get(i));
+
+            text = Corpus.read("mcp.patch");
+            bundle = PatchBundle.compile(ImmutableMap.of("mcp", text));
+
+            for (String target : bundle.getTargets().keySet())
+                targets.add(files.get(Provider.name(target)));
+
+            // a patch that stops applying would only measure the failure
+            for (ContextualPatch.PatchReport report : bundle.create("mcp", new Provider(files)).patch(true)) {
+                if (report.getStatus() != ContextualPatch.PatchStatus.Patched)
+                    throw new IllegalStateException("mcp.patch does not apply to " + report.getTarget(), report.getFailure());
+            }
+        }
+    }
+
+    /**
+     * Hands out the files by their name, the corpus has no directories.
+     */
+    private static class Provider implements ContextualPatch.IContextProvider {
+        private final Map<String, String> files;
+        private final Map<String, List<String>> patched = new HashMap<String, List<String>>();
+
+        Provider(Map<String, String> files) {
+            this.files = files;
+        }
+
+        static String name(String target) {
+            target = target.replace('\\', '/');
+            return target.substring(target.lastIndexOf('/') + 1);
+        }
+
+        @Override
+        public List<String> getData(String target) {
+            String text = files.get(name(target));
+            return text == null ? null : new SourceLines(text);
+        }
+
+        @Override
+        public void setData(String target, List<String> data) {
+            patched.put(name(target), data);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package net.minecraftforge.gradle.benchmarks;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Resources;
+import net.minecraftforge.gradle.sourcemanip.FFPatcher;
+import net.minecraftforge.gradle.sourcemanip.GLConstantFixer;
+import net.minecraftforge.gradle.sourcemanip.McpCleanup;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The synthetic decompiled sources in src/jmh/resources/corpus, as each step of the decompile gets them.
+ * <p>
+ * The files are made up to look like fernflower output of Minecraft: enums with their synthetic fields, GL calls with
+ * plain int constants, SRG names with entries in the CSVs next to them, and the float forms of pi. They are ASCII, so
+ * their length in chars is their size in bytes.
+ */
+@State(Scope.Benchmark)
+public class Corpus {
+    public static final String DIR = "corpus/";
+
+    public final List<String> names = new ArrayList<String>();
+
+    // as fernflower writes them
+    public final List<String> decompiled = new ArrayList<String>();
+
+    // after the FF fixes, what the MCP patches apply to
+    public final List<String> fixed = new ArrayList<String>();
+
+    // without comments, and with the imports fixed
+    public final List<String> stripped = new ArrayList<String>();
+
+    // after the MCP cleanup, the GL constants are next
+    public final List<String> cleaned = new ArrayList<String>();
+
+    // roughly what comes out of the formatter, see reindent
+    public final List<String> formatted = new ArrayList<String>();
+
+    public GLConstantFixer fixer;
+
+    @Setup
+    public void load() throws Exception {
+        fixer = new GLConstantFixer();
+
+        for (String name : read("files.txt").split("\n")) {
+            if (name.trim().isEmpty())
+                continue;
+
+            String text = read(name);
+            names.add(name);
+            decompiled.add(text);
+
+            text = FFPatcher.processFile(name, text);
+            fixed.add(text);
+
+            text = McpCleanup.fixImports(McpCleanup.stripComments(text));
+            stripped.add(text);
+
+            text = McpCleanup.cleanup(text);
+            cleaned.add(text);
+
+            formatted.add(reindent(fixer.fixOGL(text)));
+        }
+    }
+
+    public static String read(String name) throws IOException {
+        return Resources.toString(Resources.getResource(Corpus.class, "/" + DIR + name), Charsets.UTF_8);
+    }
+
+    /**
+     * Fernflower indents by 3 spaces, the formatter by 4, and the FML cleanup only finds methods indented by 4.
+     * The braces are left where they are, the cleanup doesn't look at them.
+     */
+    static String reindent(String text) {
+        StringBuilder out = new StringBuilder(text.length() + text.length() / 4);
+        boolean lineStart = true;
+        int spaces = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (lineStart && c == ' ') {
+                spaces++;
+                continue;
+            }
+
+            if (lineStart) {
+                for (int j = 0; j < spaces / 3 * 4 + spaces % 3; j++)
+                    out.append(' ');
+                spaces = 0;
+            }
+
+            out.append(c);
+            lineStart = c == '\n' || c == '\r';
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,243 @@
+package net.minecraftforge.gradle.benchmarks;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import net.minecraftforge.gradle.benchmarks.legacy.LegacyDecompileCleanup;
+import net.minecraftforge.gradle.benchmarks.legacy.LegacyFFPatcher;
+import net.minecraftforge.gradle.benchmarks.legacy.LegacyFmlCleanup;
+import net.minecraftforge.gradle.benchmarks.legacy.LegacyGLConstantFixer;
+import net.minecraftforge.gradle.benchmarks.legacy.LegacyMcpCleanup;
+import net.minecraftforge.gradle.benchmarks.legacy.LegacyRemapper;
+import net.minecraftforge.gradle.sourcemanip.FFPatcher;
+import net.minecraftforge.gradle.sourcemanip.FmlCleanup;
+import net.minecraftforge.gradle.sourcemanip.McpCleanup;
+import net.minecraftforge.gradle.sourcemanip.SourceCleanup;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Runs every rewritten decompile step and the original it replaced on the corpus, and on copies of it with made up
+ * code mixed in, and fails if any of them disagree.
+ * <p>
+ * The originals are the copies in the legacy package. Arguments: the number of mixed up copies of each file, and the
+ * seed.
+ */
+public class EquivalenceCheck {
+    // bits of the things the steps look for, to put in random places
+    private static final String[] FRAGMENTS = {
+            "\n", "\r\n", "\n\n", " ", "\t", "   ", "    ",
+            "// line comment", "/* block */", "/**/", "\"str\\\"ing\"", "'\\''", "'x'", "\\",
+            "{", "}", ";", "(", ")",
+            "case 1:", "default:", "\n      case 2: x();\n", "if (a)", "\n   if (b) {\n",
+            "int var1 = 0;", "String var2", "catch (Exception var3)", "    public void a(int var4) {\n",
+            "3.14159F", "6.2831855D", "1.7976931348623157E308D", "0.0010D", "'\\u00a7'", "'\\u1234'", "Character.valueOf('c')",
+            "/*GL_TEXTURE_2D*/", "GL11.glEnable(3553);", "import org.lwjgl.opengl.GL11;\n",
+            "func_71410_x", "field_71474_y", "p_71410_1_", "    public void func_71410_x() {\n", "    private int field_71474_y;\n",
+            "super();\n", "      super();\n",
+            "\r", "\r\r\n", "\n\n\n", "\f", "\u000B", "\u0085", "\u2028", "\u2029",
+            "import net.minecraft.client.renderer.SynthMath;\r\n", "import net.minecraft.world.Foo;\n", "import java.util.List;\n",
+    };
+
+    private final Random random;
+    private final int copies;
+    private final PrintStream out;
+    private int failures;
+
+    private EquivalenceCheck(long seed, int copies, PrintStream out) {
+        this.random = new Random(seed);
+        this.copies = copies;
+        this.out = out;
+    }
+
+    public static void main(String[] args) throws Throwable {
+        int copies = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+
+        Corpus corpus = new Corpus();
+        corpus.load();
+
+        // both FML cleanups print every method variable they can't make sense of, which the mixed up copies are full of
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+        }));
+
+        EquivalenceCheck check = new EquivalenceCheck(seed, copies, out);
+        check.run(corpus);
+
+        if (check.failures > 0) {
+            out.println(check.failures + " differences");
+            System.exit(1);
+        }
+    }
+
+    private void run(final Corpus corpus) throws Throwable {
+        final List<String> names = corpus.names;
+
+        check("FFPatcher", corpus.decompiled, new Step() {
+            @Override
+            public String run(int file, String text, boolean legacy) throws Exception {
+                return legacy ? LegacyFFPatcher.processFile(names.get(file), text) : FFPatcher.processFile(names.get(file), text);
+            }
+        });
+
+        check("stripComments", corpus.fixed, new Step() {
+            @Override
+            public String run(int file, String text, boolean legacy) {
+                return legacy ? LegacyMcpCleanup.stripComments(text) : McpCleanup.stripComments(text);
+            }
+        });
+
+        check("fixImports", corpus.stripped, new Step() {
+            @Override
+            public String run(int file, String text, boolean legacy) {
+                return legacy ? LegacyMcpCleanup.fixImports(text) : McpCleanup.fixImports(text);
+            }
+        });
+
+        check("mcpCleanup", corpus.stripped, new Step() {
+            @Override
+            public String run(int file, String text, boolean legacy) {
+                return legacy ? LegacyMcpCleanup.cleanup(text) : McpCleanup.cleanup(text);
+            }
+        });
+
+        final LegacyGLConstantFixer legacyFixer = new LegacyGLConstantFixer();
+        check("glConstants", corpus.cleaned, new Step() {
+            @Override
+            public String run(int file, String text, boolean legacy) {
+                return legacy ? legacyFixer.fixOGL(text) : corpus.fixer.fixOGL(text);
+            }
+        });
+
+        final SourceCleanup cleanup = new SourceCleanup(corpus.fixer);
+        final LegacyDecompileCleanup legacyCleanup = new LegacyDecompileCleanup();
+        check("beforeFormat", corpus.fixed, new Step() {
+            @Override
+            public String run(int file, String text, boolean legacy) {
+                return legacy ? legacyCleanup.beforeFormat(text) : cleanup.beforeFormat(text);
+            }
+        });
+
+        check("fmlCleanup", corpus.formatted, new Step() {
+            @Override
+            public String run(int file, String text, boolean legacy) {
+                return legacy ? LegacyFmlCleanup.renameClass(text) : FmlCleanup.renameClass(text);
+            }
+        });
+
+        check("afterFormat", corpus.formatted, new Step() {
+            @Override
+            public String run(int file, String text, boolean legacy) {
+                return legacy ? LegacyDecompileCleanup.afterFormat(text) : SourceCleanup.afterFormat(text);
+            }
+        });
+
+        for (boolean javadocs : new boolean[]{false, true}) {
+            RemapSourcesBenchmark.Remapper remapper = new RemapSourcesBenchmark.Remapper();
+            remapper.javadocs = javadocs;
+            remapper.setup();
+            try {
+                final RemapSourcesBenchmark.Remapper task = remapper;
+                final LegacyRemapper legacy = new LegacyRemapper(task.task.getMethodsCsv(), task.task.getFieldsCsv(), task.task.getParamsCsv(), javadocs);
+
+                check("remapSources" + (javadocs ? " with javadocs" : ""), corpus.formatted, new Step() {
+                    @Override
+                    public String run(int file, String text, boolean isLegacy) {
+                        return isLegacy ? legacy.asRead(text) : task.task.asRead(text);
+                    }
+                });
+            } finally {
+                remapper.tearDown();
+            }
+        }
+    }
+
+    private interface Step {
+        String run(int file, String text, boolean legacy) throws Exception;
+    }
+
+    private void check(String name, List<String> texts, Step step) throws Exception {
+        int inputs = 0;
+        int before = failures;
+
+        for (int file = 0; file < texts.size(); file++) {
+            String text = texts.get(file);
+            List<String> variants = new ArrayList<String>();
+            variants.add(text);
+            for (int i = 0; i < copies; i++)
+                variants.add(mixUp(text));
+
+            for (String variant : variants) {
+                inputs++;
+                String expected = outcome(step, file, variant, true);
+                String actual = outcome(step, file, variant, false);
+                if (!expected.equals(actual)) {
+                    failures++;
+                    if (failures - before <= 3)
+                        report(name, file, variant, expected, actual);
+                }
+            }
+        }
+
+        out.println(name + ": " + inputs + " inputs, " + (failures - before) + " differences");
+    }
+
+    /**
+     * @return the output, or that the step failed. Both versions throw on enums they can't read, the message may differ.
+     */
+    private static String outcome(Step step, int file, String text, boolean legacy) {
+        try {
+            return step.run(file, text, legacy);
+        } catch (Exception e) {
+            return "<failed>";
+        }
+    }
+
+    /**
+     * @return the text with some fragments put in. The last two chars stay last: the old comment stripper read past the
+     * end of the text when it ended in a char literal or an escape, and nothing else cares.
+     */
+    private String mixUp(String text) {
+        StringBuilder out = new StringBuilder(text);
+        int count = 1 + random.nextInt(8);
+        for (int i = 0; i < count; i++) {
+            int at = out.length() < 2 ? 0 : random.nextInt(out.length() - 1);
+            out.insert(at, FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+        }
+        return out.toString();
+    }
+
+    private void report(String name, int file, String input, String expected, String actual) {
+        int index = 0;
+        while (index < expected.length() && index < actual.length() && expected.charAt(index) == actual.charAt(index))
+            index++;
+
+        out.println(name + " differs on a variant of file " + file + " at char " + index);
+        out.println("  original: " + excerpt(expected, index));
+        out.println("  rewrite:  " + excerpt(actual, index));
+        out.println("  input written to " + dump(input));
+    }
+
+    private static String excerpt(String text, int index) {
+        String ret = text.substring(Math.max(0, index - 30), Math.min(text.length(), index + 30));
+        return ret.replace("\r", "\\r").replace("\n", "\\n").replace("\t", "\\t");
+    }
+
+    private static String dump(String input) {
+        try {
+            File file = File.createTempFile("equivalence", ".java");
+            Files.write(input, file, Charsets.UTF_8);
+            return file.getAbsolutePath();
+        } catch (Exception e) {
+            return "nowhere, " + e.getMessage();
+        }
+    }
+}
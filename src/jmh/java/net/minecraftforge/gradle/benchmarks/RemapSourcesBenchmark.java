@@ -0,0 +1,96 @@
+package net.minecraftforge.gradle.benchmarks;
+
+import com.google.common.io.Files;
+import net.minecraftforge.gradle.delayed.DelayedFile;
+import net.minecraftforge.gradle.tasks.RemapSourcesTask;
+import org.gradle.api.Project;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renaming the SRG names of the formatted corpus, with the CSVs next to it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RemapSourcesBenchmark {
+    @Benchmark
+    public void asRead(Remapper remapper, Corpus corpus, SourceThroughput throughput, Blackhole hole) {
+        for (String text : corpus.formatted)
+            hole.consume(remapper.task.asRead(text));
+        throughput.add(corpus.formatted);
+    }
+
+    /**
+     * The task, in a throwaway project with its own gradle home, so the mappings database is made there and not in ~/.gradle.
+     */
+    @State(Scope.Benchmark)
+    public static class Remapper {
+        @Param({ "false", "true" })
+        public boolean javadocs;
+
+        private File dir;
+        RemapSourcesTask task;
+
+        @Setup
+        public void setup() throws Throwable {
+            dir = Files.createTempDir();
+            Project project = ProjectBuilder.builder()
+                    .withProjectDir(dir)
+                    .withGradleUserHomeDir(new File(dir, "gradle"))
+                    .build();
+
+            task = project.getTasks().create("remapSources", RemapSourcesTask.class);
+            task.setMethodsCsv(csv(project, "methods.csv"));
+            task.setFieldsCsv(csv(project, "fields.csv"));
+            task.setParamsCsv(csv(project, "params.csv"));
+            task.setDoesJavadocs(javadocs);
+            task.doStuffBefore();
+        }
+
+        @TearDown
+        public void tearDown() {
+            delete(dir);
+        }
+
+        @SuppressWarnings("serial")
+        private DelayedFile csv(Project project, String name) throws Exception {
+            final File file = new File(dir, name);
+            Files.write(Corpus.read(name).getBytes("UTF-8"), file);
+
+            // already resolved, the project has no extensions to resolve a pattern with
+            return new DelayedFile(project, file.getPath()) {
+                @Override
+                public File call() {
+                    return file;
+                }
+            };
+        }
+
+        private static void delete(File file) {
+            File[] children = file.listFiles();
+            if (children != null) {
+                for (File child : children)
+                    delete(child);
+            }
+            file.delete();
+        }
+    }
+}
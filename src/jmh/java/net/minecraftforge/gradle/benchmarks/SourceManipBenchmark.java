@@ -0,0 +1,94 @@
+package net.minecraftforge.gradle.benchmarks;
+
+import net.minecraftforge.gradle.benchmarks.legacy.LegacyDecompileCleanup;
+import net.minecraftforge.gradle.benchmarks.legacy.LegacyMcpCleanup;
+import net.minecraftforge.gradle.sourcemanip.FFPatcher;
+import net.minecraftforge.gradle.sourcemanip.FmlCleanup;
+import net.minecraftforge.gradle.sourcemanip.McpCleanup;
+import net.minecraftforge.gradle.sourcemanip.SourceCleanup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The fixes the decompile makes to every file, each on the whole corpus as that step gets it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SourceManipBenchmark {
+    @Benchmark
+    public void ffPatcher(Corpus corpus, SourceThroughput throughput, Blackhole hole) throws Exception {
+        List<String> names = corpus.names;
+        List<String> texts = corpus.decompiled;
+        for (int i = 0; i < texts.size(); i++)
+            hole.consume(FFPatcher.processFile(names.get(i), texts.get(i)));
+        throughput.add(texts);
+    }
+
+    @Benchmark
+    public void stripComments(Corpus corpus, SourceThroughput throughput, Blackhole hole) {
+        for (String text : corpus.fixed)
+            hole.consume(McpCleanup.stripComments(text));
+        throughput.add(corpus.fixed);
+    }
+
+    @Benchmark
+    public void fixImports(Corpus corpus, SourceThroughput throughput, Blackhole hole) {
+        for (String text : corpus.fixed)
+            hole.consume(McpCleanup.fixImports(text));
+        throughput.add(corpus.fixed);
+    }
+
+    @Benchmark
+    public void mcpCleanup(Corpus corpus, SourceThroughput throughput, Blackhole hole) {
+        for (String text : corpus.stripped)
+            hole.consume(McpCleanup.cleanup(text));
+        throughput.add(corpus.stripped);
+    }
+
+    @Benchmark
+    public void mcpCleanupRegex(Corpus corpus, SourceThroughput throughput, Blackhole hole) {
+        for (String text : corpus.stripped)
+            hole.consume(LegacyMcpCleanup.cleanup(text));
+        throughput.add(corpus.stripped);
+    }
+
+    @Benchmark
+    public void glConstants(Corpus corpus, SourceThroughput throughput, Blackhole hole) {
+        for (String text : corpus.cleaned)
+            hole.consume(corpus.fixer.fixOGL(text));
+        throughput.add(corpus.cleaned);
+    }
+
+    @Benchmark
+    public void fmlCleanup(Corpus corpus, SourceThroughput throughput, Blackhole hole) {
+        for (String text : corpus.formatted)
+            hole.consume(FmlCleanup.renameClass(text));
+        throughput.add(corpus.formatted);
+    }
+
+    @Benchmark
+    public void afterFormat(Corpus corpus, SourceThroughput throughput, Blackhole hole) {
+        for (String text : corpus.formatted)
+            hole.consume(SourceCleanup.afterFormat(text));
+        throughput.add(corpus.formatted);
+    }
+
+    @Benchmark
+    public void legacyAfterFormat(Corpus corpus, SourceThroughput throughput, Blackhole hole) {
+        for (String text : corpus.formatted)
+            hole.consume(LegacyDecompileCleanup.afterFormat(text));
+        throughput.add(corpus.formatted);
+    }
+}
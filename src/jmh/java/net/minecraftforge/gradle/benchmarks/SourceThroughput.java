@@ -0,0 +1,32 @@
+package net.minecraftforge.gradle.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Counts the source a benchmark went through. JMH reports the count per second next to the score,
+ * as "bytes", in ops/s: divide by 1048576 for MB/s.
+ * <p>
+ * Every op goes through the same source, so bytes over the score is the source per op, and the gc.alloc.rate.norm
+ * of the GC profiler over that is what a byte of source allocates.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class SourceThroughput {
+    public long bytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        bytes = 0;
+    }
+
+    public void add(List<String> texts) {
+        for (String text : texts)
+            bytes += text.length();
+    }
+}
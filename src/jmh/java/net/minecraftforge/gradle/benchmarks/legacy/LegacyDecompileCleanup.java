@@ -0,0 +1,36 @@
+package net.minecraftforge.gradle.benchmarks.legacy;
+
+import argo.saj.InvalidSyntaxException;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+/**
+ * The cleanup DecompileTask.applyMcpCleanup ran on every file, as it was, split where the formatter ran. Kept to check
+ * SourceCleanup against, see EquivalenceCheck.
+ */
+public class LegacyDecompileCleanup {
+    private static final Pattern BEFORE = Pattern.compile("(?m)((case|default).+(?:\\r\\n|\\r|\\n))(?:\\r\\n|\\r|\\n)");
+    private static final Pattern AFTER = Pattern.compile("(?m)(?:\\r\\n|\\r|\\n)((?:\\r\\n|\\r|\\n)[ \\t]+(case|default))");
+
+    private final LegacyGLConstantFixer fixer;
+
+    public LegacyDecompileCleanup() throws IOException, InvalidSyntaxException {
+        fixer = new LegacyGLConstantFixer();
+    }
+
+    public String beforeFormat(String text) {
+        text = LegacyMcpCleanup.stripComments(text);
+        text = LegacyMcpCleanup.fixImports(text);
+        text = LegacyMcpCleanup.cleanup(text);
+        text = fixer.fixOGL(text);
+        return text;
+    }
+
+    public static String afterFormat(String text) {
+        text = BEFORE.matcher(text).replaceAll("$1");
+        text = AFTER.matcher(text).replaceAll("$1");
+        text = LegacyFmlCleanup.renameClass(text);
+        return text;
+    }
+}
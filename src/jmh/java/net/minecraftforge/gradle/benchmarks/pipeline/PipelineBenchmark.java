@@ -0,0 +1,324 @@
+package net.minecraftforge.gradle.benchmarks.pipeline;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.Files;
+import com.google.gson.GsonBuilder;
+import net.minecraftforge.gradle.common.BaseExtension;
+import net.minecraftforge.gradle.common.Constants;
+import net.minecraftforge.gradle.common.PeakHeap;
+import net.minecraftforge.gradle.delayed.DelayedFile;
+import net.minecraftforge.gradle.delayed.DelayedFileTree;
+import net.minecraftforge.gradle.tasks.DecompileTask;
+import net.minecraftforge.gradle.tasks.MergeJarsTask;
+import net.minecraftforge.gradle.tasks.PatchJarTask;
+import net.minecraftforge.gradle.tasks.ProcessJarTask;
+import net.minecraftforge.gradle.tasks.RemapSourcesTask;
+import net.minecraftforge.gradle.tasks.abstractutil.CachedTask;
+import net.minecraftforge.gradle.tasks.dev.GenBinaryPatches;
+import net.minecraftforge.gradle.tasks.user.ApplyBinPatchesTask;
+import org.gradle.api.Action;
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.file.FileTree;
+import org.gradle.testfixtures.ProjectBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Runs the decompile workspace tasks one after the other on a {@link SyntheticMinecraft}, the way setupDecompWorkspace
+ * and the Forge build chain them, and writes the wall time, CPU time and peak heap of every step into a JSON report.
+ * <p>
+ * Arguments are --name value pairs: dir, report, seed, sharedClasses, clientClasses and serverClasses.
+ * Everything runs in this JVM, in a throwaway project under dir with its own gradle home, so the decompile cache
+ * starts out empty every time.
+ */
+public class PipelineBenchmark {
+    public static void main(String[] args) throws Throwable {
+        Options options = new Options(args);
+        new PipelineBenchmark(options).run();
+    }
+
+    private final Options options;
+    private final File data;
+    private final File out;
+    private Project project;
+
+    private PipelineBenchmark(Options options) {
+        this.options = options;
+        this.data = new File(options.dir, "data");
+        this.out = new File(options.dir, "out");
+    }
+
+    private void run() throws Throwable {
+        delete(options.dir);
+        out.mkdirs();
+
+        Report report = new Report(options);
+
+        System.out.println("Generating " + (options.sharedClasses + options.clientClasses + options.serverClasses) + " classes");
+        long start = System.nanoTime();
+        SyntheticMinecraft mc = new SyntheticMinecraft(options.seed, options.sharedClasses, options.clientClasses, options.serverClasses);
+        mc.write(data);
+        report.generateMillis = (System.nanoTime() - start) / 1000000;
+        report.clientJarBytes = data(SyntheticMinecraft.CLIENT_JAR).length();
+        report.serverJarBytes = data(SyntheticMinecraft.SERVER_JAR).length();
+
+        project = ProjectBuilder.builder()
+                .withProjectDir(options.dir)
+                .withGradleUserHomeDir(new File(options.dir, "gradle"))
+                .build();
+        // the decompile reads its settings from here
+        project.getExtensions().create(Constants.EXT_NAME_MC, BaseExtension.class, project);
+
+        File merged = out("merged.jar");
+        File deobf = out("deobf.jar");
+        File decompiled = out("decompiled.jar");
+        File patched = out("patched.jar");
+        File remapped = out("remapped.jar");
+        File binPatches = out("binpatches.jar");
+        File forgePatches = out("patches");
+        File devPatches = out("devbinpatches.pack.lzma");
+        File applied = out("applied.jar");
+
+        MergeJarsTask merge = task("mergeJars", MergeJarsTask.class);
+        merge.setClient(file(data(SyntheticMinecraft.CLIENT_JAR)));
+        merge.setServer(file(data(SyntheticMinecraft.SERVER_JAR)));
+        merge.setMergeCfg(file(data(SyntheticMinecraft.MERGE_CFG)));
+        merge.setOutJar(file(merged));
+        report.stages.add(run(merge, merged));
+
+        ProcessJarTask deobfuscate = task("deobfuscateJar", ProcessJarTask.class);
+        deobfuscate.setInJar(file(merged));
+        deobfuscate.setSrg(file(data(SyntheticMinecraft.SRG)));
+        deobfuscate.setExceptorCfg(file(data(SyntheticMinecraft.EXC)));
+        deobfuscate.setOutCleanJar(file(deobf));
+        report.stages.add(run(deobfuscate, deobf));
+
+        DecompileTask decompile = task("decompile", DecompileTask.class);
+        decompile.setInJar(file(deobf));
+        decompile.setPatch(file(data(SyntheticMinecraft.MCP_PATCH)));
+        decompile.setAstyleConfig(file(data(SyntheticMinecraft.ASTYLE_CFG)));
+        // never run, the synthetic decompiler stands in for fernflower. the task still wants a jar to point at.
+        decompile.setFernFlower(file(out("fernflower-unused.jar")));
+        decompile.setDecompiler(new SyntheticDecompiler(data(SyntheticMinecraft.SOURCES)));
+        decompile.setOutJar(file(decompiled));
+        report.stages.add(run(decompile, decompiled));
+
+        // the Forge patches are made against the formatted source, so they can only be made now. not timed.
+        mc.writeForgePatches(decompiled, forgePatches);
+
+        PatchJarTask patch = task("patchForge", PatchJarTask.class);
+        patch.setInJar(file(decompiled));
+        patch.setInPatches(file(forgePatches));
+        patch.setOutJar(file(patched));
+        report.stages.add(run(patch, patched));
+
+        RemapSourcesTask remap = task("remapSources", RemapSourcesTask.class);
+        remap.setInJar(file(patched));
+        remap.setMethodsCsv(file(data(SyntheticMinecraft.METHODS_CSV)));
+        remap.setFieldsCsv(file(data(SyntheticMinecraft.FIELDS_CSV)));
+        remap.setParamsCsv(file(data(SyntheticMinecraft.PARAMS_CSV)));
+        remap.setDoesJavadocs(true);
+        remap.setOutJar(file(remapped));
+        report.stages.add(run(remap, remapped));
+
+        GenBinaryPatches genPatches = task("genBinPatches", GenBinaryPatches.class);
+        genPatches.setCleanClient(file(data(SyntheticMinecraft.CLIENT_JAR)));
+        genPatches.setCleanServer(file(data(SyntheticMinecraft.SERVER_JAR)));
+        genPatches.setCleanMerged(file(merged));
+        genPatches.setDirtyJar(file(data(SyntheticMinecraft.DIRTY_JAR)));
+        genPatches.addPatchList(tree(forgePatches));
+        genPatches.setDeobfDataLzma(file(data(SyntheticMinecraft.DEOBF_DATA)));
+        genPatches.setSrg(file(data(SyntheticMinecraft.SRG)));
+        genPatches.setOutJar(file(binPatches));
+        report.stages.add(run(genPatches, binPatches));
+
+        // the user side gets the dev patches out of the Forge jar. not timed.
+        extract(binPatches, "devbinpatches.pack.lzma", devPatches);
+
+        ApplyBinPatchesTask apply = task("applyBinPatches", ApplyBinPatchesTask.class);
+        apply.setInJar(file(merged));
+        apply.setClassesJar(file(binPatches));
+        apply.setPatches(file(devPatches));
+        apply.setResources(tree(out("resources")));
+        apply.setOutJar(file(applied));
+        report.stages.add(run(apply, applied));
+
+        for (Stage stage : report.stages) {
+            report.totalWallMillis += stage.wallMillis;
+            report.totalCpuMillis += stage.cpuMillis;
+        }
+
+        options.report.getParentFile().mkdirs();
+        Files.write(new GsonBuilder().setPrettyPrinting().create().toJson(report), options.report, Charsets.UTF_8);
+        System.out.println("Report written to " + options.report);
+    }
+
+    private <T extends Task> T task(String name, Class<T> type) {
+        T task = project.getTasks().create(name, type);
+        if (task instanceof CachedTask)
+            ((CachedTask) task).setDoesCache(false);
+        return task;
+    }
+
+    /**
+     * Runs the actions of the task, as gradle would, and measures them.
+     */
+    private static Stage run(Task task, File output) {
+        System.out.println("Running " + task.getName());
+
+        PeakHeap.reset();
+        long cpu = getProcessCpuTime();
+        long start = System.nanoTime();
+
+        for (Action<? super Task> action : task.getActions())
+            action.execute(task);
+
+        Stage stage = new Stage();
+        stage.name = task.getName();
+        stage.task = task.getClass().getSuperclass().getSimpleName(); // gradle decorates the task class
+        stage.wallMillis = (System.nanoTime() - start) / 1000000;
+        stage.cpuMillis = cpu < 0 ? -1 : (getProcessCpuTime() - cpu) / 1000000;
+        stage.peakHeapMB = PeakHeap.get() / (1024 * 1024);
+        stage.outputBytes = output.length();
+
+        System.out.println(String.format("  %d ms wall, %d ms cpu, %d MB heap", stage.wallMillis, stage.cpuMillis, stage.peakHeapMB));
+        return stage;
+    }
+
+    /**
+     * @return the CPU time of the whole process in nanoseconds, GC and JIT threads included, or -1 if the JVM can't tell.
+     */
+    private static long getProcessCpuTime() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean)
+            return ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime();
+        return -1;
+    }
+
+    private static void extract(File jar, String name, File to) throws IOException {
+        ZipFile zip = new ZipFile(jar);
+        try {
+            ZipEntry entry = zip.getEntry(name);
+            if (entry == null)
+                throw new IOException(jar + " has no " + name);
+            Files.write(ByteStreams.toByteArray(zip.getInputStream(entry)), to);
+        } finally {
+            zip.close();
+        }
+    }
+
+    private File data(String name) {
+        return new File(data, name);
+    }
+
+    private File out(String name) {
+        return new File(out, name);
+    }
+
+    // already resolved, there is nothing to resolve a pattern against
+    @SuppressWarnings("serial")
+    private DelayedFile file(final File file) {
+        return new DelayedFile(project, file.getPath()) {
+            @Override
+            public File call() {
+                return file;
+            }
+        };
+    }
+
+    @SuppressWarnings("serial")
+    private DelayedFileTree tree(final File dir) {
+        dir.mkdirs();
+        return new DelayedFileTree(project, dir.getPath()) {
+            @Override
+            public FileTree call() {
+                return project.fileTree(dir);
+            }
+        };
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children)
+                delete(child);
+        }
+        file.delete();
+    }
+
+    private static class Options {
+        File dir = new File("build/pipeline");
+        File report = new File("build/reports/pipeline/report.json");
+        long seed = 1710;
+        int sharedClasses = 600;
+        int clientClasses = 300;
+        int serverClasses = 80;
+
+        Options(String[] args) {
+            for (int i = 0; i + 1 < args.length; i += 2) {
+                String name = args[i];
+                String value = args[i + 1];
+
+                if ("--dir".equals(name))
+                    dir = new File(value);
+                else if ("--report".equals(name))
+                    report = new File(value);
+                else if ("--seed".equals(name))
+                    seed = Long.parseLong(value);
+                else if ("--sharedClasses".equals(name))
+                    sharedClasses = Integer.parseInt(value);
+                else if ("--clientClasses".equals(name))
+                    clientClasses = Integer.parseInt(value);
+                else if ("--serverClasses".equals(name))
+                    serverClasses = Integer.parseInt(value);
+                else
+                    throw new IllegalArgumentException("Unknown option " + name);
+            }
+        }
+    }
+
+    // the report, as gson writes it
+
+    @SuppressWarnings("unused")
+    private static class Report {
+        long seed;
+        int sharedClasses;
+        int clientClasses;
+        int serverClasses;
+        long generateMillis;
+        long clientJarBytes;
+        long serverJarBytes;
+        String java = System.getProperty("java.version");
+        int processors = Runtime.getRuntime().availableProcessors();
+        long maxHeapMB = Runtime.getRuntime().maxMemory() / (1024 * 1024);
+        List<Stage> stages = new ArrayList<Stage>();
+        long totalWallMillis;
+        long totalCpuMillis;
+
+        Report(Options options) {
+            seed = options.seed;
+            sharedClasses = options.sharedClasses;
+            clientClasses = options.clientClasses;
+            serverClasses = options.serverClasses;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Stage {
+        String name;
+        String task;
+        long wallMillis;
+        long cpuMillis;
+        long peakHeapMB;
+        long outputBytes;
+    }
+}
@@ -0,0 +1,90 @@
+package net.minecraftforge.gradle.benchmarks.pipeline;
+
+import com.google.common.io.ByteStreams;
+import net.minecraftforge.gradle.common.Constants;
+import net.minecraftforge.gradle.decompiler.IDecompiler;
+import org.gradle.api.Project;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Hands out the sources {@link SyntheticMinecraft} wrote for the classes in the jar, as fernflower would have
+ * decompiled them. The made up classes have no real code for fernflower to work on, and fernflower itself is
+ * timed by the benchmarkDecompilers task.
+ */
+public class SyntheticDecompiler implements IDecompiler {
+    private final File sources;
+
+    public SyntheticDecompiler(File sources) {
+        this.sources = sources;
+    }
+
+    @Override
+    public String getName() {
+        return "synthetic";
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        return EnumSet.of(Capability.FERNFLOWER_FIXUPS, Capability.LIBRARIES, Capability.IN_PROCESS);
+    }
+
+    @Override
+    public String getCacheKey() throws IOException {
+        return "synthetic " + Constants.hash(sources);
+    }
+
+    @Override
+    public File decompile(Project project, File inJar, List<File> libraries, File outDir) throws IOException {
+        File outJar = new File(outDir, inJar.getName());
+
+        ZipFile source = new ZipFile(sources);
+        ZipInputStream in = new ZipInputStream(new FileInputStream(inJar));
+        ZipOutputStream out = new ZipOutputStream(new FileOutputStream(outJar));
+        try {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                if (entry.isDirectory())
+                    continue;
+
+                String name = entry.getName();
+                if (!name.endsWith(".class")) {
+                    // resources go through as they are
+                    out.putNextEntry(new ZipEntry(name));
+                    ByteStreams.copy(in, out);
+                    out.closeEntry();
+                    continue;
+                }
+
+                // inner classes are in the source of their outer class
+                if (name.indexOf('$', name.lastIndexOf('/') + 1) > 0)
+                    continue;
+
+                String path = name.substring(0, name.length() - ".class".length()) + ".java";
+                ZipEntry java = source.getEntry(path);
+                if (java == null)
+                    throw new IOException("No source for " + name);
+
+                out.putNextEntry(new ZipEntry(path));
+                ByteStreams.copy(source.getInputStream(java), out);
+                out.closeEntry();
+            }
+        } finally {
+            out.close();
+            in.close();
+            source.close();
+        }
+
+        return outJar;
+    }
+}
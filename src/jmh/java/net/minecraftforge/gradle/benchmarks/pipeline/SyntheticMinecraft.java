@@ -0,0 +1,1261 @@
+package net.minecraftforge.gradle.benchmarks.pipeline;
+
+import com.cloudbees.diff.Diff;
+import com.cloudbees.diff.Hunk;
+import com.google.common.base.Charsets;
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.Files;
+import lzma.streams.LzmaOutputStream;
+import net.minecraftforge.gradle.sourcemanip.FFPatcher;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Makes up a Minecraft: an obfuscated client and server jar, and the MCP and Forge files that go with them.
+ * <p>
+ * Classes are shared, client only or server only, and the shared ones have members only one side has, the way the
+ * merge expects them. Every class is also written out the way fernflower decompiles it after the deobfuscation,
+ * which the {@link SyntheticDecompiler} hands out in place of decompiling. Bytecode and source of a method body are
+ * made in one go from the same random numbers, so the two always agree. The same seed makes the same files.
+ */
+public class SyntheticMinecraft implements Opcodes {
+    public static final String CLIENT_JAR = "client.jar";
+    public static final String SERVER_JAR = "server.jar";
+    public static final String MERGE_CFG = "mcp_merge.cfg";
+    public static final String SRG = "joined.srg";
+    public static final String EXC = "joined.exc";
+    public static final String METHODS_CSV = "methods.csv";
+    public static final String FIELDS_CSV = "fields.csv";
+    public static final String PARAMS_CSV = "params.csv";
+    public static final String ASTYLE_CFG = "astyle.cfg";
+    public static final String MCP_PATCH = "minecraft_ff.patch";
+    public static final String SOURCES = "sources.zip";
+    public static final String DIRTY_JAR = "dirty.jar";
+    public static final String DEOBF_DATA = "deobfuscation_data.lzma";
+
+    static final int CLIENT = 1, SERVER = 2, BOTH = CLIENT | SERVER;
+
+    private static final String[][] PACKAGES_SHARED = {
+            { "net/minecraft/world", "World" },
+            { "net/minecraft/entity", "Entity" },
+            { "net/minecraft/block", "Block" },
+            { "net/minecraft/item", "Item" },
+            { "net/minecraft/network/packet", "Packet" },
+            { "net/minecraft/nbt", "NBTTag" },
+            { "net/minecraft/tileentity", "TileEntity" },
+            { "net/minecraft/inventory", "Container" },
+    };
+    private static final String[][] PACKAGES_CLIENT = {
+            { "net/minecraft/client/renderer", "Render" },
+            { "net/minecraft/client/gui", "Gui" },
+            { "net/minecraft/client/audio", "Sound" },
+            { "net/minecraft/client/model", "Model" },
+    };
+    private static final String[][] PACKAGES_SERVER = {
+            { "net/minecraft/server", "Server" },
+            { "net/minecraft/server/management", "Player" },
+            { "net/minecraft/command", "Command" },
+    };
+
+    private static final String[] NOUNS = {
+            "Stone", "Grass", "Fire", "Water", "Chunk", "Light", "Cloud", "Arrow", "Boat", "Chest", "Door", "Flower",
+            "Furnace", "Glass", "Ladder", "Lever", "Piston", "Rail", "Sign", "Torch", "Wolf", "Zombie", "Skeleton",
+            "Spider", "Slime", "Horse", "Villager", "Golem", "Portal", "Beacon", "Anvil", "Hopper", "Dispenser", "Note",
+            "Redstone", "Leaves", "Log", "Sand", "Gravel", "Ice", "Snow", "Cactus", "Reed", "Pumpkin", "Melon", "Vine",
+            "Crop", "Bed", "Book", "Map", "Bow", "Sword", "Potion", "Egg", "Fish", "Bucket", "Minecart", "Trade",
+            "Weather", "Biome", "Spawn", "Tracker", "Handler", "Cache", "Stats", "Score", "Team", "Settings", "State",
+    };
+    private static final String[] VERBS = {
+            "get", "set", "update", "on", "is", "can", "add", "remove", "render", "load", "save", "read", "write",
+            "handle", "check", "spawn", "tick", "draw", "compute", "find",
+    };
+    private static final String[] FIELD_SUFFIXES = { "Count", "Timer", "Speed", "List", "Angle", "Pos", "Id", "Level", "Data" };
+
+    private static final Object[][] GL_CALLS = {
+            { "glEnable", 3042 }, { "glDisable", 3042 }, { "glEnable", 2896 }, { "glDisable", 2896 },
+            { "glEnable", 3553 }, { "glDisable", 2884 }, { "glShadeModel", 7425 }, { "glShadeModel", 7424 },
+            { "glDepthFunc", 515 }, { "glMatrixMode", 5889 }, { "glMatrixMode", 5888 }, { "glBegin", 7 },
+    };
+    private static final float[] ANGLES = { 3.1415927F, 6.2831855F, 1.5707964F, 0.017453292F, 57.295776F, 0.7853982F };
+
+    private static final Set<String> KEYWORDS = ImmutableSet.of(
+            "do", "if", "in", "for", "int", "new", "try", "byte", "case", "char", "else", "enum", "goto", "long",
+            "null", "this", "true", "void");
+
+    private static final String ASTYLE = Joiner.on('\n').join(
+            "style=allman", "add-brackets", "break-closing-brackets", "indent-switches", "max-instatement-indent=40",
+            "pad-oper", "pad-header", "unpad-paren", "break-blocks", "convert-tabs", "lineend=linux",
+            "min-conditional-indent=0") + "\n";
+
+    private final Random random;
+    private final List<SynthClass> classes = new ArrayList<SynthClass>();
+    private final List<SynthClass> shared = new ArrayList<SynthClass>();
+    private final Set<String> simpleNames = new HashSet<String>();
+    private int nextClass = 0;
+    private int nextId = 70000;
+    private int nextCtor = 1000;
+
+    public SyntheticMinecraft(long seed, int sharedClasses, int clientClasses, int serverClasses) {
+        random = new Random(seed);
+
+        for (int i = 0; i < sharedClasses; i++)
+            shared.add(addClass(BOTH));
+        for (int i = 0; i < clientClasses; i++)
+            addClass(CLIENT);
+        for (int i = 0; i < serverClasses; i++)
+            addClass(SERVER);
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    // the model
+    // ------------------------------------------------------------------------------------------------
+
+    private SynthClass addClass(int side) {
+        SynthClass parent = null;
+        if (!classes.isEmpty() && random.nextInt(10) < 3) {
+            SynthClass candidate = classes.get(random.nextInt(classes.size()));
+            if ((candidate.side & side) == side)
+                parent = candidate;
+        }
+
+        String obf;
+        do {
+            obf = obfName(nextClass++);
+        } while (KEYWORDS.contains(obf));
+
+        String[][] packages = side == BOTH ? PACKAGES_SHARED : side == CLIENT ? PACKAGES_CLIENT : PACKAGES_SERVER;
+        String[] pkg = packages[random.nextInt(packages.length)];
+        String simple = pkg[1] + NOUNS[random.nextInt(NOUNS.length)];
+        for (int i = 2; !simpleNames.add(simple); i++)
+            simple = pkg[1] + NOUNS[random.nextInt(NOUNS.length)] + (i / 2);
+
+        SynthClass c = new SynthClass(obf, pkg[0] + "/" + simple, side, parent);
+        c.ctorId = nextCtor++;
+        c.members = parent == null ? 0 : parent.members;
+
+        // every class has these, the method bodies work on them
+        c.intField = addField(c, "I", BOTH, ACC_PUBLIC);
+        c.floatField = addField(c, "F", BOTH, ACC_PUBLIC);
+        c.listField = addField(c, "Ljava/util/List;", BOTH, ACC_PROTECTED);
+
+        int fields = random.nextInt(9);
+        for (int i = 0; i < fields; i++) {
+            int access = random.nextBoolean() ? ACC_PRIVATE : random.nextBoolean() ? ACC_PUBLIC : ACC_PROTECTED;
+            addField(c, randomType(false), memberSide(side), access);
+        }
+
+        c.helper = new SynthMethod(memberObf(c), nextId++, BOTH, true, Collections.<Object>singletonList("I"), 'I', random.nextLong(), false);
+        name(c.helper);
+        c.methods.add(c.helper);
+
+        int methods = 3 + random.nextInt(13);
+        for (int i = 0; i < methods; i++) {
+            List<Object> params = new ArrayList<Object>();
+            int count = random.nextInt(4);
+            for (int j = 0; j < count; j++)
+                params.add(randomType(true));
+
+            char ret = "VVVIFZ".charAt(random.nextInt(6));
+            SynthMethod m = new SynthMethod(memberObf(c), nextId++, memberSide(side), false, params, ret, random.nextLong(), random.nextInt(10) == 0);
+            name(m);
+            c.methods.add(m);
+        }
+
+        c.mcpPatched = random.nextInt(100) < 15;
+        c.forgePatched = side == BOTH && random.nextInt(100) < 10;
+
+        classes.add(c);
+        return c;
+    }
+
+    private SynthField addField(SynthClass c, Object type, int side, int access) {
+        SynthField f = new SynthField(memberObf(c), nextId++, type, side, access);
+        f.name = NOUNS[random.nextInt(NOUNS.length)].toLowerCase() + FIELD_SUFFIXES[random.nextInt(FIELD_SUFFIXES.length)];
+        if (random.nextInt(5) == 0)
+            f.javadoc = "The " + f.name + " of this " + NOUNS[random.nextInt(NOUNS.length)].toLowerCase() + ".";
+        c.fields.add(f);
+        return f;
+    }
+
+    private void name(SynthMethod m) {
+        m.name = VERBS[random.nextInt(VERBS.length)] + NOUNS[random.nextInt(NOUNS.length)];
+        if (random.nextInt(10) < 3)
+            m.javadoc = "Called when the " + NOUNS[random.nextInt(NOUNS.length)].toLowerCase() + " is updated. Args: " + m.params.size();
+    }
+
+    /**
+     * Members of a class are named after its parent's, so nothing is overridden by accident.
+     */
+    private String memberObf(SynthClass c) {
+        String obf;
+        do {
+            obf = obfName(c.members++);
+        } while (KEYWORDS.contains(obf));
+        return obf;
+    }
+
+    private int memberSide(int classSide) {
+        if (classSide != BOTH)
+            return BOTH;
+
+        int roll = random.nextInt(20);
+        return roll < 3 ? CLIENT : roll < 4 ? SERVER : BOTH;
+    }
+
+    private Object randomType(boolean param) {
+        switch (random.nextInt(param ? 5 : 8)) {
+            case 0:
+                return "F";
+            case 1:
+                return "D";
+            case 2:
+                return "Z";
+            case 3:
+                if (!shared.isEmpty())
+                    return shared.get(random.nextInt(shared.size()));
+                return "I";
+            case 5:
+                return "J";
+            case 6:
+                return "Ljava/util/List;";
+            default:
+                return "I";
+        }
+    }
+
+    /**
+     * a, b, .. z, aa, ab, ..
+     */
+    private static String obfName(int index) {
+        StringBuilder name = new StringBuilder();
+        do {
+            name.insert(0, (char) ('a' + index % 26));
+            index = index / 26 - 1;
+        } while (index >= 0);
+        return name.toString();
+    }
+
+    private static String desc(Object type, boolean obf) {
+        if (type instanceof SynthClass)
+            return "L" + (obf ? ((SynthClass) type).obf : ((SynthClass) type).name) + ";";
+        return (String) type;
+    }
+
+    private static int size(Object type) {
+        return "D".equals(type) || "J".equals(type) ? 2 : 1;
+    }
+
+    public int getClassCount() {
+        return classes.size();
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    // the files
+    // ------------------------------------------------------------------------------------------------
+
+    /**
+     * Writes everything the pipeline starts from into the directory, under the names of the constants on this class.
+     */
+    public void write(File dir) throws IOException {
+        dir.mkdirs();
+
+        writeJar(new File(dir, CLIENT_JAR), CLIENT);
+        writeJar(new File(dir, SERVER_JAR), SERVER);
+        writeDirtyJar(new File(dir, DIRTY_JAR));
+
+        Files.write(mergeConfig(), new File(dir, MERGE_CFG), Charsets.UTF_8);
+        Files.write(srg(), new File(dir, SRG), Charsets.UTF_8);
+        Files.write(exc(), new File(dir, EXC), Charsets.UTF_8);
+        writeCsvs(dir);
+        Files.write(ASTYLE, new File(dir, ASTYLE_CFG), Charsets.UTF_8);
+
+        // the decompiled sources, and the MCP patches on top of them
+        ZipOutputStream sources = new ZipOutputStream(new FileOutputStream(new File(dir, SOURCES)));
+        StringBuilder patch = new StringBuilder();
+        File work = new File(dir, "diff");
+        work.mkdirs();
+        for (SynthClass c : classes) {
+            String path = c.name + ".java";
+            String source = source(c);
+            put(sources, path, source.getBytes(Charsets.UTF_8));
+
+            if (c.mcpPatched) {
+                // the diff line in between is what tells the patches of two files apart
+                String fixed = FFPatcher.processFile(c.simpleName() + ".java", source);
+                patch.append("diff -r -U 3 minecraft/").append(path).append(" minecraft_patched/").append(path).append('\n');
+                patch.append(diff(work, fixed, mcpEdit(fixed), "minecraft/" + path, "minecraft_patched/" + path));
+            }
+        }
+        sources.close();
+        Files.write(patch.toString(), new File(dir, MCP_PATCH), Charsets.UTF_8);
+
+        LzmaOutputStream lzma = new LzmaOutputStream.Builder(new FileOutputStream(new File(dir, DEOBF_DATA))).useEndMarkerMode(true).build();
+        lzma.write(srg().getBytes(Charsets.UTF_8));
+        lzma.close();
+
+        delete(work);
+    }
+
+    /**
+     * Makes the Forge patches from the decompiled jar, which is only known once the formatter has been over it.
+     * The patches go into dir/minecraft, one per patched class, in the layout of Forge's patches directory.
+     */
+    public void writeForgePatches(File decompiledJar, File dir) throws IOException {
+        File work = new File(dir, "diff");
+        work.mkdirs();
+
+        ZipFile jar = new ZipFile(decompiledJar);
+        try {
+            for (SynthClass c : classes) {
+                if (!c.forgePatched)
+                    continue;
+
+                String path = c.name + ".java";
+                ZipEntry entry = jar.getEntry(path);
+                if (entry == null)
+                    throw new IOException("The decompiled jar is missing " + path);
+
+                String text = new String(ByteStreams.toByteArray(jar.getInputStream(entry)), Charsets.UTF_8);
+                String patch = diff(work, text, forgeEdit(text, new Random(c.ctorId)), "../src-base/minecraft/" + path, "../src-work/minecraft/" + path);
+                if (patch.isEmpty())
+                    throw new IOException("Nothing to patch in " + path + ", the formatter did not make the expected layout");
+
+                File out = new File(dir, "minecraft/" + path + ".patch");
+                out.getParentFile().mkdirs();
+                Files.write(patch, out, Charsets.UTF_8);
+            }
+        } finally {
+            jar.close();
+        }
+
+        delete(work);
+    }
+
+    private void writeJar(File file, int side) throws IOException {
+        ZipOutputStream out = new ZipOutputStream(new FileOutputStream(file));
+        for (SynthClass c : classes) {
+            if ((c.side & side) != 0)
+                put(out, c.obf + ".class", classBytes(c, side, false));
+        }
+
+        // resources, the same ones on both sides
+        put(out, "lang/en_US.lang", "gui.done=Done\ngui.cancel=Cancel\ngui.back=Back\n".getBytes(Charsets.UTF_8));
+        if (side == CLIENT) {
+            put(out, "title/splashes.txt", "Made up!\nAlso try the real one!\n".getBytes(Charsets.UTF_8));
+            for (int i = 0; i < 8; i++) {
+                byte[] image = new byte[2048 + random.nextInt(4096)];
+                random.nextBytes(image);
+                put(out, "textures/blocks/synth_" + i + ".png", image);
+            }
+
+            // a library the merge leaves out
+            for (int i = 0; i < 10; i++)
+                put(out, "paulscode/sound/Library" + i + ".class", emptyClass("paulscode/sound/Library" + i));
+        }
+        out.close();
+    }
+
+    /**
+     * The Forge classes and the patched Minecraft classes, reobfuscated, as the Forge build makes them.
+     */
+    private void writeDirtyJar(File file) throws IOException {
+        ZipOutputStream out = new ZipOutputStream(new FileOutputStream(file));
+        for (SynthClass c : classes) {
+            if (c.forgePatched)
+                put(out, c.obf + ".class", classBytes(c, BOTH, true));
+        }
+
+        put(out, "net/minecraftforge/common/ForgeHooks.class", emptyClass("net/minecraftforge/common/ForgeHooks"));
+        for (int i = 0; i < 20; i++)
+            put(out, "net/minecraftforge/event/Event" + i + ".class", emptyClass("net/minecraftforge/event/Event" + i));
+        out.close();
+    }
+
+    private String mergeConfig() {
+        StringBuilder out = new StringBuilder();
+        out.append("^paulscode/\n");
+        for (SynthClass c : classes) {
+            if (c.side == CLIENT) {
+                out.append('!').append(c.obf).append('\n');
+                out.append('>').append(c.obf).append('\n');
+                break;
+            }
+        }
+        return out.toString();
+    }
+
+    private String srg() {
+        StringBuilder out = new StringBuilder();
+        for (SynthClass c : classes)
+            out.append("CL: ").append(c.obf).append(' ').append(c.name).append('\n');
+
+        for (SynthClass c : classes) {
+            for (SynthField f : c.fields)
+                out.append("FD: ").append(c.obf).append('/').append(f.obf).append(' ').append(c.name).append('/').append(f.srg()).append('\n');
+        }
+
+        for (SynthClass c : classes) {
+            for (SynthMethod m : c.methods) {
+                out.append("MD: ").append(c.obf).append('/').append(m.obf).append(' ').append(m.desc(true)).append(' ');
+                out.append(c.name).append('/').append(m.srg()).append(' ').append(m.desc(false)).append('\n');
+            }
+        }
+        return out.toString();
+    }
+
+    private String exc() {
+        StringBuilder out = new StringBuilder();
+        out.append("max_constructor_index=").append(nextCtor - 1).append('\n');
+        for (SynthClass c : classes) {
+            out.append(c.name).append(".<init>(I)V=|p_i").append(c.ctorId).append("_1_\n");
+            for (SynthMethod m : c.methods) {
+                out.append(c.name).append('.').append(m.srg()).append(m.desc(false)).append('=');
+                if (m.throwsIO)
+                    out.append("java/io/IOException");
+                out.append('|').append(Joiner.on(',').join(m.paramNames())).append('\n');
+            }
+        }
+        return out.toString();
+    }
+
+    private void writeCsvs(File dir) throws IOException {
+        StringBuilder methods = new StringBuilder("searge,name,side,desc\n");
+        StringBuilder fields = new StringBuilder("searge,name,side,desc\n");
+        StringBuilder params = new StringBuilder("param,name,side\n");
+
+        for (SynthClass c : classes) {
+            int side = csvSide(c.side);
+            for (SynthField f : c.fields)
+                fields.append(f.srg()).append(',').append(f.name).append(',').append(side).append(',').append(csv(f.javadoc)).append('\n');
+
+            for (SynthMethod m : c.methods) {
+                methods.append(m.srg()).append(',').append(m.name).append(',').append(side).append(',').append(csv(m.javadoc)).append('\n');
+
+                int i = 0;
+                for (String param : m.paramNames())
+                    params.append(param).append(",par").append(++i).append(',').append(side).append('\n');
+            }
+
+            params.append("p_i").append(c.ctorId).append("_1_,par1,").append(side).append('\n');
+        }
+
+        Files.write(methods.toString(), new File(dir, METHODS_CSV), Charsets.UTF_8);
+        Files.write(fields.toString(), new File(dir, FIELDS_CSV), Charsets.UTF_8);
+        Files.write(params.toString(), new File(dir, PARAMS_CSV), Charsets.UTF_8);
+    }
+
+    private static int csvSide(int side) {
+        return side == CLIENT ? 0 : side == SERVER ? 1 : 2;
+    }
+
+    private static String csv(String text) {
+        return text == null ? "" : "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+
+    private static void put(ZipOutputStream out, String name, byte[] data) throws IOException {
+        out.putNextEntry(new ZipEntry(name));
+        out.write(data);
+        out.closeEntry();
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children)
+                delete(child);
+        }
+        file.delete();
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    // the patches
+    // ------------------------------------------------------------------------------------------------
+
+    /**
+     * Unified diff of the two texts, made the way GeneratePatches makes them.
+     */
+    private static String diff(File work, String original, String changed, String from, String to) throws IOException {
+        File a = new File(work, "a.java");
+        File b = new File(work, "b.java");
+        Files.write(original, a, Charset.defaultCharset());
+        Files.write(changed, b, Charset.defaultCharset());
+
+        Diff diff = Diff.diff(a, b, false);
+        if (diff.isEmpty())
+            return "";
+
+        Reader ra = Files.newReader(a, Charset.defaultCharset());
+        Reader rb = Files.newReader(b, Charset.defaultCharset());
+        try {
+            String unified = diff.toUnifiedDiff(from, to, ra, rb, 3);
+            return unified.replace("\r\n", "\n").replace("\n" + Hunk.ENDING_NEWLINE + "\n", "\n");
+        } finally {
+            ra.close();
+            rb.close();
+        }
+    }
+
+    /**
+     * What an MCP patch does to a decompiled file: a few statements get reworded.
+     */
+    private static String mcpEdit(String text) {
+        List<String> lines = new ArrayList<String>();
+        Collections.addAll(lines, text.split("\n", -1));
+
+        int edits = 0;
+        for (int i = 0; i < lines.size() && edits < 3; i++) {
+            String line = lines.get(i);
+            int index = line.indexOf(" = this.");
+            if (index > 0 && line.endsWith(";") && i % 3 == 0) {
+                lines.set(i, line.substring(0, index + 3) + "(" + line.substring(index + 3, line.length() - 1) + ");");
+                edits++;
+            }
+        }
+
+        if (edits == 0) {
+            for (int i = 0; i < lines.size(); i++) {
+                if (lines.get(i).startsWith("public class ")) {
+                    lines.add(i + 2, "   // MCP: decompile fix");
+                    break;
+                }
+            }
+        }
+
+        return Joiner.on('\n').join(lines);
+    }
+
+    /**
+     * What a Forge patch does to a formatted file: a field, and hooks at the start of a few methods.
+     */
+    private static String forgeEdit(String text, Random random) {
+        List<String> lines = new ArrayList<String>();
+        Collections.addAll(lines, text.split("\n", -1));
+
+        List<Integer> bodies = new ArrayList<Integer>();
+        for (int i = 1; i < lines.size(); i++) {
+            if (lines.get(i).equals("    {") && lines.get(i - 1).startsWith("    public ") && lines.get(i - 1).endsWith(")"))
+                bodies.add(i);
+        }
+
+        // from the bottom up, so the indices stay right
+        Collections.shuffle(bodies, random);
+        List<Integer> hooks = new ArrayList<Integer>(bodies.subList(0, Math.min(2, bodies.size())));
+        Collections.sort(hooks, Collections.reverseOrder());
+        for (int i : hooks)
+            lines.add(i + 1, "        net.minecraftforge.common.ForgeHooks.onCall(this);");
+
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).equals("{")) {
+                lines.add(i + 1, "    public Object forgeData;");
+                lines.add(i + 2, "");
+                break;
+            }
+        }
+
+        return Joiner.on('\n').join(lines);
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    // bytecode
+    // ------------------------------------------------------------------------------------------------
+
+    /**
+     * The obfuscated class, with the members of the given side. The Forge version has a method more.
+     */
+    private byte[] classBytes(SynthClass c, int side, boolean forge) {
+        String parent = c.parent == null ? "java/lang/Object" : c.parent.obf;
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        cw.visit(V1_6, ACC_PUBLIC | ACC_SUPER, c.obf, null, parent, null);
+        cw.visitSource("SourceFile", null);
+
+        for (SynthField f : c.fields) {
+            if ((f.side & side) != 0)
+                cw.visitField(f.access, f.obf, desc(f.type, true), null, null).visitEnd();
+        }
+
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "(I)V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        if (c.parent == null) {
+            mv.visitMethodInsn(INVOKESPECIAL, parent, "<init>", "()V");
+        } else {
+            mv.visitVarInsn(ILOAD, 1);
+            mv.visitMethodInsn(INVOKESPECIAL, parent, "<init>", "(I)V");
+        }
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitTypeInsn(NEW, "java/util/ArrayList");
+        mv.visitInsn(DUP);
+        mv.visitMethodInsn(INVOKESPECIAL, "java/util/ArrayList", "<init>", "()V");
+        mv.visitFieldInsn(PUTFIELD, c.obf, c.listField.obf, "Ljava/util/List;");
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ILOAD, 1);
+        mv.visitFieldInsn(PUTFIELD, c.obf, c.intField.obf, "I");
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        for (SynthMethod m : c.methods) {
+            if ((m.side & side) == 0)
+                continue;
+
+            mv = cw.visitMethod(m.isStatic ? ACC_PUBLIC | ACC_STATIC : ACC_PUBLIC, m.obf, m.desc(true), null, null);
+            mv.visitCode();
+            new Body(c, m, mv, null, null).write();
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        if (forge) {
+            mv = cw.visitMethod(ACC_PUBLIC, "forgeHook", "()V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESTATIC, "net/minecraftforge/common/ForgeHooks", "onCall", "(Ljava/lang/Object;)V");
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private static byte[] emptyClass(String name) {
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        cw.visit(V1_6, ACC_PUBLIC | ACC_SUPER, name, null, "java/lang/Object", null);
+
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC | ACC_STATIC, "onCall", "(Ljava/lang/Object;)V", null, null);
+        mv.visitCode();
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    // source
+    // ------------------------------------------------------------------------------------------------
+
+    /**
+     * The class as fernflower prints it once it has been through SpecialSource and MCInjector: SRG names, merged
+     * sides, 3 space indents and an import for everything.
+     */
+    private String source(SynthClass c) {
+        Set<String> imports = new TreeSet<String>();
+        StringBuilder body = new StringBuilder();
+
+        for (SynthField f : c.fields) {
+            sideOnly(body, f.side, imports);
+            body.append("   ").append(access(f.access)).append(typeName(c, f.type, imports)).append(' ').append(f.srg()).append(";\n");
+        }
+        body.append('\n');
+
+        // the constructor
+        String param = "p_i" + c.ctorId + "_1_";
+        body.append("   public ").append(c.simpleName()).append("(int ").append(param).append(") {\n");
+        body.append("      super(").append(c.parent == null ? "" : param).append(");\n");
+        body.append("      this.").append(c.listField.srg()).append(" = new ArrayList();\n");
+        body.append("      this.").append(c.intField.srg()).append(" = ").append(param).append(";\n");
+        body.append("   }\n");
+        imports.add("java/util/ArrayList");
+
+        for (SynthMethod m : c.methods) {
+            body.append('\n');
+            sideOnly(body, m.side, imports);
+            body.append("   public ").append(m.isStatic ? "static " : "").append(typeName(c, String.valueOf(m.ret), imports)).append(' ');
+            body.append(m.srg()).append('(');
+
+            List<String> names = m.paramNames();
+            for (int i = 0; i < names.size(); i++) {
+                if (i > 0)
+                    body.append(", ");
+                body.append(typeName(c, m.params.get(i), imports)).append(' ').append(names.get(i));
+            }
+            body.append(')');
+
+            if (m.throwsIO) {
+                body.append(" throws IOException");
+                imports.add("java/io/IOException");
+            }
+            body.append(" {\n");
+            new Body(c, m, null, body, imports).write();
+            body.append("   }\n");
+        }
+
+        if (c.side != BOTH) {
+            imports.add("cpw/mods/fml/relauncher/Side");
+            imports.add("cpw/mods/fml/relauncher/SideOnly");
+        }
+
+        StringBuilder out = new StringBuilder();
+        out.append("package ").append(c.pkg().replace('/', '.')).append(";\n\n");
+        for (String name : imports)
+            out.append("import ").append(name.replace('/', '.')).append(";\n");
+        out.append('\n');
+
+        if (c.side == CLIENT)
+            out.append("@SideOnly(Side.CLIENT)\n");
+        else if (c.side == SERVER)
+            out.append("@SideOnly(Side.SERVER)\n");
+        out.append("public class ").append(c.simpleName());
+        if (c.parent != null)
+            out.append(" extends ").append(c.parent.simpleName());
+        out.append(" {\n\n");
+        out.append(body);
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private static void sideOnly(StringBuilder out, int side, Set<String> imports) {
+        if (side == BOTH)
+            return;
+
+        out.append("   @SideOnly(Side.").append(side == CLIENT ? "CLIENT" : "SERVER").append(")\n");
+        imports.add("cpw/mods/fml/relauncher/Side");
+        imports.add("cpw/mods/fml/relauncher/SideOnly");
+    }
+
+    private static String access(int access) {
+        switch (access) {
+            case ACC_PRIVATE:
+                return "private ";
+            case ACC_PROTECTED:
+                return "protected ";
+            default:
+                return "public ";
+        }
+    }
+
+    private static String typeName(SynthClass owner, Object type, Set<String> imports) {
+        if (type instanceof SynthClass)
+            return ref(owner, (SynthClass) type, imports);
+
+        switch (((String) type).charAt(0)) {
+            case 'V':
+                return "void";
+            case 'I':
+                return "int";
+            case 'F':
+                return "float";
+            case 'D':
+                return "double";
+            case 'Z':
+                return "boolean";
+            case 'J':
+                return "long";
+            default:
+                imports.add("java/util/List");
+                return "List";
+        }
+    }
+
+    private static String ref(SynthClass owner, SynthClass other, Set<String> imports) {
+        if (other != owner)
+            imports.add(other.name);
+        return other.simpleName();
+    }
+
+    private static String floatLiteral(float value) {
+        return Float.toString(value) + "F";
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    // method bodies
+    // ------------------------------------------------------------------------------------------------
+
+    /**
+     * Writes a method body as bytecode, as source, or both. Either output may be null; the random numbers are used
+     * the same way regardless, so both come out the same every time.
+     */
+    private class Body {
+        private final SynthClass owner;
+        private final SynthMethod method;
+        private final MethodVisitor mv;
+        private final StringBuilder src;
+        private final Set<String> imports;
+        private final Random random;
+        private int nextLocal;
+
+        Body(SynthClass owner, SynthMethod method, MethodVisitor mv, StringBuilder src, Set<String> imports) {
+            this.owner = owner;
+            this.method = method;
+            this.mv = mv;
+            this.src = src;
+            this.imports = imports;
+            this.random = new Random(method.seed);
+            this.nextLocal = method.firstFreeLocal();
+        }
+
+        void write() {
+            if (method.isStatic) {
+                // the helper every class has: return p * 31 + 7
+                String param = method.paramNames().get(0);
+                line(2, "return " + param + " * 31 + 7;");
+                if (mv != null) {
+                    mv.visitVarInsn(ILOAD, 0);
+                    push(31);
+                    mv.visitInsn(IMUL);
+                    push(7);
+                    mv.visitInsn(IADD);
+                    mv.visitInsn(IRETURN);
+                }
+                return;
+            }
+
+            int count = 2 + random.nextInt(6);
+            for (int i = 0; i < count; i++)
+                statement(2, false);
+
+            returnValue();
+        }
+
+        private void statement(int level, boolean nested) {
+            switch (random.nextInt(nested ? 4 : 8)) {
+                case 0:
+                    glCall(level);
+                    break;
+                case 1:
+                    angle(level);
+                    break;
+                case 2:
+                    intUpdate(level);
+                    break;
+                case 3:
+                    staticCall(level);
+                    break;
+                case 4:
+                    localFloat(level);
+                    break;
+                case 5:
+                    loop(level);
+                    break;
+                case 6:
+                    switchOn(level);
+                    break;
+                default:
+                    ifElse(level);
+                    break;
+            }
+        }
+
+        // GL11.glEnable(3042);
+        private void glCall(int level) {
+            Object[] call = GL_CALLS[random.nextInt(GL_CALLS.length)];
+            String name = (String) call[0];
+            int value = (Integer) call[1];
+
+            line(level, "GL11." + name + "(" + value + ");");
+            if (imports != null)
+                imports.add("org/lwjgl/opengl/GL11");
+            if (mv != null) {
+                push(value);
+                mv.visitMethodInsn(INVOKESTATIC, "org/lwjgl/opengl/GL11", name, "(I)V");
+            }
+        }
+
+        // this.f = this.f * 3.1415927F / 180.0F;
+        private void angle(int level) {
+            float angle = ANGLES[random.nextInt(ANGLES.length)];
+            SynthField f = owner.floatField;
+
+            line(level, "this." + f.srg() + " = this." + f.srg() + " * " + floatLiteral(angle) + " / 180.0F;");
+            if (mv != null) {
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitFieldInsn(GETFIELD, owner.obf, f.obf, "F");
+                mv.visitLdcInsn(angle);
+                mv.visitInsn(FMUL);
+                mv.visitLdcInsn(180.0F);
+                mv.visitInsn(FDIV);
+                mv.visitFieldInsn(PUTFIELD, owner.obf, f.obf, "F");
+            }
+        }
+
+        // this.i += p_1_; or this.i += 1;
+        private void intUpdate(int level) {
+            SynthField f = owner.intField;
+            int param = method.findParam("I");
+
+            line(level, "this." + f.srg() + " += " + (param < 0 ? "1" : method.paramName(param)) + ";");
+            if (mv != null) {
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitInsn(DUP);
+                mv.visitFieldInsn(GETFIELD, owner.obf, f.obf, "I");
+                if (param < 0)
+                    push(1);
+                else
+                    mv.visitVarInsn(ILOAD, method.slot(param));
+                mv.visitInsn(IADD);
+                mv.visitFieldInsn(PUTFIELD, owner.obf, f.obf, "I");
+            }
+        }
+
+        // this.i = Other.func_1_a(this.i);
+        private void staticCall(int level) {
+            SynthClass other = shared.get(random.nextInt(shared.size()));
+            SynthField f = owner.intField;
+
+            String target = other.helper.srg();
+            if (other != owner)
+                target = (imports == null ? other.simpleName() : ref(owner, other, imports)) + "." + target;
+            line(level, "this." + f.srg() + " = " + target + "(this." + f.srg() + ");");
+            if (mv != null) {
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitFieldInsn(GETFIELD, owner.obf, f.obf, "I");
+                mv.visitMethodInsn(INVOKESTATIC, other.obf, other.helper.obf, "(I)I");
+                mv.visitFieldInsn(PUTFIELD, owner.obf, f.obf, "I");
+            }
+        }
+
+        // float var5 = (float)p_1_ * 0.017453292F;
+        // this.f += var5;
+        private void localFloat(int level) {
+            float angle = ANGLES[random.nextInt(ANGLES.length)];
+            int param = method.findParam("I");
+            int local = nextLocal++;
+
+            String from = param < 0 ? "this." + owner.floatField.srg() : "(float)" + method.paramName(param);
+            line(level, "float var" + local + " = " + from + " * " + floatLiteral(angle) + ";");
+            line(level, "this." + owner.floatField.srg() + " += var" + local + ";");
+            if (mv != null) {
+                if (param < 0) {
+                    mv.visitVarInsn(ALOAD, 0);
+                    mv.visitFieldInsn(GETFIELD, owner.obf, owner.floatField.obf, "F");
+                } else {
+                    mv.visitVarInsn(ILOAD, method.slot(param));
+                    mv.visitInsn(I2F);
+                }
+                mv.visitLdcInsn(angle);
+                mv.visitInsn(FMUL);
+                mv.visitVarInsn(FSTORE, local);
+
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitInsn(DUP);
+                mv.visitFieldInsn(GETFIELD, owner.obf, owner.floatField.obf, "F");
+                mv.visitVarInsn(FLOAD, local);
+                mv.visitInsn(FADD);
+                mv.visitFieldInsn(PUTFIELD, owner.obf, owner.floatField.obf, "F");
+            }
+        }
+
+        // for(int var6 = 0; var6 < this.l.size(); ++var6) {
+        //    this.i += var6 * 31;
+        // }
+        private void loop(int level) {
+            SynthField list = owner.listField;
+            SynthField f = owner.intField;
+            int local = nextLocal++;
+
+            line(level, "for(int var" + local + " = 0; var" + local + " < this." + list.srg() + ".size(); ++var" + local + ") {");
+            line(level + 1, "this." + f.srg() + " += var" + local + " * 31;");
+            line(level, "}");
+            if (mv != null) {
+                Label check = new Label();
+                Label end = new Label();
+                push(0);
+                mv.visitVarInsn(ISTORE, local);
+                mv.visitLabel(check);
+                mv.visitVarInsn(ILOAD, local);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitFieldInsn(GETFIELD, owner.obf, list.obf, "Ljava/util/List;");
+                mv.visitMethodInsn(INVOKEINTERFACE, "java/util/List", "size", "()I");
+                mv.visitJumpInsn(IF_ICMPGE, end);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitInsn(DUP);
+                mv.visitFieldInsn(GETFIELD, owner.obf, f.obf, "I");
+                mv.visitVarInsn(ILOAD, local);
+                push(31);
+                mv.visitInsn(IMUL);
+                mv.visitInsn(IADD);
+                mv.visitFieldInsn(PUTFIELD, owner.obf, f.obf, "I");
+                mv.visitIincInsn(local, 1);
+                mv.visitJumpInsn(GOTO, check);
+                mv.visitLabel(end);
+            }
+        }
+
+        // switch(this.i & 3) { case 0: ... }
+        private void switchOn(int level) {
+            SynthField f = owner.intField;
+            int cases = 2 + random.nextInt(3);
+
+            Label end = new Label();
+            Label dflt = new Label();
+            Label[] labels = new Label[cases];
+            for (int i = 0; i < cases; i++)
+                labels[i] = new Label();
+
+            line(level, "switch(this." + f.srg() + " & 3) {");
+            if (mv != null) {
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitFieldInsn(GETFIELD, owner.obf, f.obf, "I");
+                push(3);
+                mv.visitInsn(IAND);
+                mv.visitTableSwitchInsn(0, cases - 1, dflt, labels);
+            }
+
+            for (int i = 0; i < cases; i++) {
+                line(level, "case " + i + ":");
+                if (mv != null)
+                    mv.visitLabel(labels[i]);
+
+                statement(level + 1, true);
+                if (random.nextInt(10) < 7) {
+                    line(level + 1, "break;");
+                    if (mv != null)
+                        mv.visitJumpInsn(GOTO, end);
+                } else {
+                    // fernflower leaves a blank line where a case falls through
+                    if (src != null)
+                        src.append('\n');
+                }
+            }
+
+            line(level, "default:");
+            line(level + 1, "this." + f.srg() + " = 0;");
+            line(level, "}");
+            if (mv != null) {
+                mv.visitLabel(dflt);
+                mv.visitVarInsn(ALOAD, 0);
+                push(0);
+                mv.visitFieldInsn(PUTFIELD, owner.obf, f.obf, "I");
+                mv.visitLabel(end);
+            }
+        }
+
+        // if(this.f > 0.5F) { ... } else { ... }
+        private void ifElse(int level) {
+            SynthField f = owner.floatField;
+            Label otherwise = new Label();
+            Label end = new Label();
+
+            line(level, "if(this." + f.srg() + " > 0.5F) {");
+            if (mv != null) {
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitFieldInsn(GETFIELD, owner.obf, f.obf, "F");
+                mv.visitLdcInsn(0.5F);
+                mv.visitInsn(FCMPL);
+                mv.visitJumpInsn(IFLE, otherwise);
+            }
+
+            statement(level + 1, true);
+            line(level, "} else {");
+            if (mv != null) {
+                mv.visitJumpInsn(GOTO, end);
+                mv.visitLabel(otherwise);
+            }
+
+            statement(level + 1, true);
+            line(level, "}");
+            if (mv != null)
+                mv.visitLabel(end);
+        }
+
+        private void returnValue() {
+            switch (method.ret) {
+                case 'I':
+                    line(2, "return this." + owner.intField.srg() + ";");
+                    if (mv != null) {
+                        mv.visitVarInsn(ALOAD, 0);
+                        mv.visitFieldInsn(GETFIELD, owner.obf, owner.intField.obf, "I");
+                        mv.visitInsn(IRETURN);
+                    }
+                    break;
+                case 'F':
+                    line(2, "return this." + owner.floatField.srg() + " * 0.5F;");
+                    if (mv != null) {
+                        mv.visitVarInsn(ALOAD, 0);
+                        mv.visitFieldInsn(GETFIELD, owner.obf, owner.floatField.obf, "F");
+                        mv.visitLdcInsn(0.5F);
+                        mv.visitInsn(FMUL);
+                        mv.visitInsn(FRETURN);
+                    }
+                    break;
+                case 'Z':
+                    line(2, "return this." + owner.intField.srg() + " > 0;");
+                    if (mv != null) {
+                        Label no = new Label();
+                        mv.visitVarInsn(ALOAD, 0);
+                        mv.visitFieldInsn(GETFIELD, owner.obf, owner.intField.obf, "I");
+                        mv.visitJumpInsn(IFLE, no);
+                        push(1);
+                        mv.visitInsn(IRETURN);
+                        mv.visitLabel(no);
+                        push(0);
+                        mv.visitInsn(IRETURN);
+                    }
+                    break;
+                default:
+                    if (mv != null)
+                        mv.visitInsn(RETURN);
+                    break;
+            }
+        }
+
+        private void push(int value) {
+            if (value >= -1 && value <= 5)
+                mv.visitInsn(ICONST_0 + value);
+            else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE)
+                mv.visitIntInsn(BIPUSH, value);
+            else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE)
+                mv.visitIntInsn(SIPUSH, value);
+            else
+                mv.visitLdcInsn(value);
+        }
+
+        private void line(int level, String text) {
+            if (src == null)
+                return;
+
+            for (int i = 0; i < level; i++)
+                src.append("   ");
+            src.append(text).append('\n');
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    // the model classes
+    // ------------------------------------------------------------------------------------------------
+
+    private static class SynthClass {
+        final String obf;
+        final String name;
+        final int side;
+        final SynthClass parent;
+        final List<SynthField> fields = new ArrayList<SynthField>();
+        final List<SynthMethod> methods = new ArrayList<SynthMethod>();
+
+        int ctorId;
+        int members;
+        boolean mcpPatched;
+        boolean forgePatched;
+        SynthField intField;
+        SynthField floatField;
+        SynthField listField;
+        SynthMethod helper;
+
+        SynthClass(String obf, String name, int side, SynthClass parent) {
+            this.obf = obf;
+            this.name = name;
+            this.side = side;
+            this.parent = parent;
+        }
+
+        String simpleName() {
+            return name.substring(name.lastIndexOf('/') + 1);
+        }
+
+        String pkg() {
+            return name.substring(0, name.lastIndexOf('/'));
+        }
+    }
+
+    private static class SynthField {
+        final String obf;
+        final int id;
+        final Object type;
+        final int side;
+        final int access;
+        String name;
+        String javadoc;
+
+        SynthField(String obf, int id, Object type, int side, int access) {
+            this.obf = obf;
+            this.id = id;
+            this.type = type;
+            this.side = side;
+            this.access = access;
+        }
+
+        String srg() {
+            return "field_" + id + "_" + obf;
+        }
+    }
+
+    private static class SynthMethod {
+        final String obf;
+        final int id;
+        final int side;
+        final boolean isStatic;
+        final List<Object> params;
+        final char ret;
+        final long seed;
+        final boolean throwsIO;
+        String name;
+        String javadoc;
+
+        SynthMethod(String obf, int id, int side, boolean isStatic, List<Object> params, char ret, long seed, boolean throwsIO) {
+            this.obf = obf;
+            this.id = id;
+            this.side = side;
+            this.isStatic = isStatic;
+            this.params = params;
+            this.ret = ret;
+            this.seed = seed;
+            this.throwsIO = throwsIO;
+        }
+
+        String srg() {
+            return "func_" + id + "_" + obf;
+        }
+
+        String desc(boolean obf) {
+            StringBuilder desc = new StringBuilder("(");
+            for (Object param : params)
+                desc.append(SyntheticMinecraft.desc(param, obf));
+            return desc.append(')').append(ret).toString();
+        }
+
+        /**
+         * The local variable slot of a parameter, which is what MCP numbers them by.
+         */
+        int slot(int param) {
+            int slot = isStatic ? 0 : 1;
+            for (int i = 0; i < param; i++)
+                slot += size(params.get(i));
+            return slot;
+        }
+
+        int firstFreeLocal() {
+            return slot(params.size());
+        }
+
+        String paramName(int param) {
+            return "p_" + id + "_" + slot(param) + "_";
+        }
+
+        List<String> paramNames() {
+            List<String> names = new ArrayList<String>();
+            for (int i = 0; i < params.size(); i++)
+                names.add(paramName(i));
+            return names;
+        }
+
+        int findParam(String type) {
+            return params.indexOf(type);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package net.minecraft.util;
+
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
+public enum EnumSynthFacing {
+
+   LIGHT("LIGHT", 0, 0, 6.283185307179586D, "light"),
+   TEXTURE_MOTION("TEXTURE_MOTION", 1, 1, 4.712389F, "texture_motion"),
+   BLOCK("BLOCK", 2, 2, 1.5707963267948966D, "block"),
+   WORLD_CAN("WORLD_CAN", 3, 3, 6.2831855F, "world_can"),
+   BIOME("BIOME", 4, 4, 3.1415927F, "biome"),
+   READ("READ", 5, 5, 4.712389F, "read");
+   public final int field_98612_m;
+   private final float field_87966_uc;
+   private final String field_72959_i;
+   // $FF: synthetic field
+   private static final EnumSynthFacing[] $VALUES = new EnumSynthFacing[]{LIGHT, TEXTURE_MOTION, BLOCK, WORLD_CAN, BIOME, READ};
+
+
+   private EnumSynthFacing(String var1, int var2, int p_i2793_3_, float p_i2793_4_, String p_i2793_5_) {
+      this.field_98612_m = p_i2793_3_;
+      this.field_87966_uc = p_i2793_4_;
+      this.field_72959_i = p_i2793_5_;
+   }
+
+   @SideOnly(Side.CLIENT)
+   public String func_83366_a() {
+      return this.field_72959_i;
+   }
+
+}
@@ -0,0 +1,50 @@
+package net.minecraft.client.settings;
+
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
+public enum EnumSynthOptions {
+
+   APPLY("APPLY", 0, 0, 4.712389F, "apply"),
+   STACK("STACK", 1, 1, 3.141592653589793D, "stack"),
+   ENTITY_STACK("ENTITY_STACK", 2, 2, 1.5707963267948966D, "entity_stack"),
+   POS("POS", 3, 3, 4.712389F, "pos"),
+   METADATA("METADATA", 4, 4, 6.2831855F, "metadata"),
+   CAN("CAN", 5, 5, 1.5707964F, "can"),
+   PARTICLE("PARTICLE", 6, 6, 0.62831855F, "particle"),
+   SOUND_BIOME("SOUND_BIOME", 7, 7, 1.5707964F, "sound_biome"),
+   PITCH_PARTICLE("PITCH_PARTICLE", 8, 8, 4.712389F, "pitch_particle"),
+   TILE("TILE", 9, 9, 1.5707963267948966D, "tile"),
+   IS("IS", 10, 10, 3.1415927F, "is"),
+   LOAD_SIDE("LOAD_SIDE", 11, 11, 57.295776F, "load_side"),
+   METADATA_CHUNK("METADATA_CHUNK", 12, 12, 0.62831855F, "metadata_chunk"),
+   CAN_SPAWN("CAN_SPAWN", 13, 13, 0.62831855F, "can_spawn"),
+   SIDE_ITEM("SIDE_ITEM", 14, 14, 1.5707963267948966D, "side_item"),
+   POS_APPLY("POS_APPLY", 15, 15, 0.62831855F, "pos_apply"),
+   RENDER_SOUND("RENDER_SOUND", 16, 16, 3.1415927F, "render_sound"),
+   SOUND_PACKET("SOUND_PACKET", 17, 17, 0.62831855F, "sound_packet"),
+   UPDATE_CHUNK("UPDATE_CHUNK", 18, 18, 6.283185307179586D, "update_chunk"),
+   FIND_READ("FIND_READ", 19, 19, 0.31415927F, "find_read"),
+   BLOCK("BLOCK", 20, 20, 0.31415927F, "block"),
+   SET_CHUNK("SET_CHUNK", 21, 21, 4.712389F, "set_chunk"),
+   TICK_CAN("TICK_CAN", 22, 22, 6.2831855F, "tick_can"),
+   SET_METADATA("SET_METADATA", 23, 23, 3.1415927F, "set_metadata");
+   public final int field_90761_r;
+   private final float field_71666_od;
+   private final String field_82020_aa;
+   // $FF: synthetic field
+   private static final EnumSynthOptions[] $VALUES = new EnumSynthOptions[]{APPLY, STACK, ENTITY_STACK, POS, METADATA, CAN, PARTICLE, SOUND_BIOME, PITCH_PARTICLE, TILE, IS, LOAD_SIDE, METADATA_CHUNK, CAN_SPAWN, SIDE_ITEM, POS_APPLY, RENDER_SOUND, SOUND_PACKET, UPDATE_CHUNK, FIND_READ, BLOCK, SET_CHUNK, TICK_CAN, SET_METADATA};
+
+
+   private EnumSynthOptions(String var1, int var2, int p_i2811_3_, float p_i2811_4_, String p_i2811_5_) {
+      this.field_90761_r = p_i2811_3_;
+      this.field_71666_od = p_i2811_4_;
+      this.field_82020_aa = p_i2811_5_;
+   }
+
+   @SideOnly(Side.CLIENT)
+   public String func_93040_v() {
+      return this.field_82020_aa;
+   }
+
+}
@@ -0,0 +1,605 @@
+package net.minecraft.world.gen;
+
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.minecraft.world.gen.SynthEntity;
+import net.minecraft.world.gen.SynthMath;
+import net.minecraft.world.gen.SynthTessellator;
+import org.lwjgl.opengl.GL11;
+
+@SideOnly(Side.CLIENT)
+public class SynthChunkProvider extends SynthBlock implements Runnable {
+
+   protected double field_89986_a;
+   protected double field_91447_ia;
+   protected boolean field_87453_g;
+   // $FF: renamed from: a boolean
+   public boolean field_98246_b;
+   private final List field_95348_bd = new ArrayList();
+   protected double field_70702_ad;
+   private static final float[] field_76209_vc = new float[]{0.0F, 0.7853982F, 1.5707964F, 3.1415927F};
+
+   public SynthChunkProvider(SynthChunk p_i1172_1_, int p_i1172_2_) {
+      super();
+      this.field_89986_a = p_i1172_2_;
+      this.func_95031_cb(p_i1172_1_, new Random((long)p_i1172_2_ * 341873128712L));
+   }
+
+   public int func_74852_q(long p_74852_1_, SynthItemStack p_74852_2_, SynthItemStack p_74852_3_, SynthTessellator p_74852_4_) {
+      GL11.glPushMatrix();
+      GL11.glEnable(2884);
+      GL11.glAlphaFunc(516, 0.1F);
+      GL11.glEnable(32826);
+      GL11.glTranslatef((float)p_74852_2_, (float)p_74852_4_ + 1.5F, 0.0F);
+      GL11.glRotatef(this.field_95348_bd * -1.0F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      StringBuilder var5 = new StringBuilder();
+      var5.append('\u00a7').append(Character.valueOf('2')).append("texture // not a comment");
+      var5.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_95348_bd = var5.toString().length();
+      int var6 = this.field_89986_a & 7;
+      switch(var6) {
+      case 0:
+         int var7 = this.field_91447_ia & 7;
+         switch(var7) {
+         case 0:
+            StringBuilder var8 = new StringBuilder();
+            var8.append('\u00a7').append(Character.valueOf('3')).append("chunk // not a comment");
+            var8.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_91447_ia = var8.toString().length();
+            break;
+         case 1:
+            StringBuilder var9 = new StringBuilder();
+            var9.append('\u00a7').append(Character.valueOf('d')).append("height // not a comment");
+            var9.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_91447_ia = var9.toString().length();
+            break;
+         case 2:
+            float var10 = SynthMath.func_76126_a((float)p_74852_3_ * 6.283185307179586D / 180.0F);
+            double var11 = Math.cos((double)var10 * 4.712389F) * 1.5707963267948966D;
+            this.field_89986_a = (float)(var11 + (double)var10);
+
+         default:
+            throw new IllegalStateException("Unknown side " + var7);
+         }
+
+         break;
+      case 1:
+         try {
+            int var13 = this.field_95348_bd.size();
+            for(int var14 = 0; var14 < var13; ++var14) {
+               SynthEntity var15 = (SynthEntity)this.field_70702_ad.get(var14);
+               if(var15.field_89986_a > 0.0010D && !var15.field_89986_a) {
+                  var15.func_95031_cb();
+               }
+            }
+         } catch (IOException var16) {
+            var16.printStackTrace();
+         }
+
+         break;
+      case 2:
+         int var17 = this.field_91447_ia.size();
+         for(int var18 = 0; var18 < var17; ++var18) {
+            SynthEntity var19 = (SynthEntity)this.field_98246_b.get(var18);
+            if(var19.field_98246_b > 0.0010D && !var19.field_70702_ad) {
+               var19.func_81483_g();
+            }
+         }
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var6);
+      }
+
+      float var20 = SynthMath.func_76126_a(this.field_98246_b * 57.29577951308232D / 180.0F);
+      double var21 = Math.cos((double)var20 * 6.283185307179586D) * 6.2831855F;
+      this.field_87453_g = (float)(var21 + (double)1.0F);
+      return this.field_98246_b;
+   }
+
+   public boolean func_82482_vc(SynthChunk p_82482_1_, boolean p_82482_2_, float p_82482_3_) {
+      int var4 = this.field_98246_b & 7;
+      switch(var4) {
+      case 0:
+         SynthTessellator var5 = SynthTessellator.field_78398_a;
+         var5.func_78382_b();
+         var5.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var5.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var5.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+         break;
+      case 1:
+         this.func_81483_g(this.field_98246_b, (float)p_82482_3_);
+         break;
+      case 2:
+         int var6 = this.field_95348_bd.size();
+         for(int var7 = 0; var7 < var6; ++var7) {
+            SynthEntity var8 = (SynthEntity)this.field_95348_bd.get(var7);
+            if(var8.field_70702_ad > 0.0010D && !var8.field_89986_a) {
+               var8.func_95031_cb();
+            }
+         }
+         break;
+      case 3:
+         // $FF: Couldn't be decompiled
+         this.field_95348_bd = (float)p_82482_1_;  
+
+      default:
+         throw new IllegalStateException("Unknown side " + var4);
+      }
+
+      StringBuilder var9 = new StringBuilder();
+      var9.append('\u00a7').append(Character.valueOf('d')).append("sound // not a comment");
+      var9.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_70702_ad = var9.toString().length();
+      float var10 = SynthMath.func_76126_a(this.field_95348_bd * 6.2831855F / 180.0F);
+      double var11 = Math.cos((double)var10 * 1.5707964F) * 0.31415927F;
+      this.field_70702_ad = (float)(var11 + (double)0.0F);
+      if((float)p_82482_3_ >= -1.0F) {
+         if((float)p_82482_3_ >= 0.0D) {
+            int var13 = this.field_98246_b & 7;
+            switch(var13) {
+            case 0:
+               int var14 = this.field_89986_a & 7;
+               switch(var14) {
+               case 0:
+                  GL11.glPushMatrix();
+                  GL11.glEnable(3553);
+                  GL11.glEnable(2896);
+                  GL11.glDepthFunc(515);
+                  GL11.glBlendFunc(770, 771);
+                  GL11.glTranslatef(this.field_95348_bd, (float)p_82482_3_ + 1.5F, 0.0F);
+                  GL11.glRotatef((float)p_82482_1_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+                  GL11.glPopMatrix();
+                  break;
+               case 1:
+                  StringBuilder var15 = new StringBuilder();
+                  var15.append('\u00a7').append(Character.valueOf('a')).append("texture // not a comment");
+                  var15.append('x' == '\'' ? "/* quoted */" : "\"");
+                  this.field_91447_ia = var15.toString().length();
+                  break;
+               default:
+                  throw new IllegalStateException("Unknown side " + var14);
+               }
+
+
+            case 1:
+               this.func_95031_cb((float)p_82482_3_, (float)p_82482_1_);
+               break;
+            case 2:
+               int var16 = this.field_95348_bd.size();
+               for(int var17 = 0; var17 < var16; ++var17) {
+                  SynthEntity var18 = (SynthEntity)this.field_98246_b.get(var17);
+                  if(var18.field_91447_ia > 0.0010D && !var18.field_70702_ad) {
+                     var18.func_81483_g();
+                  }
+               }
+               break;
+            case 3:
+               StringBuilder var19 = new StringBuilder();
+               var19.append('\u00a7').append(Character.valueOf('e')).append("can // not a comment");
+               var19.append('x' == '\'' ? "/* quoted */" : "\"");
+               this.field_95348_bd = var19.toString().length();
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var13);
+            }
+
+            GL11.glPushMatrix();
+            GL11.glEnable(32826);
+            GL11.glTranslatef(this.field_98246_b, (float)p_82482_2_ + 0.5F, 0.0F);
+            GL11.glRotatef((float)p_82482_3_ * 57.295776F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+         } else {
+            StringBuilder var20 = new StringBuilder();
+            var20.append('\u00a7').append(Character.valueOf('d')).append("render // not a comment");
+            var20.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_91447_ia = var20.toString().length();
+         }
+
+         if((float)p_82482_1_ >= 0.5F) {
+            this.func_97389_j((float)p_82482_1_, this.field_87453_g);
+            int var21 = this.field_89986_a & 7;
+            switch(var21) {
+            case 0:
+               float var22 = SynthMath.func_76126_a((float)p_82482_3_ * 0.31415927F / 180.0F);
+               double var23 = Math.cos((double)var22 * 57.295776F) * 3.1415927F;
+               this.field_89986_a = (float)(var23 + (double)0.0F);
+               break;
+            case 1:
+               int var25 = this.field_95348_bd.size();
+               for(int var26 = 0; var26 < var25; ++var26) {
+                  SynthEntity var27 = (SynthEntity)this.field_87453_g.get(var26);
+                  if(var27.field_87453_g > 0.0010D && !var27.field_95348_bd) {
+                     var27.func_74836_m();
+                  }
+               }
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var21);
+            }
+
+         }
+
+         try {
+            int var28 = this.field_87453_g.size();
+            for(int var29 = 0; var29 < var28; ++var29) {
+               SynthEntity var30 = (SynthEntity)this.field_95348_bd.get(var29);
+               if(var30.field_70702_ad > 0.0010D && !var30.field_87453_g) {
+                  var30.func_97389_j();
+               }
+            }
+         } catch (IOException var31) {
+            var31.printStackTrace();
+         }
+
+      } else {
+         SynthTessellator var32 = SynthTessellator.field_78398_a;
+         var32.func_78382_b();
+         var32.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var32.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var32.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+      }
+
+      return this.field_87453_g != null;
+   }
+
+   public int func_78557_ca(int p_78557_1_, SynthChunk p_78557_2_, double p_78557_3_, SynthChunk p_78557_4_) {
+      try {
+         GL11.glPushMatrix();
+         GL11.glDisable(3553);
+         GL11.glTranslatef((float)p_78557_2_, this.field_70702_ad + 0.0010F, 0.0F);
+         GL11.glRotatef(this.field_91447_ia * 57.295776F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+      } catch (IOException var5) {
+         var5.printStackTrace();
+      }
+
+      float var6 = SynthMath.func_76126_a(this.field_98246_b * 1.5707963267948966D / 180.0F);
+      double var7 = Math.cos((double)var6 * 6.283185307179586D) * 3.1415927F;
+      this.field_98246_b = (float)(var7 + (double)0.0F);
+      if((float)p_78557_1_ >= 0.5F) {
+         float var9 = SynthMath.func_76126_a(this.field_95348_bd * 6.283185307179586D / 180.0F);
+         double var10 = Math.cos((double)var9 * 57.29577951308232D) * 3.141592653589793D;
+         this.field_89986_a = (float)(var10 + (double)var9);
+         GL11.glPushMatrix();
+         GL11.glDepthFunc(515);
+         GL11.glEnable(32826);
+         GL11.glEnable(2896);
+         GL11.glEnable(2884);
+         GL11.glTranslatef((float)p_78557_1_, (float)p_78557_1_ + 0.5F, 0.0F);
+         GL11.glRotatef((float)p_78557_1_ * -1.0F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+      } else {
+         StringBuilder var12 = new StringBuilder();
+         var12.append('\u00a7').append(Character.valueOf('c')).append("spawn // not a comment");
+         var12.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_98246_b = var12.toString().length();
+      }
+
+      int var13 = this.field_95348_bd & 7;
+      switch(var13) {
+      case 0:
+         StringBuilder var14 = new StringBuilder();
+         var14.append('\u00a7').append(Character.valueOf('3')).append("light // not a comment");
+         var14.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_89986_a = var14.toString().length();
+         break;
+      case 1:
+         int var15 = this.field_95348_bd & 7;
+         switch(var15) {
+         case 0:
+            float var16 = SynthMath.func_76126_a((float)p_78557_2_ * 6.2831855F / 180.0F);
+            double var17 = Math.cos((double)var16 * 6.2831855F) * 3.1415927F;
+            this.field_95348_bd = (float)(var17 + (double)var16);
+            break;
+         case 1:
+            GL11.glPushMatrix();
+            GL11.glDisable(3553);
+            GL11.glDepthFunc(515);
+            GL11.glClear(256);
+            GL11.glTranslatef((float)p_78557_4_, this.field_70702_ad + 0.5F, 0.0F);
+            GL11.glRotatef(this.field_91447_ia * 57.295776F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var15);
+         }
+
+         break;
+      case 2:
+         // $FF: Couldn't be decompiled
+         this.field_87453_g = (float)p_78557_1_;  
+         break;
+      case 3:
+         float var19 = SynthMath.func_76126_a((float)p_78557_1_ * 1.5707963267948966D / 180.0F);
+         double var20 = Math.cos((double)var19 * 57.29577951308232D) * 0.31415927F;
+         this.field_98246_b = (float)(var20 + (double)1.0F);
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var13);
+      }
+
+      int var22 = this.field_98246_b.size();
+      for(int var23 = 0; var23 < var22; ++var23) {
+         SynthEntity var24 = (SynthEntity)this.field_91447_ia.get(var23);
+         if(var24.field_87453_g > 0.0010D && !var24.field_91447_ia) {
+            var24.func_81483_g();
+         }
+      }
+      SynthTessellator var25 = SynthTessellator.field_78398_a;
+      var25.func_78382_b();
+      var25.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var25.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var25.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      StringBuilder var26 = new StringBuilder();
+      var26.append('\u00a7').append(Character.valueOf('2')).append("light // not a comment");
+      var26.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_89986_a = var26.toString().length();
+      return this.field_95348_bd;
+   }
+
+   public float func_96429_a(SynthEntity p_96429_1_, SynthItemStack p_96429_2_) {
+      StringBuilder var3 = new StringBuilder();
+      var3.append('\u00a7').append(Character.valueOf('e')).append("texture // not a comment");
+      var3.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_98246_b = var3.toString().length();
+      float var4 = SynthMath.func_76126_a(this.field_87453_g * 4.712389F / 180.0F);
+      double var5 = Math.cos((double)var4 * 1.5707964F) * 3.141592653589793D;
+      this.field_98246_b = (float)(var5 + (double)0.0F);
+      // $FF: Couldn't be decompiled
+      this.field_89986_a = (float)p_96429_1_;  
+      StringBuilder var7 = new StringBuilder();
+      var7.append('\u00a7').append(Character.valueOf('2')).append("entity // not a comment");
+      var7.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_70702_ad = var7.toString().length();
+      int var8 = this.field_95348_bd & 7;
+      switch(var8) {
+      case 0:
+         this.func_97389_j(this.field_70702_ad, (float)p_96429_1_);
+         break;
+      case 1:
+         float var9 = SynthMath.func_76126_a(this.field_98246_b * 4.712389F / 180.0F);
+         double var10 = Math.cos((double)var9 * 0.31415927F) * 6.283185307179586D;
+         this.field_95348_bd = (float)(var10 + (double)1.0F);
+         break;
+      case 2:
+         SynthTessellator var12 = SynthTessellator.field_78398_a;
+         var12.func_78382_b();
+         var12.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var12.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var12.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+
+      case 3:
+         int var13 = this.field_98246_b & 7;
+         switch(var13) {
+         case 0:
+            StringBuilder var14 = new StringBuilder();
+            var14.append('\u00a7').append(Character.valueOf('b')).append("tick // not a comment");
+            var14.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_87453_g = var14.toString().length();
+
+         case 1:
+            float var15 = SynthMath.func_76126_a(this.field_91447_ia * 3.1415927F / 180.0F);
+            double var16 = Math.cos((double)var15 * 57.295776F) * 1.5707964F;
+            this.field_87453_g = (float)(var16 + (double)0.0F);
+            break;
+         case 2:
+            StringBuilder var18 = new StringBuilder();
+            var18.append('\u00a7').append(Character.valueOf('a')).append("tile // not a comment");
+            var18.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_87453_g = var18.toString().length();
+            break;
+         case 3:
+            this.func_95031_cb((float)p_96429_2_);
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var13);
+         }
+
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var8);
+      }
+
+      float var19 = SynthMath.func_76126_a((float)p_96429_2_ * 1.5707964F / 180.0F);
+      double var20 = Math.cos((double)var19 * 0.31415927F) * 0.7853982F;
+      this.field_87453_g = (float)(var20 + (double)var19);
+      return this.field_95348_bd * 0.31415927F;
+   }
+
+   public void func_76070_i() {
+      SynthTessellator var1 = SynthTessellator.field_78398_a;
+      var1.func_78382_b();
+      var1.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var1.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var1.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      SynthTessellator var2 = SynthTessellator.field_78398_a;
+      var2.func_78382_b();
+      var2.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var2.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var2.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      if(this.field_91447_ia >= 0.0D) {
+         this.func_97389_j();
+         float var3 = SynthMath.func_76126_a(this.field_95348_bd * 0.62831855F / 180.0F);
+         double var4 = Math.cos((double)var3 * 1.5707964F) * 0.31415927F;
+         this.field_98246_b = (float)(var4 + (double)0.0F);
+         // $FF: Couldn't be decompiled
+         this.field_70702_ad = this.field_98246_b;  
+      } else {
+         if(this.field_91447_ia >= -1.0F) {
+            int var6 = this.field_95348_bd.size();
+            for(int var7 = 0; var7 < var6; ++var7) {
+               SynthEntity var8 = (SynthEntity)this.field_87453_g.get(var7);
+               if(var8.field_98246_b > 0.0010D && !var8.field_95348_bd) {
+                  var8.func_97389_j();
+               }
+            }
+            float var9 = SynthMath.func_76126_a(this.field_87453_g * 0.7853982F / 180.0F);
+            double var10 = Math.cos((double)var9 * 0.7853982F) * 0.7853982F;
+            this.field_87453_g = (float)(var10 + (double)0.0F);
+            StringBuilder var12 = new StringBuilder();
+            var12.append('\u00a7').append(Character.valueOf('d')).append("render // not a comment");
+            var12.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_91447_ia = var12.toString().length();
+         } else {
+            StringBuilder var13 = new StringBuilder();
+            var13.append('\u00a7').append(Character.valueOf('e')).append("light // not a comment");
+            var13.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_91447_ia = var13.toString().length();
+         }
+
+      }
+
+      int var14 = this.field_98246_b.size();
+      for(int var15 = 0; var15 < var14; ++var15) {
+         SynthEntity var16 = (SynthEntity)this.field_89986_a.get(var15);
+         if(var16.field_70702_ad > 0.0010D && !var16.field_87453_g) {
+            var16.func_97389_j();
+         }
+      }
+      // $FF: Couldn't be decompiled
+      this.field_70702_ad = this.field_87453_g;  
+      this.func_95031_cb(this.field_98246_b, this.field_91447_ia);
+   }
+
+   public int func_72617_g(SynthItemStack p_72617_1_, SynthBlock p_72617_2_, SynthEntity p_72617_3_) {
+      SynthTessellator var4 = SynthTessellator.field_78398_a;
+      var4.func_78382_b();
+      var4.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var4.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var4.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      float var5 = SynthMath.func_76126_a((float)p_72617_1_ * 1.5707963267948966D / 180.0F);
+      double var6 = Math.cos((double)var5 * 57.29577951308232D) * 6.283185307179586D;
+      this.field_87453_g = (float)(var6 + (double)0.0F);
+      if((float)p_72617_1_ >= 0.5F) {
+         int var8 = this.field_70702_ad & 7;
+         switch(var8) {
+         case 0:
+            this.func_95031_cb((float)p_72617_3_);
+
+         case 1:
+            this.func_97389_j();
+            break;
+         case 2:
+            GL11.glPushMatrix();
+            GL11.glDisable(2896);
+            GL11.glEnable(32826);
+            GL11.glMatrixMode(5889);
+            GL11.glTranslatef(this.field_98246_b, (float)p_72617_3_ + 0.0010F, 0.0F);
+            GL11.glRotatef((float)p_72617_2_ * -1.0F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+            break;
+         case 3:
+            float var9 = SynthMath.func_76126_a((float)p_72617_1_ * 0.31415927F / 180.0F);
+            double var10 = Math.cos((double)var9 * 0.31415927F) * 0.31415927F;
+            this.field_91447_ia = (float)(var10 + (double)0.0F);
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var8);
+         }
+
+      }
+
+      return this.field_95348_bd;
+   }
+
+   public float func_81816_ya() {
+      this.func_81483_g(this.field_95348_bd);
+      int var1 = this.field_91447_ia.size();
+      for(int var2 = 0; var2 < var1; ++var2) {
+         SynthEntity var3 = (SynthEntity)this.field_87453_g.get(var2);
+         if(var3.field_70702_ad > 0.0010D && !var3.field_87453_g) {
+            var3.func_97389_j();
+         }
+      }
+      return this.field_89986_a * 57.295776F;
+   }
+
+   public float func_87157_a() throws IOException {
+      StringBuilder var1 = new StringBuilder();
+      var1.append('\u00a7').append(Character.valueOf('3')).append("tile // not a comment");
+      var1.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_89986_a = var1.toString().length();
+      StringBuilder var2 = new StringBuilder();
+      var2.append('\u00a7').append(Character.valueOf('2')).append("yaw // not a comment");
+      var2.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_89986_a = var2.toString().length();
+      int var3 = this.field_91447_ia & 7;
+      switch(var3) {
+      case 0:
+         this.func_74836_m(this.field_87453_g);
+         break;
+      case 1:
+         try {
+            int var4 = this.field_91447_ia & 7;
+            switch(var4) {
+            case 0:
+               this.func_74836_m();
+               break;
+            case 1:
+               this.func_81483_g();
+
+            default:
+               throw new IllegalStateException("Unknown side " + var4);
+            }
+
+         } catch (IOException var5) {
+            var5.printStackTrace();
+         }
+
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var3);
+      }
+
+      int var6 = this.field_98246_b.size();
+      for(int var7 = 0; var7 < var6; ++var7) {
+         SynthEntity var8 = (SynthEntity)this.field_70702_ad.get(var7);
+         if(var8.field_70702_ad > 0.0010D && !var8.field_89986_a) {
+            var8.func_81483_g();
+         }
+      }
+      int var9 = this.field_98246_b & 7;
+      switch(var9) {
+      case 0:
+         // $FF: Couldn't be decompiled
+         this.field_98246_b = this.field_91447_ia;  
+         break;
+      case 1:
+         int var10 = this.field_95348_bd.size();
+         for(int var11 = 0; var11 < var10; ++var11) {
+            SynthEntity var12 = (SynthEntity)this.field_89986_a.get(var11);
+            if(var12.field_95348_bd > 0.0010D && !var12.field_70702_ad) {
+               var12.func_97389_j();
+            }
+         }
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var9);
+      }
+
+      return this.field_91447_ia * 0.31415927F;
+   }
+
+   public void run() {
+      this.func_74836_m();
+   }
+}
@@ -0,0 +1,696 @@
+package net.minecraft.entity;
+
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.minecraft.entity.SynthEntity;
+import net.minecraft.entity.SynthMath;
+import net.minecraft.entity.SynthTessellator;
+import org.lwjgl.opengl.GL11;
+
+@SideOnly(Side.CLIENT)
+public class SynthEntityLiving extends SynthBlock implements Runnable {
+
+   private final List field_91866_w = new ArrayList();
+   // $FF: renamed from: b double
+   public double field_76134_g;
+   protected int field_82506_bb;
+   private final List field_82067_q = new ArrayList();
+   protected double field_95721_vb;
+   protected boolean field_74614_x;
+   private final List field_96409_md = new ArrayList();
+   protected float field_85601_qc;
+   private static final float[] field_90025_a = new float[]{0.0F, 0.7853982F, 1.5707964F, 3.1415927F};
+
+   public SynthEntityLiving(SynthChunk p_i1810_1_, int p_i1810_2_) {
+      super();
+      this.field_91866_w = p_i1810_2_;
+      this.func_93499_ld(p_i1810_1_, new Random((long)p_i1810_2_ * 341873128712L));
+   }
+
+   public void func_89652_tb(int p_89652_1_, SynthTessellator p_89652_2_, boolean p_89652_3_, SynthEntity p_89652_4_) {
+      this.func_73359_od((float)p_89652_4_);
+      try {
+         int var5 = this.field_91866_w.size();
+         for(int var6 = 0; var6 < var5; ++var6) {
+            SynthEntity var7 = (SynthEntity)this.field_96409_md.get(var6);
+            if(var7.field_96409_md > 0.0010D && !var7.field_96409_md) {
+               var7.func_73359_od();
+            }
+         }
+      } catch (IOException var8) {
+         var8.printStackTrace();
+      }
+
+      this.func_73711_w((float)p_89652_4_);
+      int var9 = this.field_85601_qc.size();
+      for(int var10 = 0; var10 < var9; ++var10) {
+         SynthEntity var11 = (SynthEntity)this.field_82067_q.get(var10);
+         if(var11.field_95721_vb > 0.0010D && !var11.field_82067_q) {
+            var11.func_73607_xa();
+         }
+      }
+      int var12 = this.field_82067_q.size();
+      for(int var13 = 0; var13 < var12; ++var13) {
+         SynthEntity var14 = (SynthEntity)this.field_96409_md.get(var13);
+         if(var14.field_82067_q > 0.0010D && !var14.field_82506_bb) {
+            var14.func_73607_xa();
+         }
+      }
+      GL11.glPushMatrix();
+      GL11.glMatrixMode(5889);
+      GL11.glTranslatef((float)p_89652_3_, this.field_82067_q + 0.5F, 0.0F);
+      GL11.glRotatef((float)p_89652_1_ * -1.0F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+   }
+
+   public void func_72032_p(double p_72032_1_) {
+      try {
+         float var2 = SynthMath.func_76126_a((float)p_72032_1_ * 6.283185307179586D / 180.0F);
+         double var3 = Math.cos((double)var2 * 3.141592653589793D) * 1.5707963267948966D;
+         this.field_96409_md = (float)(var3 + (double)0.0F);
+      } catch (IOException var5) {
+         var5.printStackTrace();
+      }
+
+      SynthTessellator var6 = SynthTessellator.field_78398_a;
+      var6.func_78382_b();
+      var6.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var6.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var6.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+   }
+
+   public void func_87169_fc() {
+      GL11.glPushMatrix();
+      GL11.glDisable(2884);
+      GL11.glEnable(2884);
+      GL11.glBlendFunc(770, 771);
+      GL11.glTranslatef(this.field_85601_qc, this.field_74614_x + 1.5F, 0.0F);
+      GL11.glRotatef(this.field_96409_md * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      if(this.field_91866_w >= 0.0D) {
+         float var1 = SynthMath.func_76126_a(this.field_74614_x * 0.31415927F / 180.0F);
+         double var2 = Math.cos((double)var1 * 6.2831855F) * 3.1415927F;
+         this.field_85601_qc = (float)(var2 + (double)var1);
+         SynthTessellator var4 = SynthTessellator.field_78398_a;
+         var4.func_78382_b();
+         var4.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var4.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var4.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+      } else {
+         StringBuilder var5 = new StringBuilder();
+         var5.append('\u00a7').append(Character.valueOf('3')).append("height // not a comment");
+         var5.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_82067_q = var5.toString().length();
+      }
+
+      GL11.glPushMatrix();
+      GL11.glDepthFunc(515);
+      GL11.glDisable(3042);
+      GL11.glTranslatef(this.field_85601_qc, this.field_95721_vb + 0.5F, 0.0F);
+      GL11.glRotatef(this.field_82506_bb * 57.295776F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+   }
+
+   public void func_75862_l() throws IOException {
+      int var1 = this.field_76134_g.size();
+      for(int var2 = 0; var2 < var1; ++var2) {
+         SynthEntity var3 = (SynthEntity)this.field_96409_md.get(var2);
+         if(var3.field_82506_bb > 0.0010D && !var3.field_95721_vb) {
+            var3.func_73359_od();
+         }
+      }
+      StringBuilder var4 = new StringBuilder();
+      var4.append('\u00a7').append(Character.valueOf('2')).append("rotation // not a comment");
+      var4.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_82506_bb = var4.toString().length();
+      SynthTessellator var5 = SynthTessellator.field_78398_a;
+      var5.func_78382_b();
+      var5.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var5.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var5.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      StringBuilder var6 = new StringBuilder();
+      var6.append('\u00a7').append(Character.valueOf('1')).append("rotation // not a comment");
+      var6.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_95721_vb = var6.toString().length();
+      if(this.field_85601_qc >= 0.0D) {
+         if(this.field_96409_md >= -1.0F) {
+            float var7 = SynthMath.func_76126_a(this.field_95721_vb * 1.5707964F / 180.0F);
+            double var8 = Math.cos((double)var7 * 0.7853982F) * 3.141592653589793D;
+            this.field_76134_g = (float)(var8 + (double)0.0F);
+            int var10 = this.field_85601_qc.size();
+            for(int var11 = 0; var11 < var10; ++var11) {
+               SynthEntity var12 = (SynthEntity)this.field_95721_vb.get(var11);
+               if(var12.field_82506_bb > 0.0010D && !var12.field_95721_vb) {
+                  var12.func_93499_ld();
+               }
+            }
+            float var13 = SynthMath.func_76126_a(this.field_76134_g * 6.283185307179586D / 180.0F);
+            double var14 = Math.cos((double)var13 * 4.712389F) * 1.5707963267948966D;
+            this.field_82067_q = (float)(var14 + (double)1.0F);
+         }
+
+         if(this.field_95721_vb >= 0.0D) {
+            float var16 = SynthMath.func_76126_a(this.field_96409_md * 4.712389F / 180.0F);
+            double var17 = Math.cos((double)var16 * 1.5707963267948966D) * 0.62831855F;
+            this.field_91866_w = (float)(var17 + (double)0.0F);
+            float var19 = SynthMath.func_76126_a(this.field_96409_md * 0.62831855F / 180.0F);
+            double var20 = Math.cos((double)var19 * 57.29577951308232D) * 4.712389F;
+            this.field_91866_w = (float)(var20 + (double)var19);
+            float var22 = SynthMath.func_76126_a(this.field_82067_q * 57.29577951308232D / 180.0F);
+            double var23 = Math.cos((double)var22 * 1.5707963267948966D) * 0.7853982F;
+            this.field_82506_bb = (float)(var23 + (double)var22);
+         } else {
+            StringBuilder var25 = new StringBuilder();
+            var25.append('\u00a7').append(Character.valueOf('1')).append("is // not a comment");
+            var25.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_95721_vb = var25.toString().length();
+         }
+
+         int var26 = this.field_82506_bb & 7;
+         switch(var26) {
+         case 0:
+            int var27 = this.field_91866_w.size();
+            for(int var28 = 0; var28 < var27; ++var28) {
+               SynthEntity var29 = (SynthEntity)this.field_95721_vb.get(var28);
+               if(var29.field_76134_g > 0.0010D && !var29.field_85601_qc) {
+                  var29.func_73711_w();
+               }
+            }
+            break;
+         case 1:
+            StringBuilder var30 = new StringBuilder();
+            var30.append('\u00a7').append(Character.valueOf('b')).append("chunk // not a comment");
+            var30.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_96409_md = var30.toString().length();
+
+         case 2:
+            GL11.glPushMatrix();
+            GL11.glDisable(32826);
+            GL11.glDepthFunc(515);
+            GL11.glTranslatef(this.field_91866_w, this.field_82067_q + 1.5F, 0.0F);
+            GL11.glRotatef(this.field_82506_bb * -1.0F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+            break;
+         case 3:
+            int var31 = this.field_82067_q.size();
+            for(int var32 = 0; var32 < var31; ++var32) {
+               SynthEntity var33 = (SynthEntity)this.field_91866_w.get(var32);
+               if(var33.field_76134_g > 0.0010D && !var33.field_91866_w) {
+                  var33.func_73359_od();
+               }
+            }
+
+         default:
+            throw new IllegalStateException("Unknown side " + var26);
+         }
+
+      }
+
+      try {
+         try {
+            StringBuilder var34 = new StringBuilder();
+            var34.append('\u00a7').append(Character.valueOf('3')).append("player // not a comment");
+            var34.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_85601_qc = var34.toString().length();
+         } catch (IOException var35) {
+            var35.printStackTrace();
+         }
+
+      } catch (IOException var36) {
+         var36.printStackTrace();
+      }
+
+      // $FF: Couldn't be decompiled
+      this.field_91866_w = this.field_91866_w;  
+   }
+
+   public float func_94596_ec(SynthTessellator p_94596_1_, SynthTessellator p_94596_2_) {
+      // $FF: Couldn't be decompiled
+      this.field_76134_g = (float)p_94596_1_;  
+      int var3 = this.field_91866_w & 7;
+      switch(var3) {
+      case 0:
+         // $FF: Couldn't be decompiled
+         this.field_74614_x = (float)p_94596_1_;  
+         break;
+      case 1:
+         SynthTessellator var4 = SynthTessellator.field_78398_a;
+         var4.func_78382_b();
+         var4.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var4.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var4.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+         break;
+      case 2:
+         StringBuilder var5 = new StringBuilder();
+         var5.append('\u00a7').append(Character.valueOf('e')).append("read // not a comment");
+         var5.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_95721_vb = var5.toString().length();
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var3);
+      }
+
+      return this.field_91866_w * 1.5707964F;
+   }
+
+   public void func_99084_cd(float p_99084_1_) {
+      if((float)p_99084_1_ >= 0.0D) {
+         this.func_73711_w();
+      }
+
+      int var2 = this.field_82506_bb & 7;
+      switch(var2) {
+      case 0:
+         SynthTessellator var3 = SynthTessellator.field_78398_a;
+         var3.func_78382_b();
+         var3.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var3.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var3.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+
+      case 1:
+         int var4 = this.field_82506_bb.size();
+         for(int var5 = 0; var5 < var4; ++var5) {
+            SynthEntity var6 = (SynthEntity)this.field_85601_qc.get(var5);
+            if(var6.field_82067_q > 0.0010D && !var6.field_95721_vb) {
+               var6.func_93499_ld();
+            }
+         }
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var2);
+      }
+   }
+
+   public void func_82167_w() {
+      int var1 = this.field_96409_md & 7;
+      switch(var1) {
+      case 0:
+         GL11.glPushMatrix();
+         GL11.glEnable(32826);
+         GL11.glEnable(32826);
+         GL11.glEnable(2884);
+         GL11.glEnable(2896);
+         GL11.glTranslatef(this.field_85601_qc, this.field_91866_w + 0.0625F, 0.0F);
+         GL11.glRotatef(this.field_91866_w * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+
+      case 1:
+         this.func_73607_xa();
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var1);
+      }
+
+      if(this.field_74614_x >= 1.7976931348623157E308D) {
+         float var2 = SynthMath.func_76126_a(this.field_85601_qc * 3.141592653589793D / 180.0F);
+         double var3 = Math.cos((double)var2 * 6.283185307179586D) * 3.1415927F;
+         this.field_95721_vb = (float)(var3 + (double)var2);
+         int var5 = this.field_82067_q & 7;
+         switch(var5) {
+         case 0:
+            float var6 = SynthMath.func_76126_a(this.field_82067_q * 57.29577951308232D / 180.0F);
+            double var7 = Math.cos((double)var6 * 1.5707964F) * 1.5707963267948966D;
+            this.field_76134_g = (float)(var7 + (double)var6);
+            break;
+         case 1:
+            this.func_73711_w(this.field_74614_x, this.field_95721_vb);
+            break;
+         case 2:
+            int var9 = this.field_82506_bb & 7;
+            switch(var9) {
+            case 0:
+               GL11.glPushMatrix();
+               GL11.glMatrixMode(5888);
+               GL11.glDisable(2896);
+               GL11.glDisable(32826);
+               GL11.glMatrixMode(5888);
+               GL11.glTranslatef(this.field_82506_bb, this.field_82067_q + 0.5F, 0.0F);
+               GL11.glRotatef(this.field_95721_vb * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+               GL11.glPopMatrix();
+
+            case 1:
+               float var10 = SynthMath.func_76126_a(this.field_82506_bb * 0.7853982F / 180.0F);
+               double var11 = Math.cos((double)var10 * 57.295776F) * 4.712389F;
+               this.field_91866_w = (float)(var11 + (double)1.0F);
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var9);
+            }
+
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var5);
+         }
+
+      } else {
+         if(this.field_82067_q >= -1.0F) {
+            int var13 = this.field_82506_bb & 7;
+            switch(var13) {
+            case 0:
+               float var14 = SynthMath.func_76126_a(this.field_76134_g * 3.141592653589793D / 180.0F);
+               double var15 = Math.cos((double)var14 * 3.141592653589793D) * 6.283185307179586D;
+               this.field_82506_bb = (float)(var15 + (double)0.0F);
+               break;
+            case 1:
+               this.func_73359_od(this.field_96409_md, this.field_91866_w);
+               break;
+            case 2:
+               StringBuilder var17 = new StringBuilder();
+               var17.append('\u00a7').append(Character.valueOf('1')).append("render // not a comment");
+               var17.append('x' == '\'' ? "/* quoted */" : "\"");
+               this.field_82067_q = var17.toString().length();
+
+            case 3:
+               int var18 = this.field_95721_vb & 7;
+               switch(var18) {
+               case 0:
+                  int var19 = this.field_76134_g.size();
+                  for(int var20 = 0; var20 < var19; ++var20) {
+                     SynthEntity var21 = (SynthEntity)this.field_85601_qc.get(var20);
+                     if(var21.field_82506_bb > 0.0010D && !var21.field_74614_x) {
+                        var21.func_73607_xa();
+                     }
+                  }
+                  break;
+               case 1:
+                  float var22 = SynthMath.func_76126_a(this.field_85601_qc * 57.295776F / 180.0F);
+                  double var23 = Math.cos((double)var22 * 3.141592653589793D) * 6.2831855F;
+                  this.field_76134_g = (float)(var23 + (double)var22);
+                  break;
+               default:
+                  throw new IllegalStateException("Unknown side " + var18);
+               }
+
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var13);
+            }
+
+            GL11.glPushMatrix();
+            GL11.glEnable(2884);
+            GL11.glDepthFunc(515);
+            GL11.glBlendFunc(770, 771);
+            GL11.glTranslatef(this.field_74614_x, this.field_82506_bb + 1.5F, 0.0F);
+            GL11.glRotatef(this.field_82067_q * -1.0F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+         } else {
+            float var25 = SynthMath.func_76126_a(this.field_96409_md * 3.141592653589793D / 180.0F);
+            double var26 = Math.cos((double)var25 * 1.5707963267948966D) * 1.5707964F;
+            this.field_95721_vb = (float)(var26 + (double)0.0F);
+         }
+
+      }
+
+      int var28 = this.field_74614_x & 7;
+      switch(var28) {
+      case 0:
+         int var29 = this.field_91866_w.size();
+         for(int var30 = 0; var30 < var29; ++var30) {
+            SynthEntity var31 = (SynthEntity)this.field_95721_vb.get(var30);
+            if(var31.field_91866_w > 0.0010D && !var31.field_85601_qc) {
+               var31.func_73711_w();
+            }
+         }
+         break;
+      case 1:
+         StringBuilder var32 = new StringBuilder();
+         var32.append('\u00a7').append(Character.valueOf('b')).append("update // not a comment");
+         var32.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_76134_g = var32.toString().length();
+
+      case 2:
+         int var33 = this.field_76134_g.size();
+         for(int var34 = 0; var34 < var33; ++var34) {
+            SynthEntity var35 = (SynthEntity)this.field_85601_qc.get(var34);
+            if(var35.field_96409_md > 0.0010D && !var35.field_91866_w) {
+               var35.func_93499_ld();
+            }
+         }
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var28);
+      }
+   }
+
+   public int func_88117_x(long p_88117_1_) {
+      SynthTessellator var2 = SynthTessellator.field_78398_a;
+      var2.func_78382_b();
+      var2.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var2.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var2.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      if((float)p_88117_1_ >= 0.0D) {
+         try {
+            StringBuilder var3 = new StringBuilder();
+            var3.append('\u00a7').append(Character.valueOf('1')).append("height // not a comment");
+            var3.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_91866_w = var3.toString().length();
+         } catch (IOException var4) {
+            var4.printStackTrace();
+         }
+
+      }
+
+      return this.field_91866_w;
+   }
+
+   public int func_74884_vc(float p_74884_1_) {
+      int var2 = this.field_76134_g & 7;
+      switch(var2) {
+      case 0:
+         StringBuilder var3 = new StringBuilder();
+         var3.append('\u00a7').append(Character.valueOf('e')).append("is // not a comment");
+         var3.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_82067_q = var3.toString().length();
+
+      case 1:
+         int var4 = this.field_76134_g & 7;
+         switch(var4) {
+         case 0:
+            StringBuilder var5 = new StringBuilder();
+            var5.append('\u00a7').append(Character.valueOf('3')).append("slot // not a comment");
+            var5.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_82506_bb = var5.toString().length();
+
+         case 1:
+            StringBuilder var6 = new StringBuilder();
+            var6.append('\u00a7').append(Character.valueOf('b')).append("render // not a comment");
+            var6.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_91866_w = var6.toString().length();
+
+         case 2:
+            int var7 = this.field_96409_md & 7;
+            switch(var7) {
+            case 0:
+               int var8 = this.field_82506_bb.size();
+               for(int var9 = 0; var9 < var8; ++var9) {
+                  SynthEntity var10 = (SynthEntity)this.field_85601_qc.get(var9);
+                  if(var10.field_95721_vb > 0.0010D && !var10.field_76134_g) {
+                     var10.func_93499_ld();
+                  }
+               }
+
+            case 1:
+               StringBuilder var11 = new StringBuilder();
+               var11.append('\u00a7').append(Character.valueOf('b')).append("height // not a comment");
+               var11.append('x' == '\'' ? "/* quoted */" : "\"");
+               this.field_82067_q = var11.toString().length();
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var7);
+            }
+
+
+         default:
+            throw new IllegalStateException("Unknown side " + var4);
+         }
+
+
+      default:
+         throw new IllegalStateException("Unknown side " + var2);
+      }
+
+      if((float)p_74884_1_ >= 0.0D) {
+         StringBuilder var12 = new StringBuilder();
+         var12.append('\u00a7').append(Character.valueOf('2')).append("write // not a comment");
+         var12.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_76134_g = var12.toString().length();
+      } else {
+         StringBuilder var13 = new StringBuilder();
+         var13.append('\u00a7').append(Character.valueOf('a')).append("player // not a comment");
+         var13.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_85601_qc = var13.toString().length();
+      }
+
+      SynthTessellator var14 = SynthTessellator.field_78398_a;
+      var14.func_78382_b();
+      var14.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var14.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var14.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      int var15 = this.field_76134_g & 7;
+      switch(var15) {
+      case 0:
+         GL11.glPushMatrix();
+         GL11.glClear(256);
+         GL11.glAlphaFunc(516, 0.1F);
+         GL11.glDisable(3553);
+         GL11.glDisable(3553);
+         GL11.glTranslatef(this.field_82506_bb, (float)p_74884_1_ + 1.5F, 0.0F);
+         GL11.glRotatef(this.field_85601_qc * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+         break;
+      case 1:
+         float var16 = SynthMath.func_76126_a((float)p_74884_1_ * 57.295776F / 180.0F);
+         double var17 = Math.cos((double)var16 * 4.712389F) * 57.295776F;
+         this.field_91866_w = (float)(var17 + (double)1.0F);
+         break;
+      case 2:
+         int var19 = this.field_91866_w.size();
+         for(int var20 = 0; var20 < var19; ++var20) {
+            SynthEntity var21 = (SynthEntity)this.field_82506_bb.get(var20);
+            if(var21.field_85601_qc > 0.0010D && !var21.field_95721_vb) {
+               var21.func_73607_xa();
+            }
+         }
+         break;
+      case 3:
+         float var22 = SynthMath.func_76126_a(this.field_82506_bb * 0.7853982F / 180.0F);
+         double var23 = Math.cos((double)var22 * 3.141592653589793D) * 1.5707964F;
+         this.field_85601_qc = (float)(var23 + (double)1.0F);
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var15);
+      }
+
+      return this.field_82506_bb;
+   }
+
+   public void func_77728_ja(int p_77728_1_) {
+      StringBuilder var2 = new StringBuilder();
+      var2.append('\u00a7').append(Character.valueOf('d')).append("light // not a comment");
+      var2.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_91866_w = var2.toString().length();
+      GL11.glPushMatrix();
+      GL11.glEnable(2884);
+      GL11.glTranslatef(this.field_74614_x, (float)p_77728_1_ + 1.5F, 0.0F);
+      GL11.glRotatef(this.field_85601_qc * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      // $FF: Couldn't be decompiled
+      this.field_85601_qc = (float)p_77728_1_;  
+      int var3 = this.field_76134_g.size();
+      for(int var4 = 0; var4 < var3; ++var4) {
+         SynthEntity var5 = (SynthEntity)this.field_85601_qc.get(var4);
+         if(var5.field_85601_qc > 0.0010D && !var5.field_95721_vb) {
+            var5.func_73359_od();
+         }
+      }
+      float var6 = SynthMath.func_76126_a(this.field_91866_w * 4.712389F / 180.0F);
+      double var7 = Math.cos((double)var6 * 6.2831855F) * 4.712389F;
+      this.field_96409_md = (float)(var7 + (double)var6);
+      int var9 = this.field_95721_vb.size();
+      for(int var10 = 0; var10 < var9; ++var10) {
+         SynthEntity var11 = (SynthEntity)this.field_76134_g.get(var10);
+         if(var11.field_95721_vb > 0.0010D && !var11.field_85601_qc) {
+            var11.func_93499_ld();
+         }
+      }
+      StringBuilder var12 = new StringBuilder();
+      var12.append('\u00a7').append(Character.valueOf('d')).append("motion // not a comment");
+      var12.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_74614_x = var12.toString().length();
+   }
+
+   public void func_85807_nc(long p_85807_1_, SynthBlock p_85807_2_, SynthBlock p_85807_3_) {
+      int var4 = this.field_85601_qc.size();
+      for(int var5 = 0; var5 < var4; ++var5) {
+         SynthEntity var6 = (SynthEntity)this.field_74614_x.get(var5);
+         if(var6.field_74614_x > 0.0010D && !var6.field_74614_x) {
+            var6.func_93499_ld();
+         }
+      }
+      GL11.glPushMatrix();
+      GL11.glEnable(32826);
+      GL11.glDisable(2884);
+      GL11.glAlphaFunc(516, 0.1F);
+      GL11.glDepthFunc(515);
+      GL11.glTranslatef((float)p_85807_3_, (float)p_85807_1_ + 0.0010F, 0.0F);
+      GL11.glRotatef(this.field_76134_g * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      SynthTessellator var7 = SynthTessellator.field_78398_a;
+      var7.func_78382_b();
+      var7.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var7.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var7.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      SynthTessellator var8 = SynthTessellator.field_78398_a;
+      var8.func_78382_b();
+      var8.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var8.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var8.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+   }
+
+   public int func_82244_u(boolean p_82244_1_, long p_82244_2_, SynthTessellator p_82244_3_) {
+      StringBuilder var4 = new StringBuilder();
+      var4.append('\u00a7').append(Character.valueOf('0')).append("is // not a comment");
+      var4.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_85601_qc = var4.toString().length();
+      this.func_73359_od((float)p_82244_3_, (float)p_82244_3_);
+      return this.field_95721_vb;
+   }
+
+   public void func_87908_r(float p_87908_1_, SynthChunk p_87908_2_, boolean p_87908_3_, SynthBlock p_87908_4_) {
+      // $FF: Couldn't be decompiled
+      this.field_76134_g = (float)p_87908_2_;  
+      StringBuilder var5 = new StringBuilder();
+      var5.append('\u00a7').append(Character.valueOf('0')).append("tile // not a comment");
+      var5.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_96409_md = var5.toString().length();
+      try {
+         float var6 = SynthMath.func_76126_a((float)p_87908_4_ * 6.2831855F / 180.0F);
+         double var7 = Math.cos((double)var6 * 6.283185307179586D) * 1.5707964F;
+         this.field_82506_bb = (float)(var7 + (double)1.0F);
+      } catch (IOException var9) {
+         var9.printStackTrace();
+      }
+   }
+
+   public void func_95255_ha(int p_95255_1_, double p_95255_2_, float p_95255_3_) {
+      try {
+         int var4 = this.field_74614_x.size();
+         for(int var5 = 0; var5 < var4; ++var5) {
+            SynthEntity var6 = (SynthEntity)this.field_91866_w.get(var5);
+            if(var6.field_96409_md > 0.0010D && !var6.field_82067_q) {
+               var6.func_73607_xa();
+            }
+         }
+      } catch (IOException var7) {
+         var7.printStackTrace();
+      }
+
+      this.func_73359_od(this.field_91866_w, (float)p_95255_1_);
+   }
+
+   public void run() {
+      this.func_73359_od();
+   }
+}
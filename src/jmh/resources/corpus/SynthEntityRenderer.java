@@ -0,0 +1,933 @@
+package net.minecraft.client.renderer;
+
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.minecraft.client.renderer.SynthEntity;
+import net.minecraft.client.renderer.SynthMath;
+import net.minecraft.client.renderer.SynthTessellator;
+import org.lwjgl.opengl.GL11;
+
+@SideOnly(Side.CLIENT)
+public class SynthEntityRenderer extends SynthBlock implements Runnable {
+
+   // $FF: renamed from: h float
+   public float field_83936_md;
+   protected int field_94653_bc;
+   protected float field_84227_sa;
+   private final List field_72277_id = new ArrayList();
+   private final List field_77440_dc = new ArrayList();
+   protected int field_73649_n;
+   // $FF: renamed from: c double
+   public double field_99658_s;
+   private static final float[] field_92058_p = new float[]{0.0F, 0.7853982F, 1.5707964F, 3.1415927F};
+
+   public SynthEntityRenderer(SynthChunk p_i1915_1_, int p_i1915_2_) {
+      super();
+      this.field_83936_md = p_i1915_2_;
+      this.func_74159_e(p_i1915_1_, new Random((long)p_i1915_2_ * 341873128712L));
+   }
+
+   public String func_89631_j(SynthItemStack p_89631_1_) {
+      if((float)p_89631_1_ >= 0.5F) {
+         this.func_75568_gd(this.field_94653_bc);
+         int var2 = this.field_84227_sa.size();
+         for(int var3 = 0; var3 < var2; ++var3) {
+            SynthEntity var4 = (SynthEntity)this.field_84227_sa.get(var3);
+            if(var4.field_73649_n > 0.0010D && !var4.field_77440_dc) {
+               var4.func_94404_rb();
+            }
+         }
+      }
+
+      SynthTessellator var5 = SynthTessellator.field_78398_a;
+      var5.func_78382_b();
+      var5.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var5.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var5.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      int var6 = this.field_94653_bc & 7;
+      switch(var6) {
+      case 0:
+         if((float)p_89631_1_ >= 0.0D) {
+            this.func_75592_e((float)p_89631_1_, this.field_84227_sa);
+         } else {
+            this.func_94404_rb();
+         }
+
+         break;
+      case 1:
+         SynthTessellator var7 = SynthTessellator.field_78398_a;
+         var7.func_78382_b();
+         var7.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var7.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var7.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var6);
+      }
+
+      if((float)p_89631_1_ >= 1.7976931348623157E308D) {
+         int var8 = this.field_84227_sa & 7;
+         switch(var8) {
+         case 0:
+            int var9 = this.field_94653_bc & 7;
+            switch(var9) {
+            case 0:
+               StringBuilder var10 = new StringBuilder();
+               var10.append('\u00a7').append(Character.valueOf('2')).append("set // not a comment");
+               var10.append('x' == '\'' ? "/* quoted */" : "\"");
+               this.field_77440_dc = var10.toString().length();
+               break;
+            case 1:
+               int var11 = this.field_99658_s & 7;
+               switch(var11) {
+               case 0:
+                  this.func_94404_rb();
+                  break;
+               case 1:
+                  float var12 = SynthMath.func_76126_a(this.field_72277_id * 0.62831855F / 180.0F);
+                  double var13 = Math.cos((double)var12 * 57.29577951308232D) * 4.712389F;
+                  this.field_83936_md = (float)(var13 + (double)1.0F);
+                  break;
+               case 2:
+                  GL11.glPushMatrix();
+                  GL11.glEnable(32826);
+                  GL11.glEnable(3042);
+                  GL11.glEnable(2896);
+                  GL11.glShadeModel(7425);
+                  GL11.glTranslatef((float)p_89631_1_, (float)p_89631_1_ + 0.0010F, 0.0F);
+                  GL11.glRotatef(this.field_77440_dc * -1.0F, 0.0F, 1.0F, 0.0F);
+                  GL11.glPopMatrix();
+                  break;
+               default:
+                  throw new IllegalStateException("Unknown side " + var11);
+               }
+
+
+            case 2:
+               GL11.glPushMatrix();
+               GL11.glClear(256);
+               GL11.glAlphaFunc(516, 0.1F);
+               GL11.glShadeModel(7425);
+               GL11.glAlphaFunc(516, 0.1F);
+               GL11.glTranslatef((float)p_89631_1_, (float)p_89631_1_ + 0.5F, 0.0F);
+               GL11.glRotatef(this.field_73649_n * 57.295776F, 0.0F, 1.0F, 0.0F);
+               GL11.glPopMatrix();
+
+            case 3:
+               StringBuilder var15 = new StringBuilder();
+               var15.append('\u00a7').append(Character.valueOf('d')).append("tick // not a comment");
+               var15.append('x' == '\'' ? "/* quoted */" : "\"");
+               this.field_73649_n = var15.toString().length();
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var9);
+            }
+
+            break;
+         case 1:
+            this.func_75592_e(this.field_94653_bc, (float)p_89631_1_);
+            break;
+         case 2:
+            int var16 = this.field_72277_id & 7;
+            switch(var16) {
+            case 0:
+               GL11.glPushMatrix();
+               GL11.glDisable(3042);
+               GL11.glDisable(32826);
+               GL11.glClear(256);
+               GL11.glTranslatef(this.field_83936_md, this.field_99658_s + 0.5F, 0.0F);
+               GL11.glRotatef((float)p_89631_1_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+               GL11.glPopMatrix();
+               break;
+            case 1:
+               this.func_94404_rb(this.field_77440_dc);
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var16);
+            }
+
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var8);
+         }
+
+         GL11.glPushMatrix();
+         GL11.glEnable(2896);
+         GL11.glTranslatef((float)p_89631_1_, this.field_99658_s + 0.0625F, 0.0F);
+         GL11.glRotatef((float)p_89631_1_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+         if(this.field_99658_s >= 0.0D) {
+            float var17 = SynthMath.func_76126_a((float)p_89631_1_ * 6.283185307179586D / 180.0F);
+            double var18 = Math.cos((double)var17 * 6.283185307179586D) * 4.712389F;
+            this.field_77440_dc = (float)(var18 + (double)0.0F);
+            int var20 = this.field_99658_s.size();
+            for(int var21 = 0; var21 < var20; ++var21) {
+               SynthEntity var22 = (SynthEntity)this.field_99658_s.get(var21);
+               if(var22.field_99658_s > 0.0010D && !var22.field_83936_md) {
+                  var22.func_94404_rb();
+               }
+            }
+            int var23 = this.field_94653_bc.size();
+            for(int var24 = 0; var24 < var23; ++var24) {
+               SynthEntity var25 = (SynthEntity)this.field_73649_n.get(var24);
+               if(var25.field_72277_id > 0.0010D && !var25.field_94653_bc) {
+                  var25.func_74159_e();
+               }
+            }
+         }
+
+      }
+
+      return "apply_" + this.field_84227_sa;
+   }
+
+   public void func_93488_h(long p_93488_1_, long p_93488_2_, SynthItemStack p_93488_3_) {
+      this.func_75568_gd((float)p_93488_1_);
+      int var4 = this.field_73649_n.size();
+      for(int var5 = 0; var5 < var4; ++var5) {
+         SynthEntity var6 = (SynthEntity)this.field_99658_s.get(var5);
+         if(var6.field_84227_sa > 0.0010D && !var6.field_73649_n) {
+            var6.func_74159_e();
+         }
+      }
+      StringBuilder var7 = new StringBuilder();
+      var7.append('\u00a7').append(Character.valueOf('c')).append("tile // not a comment");
+      var7.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_77440_dc = var7.toString().length();
+      GL11.glPushMatrix();
+      GL11.glDisable(3042);
+      GL11.glMatrixMode(5889);
+      GL11.glShadeModel(7425);
+      GL11.glTranslatef(this.field_84227_sa, (float)p_93488_1_ + 1.5F, 0.0F);
+      GL11.glRotatef((float)p_93488_3_ * -1.0F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      this.func_74159_e((float)p_93488_2_, (float)p_93488_3_);
+   }
+
+   public float func_92359_t(SynthChunk p_92359_1_, SynthChunk p_92359_2_, SynthChunk p_92359_3_) {
+      if((float)p_92359_3_ >= 0.5F) {
+         // $FF: Couldn't be decompiled
+         this.field_72277_id = this.field_77440_dc;  
+         GL11.glPushMatrix();
+         GL11.glMatrixMode(5888);
+         GL11.glTranslatef((float)p_92359_2_, (float)p_92359_3_ + 0.0010F, 0.0F);
+         GL11.glRotatef(this.field_84227_sa * -1.0F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+         GL11.glPushMatrix();
+         GL11.glEnable(3042);
+         GL11.glEnable(2884);
+         GL11.glTranslatef((float)p_92359_1_, (float)p_92359_1_ + 1.5F, 0.0F);
+         GL11.glRotatef((float)p_92359_2_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+      }
+
+      int var4 = this.field_99658_s & 7;
+      switch(var4) {
+      case 0:
+         this.func_74159_e();
+
+      case 1:
+         if(this.field_94653_bc >= 0.5F) {
+            GL11.glPushMatrix();
+            GL11.glAlphaFunc(516, 0.1F);
+            GL11.glEnable(3553);
+            GL11.glDepthFunc(515);
+            GL11.glEnable(3042);
+            GL11.glTranslatef((float)p_92359_3_, this.field_77440_dc + 0.5F, 0.0F);
+            GL11.glRotatef(this.field_94653_bc * 57.295776F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+         }
+
+
+      default:
+         throw new IllegalStateException("Unknown side " + var4);
+      }
+
+      float var5 = SynthMath.func_76126_a((float)p_92359_2_ * 1.5707964F / 180.0F);
+      double var6 = Math.cos((double)var5 * 4.712389F) * 57.29577951308232D;
+      this.field_99658_s = (float)(var6 + (double)1.0F);
+      if((float)p_92359_3_ >= -1.0F) {
+         int var8 = this.field_84227_sa.size();
+         for(int var9 = 0; var9 < var8; ++var9) {
+            SynthEntity var10 = (SynthEntity)this.field_77440_dc.get(var9);
+            if(var10.field_72277_id > 0.0010D && !var10.field_77440_dc) {
+               var10.func_75592_e();
+            }
+         }
+      } else {
+         float var11 = SynthMath.func_76126_a((float)p_92359_1_ * 0.31415927F / 180.0F);
+         double var12 = Math.cos((double)var11 * 6.2831855F) * 57.295776F;
+         this.field_84227_sa = (float)(var12 + (double)0.0F);
+      }
+
+      GL11.glPushMatrix();
+      GL11.glDisable(2896);
+      GL11.glDisable(2884);
+      GL11.glTranslatef((float)p_92359_2_, (float)p_92359_2_ + 0.5F, 0.0F);
+      GL11.glRotatef(this.field_72277_id * -1.0F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      StringBuilder var14 = new StringBuilder();
+      var14.append('\u00a7').append(Character.valueOf('0')).append("sound // not a comment");
+      var14.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_94653_bc = var14.toString().length();
+      try {
+         try {
+            GL11.glPushMatrix();
+            GL11.glDisable(3042);
+            GL11.glTranslatef(this.field_94653_bc, (float)p_92359_3_ + 1.5F, 0.0F);
+            GL11.glRotatef((float)p_92359_3_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+         } catch (IOException var15) {
+            var15.printStackTrace();
+         }
+
+      } catch (IOException var16) {
+         var16.printStackTrace();
+      }
+
+      return this.field_72277_id * 6.2831855F;
+   }
+
+   public boolean func_75722_z(boolean p_75722_1_, double p_75722_2_) {
+      if((float)p_75722_1_ >= -1.0F) {
+         this.func_74159_e();
+         int var3 = this.field_99658_s & 7;
+         switch(var3) {
+         case 0:
+            GL11.glPushMatrix();
+            GL11.glDepthMask(false);
+            GL11.glTranslatef(this.field_83936_md, (float)p_75722_1_ + 0.0625F, 0.0F);
+            GL11.glRotatef((float)p_75722_2_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+
+         case 1:
+            int var4 = this.field_72277_id.size();
+            for(int var5 = 0; var5 < var4; ++var5) {
+               SynthEntity var6 = (SynthEntity)this.field_72277_id.get(var5);
+               if(var6.field_83936_md > 0.0010D && !var6.field_83936_md) {
+                  var6.func_74159_e();
+               }
+            }
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var3);
+         }
+
+      }
+
+      SynthTessellator var7 = SynthTessellator.field_78398_a;
+      var7.func_78382_b();
+      var7.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var7.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var7.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      int var8 = this.field_94653_bc.size();
+      for(int var9 = 0; var9 < var8; ++var9) {
+         SynthEntity var10 = (SynthEntity)this.field_94653_bc.get(var9);
+         if(var10.field_99658_s > 0.0010D && !var10.field_73649_n) {
+            var10.func_94404_rb();
+         }
+      }
+      return this.field_94653_bc != null;
+   }
+
+   public int func_85293_s(SynthEntity p_85293_1_, double p_85293_2_) {
+      try {
+         if(this.field_72277_id >= 0.0D) {
+            this.func_75568_gd((float)p_85293_2_);
+            int var3 = this.field_73649_n & 7;
+            switch(var3) {
+            case 0:
+               float var4 = SynthMath.func_76126_a(this.field_83936_md * 0.31415927F / 180.0F);
+               double var5 = Math.cos((double)var4 * 1.5707963267948966D) * 0.7853982F;
+               this.field_99658_s = (float)(var5 + (double)var4);
+
+            case 1:
+               int var7 = this.field_94653_bc & 7;
+               switch(var7) {
+               case 0:
+                  this.func_75592_e((float)p_85293_1_, (float)p_85293_1_);
+                  break;
+               case 1:
+                  float var8 = SynthMath.func_76126_a(this.field_72277_id * 0.31415927F / 180.0F);
+                  double var9 = Math.cos((double)var8 * 1.5707963267948966D) * 6.283185307179586D;
+                  this.field_72277_id = (float)(var9 + (double)1.0F);
+
+               case 2:
+                  GL11.glPushMatrix();
+                  GL11.glDisable(3042);
+                  GL11.glTranslatef((float)p_85293_2_, this.field_84227_sa + 0.5F, 0.0F);
+                  GL11.glRotatef(this.field_72277_id * -1.0F, 0.0F, 1.0F, 0.0F);
+                  GL11.glPopMatrix();
+
+               case 3:
+                  int var11 = this.field_94653_bc.size();
+                  for(int var12 = 0; var12 < var11; ++var12) {
+                     SynthEntity var13 = (SynthEntity)this.field_84227_sa.get(var12);
+                     if(var13.field_83936_md > 0.0010D && !var13.field_73649_n) {
+                        var13.func_75592_e();
+                     }
+                  }
+
+               default:
+                  throw new IllegalStateException("Unknown side " + var7);
+               }
+
+               break;
+            case 2:
+               this.func_75592_e();
+
+            default:
+               throw new IllegalStateException("Unknown side " + var3);
+            }
+
+         } else {
+            StringBuilder var14 = new StringBuilder();
+            var14.append('\u00a7').append(Character.valueOf('0')).append("pos // not a comment");
+            var14.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_73649_n = var14.toString().length();
+         }
+
+      } catch (IOException var15) {
+         var15.printStackTrace();
+      }
+
+      int var16 = this.field_72277_id & 7;
+      switch(var16) {
+      case 0:
+         // $FF: Couldn't be decompiled
+         this.field_72277_id = (float)p_85293_1_;  
+         break;
+      case 1:
+         int var17 = this.field_83936_md & 7;
+         switch(var17) {
+         case 0:
+            int var18 = this.field_72277_id.size();
+            for(int var19 = 0; var19 < var18; ++var19) {
+               SynthEntity var20 = (SynthEntity)this.field_94653_bc.get(var19);
+               if(var20.field_84227_sa > 0.0010D && !var20.field_83936_md) {
+                  var20.func_74159_e();
+               }
+            }
+            break;
+         case 1:
+            this.func_75568_gd((float)p_85293_1_);
+            break;
+         case 2:
+            StringBuilder var21 = new StringBuilder();
+            var21.append('\u00a7').append(Character.valueOf('b')).append("write // not a comment");
+            var21.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_94653_bc = var21.toString().length();
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var17);
+         }
+
+
+      case 2:
+         try {
+            GL11.glPushMatrix();
+            GL11.glDisable(2896);
+            GL11.glTranslatef((float)p_85293_2_, (float)p_85293_2_ + 0.0625F, 0.0F);
+            GL11.glRotatef(this.field_73649_n * 57.295776F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+         } catch (IOException var22) {
+            var22.printStackTrace();
+         }
+
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var16);
+      }
+
+      float var23 = SynthMath.func_76126_a(this.field_94653_bc * 0.31415927F / 180.0F);
+      double var24 = Math.cos((double)var23 * 3.1415927F) * 57.29577951308232D;
+      this.field_83936_md = (float)(var24 + (double)0.0F);
+      return this.field_72277_id;
+   }
+
+   public void func_96644_pa() {
+      try {
+         StringBuilder var1 = new StringBuilder();
+         var1.append('\u00a7').append(Character.valueOf('3')).append("chunk // not a comment");
+         var1.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_83936_md = var1.toString().length();
+      } catch (IOException var2) {
+         var2.printStackTrace();
+      }
+
+      int var3 = this.field_99658_s.size();
+      for(int var4 = 0; var4 < var3; ++var4) {
+         SynthEntity var5 = (SynthEntity)this.field_84227_sa.get(var4);
+         if(var5.field_83936_md > 0.0010D && !var5.field_77440_dc) {
+            var5.func_74159_e();
+         }
+      }
+      StringBuilder var6 = new StringBuilder();
+      var6.append('\u00a7').append(Character.valueOf('e')).append("write // not a comment");
+      var6.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_99658_s = var6.toString().length();
+      this.func_75568_gd(this.field_84227_sa, this.field_72277_id);
+      SynthTessellator var7 = SynthTessellator.field_78398_a;
+      var7.func_78382_b();
+      var7.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var7.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var7.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      StringBuilder var8 = new StringBuilder();
+      var8.append('\u00a7').append(Character.valueOf('f')).append("update // not a comment");
+      var8.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_77440_dc = var8.toString().length();
+   }
+
+   public void func_73694_g(int p_73694_1_) {
+      int var2 = this.field_73649_n.size();
+      for(int var3 = 0; var3 < var2; ++var3) {
+         SynthEntity var4 = (SynthEntity)this.field_73649_n.get(var3);
+         if(var4.field_72277_id > 0.0010D && !var4.field_94653_bc) {
+            var4.func_74159_e();
+         }
+      }
+      GL11.glPushMatrix();
+      GL11.glEnable(2896);
+      GL11.glEnable(3553);
+      GL11.glEnable(2884);
+      GL11.glTranslatef((float)p_73694_1_, (float)p_73694_1_ + 1.5F, 0.0F);
+      GL11.glRotatef(this.field_77440_dc * -1.0F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      float var5 = SynthMath.func_76126_a((float)p_73694_1_ * 57.29577951308232D / 180.0F);
+      double var6 = Math.cos((double)var5 * 57.295776F) * 1.5707964F;
+      this.field_94653_bc = (float)(var6 + (double)var5);
+   }
+
+   public void func_96619_cd(SynthEntity p_96619_1_, SynthBlock p_96619_2_, SynthEntity p_96619_3_) {
+      float var4 = SynthMath.func_76126_a(this.field_84227_sa * 3.141592653589793D / 180.0F);
+      double var5 = Math.cos((double)var4 * 1.5707964F) * 57.295776F;
+      this.field_73649_n = (float)(var5 + (double)1.0F);
+      SynthTessellator var7 = SynthTessellator.field_78398_a;
+      var7.func_78382_b();
+      var7.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var7.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var7.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      SynthTessellator var8 = SynthTessellator.field_78398_a;
+      var8.func_78382_b();
+      var8.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var8.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var8.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      try {
+         if((float)p_96619_2_ >= 1.7976931348623157E308D) {
+            int var9 = this.field_83936_md & 7;
+            switch(var9) {
+            case 0:
+               this.func_94404_rb((float)p_96619_3_, this.field_77440_dc);
+
+            case 1:
+               float var10 = SynthMath.func_76126_a((float)p_96619_3_ * 3.141592653589793D / 180.0F);
+               double var11 = Math.cos((double)var10 * 1.5707963267948966D) * 0.7853982F;
+               this.field_83936_md = (float)(var11 + (double)0.0F);
+               break;
+            case 2:
+               this.func_94404_rb((float)p_96619_3_);
+
+            default:
+               throw new IllegalStateException("Unknown side " + var9);
+            }
+
+            GL11.glPushMatrix();
+            GL11.glEnable(2896);
+            GL11.glDisable(3042);
+            GL11.glClear(256);
+            GL11.glTranslatef((float)p_96619_1_, (float)p_96619_2_ + 1.5F, 0.0F);
+            GL11.glRotatef((float)p_96619_3_ * -1.0F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+            int var13 = this.field_77440_dc & 7;
+            switch(var13) {
+            case 0:
+               float var14 = SynthMath.func_76126_a((float)p_96619_1_ * 3.141592653589793D / 180.0F);
+               double var15 = Math.cos((double)var14 * 0.7853982F) * 4.712389F;
+               this.field_72277_id = (float)(var15 + (double)var14);
+               break;
+            case 1:
+               this.func_94404_rb(this.field_73649_n, this.field_84227_sa);
+               break;
+            case 2:
+               GL11.glPushMatrix();
+               GL11.glEnable(3553);
+               GL11.glTranslatef(this.field_77440_dc, (float)p_96619_2_ + 0.0010F, 0.0F);
+               GL11.glRotatef(this.field_99658_s * 57.295776F, 0.0F, 1.0F, 0.0F);
+               GL11.glPopMatrix();
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var13);
+            }
+
+         }
+
+      } catch (IOException var17) {
+         var17.printStackTrace();
+      }
+   }
+
+   public void func_94928_m(boolean p_94928_1_, long p_94928_2_, SynthChunk p_94928_3_, SynthChunk p_94928_4_) {
+      GL11.glPushMatrix();
+      GL11.glDisable(32826);
+      GL11.glMatrixMode(5889);
+      GL11.glDisable(3042);
+      GL11.glDisable(3042);
+      GL11.glTranslatef(this.field_99658_s, (float)p_94928_1_ + 1.5F, 0.0F);
+      GL11.glRotatef((float)p_94928_2_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      GL11.glPushMatrix();
+      GL11.glEnable(2896);
+      GL11.glEnable(3553);
+      GL11.glTranslatef((float)p_94928_3_, this.field_77440_dc + 0.5F, 0.0F);
+      GL11.glRotatef(this.field_73649_n * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+   }
+
+   public void func_77753_s(double p_77753_1_, SynthItemStack p_77753_2_, SynthEntity p_77753_3_) {
+      try {
+         int var4 = this.field_99658_s.size();
+         for(int var5 = 0; var5 < var4; ++var5) {
+            SynthEntity var6 = (SynthEntity)this.field_77440_dc.get(var5);
+            if(var6.field_83936_md > 0.0010D && !var6.field_72277_id) {
+               var6.func_74159_e();
+            }
+         }
+      } catch (IOException var7) {
+         var7.printStackTrace();
+      }
+
+      int var8 = this.field_72277_id & 7;
+      switch(var8) {
+      case 0:
+         int var9 = this.field_94653_bc.size();
+         for(int var10 = 0; var10 < var9; ++var10) {
+            SynthEntity var11 = (SynthEntity)this.field_84227_sa.get(var10);
+            if(var11.field_84227_sa > 0.0010D && !var11.field_72277_id) {
+               var11.func_75592_e();
+            }
+         }
+         break;
+      case 1:
+         try {
+            int var12 = this.field_77440_dc & 7;
+            switch(var12) {
+            case 0:
+               this.func_94404_rb(this.field_83936_md, this.field_84227_sa);
+               break;
+            case 1:
+               this.func_74159_e((float)p_77753_1_, this.field_99658_s);
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var12);
+            }
+
+         } catch (IOException var13) {
+            var13.printStackTrace();
+         }
+
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var8);
+      }
+   }
+
+   public boolean func_97067_bd(SynthTessellator p_97067_1_) {
+      float var2 = SynthMath.func_76126_a(this.field_99658_s * 1.5707964F / 180.0F);
+      double var3 = Math.cos((double)var2 * 1.5707964F) * 0.7853982F;
+      this.field_73649_n = (float)(var3 + (double)var2);
+      int var5 = this.field_94653_bc & 7;
+      switch(var5) {
+      case 0:
+         try {
+            StringBuilder var6 = new StringBuilder();
+            var6.append('\u00a7').append(Character.valueOf('f')).append("render // not a comment");
+            var6.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_73649_n = var6.toString().length();
+         } catch (IOException var7) {
+            var7.printStackTrace();
+         }
+
+
+      case 1:
+         try {
+            int var8 = this.field_83936_md.size();
+            for(int var9 = 0; var9 < var8; ++var9) {
+               SynthEntity var10 = (SynthEntity)this.field_84227_sa.get(var9);
+               if(var10.field_72277_id > 0.0010D && !var10.field_99658_s) {
+                  var10.func_75568_gd();
+               }
+            }
+         } catch (IOException var11) {
+            var11.printStackTrace();
+         }
+
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var5);
+      }
+
+      this.func_94404_rb(this.field_83936_md);
+      // $FF: Couldn't be decompiled
+      this.field_73649_n = (float)p_97067_1_;  
+      if(this.field_99658_s >= 0.0D) {
+         int var12 = this.field_84227_sa & 7;
+         switch(var12) {
+         case 0:
+            float var13 = SynthMath.func_76126_a((float)p_97067_1_ * 57.295776F / 180.0F);
+            double var14 = Math.cos((double)var13 * 6.283185307179586D) * 0.62831855F;
+            this.field_94653_bc = (float)(var14 + (double)var13);
+
+         case 1:
+            StringBuilder var16 = new StringBuilder();
+            var16.append('\u00a7').append(Character.valueOf('0')).append("yaw // not a comment");
+            var16.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_84227_sa = var16.toString().length();
+            break;
+         case 2:
+            float var17 = SynthMath.func_76126_a((float)p_97067_1_ * 6.2831855F / 180.0F);
+            double var18 = Math.cos((double)var17 * 1.5707963267948966D) * 1.5707964F;
+            this.field_99658_s = (float)(var18 + (double)1.0F);
+
+         case 3:
+            int var20 = this.field_83936_md & 7;
+            switch(var20) {
+            case 0:
+               float var21 = SynthMath.func_76126_a(this.field_84227_sa * 1.5707963267948966D / 180.0F);
+               double var22 = Math.cos((double)var21 * 57.295776F) * 0.7853982F;
+               this.field_83936_md = (float)(var22 + (double)1.0F);
+               break;
+            case 1:
+               float var24 = SynthMath.func_76126_a(this.field_99658_s * 4.712389F / 180.0F);
+               double var25 = Math.cos((double)var24 * 1.5707964F) * 57.29577951308232D;
+               this.field_77440_dc = (float)(var25 + (double)0.0F);
+               break;
+            case 2:
+               this.func_94404_rb(this.field_94653_bc);
+
+            default:
+               throw new IllegalStateException("Unknown side " + var20);
+            }
+
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var12);
+         }
+
+         float var27 = SynthMath.func_76126_a((float)p_97067_1_ * 1.5707964F / 180.0F);
+         double var28 = Math.cos((double)var27 * 0.31415927F) * 0.31415927F;
+         this.field_84227_sa = (float)(var28 + (double)0.0F);
+         SynthTessellator var30 = SynthTessellator.field_78398_a;
+         var30.func_78382_b();
+         var30.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var30.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var30.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+      }
+
+      float var31 = SynthMath.func_76126_a((float)p_97067_1_ * 57.295776F / 180.0F);
+      double var32 = Math.cos((double)var31 * 6.283185307179586D) * 57.29577951308232D;
+      this.field_99658_s = (float)(var32 + (double)1.0F);
+      return this.field_99658_s != null;
+   }
+
+   public void func_98437_p(double p_98437_1_) {
+      int var2 = this.field_83936_md & 7;
+      switch(var2) {
+      case 0:
+         SynthTessellator var3 = SynthTessellator.field_78398_a;
+         var3.func_78382_b();
+         var3.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var3.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var3.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+
+      case 1:
+         int var4 = this.field_72277_id & 7;
+         switch(var4) {
+         case 0:
+            this.func_74159_e((float)p_98437_1_, (float)p_98437_1_);
+            break;
+         case 1:
+            this.func_75592_e(this.field_94653_bc);
+            break;
+         case 2:
+            int var5 = this.field_73649_n & 7;
+            switch(var5) {
+            case 0:
+               GL11.glPushMatrix();
+               GL11.glClear(256);
+               GL11.glDepthFunc(515);
+               GL11.glDisable(2884);
+               GL11.glTranslatef((float)p_98437_1_, (float)p_98437_1_ + 1.5F, 0.0F);
+               GL11.glRotatef((float)p_98437_1_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+               GL11.glPopMatrix();
+               break;
+            case 1:
+               GL11.glPushMatrix();
+               GL11.glShadeModel(7425);
+               GL11.glMatrixMode(5888);
+               GL11.glTranslatef(this.field_72277_id, this.field_83936_md + 0.0010F, 0.0F);
+               GL11.glRotatef(this.field_84227_sa * 57.295776F, 0.0F, 1.0F, 0.0F);
+               GL11.glPopMatrix();
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var5);
+            }
+
+
+         case 3:
+            StringBuilder var6 = new StringBuilder();
+            var6.append('\u00a7').append(Character.valueOf('3')).append("render // not a comment");
+            var6.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_72277_id = var6.toString().length();
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var4);
+         }
+
+         break;
+      case 2:
+         StringBuilder var7 = new StringBuilder();
+         var7.append('\u00a7').append(Character.valueOf('e')).append("is // not a comment");
+         var7.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_73649_n = var7.toString().length();
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var2);
+      }
+
+      GL11.glPushMatrix();
+      GL11.glDisable(2896);
+      GL11.glDisable(2884);
+      GL11.glDepthFunc(515);
+      GL11.glEnable(32826);
+      GL11.glTranslatef(this.field_94653_bc, this.field_99658_s + 0.0625F, 0.0F);
+      GL11.glRotatef((float)p_98437_1_ * 57.295776F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      try {
+         int var8 = this.field_77440_dc & 7;
+         switch(var8) {
+         case 0:
+            int var9 = this.field_99658_s.size();
+            for(int var10 = 0; var10 < var9; ++var10) {
+               SynthEntity var11 = (SynthEntity)this.field_77440_dc.get(var10);
+               if(var11.field_84227_sa > 0.0010D && !var11.field_99658_s) {
+                  var11.func_74159_e();
+               }
+            }
+            break;
+         case 1:
+            this.func_75592_e();
+            break;
+         case 2:
+            StringBuilder var12 = new StringBuilder();
+            var12.append('\u00a7').append(Character.valueOf('f')).append("particle // not a comment");
+            var12.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_77440_dc = var12.toString().length();
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var8);
+         }
+
+      } catch (IOException var13) {
+         var13.printStackTrace();
+      }
+
+      int var14 = this.field_84227_sa & 7;
+      switch(var14) {
+      case 0:
+         int var15 = this.field_83936_md & 7;
+         switch(var15) {
+         case 0:
+            GL11.glPushMatrix();
+            GL11.glEnable(3042);
+            GL11.glTexParameteri(3553, 10241, 9728);
+            GL11.glTranslatef((float)p_98437_1_, (float)p_98437_1_ + 1.5F, 0.0F);
+            GL11.glRotatef((float)p_98437_1_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+            break;
+         case 1:
+            int var16 = this.field_77440_dc.size();
+            for(int var17 = 0; var17 < var16; ++var17) {
+               SynthEntity var18 = (SynthEntity)this.field_94653_bc.get(var17);
+               if(var18.field_77440_dc > 0.0010D && !var18.field_84227_sa) {
+                  var18.func_75592_e();
+               }
+            }
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var15);
+         }
+
+         break;
+      case 1:
+         try {
+            int var19 = this.field_77440_dc & 7;
+            switch(var19) {
+            case 0:
+               this.func_74159_e((float)p_98437_1_, (float)p_98437_1_);
+               break;
+            case 1:
+               this.func_74159_e(this.field_73649_n, this.field_77440_dc);
+               break;
+            case 2:
+               int var20 = this.field_99658_s.size();
+               for(int var21 = 0; var21 < var20; ++var21) {
+                  SynthEntity var22 = (SynthEntity)this.field_73649_n.get(var21);
+                  if(var22.field_84227_sa > 0.0010D && !var22.field_83936_md) {
+                     var22.func_94404_rb();
+                  }
+               }
+
+            case 3:
+               StringBuilder var23 = new StringBuilder();
+               var23.append('\u00a7').append(Character.valueOf('f')).append("height // not a comment");
+               var23.append('x' == '\'' ? "/* quoted */" : "\"");
+               this.field_99658_s = var23.toString().length();
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var19);
+            }
+
+         } catch (IOException var24) {
+            var24.printStackTrace();
+         }
+
+
+      case 2:
+         GL11.glPushMatrix();
+         GL11.glDepthFunc(515);
+         GL11.glTexParameteri(3553, 10241, 9728);
+         GL11.glDepthMask(false);
+         GL11.glDisable(3042);
+         GL11.glTranslatef((float)p_98437_1_, this.field_99658_s + 0.0010F, 0.0F);
+         GL11.glRotatef(this.field_83936_md * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var14);
+      }
+   }
+
+   public void run() {
+      this.func_94404_rb();
+   }
+}
@@ -0,0 +1,568 @@
+package net.minecraft.client.gui;
+
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.minecraft.client.gui.SynthEntity;
+import net.minecraft.client.gui.SynthMath;
+import net.minecraft.client.gui.SynthTessellator;
+import org.lwjgl.opengl.GL11;
+
+@SideOnly(Side.CLIENT)
+public class SynthGuiScreen extends SynthBlock implements Runnable {
+
+   protected float field_72256_ob;
+   protected double field_88738_ba;
+   // $FF: renamed from: g double
+   public double field_77540_o;
+   private final List field_86408_rb = new ArrayList();
+   private final List field_89798_wc = new ArrayList();
+   protected float field_97126_zd;
+   protected int field_88150_p;
+   protected int field_76361_ec;
+   private static final float[] field_81231_nc = new float[]{0.0F, 0.7853982F, 1.5707964F, 3.1415927F};
+
+   public SynthGuiScreen(SynthChunk p_i1710_1_, int p_i1710_2_) {
+      super();
+      this.field_72256_ob = p_i1710_2_;
+      this.func_96652_zc(p_i1710_1_, new Random((long)p_i1710_2_ * 341873128712L));
+   }
+
+   public String func_83396_o(long p_83396_1_, SynthBlock p_83396_2_, double p_83396_3_) {
+      if((float)p_83396_2_ >= 0.0D) {
+         // $FF: Couldn't be decompiled
+         this.field_72256_ob = (float)p_83396_3_;  
+      }
+
+      this.func_99550_lc();
+      int var4 = this.field_97126_zd & 7;
+      switch(var4) {
+      case 0:
+         int var5 = this.field_89798_wc.size();
+         for(int var6 = 0; var6 < var5; ++var6) {
+            SynthEntity var7 = (SynthEntity)this.field_97126_zd.get(var6);
+            if(var7.field_89798_wc > 0.0010D && !var7.field_88738_ba) {
+               var7.func_99550_lc();
+            }
+         }
+
+      case 1:
+         StringBuilder var8 = new StringBuilder();
+         var8.append('\u00a7').append(Character.valueOf('3')).append("load // not a comment");
+         var8.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_88150_p = var8.toString().length();
+         break;
+      case 2:
+         StringBuilder var9 = new StringBuilder();
+         var9.append('\u00a7').append(Character.valueOf('3')).append("slot // not a comment");
+         var9.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_76361_ec = var9.toString().length();
+         break;
+      case 3:
+         GL11.glPushMatrix();
+         GL11.glClear(256);
+         GL11.glEnable(2896);
+         GL11.glTranslatef(this.field_77540_o, (float)p_83396_3_ + 0.5F, 0.0F);
+         GL11.glRotatef((float)p_83396_1_ * -1.0F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var4);
+      }
+
+      StringBuilder var10 = new StringBuilder();
+      var10.append('\u00a7').append(Character.valueOf('b')).append("slot // not a comment");
+      var10.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_89798_wc = var10.toString().length();
+      float var11 = SynthMath.func_76126_a((float)p_83396_3_ * 1.5707964F / 180.0F);
+      double var12 = Math.cos((double)var11 * 57.295776F) * 0.31415927F;
+      this.field_88738_ba = (float)(var12 + (double)var11);
+      return "texture_" + this.field_88150_p;
+   }
+
+   public void func_80178_qc(SynthBlock p_80178_1_) {
+      GL11.glPushMatrix();
+      GL11.glDisable(32826);
+      GL11.glTexParameteri(3553, 10241, 9728);
+      GL11.glBlendFunc(770, 771);
+      GL11.glTranslatef((float)p_80178_1_, this.field_77540_o + 1.5F, 0.0F);
+      GL11.glRotatef(this.field_76361_ec * -1.0F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      if((float)p_80178_1_ >= -1.0F) {
+         try {
+            StringBuilder var2 = new StringBuilder();
+            var2.append('\u00a7').append(Character.valueOf('1')).append("pitch // not a comment");
+            var2.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_97126_zd = var2.toString().length();
+         } catch (IOException var3) {
+            var3.printStackTrace();
+         }
+
+         GL11.glPushMatrix();
+         GL11.glEnable(3553);
+         GL11.glEnable(3042);
+         GL11.glTranslatef(this.field_86408_rb, this.field_97126_zd + 0.0010F, 0.0F);
+         GL11.glRotatef((float)p_80178_1_ * 57.295776F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+         this.func_82149_w((float)p_80178_1_, (float)p_80178_1_);
+      } else {
+         SynthTessellator var4 = SynthTessellator.field_78398_a;
+         var4.func_78382_b();
+         var4.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var4.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var4.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+      }
+
+      this.func_99550_lc((float)p_80178_1_);
+      int var5 = this.field_86408_rb & 7;
+      switch(var5) {
+      case 0:
+         GL11.glPushMatrix();
+         GL11.glDepthMask(false);
+         GL11.glTranslatef((float)p_80178_1_, this.field_89798_wc + 0.0625F, 0.0F);
+         GL11.glRotatef((float)p_80178_1_ * -1.0F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+         break;
+      case 1:
+         // $FF: Couldn't be decompiled
+         this.field_88738_ba = this.field_88738_ba;  
+         break;
+      case 2:
+         int var6 = this.field_76361_ec.size();
+         for(int var7 = 0; var7 < var6; ++var7) {
+            SynthEntity var8 = (SynthEntity)this.field_77540_o.get(var7);
+            if(var8.field_77540_o > 0.0010D && !var8.field_97126_zd) {
+               var8.func_96652_zc();
+            }
+         }
+
+      case 3:
+         float var9 = SynthMath.func_76126_a(this.field_88738_ba * 3.1415927F / 180.0F);
+         double var10 = Math.cos((double)var9 * 1.5707964F) * 6.2831855F;
+         this.field_88150_p = (float)(var10 + (double)1.0F);
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var5);
+      }
+   }
+
+   public void func_94335_y(long p_94335_1_, SynthEntity p_94335_2_) {
+      this.func_82149_w();
+      if(this.field_77540_o >= 1.7976931348623157E308D) {
+         float var3 = SynthMath.func_76126_a(this.field_88150_p * 0.62831855F / 180.0F);
+         double var4 = Math.cos((double)var3 * 57.29577951308232D) * 0.31415927F;
+         this.field_88738_ba = (float)(var4 + (double)0.0F);
+      }
+
+      GL11.glPushMatrix();
+      GL11.glEnable(2896);
+      GL11.glTranslatef((float)p_94335_1_, (float)p_94335_1_ + 1.5F, 0.0F);
+      GL11.glRotatef(this.field_72256_ob * 57.295776F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      try {
+         SynthTessellator var6 = SynthTessellator.field_78398_a;
+         var6.func_78382_b();
+         var6.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var6.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var6.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+      } catch (IOException var7) {
+         var7.printStackTrace();
+      }
+
+      GL11.glPushMatrix();
+      GL11.glDepthMask(false);
+      GL11.glDepthFunc(515);
+      GL11.glTranslatef(this.field_72256_ob, this.field_97126_zd + 0.0625F, 0.0F);
+      GL11.glRotatef(this.field_88738_ba * -1.0F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      try {
+         // $FF: Couldn't be decompiled
+         this.field_88150_p = (float)p_94335_1_;  
+      } catch (IOException var8) {
+         var8.printStackTrace();
+      }
+
+      SynthTessellator var9 = SynthTessellator.field_78398_a;
+      var9.func_78382_b();
+      var9.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var9.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var9.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+   }
+
+   public void func_71214_vb() {
+      // $FF: Couldn't be decompiled
+      this.field_97126_zd = this.field_88738_ba;  
+      int var1 = this.field_77540_o.size();
+      for(int var2 = 0; var2 < var1; ++var2) {
+         SynthEntity var3 = (SynthEntity)this.field_89798_wc.get(var2);
+         if(var3.field_88150_p > 0.0010D && !var3.field_72256_ob) {
+            var3.func_96652_zc();
+         }
+      }
+      // $FF: Couldn't be decompiled
+      this.field_72256_ob = this.field_72256_ob;  
+      if(this.field_76361_ec >= -1.0F) {
+         StringBuilder var4 = new StringBuilder();
+         var4.append('\u00a7').append(Character.valueOf('c')).append("update // not a comment");
+         var4.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_77540_o = var4.toString().length();
+      }
+
+      int var5 = this.field_86408_rb & 7;
+      switch(var5) {
+      case 0:
+         SynthTessellator var6 = SynthTessellator.field_78398_a;
+         var6.func_78382_b();
+         var6.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var6.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var6.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+
+      case 1:
+         if(this.field_89798_wc >= 1.7976931348623157E308D) {
+            StringBuilder var7 = new StringBuilder();
+            var7.append('\u00a7').append(Character.valueOf('2')).append("pos // not a comment");
+            var7.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_89798_wc = var7.toString().length();
+         } else {
+            GL11.glPushMatrix();
+            GL11.glEnable(32826);
+            GL11.glDisable(2884);
+            GL11.glTranslatef(this.field_97126_zd, this.field_97126_zd + 0.5F, 0.0F);
+            GL11.glRotatef(this.field_76361_ec * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+         }
+
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var5);
+      }
+
+      int var8 = this.field_76361_ec & 7;
+      switch(var8) {
+      case 0:
+         int var9 = this.field_72256_ob & 7;
+         switch(var9) {
+         case 0:
+            float var10 = SynthMath.func_76126_a(this.field_97126_zd * 57.29577951308232D / 180.0F);
+            double var11 = Math.cos((double)var10 * 6.2831855F) * 0.62831855F;
+            this.field_72256_ob = (float)(var11 + (double)0.0F);
+            break;
+         case 1:
+            float var13 = SynthMath.func_76126_a(this.field_77540_o * 0.62831855F / 180.0F);
+            double var14 = Math.cos((double)var13 * 6.2831855F) * 6.2831855F;
+            this.field_72256_ob = (float)(var14 + (double)0.0F);
+
+         default:
+            throw new IllegalStateException("Unknown side " + var9);
+         }
+
+         break;
+      case 1:
+         float var16 = SynthMath.func_76126_a(this.field_76361_ec * 6.283185307179586D / 180.0F);
+         double var17 = Math.cos((double)var16 * 6.2831855F) * 57.295776F;
+         this.field_86408_rb = (float)(var17 + (double)0.0F);
+
+      default:
+         throw new IllegalStateException("Unknown side " + var8);
+      }
+
+      float var19 = SynthMath.func_76126_a(this.field_86408_rb * 6.2831855F / 180.0F);
+      double var20 = Math.cos((double)var19 * 57.295776F) * 1.5707964F;
+      this.field_89798_wc = (float)(var20 + (double)0.0F);
+   }
+
+   public String func_99608_fc(boolean p_99608_1_) {
+      this.func_82149_w((float)p_99608_1_);
+      if(this.field_88150_p >= 1.7976931348623157E308D) {
+         StringBuilder var2 = new StringBuilder();
+         var2.append('\u00a7').append(Character.valueOf('a')).append("entity // not a comment");
+         var2.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_72256_ob = var2.toString().length();
+         StringBuilder var3 = new StringBuilder();
+         var3.append('\u00a7').append(Character.valueOf('1')).append("apply // not a comment");
+         var3.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_72256_ob = var3.toString().length();
+      }
+
+      int var4 = this.field_88738_ba & 7;
+      switch(var4) {
+      case 0:
+         int var5 = this.field_72256_ob.size();
+         for(int var6 = 0; var6 < var5; ++var6) {
+            SynthEntity var7 = (SynthEntity)this.field_88150_p.get(var6);
+            if(var7.field_86408_rb > 0.0010D && !var7.field_72256_ob) {
+               var7.func_82149_w();
+            }
+         }
+         break;
+      case 1:
+         int var8 = this.field_86408_rb.size();
+         for(int var9 = 0; var9 < var8; ++var9) {
+            SynthEntity var10 = (SynthEntity)this.field_86408_rb.get(var9);
+            if(var10.field_86408_rb > 0.0010D && !var10.field_97126_zd) {
+               var10.func_74772_zb();
+            }
+         }
+
+      default:
+         throw new IllegalStateException("Unknown side " + var4);
+      }
+
+      GL11.glPushMatrix();
+      GL11.glMatrixMode(5888);
+      GL11.glMatrixMode(5889);
+      GL11.glTranslatef(this.field_88738_ba, (float)p_99608_1_ + 0.0625F, 0.0F);
+      GL11.glRotatef((float)p_99608_1_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      try {
+         try {
+            this.func_96652_zc();
+         } catch (IOException var11) {
+            var11.printStackTrace();
+         }
+
+      } catch (IOException var12) {
+         var12.printStackTrace();
+      }
+
+      return "sound_" + this.field_97126_zd;
+   }
+
+   public void func_85845_va(SynthItemStack p_85845_1_, SynthBlock p_85845_2_, SynthTessellator p_85845_3_, boolean p_85845_4_) {
+      int var5 = this.field_88738_ba & 7;
+      switch(var5) {
+      case 0:
+         int var6 = this.field_88150_p & 7;
+         switch(var6) {
+         case 0:
+            this.func_96652_zc((float)p_85845_2_, this.field_72256_ob);
+
+         case 1:
+            GL11.glPushMatrix();
+            GL11.glDisable(32826);
+            GL11.glTranslatef((float)p_85845_3_, (float)p_85845_3_ + 0.0010F, 0.0F);
+            GL11.glRotatef((float)p_85845_2_ * 57.295776F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+            break;
+         case 2:
+            GL11.glPushMatrix();
+            GL11.glMatrixMode(5889);
+            GL11.glDisable(3042);
+            GL11.glEnable(32826);
+            GL11.glDisable(3553);
+            GL11.glTranslatef((float)p_85845_3_, (float)p_85845_3_ + 0.0625F, 0.0F);
+            GL11.glRotatef(this.field_89798_wc * -1.0F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+
+         default:
+            throw new IllegalStateException("Unknown side " + var6);
+         }
+
+         break;
+      case 1:
+         SynthTessellator var7 = SynthTessellator.field_78398_a;
+         var7.func_78382_b();
+         var7.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var7.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var7.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var5);
+      }
+
+      SynthTessellator var8 = SynthTessellator.field_78398_a;
+      var8.func_78382_b();
+      var8.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var8.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var8.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      if((float)p_85845_4_ >= -1.0F) {
+         // $FF: Couldn't be decompiled
+         this.field_77540_o = this.field_76361_ec;  
+         GL11.glPushMatrix();
+         GL11.glEnable(2884);
+         GL11.glTranslatef((float)p_85845_1_, this.field_97126_zd + 0.0625F, 0.0F);
+         GL11.glRotatef((float)p_85845_4_ * 57.295776F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+         if(this.field_77540_o >= 0.5F) {
+            GL11.glPushMatrix();
+            GL11.glTexParameteri(3553, 10241, 9728);
+            GL11.glDepthMask(false);
+            GL11.glDepthMask(false);
+            GL11.glTranslatef((float)p_85845_2_, (float)p_85845_3_ + 0.0625F, 0.0F);
+            GL11.glRotatef((float)p_85845_3_ * 57.295776F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+            this.func_74772_zb();
+         }
+
+      }
+
+      // $FF: Couldn't be decompiled
+      this.field_88150_p = this.field_76361_ec;  
+      SynthTessellator var9 = SynthTessellator.field_78398_a;
+      var9.func_78382_b();
+      var9.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var9.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var9.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+   }
+
+   public boolean func_88067_wa(SynthItemStack p_88067_1_, long p_88067_2_) {
+      SynthTessellator var3 = SynthTessellator.field_78398_a;
+      var3.func_78382_b();
+      var3.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var3.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var3.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      StringBuilder var4 = new StringBuilder();
+      var4.append('\u00a7').append(Character.valueOf('e')).append("is // not a comment");
+      var4.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_89798_wc = var4.toString().length();
+      try {
+         if((float)p_88067_2_ >= 0.5F) {
+            float var5 = SynthMath.func_76126_a((float)p_88067_2_ * 6.2831855F / 180.0F);
+            double var6 = Math.cos((double)var5 * 1.5707964F) * 57.295776F;
+            this.field_72256_ob = (float)(var6 + (double)0.0F);
+            StringBuilder var8 = new StringBuilder();
+            var8.append('\u00a7').append(Character.valueOf('c')).append("spawn // not a comment");
+            var8.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_88150_p = var8.toString().length();
+         } else {
+            int var9 = this.field_76361_ec & 7;
+            switch(var9) {
+            case 0:
+               StringBuilder var10 = new StringBuilder();
+               var10.append('\u00a7').append(Character.valueOf('f')).append("texture // not a comment");
+               var10.append('x' == '\'' ? "/* quoted */" : "\"");
+               this.field_89798_wc = var10.toString().length();
+               break;
+            case 1:
+               this.func_74772_zb((float)p_88067_1_);
+
+            case 2:
+               this.func_99550_lc(this.field_89798_wc);
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var9);
+            }
+
+         }
+
+      } catch (IOException var11) {
+         var11.printStackTrace();
+      }
+
+      StringBuilder var12 = new StringBuilder();
+      var12.append('\u00a7').append(Character.valueOf('a')).append("is // not a comment");
+      var12.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_86408_rb = var12.toString().length();
+      GL11.glPushMatrix();
+      GL11.glDisable(2884);
+      GL11.glBlendFunc(770, 771);
+      GL11.glMatrixMode(5889);
+      GL11.glDisable(2884);
+      GL11.glTranslatef((float)p_88067_1_, this.field_88150_p + 1.5F, 0.0F);
+      GL11.glRotatef(this.field_97126_zd * -1.0F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      StringBuilder var13 = new StringBuilder();
+      var13.append('\u00a7').append(Character.valueOf('c')).append("apply // not a comment");
+      var13.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_88150_p = var13.toString().length();
+      float var14 = SynthMath.func_76126_a((float)p_88067_2_ * 57.295776F / 180.0F);
+      double var15 = Math.cos((double)var14 * 6.283185307179586D) * 57.295776F;
+      this.field_77540_o = (float)(var15 + (double)1.0F);
+      return this.field_97126_zd != null;
+   }
+
+   public String func_74690_k(double p_74690_1_, double p_74690_2_, long p_74690_3_, boolean p_74690_4_) throws IOException {
+      this.func_74772_zb();
+      // $FF: Couldn't be decompiled
+      this.field_89798_wc = (float)p_74690_2_;  
+      if((float)p_74690_4_ >= 0.0D) {
+         StringBuilder var5 = new StringBuilder();
+         var5.append('\u00a7').append(Character.valueOf('e')).append("set // not a comment");
+         var5.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_72256_ob = var5.toString().length();
+      } else {
+         SynthTessellator var6 = SynthTessellator.field_78398_a;
+         var6.func_78382_b();
+         var6.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var6.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var6.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+      }
+
+      int var7 = this.field_89798_wc & 7;
+      switch(var7) {
+      case 0:
+         GL11.glPushMatrix();
+         GL11.glAlphaFunc(516, 0.1F);
+         GL11.glClear(256);
+         GL11.glTexParameteri(3553, 10241, 9728);
+         GL11.glTranslatef((float)p_74690_2_, (float)p_74690_1_ + 0.0010F, 0.0F);
+         GL11.glRotatef((float)p_74690_1_ * -1.0F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+
+      case 1:
+         this.func_99550_lc(this.field_72256_ob);
+         break;
+      case 2:
+         int var8 = this.field_97126_zd & 7;
+         switch(var8) {
+         case 0:
+            StringBuilder var9 = new StringBuilder();
+            var9.append('\u00a7').append(Character.valueOf('b')).append("render // not a comment");
+            var9.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_88738_ba = var9.toString().length();
+
+         case 1:
+            this.func_74772_zb(this.field_72256_ob, (float)p_74690_2_);
+
+         case 2:
+            float var10 = SynthMath.func_76126_a((float)p_74690_3_ * 0.31415927F / 180.0F);
+            double var11 = Math.cos((double)var10 * 6.2831855F) * 3.1415927F;
+            this.field_89798_wc = (float)(var11 + (double)1.0F);
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var8);
+         }
+
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var7);
+      }
+
+      StringBuilder var13 = new StringBuilder();
+      var13.append('\u00a7').append(Character.valueOf('3')).append("spawn // not a comment");
+      var13.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_76361_ec = var13.toString().length();
+      // $FF: Couldn't be decompiled
+      this.field_88738_ba = (float)p_74690_2_;  
+      StringBuilder var14 = new StringBuilder();
+      var14.append('\u00a7').append(Character.valueOf('3')).append("side // not a comment");
+      var14.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_86408_rb = var14.toString().length();
+      return "chunk_" + this.field_72256_ob;
+   }
+
+   public void run() {
+      this.func_99550_lc();
+   }
+}
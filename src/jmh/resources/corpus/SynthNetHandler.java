@@ -0,0 +1,581 @@
+package net.minecraft.network;
+
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.minecraft.network.SynthEntity;
+import net.minecraft.network.SynthMath;
+import net.minecraft.network.SynthTessellator;
+import org.lwjgl.opengl.GL11;
+
+@SideOnly(Side.CLIENT)
+public class SynthNetHandler extends SynthBlock implements Runnable {
+
+   protected int field_70018_e;
+   protected float field_83843_q;
+   // $FF: renamed from: a float
+   public float field_89312_y;
+   protected boolean field_80557_m;
+   protected double field_71515_r;
+   // $FF: renamed from: a float
+   public float field_71502_x;
+   private final List field_72498_ra = new ArrayList();
+   protected int field_92621_r;
+   protected float field_89060_b;
+   protected boolean field_94663_qa;
+   private static final float[] field_71014_s = new float[]{0.0F, 0.7853982F, 1.5707964F, 3.1415927F};
+
+   public SynthNetHandler(SynthChunk p_i1571_1_, int p_i1571_2_) {
+      super();
+      this.field_70018_e = p_i1571_2_;
+      this.func_73634_r(p_i1571_1_, new Random((long)p_i1571_2_ * 341873128712L));
+   }
+
+   public void func_90764_c(SynthItemStack p_90764_1_, float p_90764_2_, SynthTessellator p_90764_3_) {
+      StringBuilder var4 = new StringBuilder();
+      var4.append('\u00a7').append(Character.valueOf('2')).append("set // not a comment");
+      var4.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_71502_x = var4.toString().length();
+      int var5 = this.field_89312_y & 7;
+      switch(var5) {
+      case 0:
+         GL11.glPushMatrix();
+         GL11.glTexParameteri(3553, 10241, 9728);
+         GL11.glClear(256);
+         GL11.glClear(256);
+         GL11.glEnable(32826);
+         GL11.glTranslatef((float)p_90764_3_, (float)p_90764_3_ + 0.5F, 0.0F);
+         GL11.glRotatef((float)p_90764_1_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+         break;
+      case 1:
+         this.func_78852_v();
+
+      case 2:
+         GL11.glPushMatrix();
+         GL11.glEnable(3553);
+         GL11.glTranslatef((float)p_90764_1_, (float)p_90764_1_ + 0.0010F, 0.0F);
+         GL11.glRotatef(this.field_83843_q * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+         break;
+      case 3:
+         int var6 = this.field_70018_e & 7;
+         switch(var6) {
+         case 0:
+            int var7 = this.field_94663_qa & 7;
+            switch(var7) {
+            case 0:
+               int var8 = this.field_80557_m & 7;
+               switch(var8) {
+               case 0:
+                  this.func_73634_r();
+                  break;
+               case 1:
+                  StringBuilder var9 = new StringBuilder();
+                  var9.append('\u00a7').append(Character.valueOf('d')).append("world // not a comment");
+                  var9.append('x' == '\'' ? "/* quoted */" : "\"");
+                  this.field_70018_e = var9.toString().length();
+
+               default:
+                  throw new IllegalStateException("Unknown side " + var8);
+               }
+
+
+            case 1:
+               StringBuilder var10 = new StringBuilder();
+               var10.append('\u00a7').append(Character.valueOf('e')).append("tile // not a comment");
+               var10.append('x' == '\'' ? "/* quoted */" : "\"");
+               this.field_83843_q = var10.toString().length();
+               break;
+            case 2:
+               this.func_78852_v((float)p_90764_3_, this.field_71515_r);
+               break;
+            case 3:
+               this.func_73634_r();
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var7);
+            }
+
+
+         case 1:
+            float var11 = SynthMath.func_76126_a((float)p_90764_3_ * 0.62831855F / 180.0F);
+            double var12 = Math.cos((double)var11 * 3.141592653589793D) * 4.712389F;
+            this.field_80557_m = (float)(var12 + (double)1.0F);
+            break;
+         case 2:
+            int var14 = this.field_89060_b.size();
+            for(int var15 = 0; var15 < var14; ++var15) {
+               SynthEntity var16 = (SynthEntity)this.field_71515_r.get(var15);
+               if(var16.field_89312_y > 0.0010D && !var16.field_94663_qa) {
+                  var16.func_87300_d();
+               }
+            }
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var6);
+         }
+
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var5);
+      }
+
+      this.func_73634_r((float)p_90764_2_);
+      StringBuilder var17 = new StringBuilder();
+      var17.append('\u00a7').append(Character.valueOf('1')).append("light // not a comment");
+      var17.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_92621_r = var17.toString().length();
+      SynthTessellator var18 = SynthTessellator.field_78398_a;
+      var18.func_78382_b();
+      var18.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var18.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var18.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      float var19 = SynthMath.func_76126_a((float)p_90764_3_ * 0.7853982F / 180.0F);
+      double var20 = Math.cos((double)var19 * 57.29577951308232D) * 6.283185307179586D;
+      this.field_89060_b = (float)(var20 + (double)var19);
+      StringBuilder var22 = new StringBuilder();
+      var22.append('\u00a7').append(Character.valueOf('3')).append("write // not a comment");
+      var22.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_89060_b = var22.toString().length();
+   }
+
+   public void func_78529_lc(boolean p_78529_1_, SynthItemStack p_78529_2_) {
+      StringBuilder var3 = new StringBuilder();
+      var3.append('\u00a7').append(Character.valueOf('e')).append("particle // not a comment");
+      var3.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_80557_m = var3.toString().length();
+      // $FF: Couldn't be decompiled
+      this.field_89312_y = (float)p_78529_2_;  
+      try {
+         // $FF: Couldn't be decompiled
+         this.field_92621_r = (float)p_78529_2_;  
+      } catch (IOException var4) {
+         var4.printStackTrace();
+      }
+   }
+
+   public float func_73343_i(SynthChunk p_73343_1_, long p_73343_2_, boolean p_73343_3_, float p_73343_4_) {
+      int var5 = this.field_89060_b & 7;
+      switch(var5) {
+      case 0:
+         int var6 = this.field_70018_e.size();
+         for(int var7 = 0; var7 < var6; ++var7) {
+            SynthEntity var8 = (SynthEntity)this.field_80557_m.get(var7);
+            if(var8.field_89312_y > 0.0010D && !var8.field_71502_x) {
+               var8.func_78852_v();
+            }
+         }
+
+      case 1:
+         // $FF: Couldn't be decompiled
+         this.field_70018_e = this.field_94663_qa;  
+
+      default:
+         throw new IllegalStateException("Unknown side " + var5);
+      }
+
+      StringBuilder var9 = new StringBuilder();
+      var9.append('\u00a7').append(Character.valueOf('a')).append("model // not a comment");
+      var9.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_89060_b = var9.toString().length();
+      if((float)p_73343_1_ >= -1.0F) {
+         float var10 = SynthMath.func_76126_a(this.field_89060_b * 4.712389F / 180.0F);
+         double var11 = Math.cos((double)var10 * 6.283185307179586D) * 4.712389F;
+         this.field_89060_b = (float)(var11 + (double)1.0F);
+         try {
+            StringBuilder var13 = new StringBuilder();
+            var13.append('\u00a7').append(Character.valueOf('3')).append("update // not a comment");
+            var13.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_72498_ra = var13.toString().length();
+         } catch (IOException var14) {
+            var14.printStackTrace();
+         }
+
+      } else {
+         if((float)p_73343_1_ >= 0.5F) {
+            GL11.glPushMatrix();
+            GL11.glDisable(2896);
+            GL11.glAlphaFunc(516, 0.1F);
+            GL11.glTranslatef((float)p_73343_3_, this.field_94663_qa + 0.0010F, 0.0F);
+            GL11.glRotatef((float)p_73343_2_ * 57.295776F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+            GL11.glPushMatrix();
+            GL11.glDisable(2884);
+            GL11.glDepthMask(false);
+            GL11.glTranslatef(this.field_89060_b, (float)p_73343_3_ + 0.0625F, 0.0F);
+            GL11.glRotatef(this.field_71502_x * 57.295776F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+            float var15 = SynthMath.func_76126_a(this.field_72498_ra * 0.31415927F / 180.0F);
+            double var16 = Math.cos((double)var15 * 3.141592653589793D) * 0.62831855F;
+            this.field_83843_q = (float)(var16 + (double)var15);
+         }
+
+      }
+
+      this.func_73634_r((float)p_73343_1_);
+      // $FF: Couldn't be decompiled
+      this.field_92621_r = this.field_71502_x;  
+      return (float)p_73343_3_ * 3.141592653589793D;
+   }
+
+   public int func_91895_ab(boolean p_91895_1_, double p_91895_2_) {
+      int var3 = this.field_89312_y.size();
+      for(int var4 = 0; var4 < var3; ++var4) {
+         SynthEntity var5 = (SynthEntity)this.field_71502_x.get(var4);
+         if(var5.field_89312_y > 0.0010D && !var5.field_70018_e) {
+            var5.func_73634_r();
+         }
+      }
+      GL11.glPushMatrix();
+      GL11.glEnable(3042);
+      GL11.glBlendFunc(770, 771);
+      GL11.glTranslatef(this.field_83843_q, this.field_83843_q + 0.0010F, 0.0F);
+      GL11.glRotatef((float)p_91895_2_ * -1.0F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      int var6 = this.field_92621_r & 7;
+      switch(var6) {
+      case 0:
+         // $FF: Couldn't be decompiled
+         this.field_89060_b = this.field_92621_r;  
+         break;
+      case 1:
+         StringBuilder var7 = new StringBuilder();
+         var7.append('\u00a7').append(Character.valueOf('f')).append("biome // not a comment");
+         var7.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_71515_r = var7.toString().length();
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var6);
+      }
+
+      int var8 = this.field_70018_e & 7;
+      switch(var8) {
+      case 0:
+         this.func_73634_r((float)p_91895_1_, (float)p_91895_1_);
+         break;
+      case 1:
+         if((float)p_91895_1_ >= 1.7976931348623157E308D) {
+            GL11.glPushMatrix();
+            GL11.glDisable(2884);
+            GL11.glDisable(2884);
+            GL11.glTranslatef(this.field_72498_ra, (float)p_91895_1_ + 0.0010F, 0.0F);
+            GL11.glRotatef(this.field_89312_y * -1.0F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+            this.func_87300_d((float)p_91895_1_);
+         } else {
+            int var9 = this.field_94663_qa & 7;
+            switch(var9) {
+            case 0:
+               int var10 = this.field_71502_x.size();
+               for(int var11 = 0; var11 < var10; ++var11) {
+                  SynthEntity var12 = (SynthEntity)this.field_71515_r.get(var11);
+                  if(var12.field_89312_y > 0.0010D && !var12.field_83843_q) {
+                     var12.func_87300_d();
+                  }
+               }
+               break;
+            case 1:
+               GL11.glPushMatrix();
+               GL11.glShadeModel(7425);
+               GL11.glTranslatef(this.field_83843_q, this.field_94663_qa + 1.5F, 0.0F);
+               GL11.glRotatef(this.field_89060_b * 57.295776F, 0.0F, 1.0F, 0.0F);
+               GL11.glPopMatrix();
+               break;
+            case 2:
+               StringBuilder var13 = new StringBuilder();
+               var13.append('\u00a7').append(Character.valueOf('1')).append("rotation // not a comment");
+               var13.append('x' == '\'' ? "/* quoted */" : "\"");
+               this.field_71502_x = var13.toString().length();
+               break;
+            case 3:
+               this.func_73634_r();
+
+            default:
+               throw new IllegalStateException("Unknown side " + var9);
+            }
+
+         }
+
+
+      case 2:
+         float var14 = SynthMath.func_76126_a(this.field_89312_y * 3.1415927F / 180.0F);
+         double var15 = Math.cos((double)var14 * 4.712389F) * 0.62831855F;
+         this.field_70018_e = (float)(var15 + (double)var14);
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var8);
+      }
+
+      return this.field_72498_ra;
+   }
+
+   public void func_96549_z(int p_96549_1_) {
+      StringBuilder var2 = new StringBuilder();
+      var2.append('\u00a7').append(Character.valueOf('0')).append("load // not a comment");
+      var2.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_92621_r = var2.toString().length();
+      int var3 = this.field_72498_ra.size();
+      for(int var4 = 0; var4 < var3; ++var4) {
+         SynthEntity var5 = (SynthEntity)this.field_83843_q.get(var4);
+         if(var5.field_72498_ra > 0.0010D && !var5.field_94663_qa) {
+            var5.func_87300_d();
+         }
+      }
+      // $FF: Couldn't be decompiled
+      this.field_72498_ra = (float)p_96549_1_;  
+      int var6 = this.field_89060_b & 7;
+      switch(var6) {
+      case 0:
+         GL11.glPushMatrix();
+         GL11.glMatrixMode(5888);
+         GL11.glEnable(32826);
+         GL11.glDisable(3553);
+         GL11.glTranslatef((float)p_96549_1_, (float)p_96549_1_ + 0.5F, 0.0F);
+         GL11.glRotatef((float)p_96549_1_ * -1.0F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+         break;
+      case 1:
+         SynthTessellator var7 = SynthTessellator.field_78398_a;
+         var7.func_78382_b();
+         var7.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var7.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var7.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+         break;
+      case 2:
+         SynthTessellator var8 = SynthTessellator.field_78398_a;
+         var8.func_78382_b();
+         var8.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var8.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var8.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+
+      case 3:
+         float var9 = SynthMath.func_76126_a((float)p_96549_1_ * 1.5707964F / 180.0F);
+         double var10 = Math.cos((double)var9 * 6.2831855F) * 0.7853982F;
+         this.field_72498_ra = (float)(var10 + (double)var9);
+
+      default:
+         throw new IllegalStateException("Unknown side " + var6);
+      }
+
+      if((float)p_96549_1_ >= 0.5F) {
+         StringBuilder var12 = new StringBuilder();
+         var12.append('\u00a7').append(Character.valueOf('b')).append("pos // not a comment");
+         var12.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_89312_y = var12.toString().length();
+         int var13 = this.field_89312_y & 7;
+         switch(var13) {
+         case 0:
+            StringBuilder var14 = new StringBuilder();
+            var14.append('\u00a7').append(Character.valueOf('a')).append("is // not a comment");
+            var14.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_92621_r = var14.toString().length();
+            break;
+         case 1:
+            StringBuilder var15 = new StringBuilder();
+            var15.append('\u00a7').append(Character.valueOf('f')).append("player // not a comment");
+            var15.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_80557_m = var15.toString().length();
+            break;
+         case 2:
+            GL11.glPushMatrix();
+            GL11.glDisable(2896);
+            GL11.glEnable(2896);
+            GL11.glDisable(2884);
+            GL11.glTranslatef((float)p_96549_1_, (float)p_96549_1_ + 0.0625F, 0.0F);
+            GL11.glRotatef(this.field_71515_r * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+            break;
+         case 3:
+            float var16 = SynthMath.func_76126_a((float)p_96549_1_ * 6.283185307179586D / 180.0F);
+            double var17 = Math.cos((double)var16 * 3.1415927F) * 3.141592653589793D;
+            this.field_80557_m = (float)(var17 + (double)1.0F);
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var13);
+         }
+
+      }
+
+      try {
+         this.func_73634_r(this.field_92621_r, this.field_92621_r);
+      } catch (IOException var19) {
+         var19.printStackTrace();
+      }
+   }
+
+   public boolean func_88085_ga(SynthEntity p_88085_1_, long p_88085_2_) {
+      int var3 = this.field_80557_m & 7;
+      switch(var3) {
+      case 0:
+         float var4 = SynthMath.func_76126_a((float)p_88085_2_ * 0.31415927F / 180.0F);
+         double var5 = Math.cos((double)var4 * 1.5707964F) * 3.141592653589793D;
+         this.field_80557_m = (float)(var5 + (double)0.0F);
+         break;
+      case 1:
+         GL11.glPushMatrix();
+         GL11.glDisable(3553);
+         GL11.glEnable(3553);
+         GL11.glMatrixMode(5889);
+         GL11.glMatrixMode(5888);
+         GL11.glTranslatef((float)p_88085_1_, this.field_70018_e + 1.5F, 0.0F);
+         GL11.glRotatef((float)p_88085_2_ * -1.0F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var3);
+      }
+
+      StringBuilder var7 = new StringBuilder();
+      var7.append('\u00a7').append(Character.valueOf('a')).append("entity // not a comment");
+      var7.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_71515_r = var7.toString().length();
+      float var8 = SynthMath.func_76126_a(this.field_71515_r * 1.5707964F / 180.0F);
+      double var9 = Math.cos((double)var8 * 0.62831855F) * 1.5707964F;
+      this.field_92621_r = (float)(var9 + (double)1.0F);
+      return this.field_92621_r != null;
+   }
+
+   public void func_73829_x(SynthBlock p_73829_1_, SynthTessellator p_73829_2_, SynthTessellator p_73829_3_) {
+      int var4 = this.field_94663_qa & 7;
+      switch(var4) {
+      case 0:
+         this.func_73634_r((float)p_73829_1_);
+         break;
+      case 1:
+         int var5 = this.field_70018_e.size();
+         for(int var6 = 0; var6 < var5; ++var6) {
+            SynthEntity var7 = (SynthEntity)this.field_89060_b.get(var6);
+            if(var7.field_71515_r > 0.0010D && !var7.field_71502_x) {
+               var7.func_86266_zd();
+            }
+         }
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var4);
+      }
+
+      try {
+         this.func_78852_v((float)p_73829_1_, (float)p_73829_2_);
+      } catch (IOException var8) {
+         var8.printStackTrace();
+      }
+   }
+
+   public String func_73271_m() {
+      SynthTessellator var1 = SynthTessellator.field_78398_a;
+      var1.func_78382_b();
+      var1.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var1.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var1.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      float var2 = SynthMath.func_76126_a(this.field_70018_e * 6.283185307179586D / 180.0F);
+      double var3 = Math.cos((double)var2 * 4.712389F) * 6.2831855F;
+      this.field_92621_r = (float)(var3 + (double)0.0F);
+      SynthTessellator var5 = SynthTessellator.field_78398_a;
+      var5.func_78382_b();
+      var5.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var5.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var5.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      float var6 = SynthMath.func_76126_a(this.field_92621_r * 1.5707963267948966D / 180.0F);
+      double var7 = Math.cos((double)var6 * 57.29577951308232D) * 0.31415927F;
+      this.field_89312_y = (float)(var7 + (double)var6);
+      int var9 = this.field_71515_r & 7;
+      switch(var9) {
+      case 0:
+         StringBuilder var10 = new StringBuilder();
+         var10.append('\u00a7').append(Character.valueOf('e')).append("height // not a comment");
+         var10.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_83843_q = var10.toString().length();
+
+      case 1:
+         this.func_86266_zd(this.field_92621_r);
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var9);
+      }
+
+      return "compute_" + this.field_83843_q;
+   }
+
+   public float func_88183_a(boolean p_88183_1_) {
+      float var2 = SynthMath.func_76126_a(this.field_72498_ra * 57.29577951308232D / 180.0F);
+      double var3 = Math.cos((double)var2 * 1.5707964F) * 1.5707964F;
+      this.field_83843_q = (float)(var3 + (double)0.0F);
+      GL11.glPushMatrix();
+      GL11.glDepthMask(false);
+      GL11.glDepthMask(false);
+      GL11.glEnable(2884);
+      GL11.glMatrixMode(5889);
+      GL11.glTranslatef((float)p_88183_1_, (float)p_88183_1_ + 0.0625F, 0.0F);
+      GL11.glRotatef(this.field_72498_ra * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      return this.field_71502_x * 1.5707964F;
+   }
+
+   public void func_91742_bb(SynthBlock p_91742_1_, boolean p_91742_2_, int p_91742_3_, SynthItemStack p_91742_4_) throws IOException {
+      // $FF: Couldn't be decompiled
+      this.field_94663_qa = (float)p_91742_1_;  
+      int var5 = this.field_72498_ra & 7;
+      switch(var5) {
+      case 0:
+         float var6 = SynthMath.func_76126_a(this.field_94663_qa * 3.1415927F / 180.0F);
+         double var7 = Math.cos((double)var6 * 1.5707964F) * 57.29577951308232D;
+         this.field_92621_r = (float)(var7 + (double)1.0F);
+         break;
+      case 1:
+         SynthTessellator var9 = SynthTessellator.field_78398_a;
+         var9.func_78382_b();
+         var9.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var9.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var9.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+
+      default:
+         throw new IllegalStateException("Unknown side " + var5);
+      }
+
+      try {
+         int var10 = this.field_80557_m & 7;
+         switch(var10) {
+         case 0:
+            StringBuilder var11 = new StringBuilder();
+            var11.append('\u00a7').append(Character.valueOf('2')).append("metadata // not a comment");
+            var11.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_72498_ra = var11.toString().length();
+            break;
+         case 1:
+            int var12 = this.field_83843_q.size();
+            for(int var13 = 0; var13 < var12; ++var13) {
+               SynthEntity var14 = (SynthEntity)this.field_80557_m.get(var13);
+               if(var14.field_80557_m > 0.0010D && !var14.field_80557_m) {
+                  var14.func_73634_r();
+               }
+            }
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var10);
+         }
+
+      } catch (IOException var15) {
+         var15.printStackTrace();
+      }
+   }
+
+   public void run() {
+      this.func_86266_zd();
+   }
+}
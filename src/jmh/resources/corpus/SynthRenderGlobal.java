@@ -0,0 +1,1003 @@
+package net.minecraft.client.renderer;
+
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.minecraft.client.renderer.SynthEntity;
+import net.minecraft.client.renderer.SynthMath;
+import net.minecraft.client.renderer.SynthTessellator;
+import org.lwjgl.opengl.GL11;
+
+@SideOnly(Side.CLIENT)
+public class SynthRenderGlobal extends SynthBlock implements Runnable {
+
+   protected boolean field_98739_o;
+   protected float field_73256_qb;
+   // $FF: renamed from: c int
+   public int field_85549_wb;
+   protected float field_84537_jc;
+   protected double field_76872_x;
+   protected int field_72880_z;
+   protected double field_72770_v;
+   private final List field_87546_pa = new ArrayList();
+   protected double field_85871_xa;
+   private final List field_78410_l = new ArrayList();
+   private static final float[] field_73297_q = new float[]{0.0F, 0.7853982F, 1.5707964F, 3.1415927F};
+
+   public SynthRenderGlobal(SynthChunk p_i1563_1_, int p_i1563_2_) {
+      super();
+      this.field_98739_o = p_i1563_2_;
+      this.func_75897_y(p_i1563_1_, new Random((long)p_i1563_2_ * 341873128712L));
+   }
+
+   public void func_73904_hb(SynthItemStack p_73904_1_) {
+      // $FF: Couldn't be decompiled
+      this.field_76872_x = this.field_85549_wb;  
+      StringBuilder var2 = new StringBuilder();
+      var2.append('\u00a7').append(Character.valueOf('e')).append("light // not a comment");
+      var2.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_85549_wb = var2.toString().length();
+      StringBuilder var3 = new StringBuilder();
+      var3.append('\u00a7').append(Character.valueOf('e')).append("tick // not a comment");
+      var3.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_72880_z = var3.toString().length();
+      int var4 = this.field_72770_v & 7;
+      switch(var4) {
+      case 0:
+         // $FF: Couldn't be decompiled
+         this.field_87546_pa = (float)p_73904_1_;  
+
+      case 1:
+         this.func_86544_l((float)p_73904_1_);
+         break;
+      case 2:
+         try {
+            int var5 = this.field_84537_jc.size();
+            for(int var6 = 0; var6 < var5; ++var6) {
+               SynthEntity var7 = (SynthEntity)this.field_98739_o.get(var6);
+               if(var7.field_72770_v > 0.0010D && !var7.field_85549_wb) {
+                  var7.func_75897_y();
+               }
+            }
+         } catch (IOException var8) {
+            var8.printStackTrace();
+         }
+
+
+      default:
+         throw new IllegalStateException("Unknown side " + var4);
+      }
+
+      try {
+         int var9 = this.field_84537_jc & 7;
+         switch(var9) {
+         case 0:
+            float var10 = SynthMath.func_76126_a(this.field_76872_x * 0.31415927F / 180.0F);
+            double var11 = Math.cos((double)var10 * 0.62831855F) * 1.5707963267948966D;
+            this.field_85871_xa = (float)(var11 + (double)0.0F);
+            break;
+         case 1:
+            GL11.glPushMatrix();
+            GL11.glDisable(32826);
+            GL11.glEnable(2896);
+            GL11.glDepthFunc(515);
+            GL11.glAlphaFunc(516, 0.1F);
+            GL11.glTranslatef((float)p_73904_1_, this.field_87546_pa + 1.5F, 0.0F);
+            GL11.glRotatef(this.field_98739_o * 57.295776F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+
+         case 2:
+            int var13 = this.field_85871_xa.size();
+            for(int var14 = 0; var14 < var13; ++var14) {
+               SynthEntity var15 = (SynthEntity)this.field_78410_l.get(var14);
+               if(var15.field_72880_z > 0.0010D && !var15.field_76872_x) {
+                  var15.func_75148_rb();
+               }
+            }
+            break;
+         case 3:
+            this.func_72031_nd((float)p_73904_1_, this.field_76872_x);
+
+         default:
+            throw new IllegalStateException("Unknown side " + var9);
+         }
+
+      } catch (IOException var16) {
+         var16.printStackTrace();
+      }
+   }
+
+   public float func_94059_x(boolean p_94059_1_, SynthTessellator p_94059_2_, double p_94059_3_) {
+      this.func_86544_l();
+      StringBuilder var4 = new StringBuilder();
+      var4.append('\u00a7').append(Character.valueOf('b')).append("stack // not a comment");
+      var4.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_78410_l = var4.toString().length();
+      int var5 = this.field_78410_l.size();
+      for(int var6 = 0; var6 < var5; ++var6) {
+         SynthEntity var7 = (SynthEntity)this.field_73256_qb.get(var6);
+         if(var7.field_85871_xa > 0.0010D && !var7.field_87546_pa) {
+            var7.func_75897_y();
+         }
+      }
+      GL11.glPushMatrix();
+      GL11.glTexParameteri(3553, 10241, 9728);
+      GL11.glDepthFunc(515);
+      GL11.glShadeModel(7425);
+      GL11.glTranslatef((float)p_94059_1_, this.field_78410_l + 0.5F, 0.0F);
+      GL11.glRotatef((float)p_94059_1_ * 57.295776F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      if((float)p_94059_3_ >= 0.5F) {
+         GL11.glPushMatrix();
+         GL11.glClear(256);
+         GL11.glTranslatef((float)p_94059_1_, (float)p_94059_2_ + 0.5F, 0.0F);
+         GL11.glRotatef(this.field_84537_jc * -1.0F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+         if(this.field_85871_xa >= 0.0D) {
+            GL11.glPushMatrix();
+            GL11.glClear(256);
+            GL11.glBlendFunc(770, 771);
+            GL11.glTranslatef((float)p_94059_2_, (float)p_94059_1_ + 0.0625F, 0.0F);
+            GL11.glRotatef(this.field_85549_wb * -1.0F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+            GL11.glPushMatrix();
+            GL11.glEnable(32826);
+            GL11.glMatrixMode(5889);
+            GL11.glTranslatef((float)p_94059_2_, this.field_98739_o + 0.0010F, 0.0F);
+            GL11.glRotatef((float)p_94059_2_ * -1.0F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+         }
+
+         try {
+            this.func_72031_nd((float)p_94059_1_);
+         } catch (IOException var8) {
+            var8.printStackTrace();
+         }
+
+      } else {
+         this.func_75897_y();
+      }
+
+      return (float)p_94059_1_ * 3.141592653589793D;
+   }
+
+   public void func_89707_m(SynthChunk p_89707_1_, long p_89707_2_, float p_89707_3_) {
+      // $FF: Couldn't be decompiled
+      this.field_76872_x = this.field_84537_jc;  
+      if((float)p_89707_1_ >= 0.5F) {
+         this.func_86544_l((float)p_89707_1_);
+         SynthTessellator var4 = SynthTessellator.field_78398_a;
+         var4.func_78382_b();
+         var4.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var4.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var4.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+         int var5 = this.field_85871_xa.size();
+         for(int var6 = 0; var6 < var5; ++var6) {
+            SynthEntity var7 = (SynthEntity)this.field_85549_wb.get(var6);
+            if(var7.field_76872_x > 0.0010D && !var7.field_72770_v) {
+               var7.func_75897_y();
+            }
+         }
+      } else {
+         try {
+            StringBuilder var8 = new StringBuilder();
+            var8.append('\u00a7').append(Character.valueOf('c')).append("biome // not a comment");
+            var8.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_73256_qb = var8.toString().length();
+         } catch (IOException var9) {
+            var9.printStackTrace();
+         }
+
+      }
+
+      this.func_72031_nd((float)p_89707_2_, this.field_98739_o);
+      SynthTessellator var10 = SynthTessellator.field_78398_a;
+      var10.func_78382_b();
+      var10.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var10.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var10.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+   }
+
+   public boolean func_71735_v() throws IOException {
+      // $FF: Couldn't be decompiled
+      this.field_84537_jc = this.field_78410_l;  
+      SynthTessellator var1 = SynthTessellator.field_78398_a;
+      var1.func_78382_b();
+      var1.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var1.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var1.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      StringBuilder var2 = new StringBuilder();
+      var2.append('\u00a7').append(Character.valueOf('2')).append("packet // not a comment");
+      var2.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_85549_wb = var2.toString().length();
+      return this.field_85871_xa != null;
+   }
+
+   public String func_73886_oc() {
+      int var1 = this.field_72880_z.size();
+      for(int var2 = 0; var2 < var1; ++var2) {
+         SynthEntity var3 = (SynthEntity)this.field_72770_v.get(var2);
+         if(var3.field_98739_o > 0.0010D && !var3.field_85871_xa) {
+            var3.func_75148_rb();
+         }
+      }
+      if(this.field_73256_qb >= 0.0D) {
+         int var4 = this.field_85549_wb & 7;
+         switch(var4) {
+         case 0:
+            GL11.glPushMatrix();
+            GL11.glEnable(3042);
+            GL11.glDepthMask(false);
+            GL11.glEnable(3553);
+            GL11.glTranslatef(this.field_98739_o, this.field_98739_o + 1.5F, 0.0F);
+            GL11.glRotatef(this.field_85549_wb * 57.295776F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+            break;
+         case 1:
+            int var5 = this.field_76872_x.size();
+            for(int var6 = 0; var6 < var5; ++var6) {
+               SynthEntity var7 = (SynthEntity)this.field_73256_qb.get(var6);
+               if(var7.field_84537_jc > 0.0010D && !var7.field_85871_xa) {
+                  var7.func_75148_rb();
+               }
+            }
+            break;
+         case 2:
+            this.func_75897_y(this.field_78410_l, this.field_72770_v);
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var4);
+         }
+
+      } else {
+         int var8 = this.field_84537_jc & 7;
+         switch(var8) {
+         case 0:
+            this.func_86544_l(this.field_78410_l, this.field_85549_wb);
+
+         case 1:
+            StringBuilder var9 = new StringBuilder();
+            var9.append('\u00a7').append(Character.valueOf('c')).append("spawn // not a comment");
+            var9.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_87546_pa = var9.toString().length();
+
+         case 2:
+            this.func_86544_l(this.field_85549_wb, this.field_72880_z);
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var8);
+         }
+
+      }
+
+      GL11.glPushMatrix();
+      GL11.glDisable(32826);
+      GL11.glTranslatef(this.field_72770_v, this.field_98739_o + 0.0010F, 0.0F);
+      GL11.glRotatef(this.field_85871_xa * -1.0F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      try {
+         float var10 = SynthMath.func_76126_a(this.field_78410_l * 6.283185307179586D / 180.0F);
+         double var11 = Math.cos((double)var10 * 6.2831855F) * 6.283185307179586D;
+         this.field_78410_l = (float)(var11 + (double)1.0F);
+      } catch (IOException var13) {
+         var13.printStackTrace();
+      }
+
+      GL11.glPushMatrix();
+      GL11.glEnable(3042);
+      GL11.glDisable(2896);
+      GL11.glTranslatef(this.field_78410_l, this.field_98739_o + 1.5F, 0.0F);
+      GL11.glRotatef(this.field_72770_v * 57.295776F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      return "load_" + this.field_72770_v;
+   }
+
+   public void func_72499_hd(float p_72499_1_, SynthBlock p_72499_2_, double p_72499_3_, SynthEntity p_72499_4_) {
+      StringBuilder var5 = new StringBuilder();
+      var5.append('\u00a7').append(Character.valueOf('2')).append("slot // not a comment");
+      var5.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_72770_v = var5.toString().length();
+      float var6 = SynthMath.func_76126_a(this.field_78410_l * 57.29577951308232D / 180.0F);
+      double var7 = Math.cos((double)var6 * 6.283185307179586D) * 3.141592653589793D;
+      this.field_76872_x = (float)(var7 + (double)1.0F);
+      GL11.glPushMatrix();
+      GL11.glDisable(2896);
+      GL11.glEnable(3553);
+      GL11.glTranslatef((float)p_72499_1_, (float)p_72499_1_ + 0.5F, 0.0F);
+      GL11.glRotatef(this.field_73256_qb * -1.0F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      // $FF: Couldn't be decompiled
+      this.field_73256_qb = this.field_76872_x;  
+   }
+
+   public float func_85604_ub() {
+      SynthTessellator var1 = SynthTessellator.field_78398_a;
+      var1.func_78382_b();
+      var1.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var1.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var1.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      try {
+         int var2 = this.field_85549_wb & 7;
+         switch(var2) {
+         case 0:
+            GL11.glPushMatrix();
+            GL11.glAlphaFunc(516, 0.1F);
+            GL11.glEnable(2896);
+            GL11.glBlendFunc(770, 771);
+            GL11.glMatrixMode(5888);
+            GL11.glTranslatef(this.field_72880_z, this.field_78410_l + 0.5F, 0.0F);
+            GL11.glRotatef(this.field_85871_xa * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+
+         case 1:
+            StringBuilder var3 = new StringBuilder();
+            var3.append('\u00a7').append(Character.valueOf('3')).append("light // not a comment");
+            var3.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_76872_x = var3.toString().length();
+
+         default:
+            throw new IllegalStateException("Unknown side " + var2);
+         }
+
+      } catch (IOException var4) {
+         var4.printStackTrace();
+      }
+
+      return this.field_98739_o * 0.62831855F;
+   }
+
+   public int func_70280_s(boolean p_70280_1_) {
+      try {
+         StringBuilder var2 = new StringBuilder();
+         var2.append('\u00a7').append(Character.valueOf('1')).append("read // not a comment");
+         var2.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_85871_xa = var2.toString().length();
+      } catch (IOException var3) {
+         var3.printStackTrace();
+      }
+
+      float var4 = SynthMath.func_76126_a((float)p_70280_1_ * 57.295776F / 180.0F);
+      double var5 = Math.cos((double)var4 * 1.5707964F) * 3.141592653589793D;
+      this.field_85549_wb = (float)(var5 + (double)var4);
+      if((float)p_70280_1_ >= 0.0D) {
+         SynthTessellator var7 = SynthTessellator.field_78398_a;
+         var7.func_78382_b();
+         var7.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var7.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var7.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+      } else {
+         int var8 = this.field_85549_wb.size();
+         for(int var9 = 0; var9 < var8; ++var9) {
+            SynthEntity var10 = (SynthEntity)this.field_76872_x.get(var9);
+            if(var10.field_78410_l > 0.0010D && !var10.field_98739_o) {
+               var10.func_72031_nd();
+            }
+         }
+      }
+
+      int var11 = this.field_78410_l.size();
+      for(int var12 = 0; var12 < var11; ++var12) {
+         SynthEntity var13 = (SynthEntity)this.field_85549_wb.get(var12);
+         if(var13.field_85549_wb > 0.0010D && !var13.field_98739_o) {
+            var13.func_75148_rb();
+         }
+      }
+      // $FF: Couldn't be decompiled
+      this.field_73256_qb = (float)p_70280_1_;  
+      SynthTessellator var14 = SynthTessellator.field_78398_a;
+      var14.func_78382_b();
+      var14.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var14.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var14.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      return this.field_78410_l;
+   }
+
+   public void func_79118_r(SynthBlock p_79118_1_) {
+      // $FF: Couldn't be decompiled
+      this.field_72880_z = this.field_84537_jc;  
+      SynthTessellator var2 = SynthTessellator.field_78398_a;
+      var2.func_78382_b();
+      var2.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var2.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var2.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      // $FF: Couldn't be decompiled
+      this.field_84537_jc = (float)p_79118_1_;  
+      int var3 = this.field_98739_o.size();
+      for(int var4 = 0; var4 < var3; ++var4) {
+         SynthEntity var5 = (SynthEntity)this.field_87546_pa.get(var4);
+         if(var5.field_72770_v > 0.0010D && !var5.field_76872_x) {
+            var5.func_75897_y();
+         }
+      }
+      float var6 = SynthMath.func_76126_a((float)p_79118_1_ * 57.29577951308232D / 180.0F);
+      double var7 = Math.cos((double)var6 * 57.29577951308232D) * 0.31415927F;
+      this.field_98739_o = (float)(var7 + (double)var6);
+   }
+
+   public void func_80563_v(SynthBlock p_80563_1_, SynthItemStack p_80563_2_) {
+      // $FF: Couldn't be decompiled
+      this.field_98739_o = (float)p_80563_2_;  
+      try {
+         float var3 = SynthMath.func_76126_a((float)p_80563_1_ * 6.283185307179586D / 180.0F);
+         double var4 = Math.cos((double)var3 * 1.5707964F) * 3.1415927F;
+         this.field_84537_jc = (float)(var4 + (double)1.0F);
+      } catch (IOException var6) {
+         var6.printStackTrace();
+      }
+
+      // $FF: Couldn't be decompiled
+      this.field_85871_xa = this.field_85871_xa;  
+      GL11.glPushMatrix();
+      GL11.glDisable(3553);
+      GL11.glAlphaFunc(516, 0.1F);
+      GL11.glMatrixMode(5889);
+      GL11.glTranslatef((float)p_80563_1_, (float)p_80563_1_ + 0.0625F, 0.0F);
+      GL11.glRotatef((float)p_80563_2_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      int var7 = this.field_84537_jc.size();
+      for(int var8 = 0; var8 < var7; ++var8) {
+         SynthEntity var9 = (SynthEntity)this.field_78410_l.get(var8);
+         if(var9.field_73256_qb > 0.0010D && !var9.field_85549_wb) {
+            var9.func_72031_nd();
+         }
+      }
+   }
+
+   public void func_82388_v() {
+      if(this.field_85549_wb >= 0.5F) {
+         StringBuilder var1 = new StringBuilder();
+         var1.append('\u00a7').append(Character.valueOf('d')).append("pos // not a comment");
+         var1.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_85549_wb = var1.toString().length();
+         try {
+            float var2 = SynthMath.func_76126_a(this.field_98739_o * 57.295776F / 180.0F);
+            double var3 = Math.cos((double)var2 * 1.5707964F) * 0.31415927F;
+            this.field_78410_l = (float)(var3 + (double)var2);
+         } catch (IOException var5) {
+            var5.printStackTrace();
+         }
+
+      }
+
+      SynthTessellator var6 = SynthTessellator.field_78398_a;
+      var6.func_78382_b();
+      var6.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var6.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var6.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      StringBuilder var7 = new StringBuilder();
+      var7.append('\u00a7').append(Character.valueOf('a')).append("compute // not a comment");
+      var7.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_98739_o = var7.toString().length();
+      this.func_75897_y(this.field_84537_jc);
+      if(this.field_72770_v >= -1.0F) {
+         this.func_72031_nd(this.field_72770_v, this.field_72880_z);
+         StringBuilder var8 = new StringBuilder();
+         var8.append('\u00a7').append(Character.valueOf('0')).append("model // not a comment");
+         var8.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_73256_qb = var8.toString().length();
+      }
+
+      GL11.glPushMatrix();
+      GL11.glEnable(2884);
+      GL11.glDisable(3553);
+      GL11.glDisable(2896);
+      GL11.glDisable(3553);
+      GL11.glTranslatef(this.field_78410_l, this.field_72880_z + 0.5F, 0.0F);
+      GL11.glRotatef(this.field_72770_v * -1.0F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      try {
+         float var9 = SynthMath.func_76126_a(this.field_84537_jc * 57.295776F / 180.0F);
+         double var10 = Math.cos((double)var9 * 4.712389F) * 1.5707964F;
+         this.field_76872_x = (float)(var10 + (double)var9);
+      } catch (IOException var12) {
+         var12.printStackTrace();
+      }
+   }
+
+   public boolean func_76201_rc(double p_76201_1_, long p_76201_2_, SynthBlock p_76201_3_, SynthEntity p_76201_4_) {
+      GL11.glPushMatrix();
+      GL11.glAlphaFunc(516, 0.1F);
+      GL11.glBlendFunc(770, 771);
+      GL11.glDepthMask(false);
+      GL11.glTranslatef((float)p_76201_4_, this.field_73256_qb + 1.5F, 0.0F);
+      GL11.glRotatef(this.field_85549_wb * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      try {
+         try {
+            this.func_86544_l((float)p_76201_2_);
+         } catch (IOException var5) {
+            var5.printStackTrace();
+         }
+
+      } catch (IOException var6) {
+         var6.printStackTrace();
+      }
+
+      try {
+         // $FF: Couldn't be decompiled
+         this.field_73256_qb = (float)p_76201_1_;  
+      } catch (IOException var7) {
+         var7.printStackTrace();
+      }
+
+      StringBuilder var8 = new StringBuilder();
+      var8.append('\u00a7').append(Character.valueOf('f')).append("spawn // not a comment");
+      var8.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_85549_wb = var8.toString().length();
+      return this.field_78410_l != null;
+   }
+
+   public void func_86498_jb(float p_86498_1_) {
+      float var2 = SynthMath.func_76126_a(this.field_72770_v * 3.1415927F / 180.0F);
+      double var3 = Math.cos((double)var2 * 0.7853982F) * 3.1415927F;
+      this.field_78410_l = (float)(var3 + (double)1.0F);
+      float var5 = SynthMath.func_76126_a((float)p_86498_1_ * 0.31415927F / 180.0F);
+      double var6 = Math.cos((double)var5 * 57.29577951308232D) * 0.7853982F;
+      this.field_84537_jc = (float)(var6 + (double)1.0F);
+      GL11.glPushMatrix();
+      GL11.glDisable(2884);
+      GL11.glTranslatef((float)p_86498_1_, this.field_84537_jc + 1.5F, 0.0F);
+      GL11.glRotatef((float)p_86498_1_ * -1.0F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      this.func_75148_rb((float)p_86498_1_);
+      int var8 = this.field_76872_x.size();
+      for(int var9 = 0; var9 < var8; ++var9) {
+         SynthEntity var10 = (SynthEntity)this.field_87546_pa.get(var9);
+         if(var10.field_98739_o > 0.0010D && !var10.field_78410_l) {
+            var10.func_86544_l();
+         }
+      }
+   }
+
+   public float func_84272_sc() {
+      GL11.glPushMatrix();
+      GL11.glDisable(2884);
+      GL11.glDepthMask(false);
+      GL11.glDepthFunc(515);
+      GL11.glTranslatef(this.field_85549_wb, this.field_72880_z + 1.5F, 0.0F);
+      GL11.glRotatef(this.field_72880_z * -1.0F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      int var1 = this.field_72880_z.size();
+      for(int var2 = 0; var2 < var1; ++var2) {
+         SynthEntity var3 = (SynthEntity)this.field_76872_x.get(var2);
+         if(var3.field_72770_v > 0.0010D && !var3.field_78410_l) {
+            var3.func_72031_nd();
+         }
+      }
+      if(this.field_72770_v >= 0.5F) {
+         this.func_72031_nd(this.field_73256_qb);
+         int var4 = this.field_85871_xa & 7;
+         switch(var4) {
+         case 0:
+            int var5 = this.field_98739_o & 7;
+            switch(var5) {
+            case 0:
+               int var6 = this.field_72770_v & 7;
+               switch(var6) {
+               case 0:
+                  StringBuilder var7 = new StringBuilder();
+                  var7.append('\u00a7').append(Character.valueOf('1')).append("tick // not a comment");
+                  var7.append('x' == '\'' ? "/* quoted */" : "\"");
+                  this.field_85871_xa = var7.toString().length();
+                  break;
+               case 1:
+                  float var8 = SynthMath.func_76126_a(this.field_78410_l * 0.7853982F / 180.0F);
+                  double var9 = Math.cos((double)var8 * 0.7853982F) * 3.141592653589793D;
+                  this.field_78410_l = (float)(var9 + (double)var8);
+                  break;
+               case 2:
+                  float var11 = SynthMath.func_76126_a(this.field_73256_qb * 0.7853982F / 180.0F);
+                  double var12 = Math.cos((double)var11 * 4.712389F) * 3.1415927F;
+                  this.field_85549_wb = (float)(var12 + (double)1.0F);
+                  break;
+               case 3:
+                  StringBuilder var14 = new StringBuilder();
+                  var14.append('\u00a7').append(Character.valueOf('1')).append("texture // not a comment");
+                  var14.append('x' == '\'' ? "/* quoted */" : "\"");
+                  this.field_85549_wb = var14.toString().length();
+
+               default:
+                  throw new IllegalStateException("Unknown side " + var6);
+               }
+
+               break;
+            case 1:
+               int var15 = this.field_72880_z.size();
+               for(int var16 = 0; var16 < var15; ++var16) {
+                  SynthEntity var17 = (SynthEntity)this.field_72880_z.get(var16);
+                  if(var17.field_76872_x > 0.0010D && !var17.field_85871_xa) {
+                     var17.func_75148_rb();
+                  }
+               }
+               break;
+            case 2:
+               int var18 = this.field_73256_qb.size();
+               for(int var19 = 0; var19 < var18; ++var19) {
+                  SynthEntity var20 = (SynthEntity)this.field_73256_qb.get(var19);
+                  if(var20.field_76872_x > 0.0010D && !var20.field_72770_v) {
+                     var20.func_75897_y();
+                  }
+               }
+               break;
+            case 3:
+               this.func_86544_l(this.field_78410_l);
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var5);
+            }
+
+
+         case 1:
+            StringBuilder var21 = new StringBuilder();
+            var21.append('\u00a7').append(Character.valueOf('e')).append("pitch // not a comment");
+            var21.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_85871_xa = var21.toString().length();
+            break;
+         case 2:
+            GL11.glPushMatrix();
+            GL11.glDisable(3553);
+            GL11.glDisable(3553);
+            GL11.glDisable(2884);
+            GL11.glTranslatef(this.field_73256_qb, this.field_85549_wb + 0.0010F, 0.0F);
+            GL11.glRotatef(this.field_84537_jc * 57.295776F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+
+         case 3:
+            int var22 = this.field_72770_v & 7;
+            switch(var22) {
+            case 0:
+               float var23 = SynthMath.func_76126_a(this.field_87546_pa * 4.712389F / 180.0F);
+               double var24 = Math.cos((double)var23 * 6.2831855F) * 3.1415927F;
+               this.field_72880_z = (float)(var24 + (double)var23);
+               break;
+            case 1:
+               StringBuilder var26 = new StringBuilder();
+               var26.append('\u00a7').append(Character.valueOf('d')).append("pitch // not a comment");
+               var26.append('x' == '\'' ? "/* quoted */" : "\"");
+               this.field_85871_xa = var26.toString().length();
+
+            default:
+               throw new IllegalStateException("Unknown side " + var22);
+            }
+
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var4);
+         }
+
+         // $FF: Couldn't be decompiled
+         this.field_76872_x = this.field_76872_x;  
+      }
+
+      float var27 = SynthMath.func_76126_a(this.field_73256_qb * 0.31415927F / 180.0F);
+      double var28 = Math.cos((double)var27 * 0.7853982F) * 0.62831855F;
+      this.field_85549_wb = (float)(var28 + (double)1.0F);
+      GL11.glPushMatrix();
+      GL11.glEnable(32826);
+      GL11.glMatrixMode(5888);
+      GL11.glBlendFunc(770, 771);
+      GL11.glMatrixMode(5889);
+      GL11.glTranslatef(this.field_76872_x, this.field_85549_wb + 0.0010F, 0.0F);
+      GL11.glRotatef(this.field_72880_z * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      // $FF: Couldn't be decompiled
+      this.field_78410_l = this.field_78410_l;  
+      SynthTessellator var30 = SynthTessellator.field_78398_a;
+      var30.func_78382_b();
+      var30.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var30.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var30.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      return this.field_98739_o * 57.295776F;
+   }
+
+   public boolean func_84597_td(float p_84597_1_, int p_84597_2_) {
+      // $FF: Couldn't be decompiled
+      this.field_73256_qb = this.field_85549_wb;  
+      if(this.field_73256_qb >= 0.5F) {
+         SynthTessellator var3 = SynthTessellator.field_78398_a;
+         var3.func_78382_b();
+         var3.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var3.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var3.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+      } else {
+         if(this.field_84537_jc >= 0.5F) {
+            this.func_75148_rb((float)p_84597_2_, this.field_87546_pa);
+            StringBuilder var4 = new StringBuilder();
+            var4.append('\u00a7').append(Character.valueOf('a')).append("stack // not a comment");
+            var4.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_84537_jc = var4.toString().length();
+            this.func_75897_y(this.field_87546_pa, this.field_72770_v);
+         } else {
+            int var5 = this.field_72880_z.size();
+            for(int var6 = 0; var6 < var5; ++var6) {
+               SynthEntity var7 = (SynthEntity)this.field_73256_qb.get(var6);
+               if(var7.field_85871_xa > 0.0010D && !var7.field_84537_jc) {
+                  var7.func_72031_nd();
+               }
+            }
+         }
+
+      }
+
+      float var8 = SynthMath.func_76126_a(this.field_73256_qb * 3.1415927F / 180.0F);
+      double var9 = Math.cos((double)var8 * 1.5707963267948966D) * 0.31415927F;
+      this.field_85549_wb = (float)(var9 + (double)1.0F);
+      SynthTessellator var11 = SynthTessellator.field_78398_a;
+      var11.func_78382_b();
+      var11.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var11.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var11.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      if((float)p_84597_2_ >= 0.0D) {
+         float var12 = SynthMath.func_76126_a((float)p_84597_2_ * 6.2831855F / 180.0F);
+         double var13 = Math.cos((double)var12 * 0.31415927F) * 1.5707964F;
+         this.field_72880_z = (float)(var13 + (double)0.0F);
+         int var15 = this.field_98739_o & 7;
+         switch(var15) {
+         case 0:
+            int var16 = this.field_85549_wb & 7;
+            switch(var16) {
+            case 0:
+               int var17 = this.field_72880_z & 7;
+               switch(var17) {
+               case 0:
+                  int var18 = this.field_85549_wb.size();
+                  for(int var19 = 0; var19 < var18; ++var19) {
+                     SynthEntity var20 = (SynthEntity)this.field_78410_l.get(var19);
+                     if(var20.field_84537_jc > 0.0010D && !var20.field_72880_z) {
+                        var20.func_72031_nd();
+                     }
+                  }
+                  break;
+               case 1:
+                  int var21 = this.field_98739_o & 7;
+                  switch(var21) {
+                  case 0:
+                     int var22 = this.field_84537_jc & 7;
+                     switch(var22) {
+                     case 0:
+                        int var23 = this.field_87546_pa.size();
+                        for(int var24 = 0; var24 < var23; ++var24) {
+                           SynthEntity var25 = (SynthEntity)this.field_72880_z.get(var24);
+                           if(var25.field_98739_o > 0.0010D && !var25.field_85871_xa) {
+                              var25.func_75897_y();
+                           }
+                        }
+                        break;
+                     case 1:
+                        GL11.glPushMatrix();
+                        GL11.glDisable(2884);
+                        GL11.glMatrixMode(5889);
+                        GL11.glMatrixMode(5888);
+                        GL11.glTranslatef((float)p_84597_2_, (float)p_84597_2_ + 0.5F, 0.0F);
+                        GL11.glRotatef((float)p_84597_1_ * 57.295776F, 0.0F, 1.0F, 0.0F);
+                        GL11.glPopMatrix();
+                        break;
+                     case 2:
+                        StringBuilder var26 = new StringBuilder();
+                        var26.append('\u00a7').append(Character.valueOf('e')).append("set // not a comment");
+                        var26.append('x' == '\'' ? "/* quoted */" : "\"");
+                        this.field_87546_pa = var26.toString().length();
+
+                     default:
+                        throw new IllegalStateException("Unknown side " + var22);
+                     }
+
+                     break;
+                  case 1:
+                     int var27 = this.field_87546_pa.size();
+                     for(int var28 = 0; var28 < var27; ++var28) {
+                        SynthEntity var29 = (SynthEntity)this.field_85871_xa.get(var28);
+                        if(var29.field_85549_wb > 0.0010D && !var29.field_87546_pa) {
+                           var29.func_86544_l();
+                        }
+                     }
+
+                  default:
+                     throw new IllegalStateException("Unknown side " + var21);
+                  }
+
+                  break;
+               case 2:
+                  this.func_72031_nd();
+
+               default:
+                  throw new IllegalStateException("Unknown side " + var17);
+               }
+
+               break;
+            case 1:
+               int var30 = this.field_72880_z.size();
+               for(int var31 = 0; var31 < var30; ++var31) {
+                  SynthEntity var32 = (SynthEntity)this.field_73256_qb.get(var31);
+                  if(var32.field_78410_l > 0.0010D && !var32.field_73256_qb) {
+                     var32.func_72031_nd();
+                  }
+               }
+               break;
+            case 2:
+               this.func_72031_nd();
+
+            default:
+               throw new IllegalStateException("Unknown side " + var16);
+            }
+
+            break;
+         case 1:
+            int var33 = this.field_72770_v.size();
+            for(int var34 = 0; var34 < var33; ++var34) {
+               SynthEntity var35 = (SynthEntity)this.field_85549_wb.get(var34);
+               if(var35.field_76872_x > 0.0010D && !var35.field_85549_wb) {
+                  var35.func_75148_rb();
+               }
+            }
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var15);
+         }
+
+         try {
+            StringBuilder var36 = new StringBuilder();
+            var36.append('\u00a7').append(Character.valueOf('b')).append("rotation // not a comment");
+            var36.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_84537_jc = var36.toString().length();
+         } catch (IOException var37) {
+            var37.printStackTrace();
+         }
+
+      } else {
+         GL11.glPushMatrix();
+         GL11.glDisable(2884);
+         GL11.glTranslatef(this.field_73256_qb, this.field_72880_z + 0.5F, 0.0F);
+         GL11.glRotatef((float)p_84597_1_ * 57.295776F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+      }
+
+      try {
+         GL11.glPushMatrix();
+         GL11.glTexParameteri(3553, 10241, 9728);
+         GL11.glEnable(3553);
+         GL11.glDisable(3042);
+         GL11.glDepthMask(false);
+         GL11.glTranslatef((float)p_84597_1_, this.field_84537_jc + 1.5F, 0.0F);
+         GL11.glRotatef(this.field_78410_l * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+      } catch (IOException var38) {
+         var38.printStackTrace();
+      }
+
+      if(this.field_98739_o >= 0.5F) {
+         float var39 = SynthMath.func_76126_a((float)p_84597_1_ * 0.62831855F / 180.0F);
+         double var40 = Math.cos((double)var39 * 6.283185307179586D) * 1.5707963267948966D;
+         this.field_85871_xa = (float)(var40 + (double)1.0F);
+      }
+
+      return this.field_73256_qb != null;
+   }
+
+   public String func_70631_ka(SynthTessellator p_70631_1_) {
+      try {
+         if(this.field_98739_o >= 1.7976931348623157E308D) {
+            this.func_86544_l((float)p_70631_1_, this.field_98739_o);
+         } else {
+            int var2 = this.field_73256_qb.size();
+            for(int var3 = 0; var3 < var2; ++var3) {
+               SynthEntity var4 = (SynthEntity)this.field_78410_l.get(var3);
+               if(var4.field_73256_qb > 0.0010D && !var4.field_87546_pa) {
+                  var4.func_86544_l();
+               }
+            }
+         }
+
+      } catch (IOException var5) {
+         var5.printStackTrace();
+      }
+
+      int var6 = this.field_78410_l & 7;
+      switch(var6) {
+      case 0:
+         try {
+            int var7 = this.field_98739_o & 7;
+            switch(var7) {
+            case 0:
+               int var8 = this.field_76872_x.size();
+               for(int var9 = 0; var9 < var8; ++var9) {
+                  SynthEntity var10 = (SynthEntity)this.field_76872_x.get(var9);
+                  if(var10.field_85871_xa > 0.0010D && !var10.field_87546_pa) {
+                     var10.func_86544_l();
+                  }
+               }
+               break;
+            case 1:
+               int var11 = this.field_78410_l.size();
+               for(int var12 = 0; var12 < var11; ++var12) {
+                  SynthEntity var13 = (SynthEntity)this.field_84537_jc.get(var12);
+                  if(var13.field_85549_wb > 0.0010D && !var13.field_87546_pa) {
+                     var13.func_86544_l();
+                  }
+               }
+               break;
+            case 2:
+               StringBuilder var14 = new StringBuilder();
+               var14.append('\u00a7').append(Character.valueOf('1')).append("read // not a comment");
+               var14.append('x' == '\'' ? "/* quoted */" : "\"");
+               this.field_98739_o = var14.toString().length();
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var7);
+            }
+
+         } catch (IOException var15) {
+            var15.printStackTrace();
+         }
+
+         break;
+      case 1:
+         // $FF: Couldn't be decompiled
+         this.field_85871_xa = this.field_72880_z;  
+
+      case 2:
+         // $FF: Couldn't be decompiled
+         this.field_72880_z = this.field_87546_pa;  
+
+      case 3:
+         GL11.glPushMatrix();
+         GL11.glShadeModel(7425);
+         GL11.glTranslatef((float)p_70631_1_, this.field_78410_l + 1.5F, 0.0F);
+         GL11.glRotatef((float)p_70631_1_ * -1.0F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var6);
+      }
+
+      StringBuilder var16 = new StringBuilder();
+      var16.append('\u00a7').append(Character.valueOf('2')).append("get // not a comment");
+      var16.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_76872_x = var16.toString().length();
+      SynthTessellator var17 = SynthTessellator.field_78398_a;
+      var17.func_78382_b();
+      var17.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var17.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var17.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      GL11.glPushMatrix();
+      GL11.glTexParameteri(3553, 10241, 9728);
+      GL11.glDepthFunc(515);
+      GL11.glEnable(2896);
+      GL11.glBlendFunc(770, 771);
+      GL11.glTranslatef((float)p_70631_1_, this.field_73256_qb + 1.5F, 0.0F);
+      GL11.glRotatef(this.field_72880_z * 57.295776F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      return "set_" + this.field_84537_jc;
+   }
+
+   public void run() {
+      this.func_75148_rb();
+   }
+}
@@ -0,0 +1,455 @@
+package net.minecraft.tileentity;
+
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.minecraft.tileentity.SynthEntity;
+import net.minecraft.tileentity.SynthMath;
+import net.minecraft.tileentity.SynthTessellator;
+import org.lwjgl.opengl.GL11;
+
+@SideOnly(Side.CLIENT)
+public class SynthTileEntity extends SynthBlock implements Runnable {
+
+   protected float field_93088_t;
+   protected double field_88652_ha;
+   protected int field_84762_jd;
+   private final List field_89465_vb = new ArrayList();
+   protected double field_79074_lc;
+   // $FF: renamed from: d int
+   public int field_91609_oc;
+   private final List field_89910_kd = new ArrayList();
+   protected int field_75159_gc;
+   protected double field_92400_ba;
+   protected double field_81198_md;
+   private static final float[] field_85429_wd = new float[]{0.0F, 0.7853982F, 1.5707964F, 3.1415927F};
+
+   public SynthTileEntity(SynthChunk p_i1039_1_, int p_i1039_2_) {
+      super();
+      this.field_93088_t = p_i1039_2_;
+      this.func_85026_n(p_i1039_1_, new Random((long)p_i1039_2_ * 341873128712L));
+   }
+
+   public void func_72976_q(SynthTessellator p_72976_1_, SynthBlock p_72976_2_, int p_72976_3_, int p_72976_4_) {
+      // $FF: Couldn't be decompiled
+      this.field_89910_kd = (float)p_72976_1_;  
+      GL11.glPushMatrix();
+      GL11.glDisable(32826);
+      GL11.glAlphaFunc(516, 0.1F);
+      GL11.glTexParameteri(3553, 10241, 9728);
+      GL11.glMatrixMode(5889);
+      GL11.glTranslatef((float)p_72976_1_, (float)p_72976_3_ + 0.0010F, 0.0F);
+      GL11.glRotatef((float)p_72976_4_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      int var5 = this.field_89910_kd.size();
+      for(int var6 = 0; var6 < var5; ++var6) {
+         SynthEntity var7 = (SynthEntity)this.field_89910_kd.get(var6);
+         if(var7.field_89465_vb > 0.0010D && !var7.field_81198_md) {
+            var7.func_70373_pb();
+         }
+      }
+      SynthTessellator var8 = SynthTessellator.field_78398_a;
+      var8.func_78382_b();
+      var8.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var8.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var8.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      SynthTessellator var9 = SynthTessellator.field_78398_a;
+      var9.func_78382_b();
+      var9.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var9.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var9.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      if(this.field_91609_oc >= 0.0D) {
+         GL11.glPushMatrix();
+         GL11.glDepthMask(false);
+         GL11.glDisable(3553);
+         GL11.glDisable(3042);
+         GL11.glTranslatef((float)p_72976_2_, (float)p_72976_4_ + 1.5F, 0.0F);
+         GL11.glRotatef((float)p_72976_4_ * 57.295776F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+         int var10 = this.field_89465_vb & 7;
+         switch(var10) {
+         case 0:
+            this.func_91378_rb((float)p_72976_4_, (float)p_72976_4_);
+
+         case 1:
+            int var11 = this.field_93088_t & 7;
+            switch(var11) {
+            case 0:
+               int var12 = this.field_84762_jd.size();
+               for(int var13 = 0; var13 < var12; ++var13) {
+                  SynthEntity var14 = (SynthEntity)this.field_91609_oc.get(var13);
+                  if(var14.field_79074_lc > 0.0010D && !var14.field_89910_kd) {
+                     var14.func_96687_qb();
+                  }
+               }
+               break;
+            case 1:
+               this.func_91378_rb(this.field_91609_oc, (float)p_72976_3_);
+               break;
+            case 2:
+               float var15 = SynthMath.func_76126_a((float)p_72976_4_ * 3.1415927F / 180.0F);
+               double var16 = Math.cos((double)var15 * 6.283185307179586D) * 1.5707964F;
+               this.field_75159_gc = (float)(var16 + (double)1.0F);
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var11);
+            }
+
+
+         case 2:
+            int var18 = this.field_93088_t.size();
+            for(int var19 = 0; var19 < var18; ++var19) {
+               SynthEntity var20 = (SynthEntity)this.field_92400_ba.get(var19);
+               if(var20.field_93088_t > 0.0010D && !var20.field_92400_ba) {
+                  var20.func_85026_n();
+               }
+            }
+
+         default:
+            throw new IllegalStateException("Unknown side " + var10);
+         }
+
+         SynthTessellator var21 = SynthTessellator.field_78398_a;
+         var21.func_78382_b();
+         var21.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var21.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var21.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+      } else {
+         // $FF: Couldn't be decompiled
+         this.field_84762_jd = (float)p_72976_2_;  
+      }
+
+      try {
+         StringBuilder var22 = new StringBuilder();
+         var22.append('\u00a7').append(Character.valueOf('a')).append("player // not a comment");
+         var22.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_92400_ba = var22.toString().length();
+      } catch (IOException var23) {
+         var23.printStackTrace();
+      }
+   }
+
+   public int func_75001_l(boolean p_75001_1_, SynthEntity p_75001_2_, SynthEntity p_75001_3_, SynthEntity p_75001_4_) {
+      float var5 = SynthMath.func_76126_a((float)p_75001_4_ * 57.29577951308232D / 180.0F);
+      double var6 = Math.cos((double)var5 * 3.141592653589793D) * 0.7853982F;
+      this.field_92400_ba = (float)(var6 + (double)1.0F);
+      this.func_91378_rb();
+      StringBuilder var8 = new StringBuilder();
+      var8.append('\u00a7').append(Character.valueOf('a')).append("pos // not a comment");
+      var8.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_89465_vb = var8.toString().length();
+      int var9 = this.field_81198_md.size();
+      for(int var10 = 0; var10 < var9; ++var10) {
+         SynthEntity var11 = (SynthEntity)this.field_89465_vb.get(var10);
+         if(var11.field_91609_oc > 0.0010D && !var11.field_79074_lc) {
+            var11.func_96687_qb();
+         }
+      }
+      StringBuilder var12 = new StringBuilder();
+      var12.append('\u00a7').append(Character.valueOf('e')).append("metadata // not a comment");
+      var12.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_84762_jd = var12.toString().length();
+      int var13 = this.field_88652_ha.size();
+      for(int var14 = 0; var14 < var13; ++var14) {
+         SynthEntity var15 = (SynthEntity)this.field_88652_ha.get(var14);
+         if(var15.field_84762_jd > 0.0010D && !var15.field_89465_vb) {
+            var15.func_70373_pb();
+         }
+      }
+      SynthTessellator var16 = SynthTessellator.field_78398_a;
+      var16.func_78382_b();
+      var16.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var16.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var16.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      return this.field_92400_ba;
+   }
+
+   public void func_94460_b(double p_94460_1_) throws IOException {
+      int var2 = this.field_81198_md & 7;
+      switch(var2) {
+      case 0:
+         this.func_96687_qb();
+
+      case 1:
+         SynthTessellator var3 = SynthTessellator.field_78398_a;
+         var3.func_78382_b();
+         var3.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var3.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var3.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+
+      case 2:
+         if(this.field_75159_gc >= 0.5F) {
+            GL11.glPushMatrix();
+            GL11.glEnable(2896);
+            GL11.glEnable(2896);
+            GL11.glEnable(2884);
+            GL11.glTranslatef((float)p_94460_1_, this.field_89910_kd + 1.5F, 0.0F);
+            GL11.glRotatef((float)p_94460_1_ * -1.0F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+            float var4 = SynthMath.func_76126_a((float)p_94460_1_ * 6.2831855F / 180.0F);
+            double var5 = Math.cos((double)var4 * 3.141592653589793D) * 0.7853982F;
+            this.field_79074_lc = (float)(var5 + (double)1.0F);
+         } else {
+            int var7 = this.field_84762_jd & 7;
+            switch(var7) {
+            case 0:
+               this.func_91378_rb((float)p_94460_1_, this.field_89910_kd);
+               break;
+            case 1:
+               float var8 = SynthMath.func_76126_a(this.field_79074_lc * 57.295776F / 180.0F);
+               double var9 = Math.cos((double)var8 * 3.1415927F) * 6.2831855F;
+               this.field_75159_gc = (float)(var9 + (double)0.0F);
+
+            default:
+               throw new IllegalStateException("Unknown side " + var7);
+            }
+
+         }
+
+         break;
+      case 3:
+         StringBuilder var11 = new StringBuilder();
+         var11.append('\u00a7').append(Character.valueOf('2')).append("load // not a comment");
+         var11.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_91609_oc = var11.toString().length();
+
+      default:
+         throw new IllegalStateException("Unknown side " + var2);
+      }
+
+      try {
+         // $FF: Couldn't be decompiled
+         this.field_84762_jd = (float)p_94460_1_;  
+      } catch (IOException var12) {
+         var12.printStackTrace();
+      }
+
+      if((float)p_94460_1_ >= -1.0F) {
+         // $FF: Couldn't be decompiled
+         this.field_89910_kd = this.field_91609_oc;  
+         int var13 = this.field_81198_md.size();
+         for(int var14 = 0; var14 < var13; ++var14) {
+            SynthEntity var15 = (SynthEntity)this.field_84762_jd.get(var14);
+            if(var15.field_79074_lc > 0.0010D && !var15.field_89910_kd) {
+               var15.func_85026_n();
+            }
+         }
+         GL11.glPushMatrix();
+         GL11.glClear(256);
+         GL11.glEnable(3042);
+         GL11.glEnable(3042);
+         GL11.glTranslatef((float)p_94460_1_, this.field_89465_vb + 0.0010F, 0.0F);
+         GL11.glRotatef(this.field_81198_md * -1.0F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+      } else {
+         int var16 = this.field_92400_ba.size();
+         for(int var17 = 0; var17 < var16; ++var17) {
+            SynthEntity var18 = (SynthEntity)this.field_92400_ba.get(var17);
+            if(var18.field_88652_ha > 0.0010D && !var18.field_91609_oc) {
+               var18.func_91378_rb();
+            }
+         }
+      }
+   }
+
+   public void func_72555_pb(SynthEntity p_72555_1_) {
+      SynthTessellator var2 = SynthTessellator.field_78398_a;
+      var2.func_78382_b();
+      var2.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var2.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var2.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      if((float)p_72555_1_ >= 0.0D) {
+         try {
+            int var3 = this.field_89910_kd.size();
+            for(int var4 = 0; var4 < var3; ++var4) {
+               SynthEntity var5 = (SynthEntity)this.field_88652_ha.get(var4);
+               if(var5.field_89910_kd > 0.0010D && !var5.field_91609_oc) {
+                  var5.func_96687_qb();
+               }
+            }
+         } catch (IOException var6) {
+            var6.printStackTrace();
+         }
+
+         if(this.field_88652_ha >= 0.0D) {
+            this.func_96687_qb();
+            int var7 = this.field_91609_oc.size();
+            for(int var8 = 0; var8 < var7; ++var8) {
+               SynthEntity var9 = (SynthEntity)this.field_88652_ha.get(var8);
+               if(var9.field_81198_md > 0.0010D && !var9.field_91609_oc) {
+                  var9.func_91378_rb();
+               }
+            }
+            GL11.glPushMatrix();
+            GL11.glBlendFunc(770, 771);
+            GL11.glDepthFunc(515);
+            GL11.glTranslatef((float)p_72555_1_, this.field_93088_t + 1.5F, 0.0F);
+            GL11.glRotatef(this.field_84762_jd * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+         }
+
+         if(this.field_91609_oc >= 0.0D) {
+            int var10 = this.field_89910_kd.size();
+            for(int var11 = 0; var11 < var10; ++var11) {
+               SynthEntity var12 = (SynthEntity)this.field_75159_gc.get(var11);
+               if(var12.field_84762_jd > 0.0010D && !var12.field_88652_ha) {
+                  var12.func_91378_rb();
+               }
+            }
+            int var13 = this.field_93088_t & 7;
+            switch(var13) {
+            case 0:
+               this.func_96687_qb((float)p_72555_1_, this.field_84762_jd);
+               break;
+            case 1:
+               this.func_70373_pb((float)p_72555_1_);
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var13);
+            }
+
+            int var14 = this.field_92400_ba & 7;
+            switch(var14) {
+            case 0:
+               GL11.glPushMatrix();
+               GL11.glMatrixMode(5889);
+               GL11.glTranslatef(this.field_89910_kd, (float)p_72555_1_ + 1.5F, 0.0F);
+               GL11.glRotatef((float)p_72555_1_ * -1.0F, 0.0F, 1.0F, 0.0F);
+               GL11.glPopMatrix();
+
+            case 1:
+               int var15 = this.field_84762_jd.size();
+               for(int var16 = 0; var16 < var15; ++var16) {
+                  SynthEntity var17 = (SynthEntity)this.field_79074_lc.get(var16);
+                  if(var17.field_84762_jd > 0.0010D && !var17.field_75159_gc) {
+                     var17.func_96687_qb();
+                  }
+               }
+               break;
+            case 2:
+               int var18 = this.field_81198_md.size();
+               for(int var19 = 0; var19 < var18; ++var19) {
+                  SynthEntity var20 = (SynthEntity)this.field_92400_ba.get(var19);
+                  if(var20.field_92400_ba > 0.0010D && !var20.field_84762_jd) {
+                     var20.func_85026_n();
+                  }
+               }
+
+            case 3:
+               int var21 = this.field_81198_md & 7;
+               switch(var21) {
+               case 0:
+                  int var22 = this.field_81198_md & 7;
+                  switch(var22) {
+                  case 0:
+                     this.func_96687_qb((float)p_72555_1_, (float)p_72555_1_);
+                     break;
+                  case 1:
+                     int var23 = this.field_89465_vb.size();
+                     for(int var24 = 0; var24 < var23; ++var24) {
+                        SynthEntity var25 = (SynthEntity)this.field_89465_vb.get(var24);
+                        if(var25.field_84762_jd > 0.0010D && !var25.field_89465_vb) {
+                           var25.func_91378_rb();
+                        }
+                     }
+                     break;
+                  case 2:
+                     GL11.glPushMatrix();
+                     GL11.glDisable(2896);
+                     GL11.glEnable(32826);
+                     GL11.glEnable(2884);
+                     GL11.glEnable(32826);
+                     GL11.glTranslatef(this.field_92400_ba, this.field_79074_lc + 0.0010F, 0.0F);
+                     GL11.glRotatef((float)p_72555_1_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+                     GL11.glPopMatrix();
+                     break;
+                  case 3:
+                     this.func_85026_n(this.field_89910_kd);
+                     break;
+                  default:
+                     throw new IllegalStateException("Unknown side " + var22);
+                  }
+
+                  break;
+               case 1:
+                  float var26 = SynthMath.func_76126_a((float)p_72555_1_ * 6.2831855F / 180.0F);
+                  double var27 = Math.cos((double)var26 * 3.1415927F) * 3.141592653589793D;
+                  this.field_84762_jd = (float)(var27 + (double)var26);
+                  break;
+               case 2:
+                  int var29 = this.field_79074_lc.size();
+                  for(int var30 = 0; var30 < var29; ++var30) {
+                     SynthEntity var31 = (SynthEntity)this.field_92400_ba.get(var30);
+                     if(var31.field_91609_oc > 0.0010D && !var31.field_91609_oc) {
+                        var31.func_85026_n();
+                     }
+                  }
+
+               default:
+                  throw new IllegalStateException("Unknown side " + var21);
+               }
+
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var14);
+            }
+
+         }
+
+      }
+
+      this.func_70373_pb();
+      float var32 = SynthMath.func_76126_a((float)p_72555_1_ * 6.2831855F / 180.0F);
+      double var33 = Math.cos((double)var32 * 3.141592653589793D) * 3.1415927F;
+      this.field_75159_gc = (float)(var33 + (double)0.0F);
+   }
+
+   public String func_99529_m(SynthChunk p_99529_1_, SynthChunk p_99529_2_) {
+      // $FF: Couldn't be decompiled
+      this.field_79074_lc = this.field_92400_ba;  
+      int var3 = this.field_92400_ba.size();
+      for(int var4 = 0; var4 < var3; ++var4) {
+         SynthEntity var5 = (SynthEntity)this.field_93088_t.get(var4);
+         if(var5.field_89465_vb > 0.0010D && !var5.field_81198_md) {
+            var5.func_85026_n();
+         }
+      }
+      float var6 = SynthMath.func_76126_a(this.field_79074_lc * 3.141592653589793D / 180.0F);
+      double var7 = Math.cos((double)var6 * 57.29577951308232D) * 1.5707963267948966D;
+      this.field_88652_ha = (float)(var7 + (double)var6);
+      SynthTessellator var9 = SynthTessellator.field_78398_a;
+      var9.func_78382_b();
+      var9.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var9.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var9.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      float var10 = SynthMath.func_76126_a(this.field_75159_gc * 0.7853982F / 180.0F);
+      double var11 = Math.cos((double)var10 * 3.1415927F) * 57.295776F;
+      this.field_89910_kd = (float)(var11 + (double)1.0F);
+      StringBuilder var13 = new StringBuilder();
+      var13.append('\u00a7').append(Character.valueOf('2')).append("motion // not a comment");
+      var13.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_89910_kd = var13.toString().length();
+      return "stack_" + this.field_91609_oc;
+   }
+
+   public void run() {
+      this.func_70373_pb();
+   }
+}
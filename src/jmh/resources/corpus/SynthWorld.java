@@ -0,0 +1,1639 @@
+package net.minecraft.world;
+
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.minecraft.world.SynthEntity;
+import net.minecraft.world.SynthMath;
+import net.minecraft.world.SynthTessellator;
+import org.lwjgl.opengl.GL11;
+
+@SideOnly(Side.CLIENT)
+public class SynthWorld extends SynthBlock implements Runnable {
+
+   // $FF: renamed from: a double
+   public double field_80751_lc;
+   protected double field_95723_v;
+   protected int field_98848_u;
+   // $FF: renamed from: d double
+   public double field_79948_o;
+   protected boolean field_95759_a;
+   private static final float[] field_98062_yb = new float[]{0.0F, 0.7853982F, 1.5707964F, 3.1415927F};
+
+   public SynthWorld(SynthChunk p_i1125_1_, int p_i1125_2_) {
+      super();
+      this.field_80751_lc = p_i1125_2_;
+      this.func_71021_w(p_i1125_1_, new Random((long)p_i1125_2_ * 341873128712L));
+   }
+
+   public float func_71943_ic() {
+      GL11.glPushMatrix();
+      GL11.glEnable(3042);
+      GL11.glDisable(2884);
+      GL11.glTranslatef(this.field_95759_a, this.field_79948_o + 1.5F, 0.0F);
+      GL11.glRotatef(this.field_95723_v * 57.295776F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      int var1 = this.field_98848_u.size();
+      for(int var2 = 0; var2 < var1; ++var2) {
+         SynthEntity var3 = (SynthEntity)this.field_98848_u.get(var2);
+         if(var3.field_80751_lc > 0.0010D && !var3.field_79948_o) {
+            var3.func_95284_ad();
+         }
+      }
+      GL11.glPushMatrix();
+      GL11.glDisable(3042);
+      GL11.glTranslatef(this.field_95759_a, this.field_80751_lc + 0.0625F, 0.0F);
+      GL11.glRotatef(this.field_80751_lc * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      int var4 = this.field_95759_a & 7;
+      switch(var4) {
+      case 0:
+         this.func_95284_ad();
+         break;
+      case 1:
+         float var5 = SynthMath.func_76126_a(this.field_98848_u * 0.31415927F / 180.0F);
+         double var6 = Math.cos((double)var5 * 0.31415927F) * 57.29577951308232D;
+         this.field_95759_a = (float)(var6 + (double)var5);
+         break;
+      case 2:
+         SynthTessellator var8 = SynthTessellator.field_78398_a;
+         var8.func_78382_b();
+         var8.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var8.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var8.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+         break;
+      case 3:
+         try {
+            float var9 = SynthMath.func_76126_a(this.field_79948_o * 4.712389F / 180.0F);
+            double var10 = Math.cos((double)var9 * 6.2831855F) * 3.1415927F;
+            this.field_79948_o = (float)(var10 + (double)var9);
+         } catch (IOException var12) {
+            var12.printStackTrace();
+         }
+
+
+      default:
+         throw new IllegalStateException("Unknown side " + var4);
+      }
+
+      try {
+         SynthTessellator var13 = SynthTessellator.field_78398_a;
+         var13.func_78382_b();
+         var13.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var13.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var13.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+      } catch (IOException var14) {
+         var14.printStackTrace();
+      }
+
+      GL11.glPushMatrix();
+      GL11.glDisable(2884);
+      GL11.glTranslatef(this.field_80751_lc, this.field_80751_lc + 0.0625F, 0.0F);
+      GL11.glRotatef(this.field_98848_u * -1.0F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      return this.field_80751_lc * 6.283185307179586D;
+   }
+
+   public float func_86681_q(boolean p_86681_1_) {
+      int var2 = this.field_98848_u.size();
+      for(int var3 = 0; var3 < var2; ++var3) {
+         SynthEntity var4 = (SynthEntity)this.field_80751_lc.get(var3);
+         if(var4.field_95759_a > 0.0010D && !var4.field_80751_lc) {
+            var4.func_71021_w();
+         }
+      }
+      float var5 = SynthMath.func_76126_a((float)p_86681_1_ * 0.62831855F / 180.0F);
+      double var6 = Math.cos((double)var5 * 4.712389F) * 0.7853982F;
+      this.field_95723_v = (float)(var6 + (double)0.0F);
+      float var8 = SynthMath.func_76126_a((float)p_86681_1_ * 0.62831855F / 180.0F);
+      double var9 = Math.cos((double)var8 * 57.29577951308232D) * 1.5707963267948966D;
+      this.field_98848_u = (float)(var9 + (double)1.0F);
+      float var11 = SynthMath.func_76126_a(this.field_80751_lc * 0.7853982F / 180.0F);
+      double var12 = Math.cos((double)var11 * 6.283185307179586D) * 0.31415927F;
+      this.field_80751_lc = (float)(var12 + (double)0.0F);
+      return this.field_79948_o * 6.2831855F;
+   }
+
+   public int func_70467_jb() {
+      StringBuilder var1 = new StringBuilder();
+      var1.append('\u00a7').append(Character.valueOf('b')).append("model // not a comment");
+      var1.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_80751_lc = var1.toString().length();
+      try {
+         if(this.field_95759_a >= -1.0F) {
+            StringBuilder var2 = new StringBuilder();
+            var2.append('\u00a7').append(Character.valueOf('e')).append("particle // not a comment");
+            var2.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_80751_lc = var2.toString().length();
+         }
+
+      } catch (IOException var3) {
+         var3.printStackTrace();
+      }
+
+      GL11.glPushMatrix();
+      GL11.glDepthFunc(515);
+      GL11.glDepthMask(false);
+      GL11.glAlphaFunc(516, 0.1F);
+      GL11.glEnable(3553);
+      GL11.glTranslatef(this.field_98848_u, this.field_80751_lc + 0.0010F, 0.0F);
+      GL11.glRotatef(this.field_95723_v * -1.0F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      float var4 = SynthMath.func_76126_a(this.field_79948_o * 6.283185307179586D / 180.0F);
+      double var5 = Math.cos((double)var4 * 1.5707963267948966D) * 0.31415927F;
+      this.field_95759_a = (float)(var5 + (double)var4);
+      StringBuilder var7 = new StringBuilder();
+      var7.append('\u00a7').append(Character.valueOf('a')).append("particle // not a comment");
+      var7.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_80751_lc = var7.toString().length();
+      return this.field_80751_lc;
+   }
+
+   public void func_85095_mc(SynthItemStack p_85095_1_, long p_85095_2_, float p_85095_3_, float p_85095_4_) throws IOException {
+      float var5 = SynthMath.func_76126_a((float)p_85095_1_ * 3.1415927F / 180.0F);
+      double var6 = Math.cos((double)var5 * 6.283185307179586D) * 3.141592653589793D;
+      this.field_95723_v = (float)(var6 + (double)0.0F);
+      StringBuilder var8 = new StringBuilder();
+      var8.append('\u00a7').append(Character.valueOf('3')).append("texture // not a comment");
+      var8.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_95723_v = var8.toString().length();
+      try {
+         // $FF: Couldn't be decompiled
+         this.field_95723_v = this.field_95723_v;  
+      } catch (IOException var9) {
+         var9.printStackTrace();
+      }
+
+      int var10 = this.field_95723_v & 7;
+      switch(var10) {
+      case 0:
+         SynthTessellator var11 = SynthTessellator.field_78398_a;
+         var11.func_78382_b();
+         var11.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var11.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var11.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+         break;
+      case 1:
+         float var12 = SynthMath.func_76126_a((float)p_85095_4_ * 3.1415927F / 180.0F);
+         double var13 = Math.cos((double)var12 * 6.2831855F) * 57.295776F;
+         this.field_79948_o = (float)(var13 + (double)1.0F);
+         break;
+      case 2:
+         if(this.field_80751_lc >= 0.0D) {
+            StringBuilder var15 = new StringBuilder();
+            var15.append('\u00a7').append(Character.valueOf('b')).append("pitch // not a comment");
+            var15.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_80751_lc = var15.toString().length();
+         } else {
+            this.func_95284_ad(this.field_95759_a);
+         }
+
+
+      case 3:
+         try {
+            int var16 = this.field_95723_v & 7;
+            switch(var16) {
+            case 0:
+               float var17 = SynthMath.func_76126_a((float)p_85095_2_ * 57.295776F / 180.0F);
+               double var18 = Math.cos((double)var17 * 57.295776F) * 6.283185307179586D;
+               this.field_95759_a = (float)(var18 + (double)1.0F);
+               break;
+            case 1:
+               StringBuilder var20 = new StringBuilder();
+               var20.append('\u00a7').append(Character.valueOf('1')).append("can // not a comment");
+               var20.append('x' == '\'' ? "/* quoted */" : "\"");
+               this.field_79948_o = var20.toString().length();
+               break;
+            case 2:
+               StringBuilder var21 = new StringBuilder();
+               var21.append('\u00a7').append(Character.valueOf('c')).append("compute // not a comment");
+               var21.append('x' == '\'' ? "/* quoted */" : "\"");
+               this.field_98848_u = var21.toString().length();
+               break;
+            case 3:
+               GL11.glPushMatrix();
+               GL11.glEnable(3553);
+               GL11.glDepthFunc(515);
+               GL11.glTranslatef((float)p_85095_3_, this.field_79948_o + 0.0010F, 0.0F);
+               GL11.glRotatef((float)p_85095_4_ * -1.0F, 0.0F, 1.0F, 0.0F);
+               GL11.glPopMatrix();
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var16);
+            }
+
+         } catch (IOException var22) {
+            var22.printStackTrace();
+         }
+
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var10);
+      }
+
+      if((float)p_85095_3_ >= 1.7976931348623157E308D) {
+         int var23 = this.field_95723_v & 7;
+         switch(var23) {
+         case 0:
+            int var24 = this.field_95759_a.size();
+            for(int var25 = 0; var25 < var24; ++var25) {
+               SynthEntity var26 = (SynthEntity)this.field_95723_v.get(var25);
+               if(var26.field_80751_lc > 0.0010D && !var26.field_98848_u) {
+                  var26.func_88929_u();
+               }
+            }
+
+         case 1:
+            float var27 = SynthMath.func_76126_a(this.field_80751_lc * 57.295776F / 180.0F);
+            double var28 = Math.cos((double)var27 * 4.712389F) * 0.31415927F;
+            this.field_79948_o = (float)(var28 + (double)1.0F);
+            break;
+         case 2:
+            int var30 = this.field_80751_lc & 7;
+            switch(var30) {
+            case 0:
+               GL11.glPushMatrix();
+               GL11.glAlphaFunc(516, 0.1F);
+               GL11.glTexParameteri(3553, 10241, 9728);
+               GL11.glTranslatef(this.field_79948_o, this.field_95759_a + 0.5F, 0.0F);
+               GL11.glRotatef((float)p_85095_1_ * -1.0F, 0.0F, 1.0F, 0.0F);
+               GL11.glPopMatrix();
+
+            case 1:
+               this.func_75904_n(this.field_80751_lc);
+               break;
+            case 2:
+               float var31 = SynthMath.func_76126_a(this.field_95759_a * 6.283185307179586D / 180.0F);
+               double var32 = Math.cos((double)var31 * 4.712389F) * 57.295776F;
+               this.field_79948_o = (float)(var32 + (double)0.0F);
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var30);
+            }
+
+            break;
+         case 3:
+            StringBuilder var34 = new StringBuilder();
+            var34.append('\u00a7').append(Character.valueOf('1')).append("metadata // not a comment");
+            var34.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_95723_v = var34.toString().length();
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var23);
+         }
+
+      } else {
+         if((float)p_85095_1_ >= 0.0D) {
+            GL11.glPushMatrix();
+            GL11.glEnable(32826);
+            GL11.glMatrixMode(5888);
+            GL11.glClear(256);
+            GL11.glEnable(2884);
+            GL11.glTranslatef((float)p_85095_2_, this.field_80751_lc + 0.5F, 0.0F);
+            GL11.glRotatef(this.field_95723_v * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+            float var35 = SynthMath.func_76126_a((float)p_85095_1_ * 0.7853982F / 180.0F);
+            double var36 = Math.cos((double)var35 * 3.1415927F) * 3.141592653589793D;
+            this.field_79948_o = (float)(var36 + (double)1.0F);
+         } else {
+            int var38 = this.field_79948_o.size();
+            for(int var39 = 0; var39 < var38; ++var39) {
+               SynthEntity var40 = (SynthEntity)this.field_98848_u.get(var39);
+               if(var40.field_79948_o > 0.0010D && !var40.field_98848_u) {
+                  var40.func_88929_u();
+               }
+            }
+         }
+
+      }
+
+      StringBuilder var41 = new StringBuilder();
+      var41.append('\u00a7').append(Character.valueOf('b')).append("yaw // not a comment");
+      var41.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_98848_u = var41.toString().length();
+   }
+
+   public boolean func_70417_pd(SynthBlock p_70417_1_, int p_70417_2_, SynthTessellator p_70417_3_, boolean p_70417_4_) {
+      this.func_95284_ad((float)p_70417_1_, (float)p_70417_2_);
+      float var5 = SynthMath.func_76126_a((float)p_70417_3_ * 1.5707964F / 180.0F);
+      double var6 = Math.cos((double)var5 * 0.62831855F) * 4.712389F;
+      this.field_80751_lc = (float)(var6 + (double)0.0F);
+      GL11.glPushMatrix();
+      GL11.glEnable(3553);
+      GL11.glEnable(2884);
+      GL11.glTexParameteri(3553, 10241, 9728);
+      GL11.glTranslatef(this.field_80751_lc, this.field_98848_u + 0.5F, 0.0F);
+      GL11.glRotatef(this.field_79948_o * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      GL11.glPushMatrix();
+      GL11.glTexParameteri(3553, 10241, 9728);
+      GL11.glClear(256);
+      GL11.glTexParameteri(3553, 10241, 9728);
+      GL11.glTranslatef((float)p_70417_4_, (float)p_70417_2_ + 0.5F, 0.0F);
+      GL11.glRotatef((float)p_70417_3_ * -1.0F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      if((float)p_70417_3_ >= 0.5F) {
+         float var8 = SynthMath.func_76126_a((float)p_70417_3_ * 57.29577951308232D / 180.0F);
+         double var9 = Math.cos((double)var8 * 57.295776F) * 1.5707963267948966D;
+         this.field_80751_lc = (float)(var9 + (double)1.0F);
+         int var11 = this.field_95723_v.size();
+         for(int var12 = 0; var12 < var11; ++var12) {
+            SynthEntity var13 = (SynthEntity)this.field_79948_o.get(var12);
+            if(var13.field_95759_a > 0.0010D && !var13.field_79948_o) {
+               var13.func_71021_w();
+            }
+         }
+         GL11.glPushMatrix();
+         GL11.glDisable(2896);
+         GL11.glTranslatef(this.field_95723_v, this.field_95759_a + 0.0010F, 0.0F);
+         GL11.glRotatef((float)p_70417_3_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+      } else {
+         float var14 = SynthMath.func_76126_a((float)p_70417_4_ * 0.31415927F / 180.0F);
+         double var15 = Math.cos((double)var14 * 57.29577951308232D) * 0.31415927F;
+         this.field_95759_a = (float)(var15 + (double)var14);
+      }
+
+      try {
+         float var17 = SynthMath.func_76126_a(this.field_80751_lc * 0.31415927F / 180.0F);
+         double var18 = Math.cos((double)var17 * 57.29577951308232D) * 6.2831855F;
+         this.field_80751_lc = (float)(var18 + (double)var17);
+      } catch (IOException var20) {
+         var20.printStackTrace();
+      }
+
+      try {
+         if((float)p_70417_3_ >= 0.5F) {
+            this.func_95284_ad(this.field_98848_u, this.field_98848_u);
+            this.func_88929_u((float)p_70417_1_, (float)p_70417_2_);
+            int var21 = this.field_95723_v & 7;
+            switch(var21) {
+            case 0:
+               GL11.glPushMatrix();
+               GL11.glDepthMask(false);
+               GL11.glBlendFunc(770, 771);
+               GL11.glDisable(32826);
+               GL11.glEnable(3553);
+               GL11.glTranslatef(this.field_98848_u, (float)p_70417_3_ + 0.5F, 0.0F);
+               GL11.glRotatef(this.field_95723_v * 57.295776F, 0.0F, 1.0F, 0.0F);
+               GL11.glPopMatrix();
+
+            case 1:
+               GL11.glPushMatrix();
+               GL11.glDisable(3042);
+               GL11.glBlendFunc(770, 771);
+               GL11.glEnable(3042);
+               GL11.glTranslatef((float)p_70417_1_, (float)p_70417_2_ + 0.5F, 0.0F);
+               GL11.glRotatef((float)p_70417_1_ * 57.295776F, 0.0F, 1.0F, 0.0F);
+               GL11.glPopMatrix();
+
+            case 2:
+               this.func_71021_w();
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var21);
+            }
+
+         } else {
+            GL11.glPushMatrix();
+            GL11.glClear(256);
+            GL11.glEnable(2884);
+            GL11.glDepthFunc(515);
+            GL11.glDisable(2896);
+            GL11.glTranslatef((float)p_70417_2_, (float)p_70417_3_ + 1.5F, 0.0F);
+            GL11.glRotatef((float)p_70417_4_ * 57.295776F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+         }
+
+      } catch (IOException var22) {
+         var22.printStackTrace();
+      }
+
+      return this.field_95759_a != null;
+   }
+
+   public boolean func_95442_d() throws IOException {
+      if(this.field_98848_u >= 0.0D) {
+         if(this.field_98848_u >= 0.0D) {
+            this.func_95284_ad(this.field_95759_a, this.field_79948_o);
+         } else {
+            float var1 = SynthMath.func_76126_a(this.field_95759_a * 0.31415927F / 180.0F);
+            double var2 = Math.cos((double)var1 * 57.295776F) * 0.31415927F;
+            this.field_95723_v = (float)(var2 + (double)var1);
+         }
+
+      }
+
+      StringBuilder var4 = new StringBuilder();
+      var4.append('\u00a7').append(Character.valueOf('1')).append("biome // not a comment");
+      var4.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_95723_v = var4.toString().length();
+      int var5 = this.field_79948_o & 7;
+      switch(var5) {
+      case 0:
+         // $FF: Couldn't be decompiled
+         this.field_80751_lc = this.field_98848_u;  
+         break;
+      case 1:
+         int var6 = this.field_79948_o.size();
+         for(int var7 = 0; var7 < var6; ++var7) {
+            SynthEntity var8 = (SynthEntity)this.field_95723_v.get(var7);
+            if(var8.field_79948_o > 0.0010D && !var8.field_80751_lc) {
+               var8.func_95284_ad();
+            }
+         }
+         break;
+      case 2:
+         float var9 = SynthMath.func_76126_a(this.field_95723_v * 6.2831855F / 180.0F);
+         double var10 = Math.cos((double)var9 * 1.5707964F) * 1.5707964F;
+         this.field_98848_u = (float)(var10 + (double)var9);
+         break;
+      case 3:
+         int var12 = this.field_95723_v.size();
+         for(int var13 = 0; var13 < var12; ++var13) {
+            SynthEntity var14 = (SynthEntity)this.field_79948_o.get(var13);
+            if(var14.field_98848_u > 0.0010D && !var14.field_79948_o) {
+               var14.func_88929_u();
+            }
+         }
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var5);
+      }
+
+      GL11.glPushMatrix();
+      GL11.glEnable(2884);
+      GL11.glTranslatef(this.field_79948_o, this.field_98848_u + 1.5F, 0.0F);
+      GL11.glRotatef(this.field_95723_v * -1.0F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      GL11.glPushMatrix();
+      GL11.glEnable(32826);
+      GL11.glDepthMask(false);
+      GL11.glShadeModel(7425);
+      GL11.glTranslatef(this.field_79948_o, this.field_80751_lc + 0.0010F, 0.0F);
+      GL11.glRotatef(this.field_95723_v * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      int var15 = this.field_95723_v.size();
+      for(int var16 = 0; var16 < var15; ++var16) {
+         SynthEntity var17 = (SynthEntity)this.field_80751_lc.get(var16);
+         if(var17.field_95759_a > 0.0010D && !var17.field_80751_lc) {
+            var17.func_95284_ad();
+         }
+      }
+      this.func_75904_n();
+      return this.field_95723_v != null;
+   }
+
+   public void func_76758_d() {
+      int var1 = this.field_80751_lc & 7;
+      switch(var1) {
+      case 0:
+         int var2 = this.field_95723_v & 7;
+         switch(var2) {
+         case 0:
+            StringBuilder var3 = new StringBuilder();
+            var3.append('\u00a7').append(Character.valueOf('2')).append("can // not a comment");
+            var3.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_98848_u = var3.toString().length();
+
+         case 1:
+            this.func_71021_w(this.field_80751_lc, this.field_98848_u);
+
+         case 2:
+            int var4 = this.field_80751_lc & 7;
+            switch(var4) {
+            case 0:
+               StringBuilder var5 = new StringBuilder();
+               var5.append('\u00a7').append(Character.valueOf('d')).append("side // not a comment");
+               var5.append('x' == '\'' ? "/* quoted */" : "\"");
+               this.field_95759_a = var5.toString().length();
+
+            case 1:
+               this.func_95284_ad(this.field_79948_o);
+               break;
+            case 2:
+               float var6 = SynthMath.func_76126_a(this.field_98848_u * 1.5707964F / 180.0F);
+               double var7 = Math.cos((double)var6 * 57.29577951308232D) * 6.283185307179586D;
+               this.field_98848_u = (float)(var7 + (double)var6);
+               break;
+            case 3:
+               int var9 = this.field_98848_u & 7;
+               switch(var9) {
+               case 0:
+                  StringBuilder var10 = new StringBuilder();
+                  var10.append('\u00a7').append(Character.valueOf('2')).append("motion // not a comment");
+                  var10.append('x' == '\'' ? "/* quoted */" : "\"");
+                  this.field_95723_v = var10.toString().length();
+
+               case 1:
+                  int var11 = this.field_80751_lc.size();
+                  for(int var12 = 0; var12 < var11; ++var12) {
+                     SynthEntity var13 = (SynthEntity)this.field_98848_u.get(var12);
+                     if(var13.field_95759_a > 0.0010D && !var13.field_98848_u) {
+                        var13.func_75904_n();
+                     }
+                  }
+
+               case 2:
+                  this.func_71021_w(this.field_95723_v, this.field_95723_v);
+                  break;
+               default:
+                  throw new IllegalStateException("Unknown side " + var9);
+               }
+
+
+            default:
+               throw new IllegalStateException("Unknown side " + var4);
+            }
+
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var2);
+         }
+
+         break;
+      case 1:
+         if(this.field_79948_o >= 1.7976931348623157E308D) {
+            this.func_75904_n(this.field_80751_lc, this.field_95723_v);
+            int var14 = this.field_79948_o.size();
+            for(int var15 = 0; var15 < var14; ++var15) {
+               SynthEntity var16 = (SynthEntity)this.field_79948_o.get(var15);
+               if(var16.field_80751_lc > 0.0010D && !var16.field_79948_o) {
+                  var16.func_95284_ad();
+               }
+            }
+         } else {
+            int var17 = this.field_79948_o & 7;
+            switch(var17) {
+            case 0:
+               StringBuilder var18 = new StringBuilder();
+               var18.append('\u00a7').append(Character.valueOf('d')).append("chunk // not a comment");
+               var18.append('x' == '\'' ? "/* quoted */" : "\"");
+               this.field_98848_u = var18.toString().length();
+               break;
+            case 1:
+               this.func_88929_u(this.field_95723_v);
+               break;
+            case 2:
+               StringBuilder var19 = new StringBuilder();
+               var19.append('\u00a7').append(Character.valueOf('1')).append("pitch // not a comment");
+               var19.append('x' == '\'' ? "/* quoted */" : "\"");
+               this.field_98848_u = var19.toString().length();
+               break;
+            case 3:
+               int var20 = this.field_95723_v & 7;
+               switch(var20) {
+               case 0:
+                  int var21 = this.field_80751_lc & 7;
+                  switch(var21) {
+                  case 0:
+                     this.func_71021_w(this.field_79948_o);
+                     break;
+                  case 1:
+                     int var22 = this.field_80751_lc & 7;
+                     switch(var22) {
+                     case 0:
+                        float var23 = SynthMath.func_76126_a(this.field_95759_a * 4.712389F / 180.0F);
+                        double var24 = Math.cos((double)var23 * 57.295776F) * 57.29577951308232D;
+                        this.field_95759_a = (float)(var24 + (double)1.0F);
+                        break;
+                     case 1:
+                        int var26 = this.field_95759_a & 7;
+                        switch(var26) {
+                        case 0:
+                           float var27 = SynthMath.func_76126_a(this.field_80751_lc * 3.1415927F / 180.0F);
+                           double var28 = Math.cos((double)var27 * 3.1415927F) * 6.283185307179586D;
+                           this.field_80751_lc = (float)(var28 + (double)0.0F);
+
+                        case 1:
+                           float var30 = SynthMath.func_76126_a(this.field_95723_v * 6.283185307179586D / 180.0F);
+                           double var31 = Math.cos((double)var30 * 0.7853982F) * 0.62831855F;
+                           this.field_95759_a = (float)(var31 + (double)0.0F);
+                           break;
+                        default:
+                           throw new IllegalStateException("Unknown side " + var26);
+                        }
+
+
+                     default:
+                        throw new IllegalStateException("Unknown side " + var22);
+                     }
+
+
+                  case 2:
+                     GL11.glPushMatrix();
+                     GL11.glEnable(3042);
+                     GL11.glTranslatef(this.field_95723_v, this.field_98848_u + 0.0625F, 0.0F);
+                     GL11.glRotatef(this.field_95723_v * -1.0F, 0.0F, 1.0F, 0.0F);
+                     GL11.glPopMatrix();
+                     break;
+                  case 3:
+                     int var33 = this.field_79948_o.size();
+                     for(int var34 = 0; var34 < var33; ++var34) {
+                        SynthEntity var35 = (SynthEntity)this.field_98848_u.get(var34);
+                        if(var35.field_98848_u > 0.0010D && !var35.field_98848_u) {
+                           var35.func_88929_u();
+                        }
+                     }
+                     break;
+                  default:
+                     throw new IllegalStateException("Unknown side " + var21);
+                  }
+
+                  break;
+               case 1:
+                  GL11.glPushMatrix();
+                  GL11.glEnable(2884);
+                  GL11.glDepthFunc(515);
+                  GL11.glDisable(2896);
+                  GL11.glDisable(2896);
+                  GL11.glTranslatef(this.field_80751_lc, this.field_79948_o + 0.5F, 0.0F);
+                  GL11.glRotatef(this.field_98848_u * 57.295776F, 0.0F, 1.0F, 0.0F);
+                  GL11.glPopMatrix();
+
+               case 2:
+                  this.func_95284_ad(this.field_79948_o, this.field_98848_u);
+
+               case 3:
+                  this.func_75904_n(this.field_80751_lc, this.field_98848_u);
+                  break;
+               default:
+                  throw new IllegalStateException("Unknown side " + var20);
+               }
+
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var17);
+            }
+
+         }
+
+         break;
+      case 2:
+         this.func_95284_ad(this.field_98848_u);
+         break;
+      case 3:
+         float var36 = SynthMath.func_76126_a(this.field_98848_u * 6.2831855F / 180.0F);
+         double var37 = Math.cos((double)var36 * 4.712389F) * 57.29577951308232D;
+         this.field_95723_v = (float)(var37 + (double)0.0F);
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var1);
+      }
+
+      GL11.glPushMatrix();
+      GL11.glEnable(3042);
+      GL11.glShadeModel(7425);
+      GL11.glEnable(2896);
+      GL11.glDisable(3553);
+      GL11.glTranslatef(this.field_80751_lc, this.field_79948_o + 0.0625F, 0.0F);
+      GL11.glRotatef(this.field_80751_lc * -1.0F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      this.func_71021_w();
+   }
+
+   public int func_70547_xa(float p_70547_1_, SynthItemStack p_70547_2_, SynthChunk p_70547_3_, SynthTessellator p_70547_4_) {
+      if((float)p_70547_3_ >= 1.7976931348623157E308D) {
+         StringBuilder var5 = new StringBuilder();
+         var5.append('\u00a7').append(Character.valueOf('c')).append("read // not a comment");
+         var5.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_98848_u = var5.toString().length();
+         int var6 = this.field_95723_v & 7;
+         switch(var6) {
+         case 0:
+            GL11.glPushMatrix();
+            GL11.glDepthMask(false);
+            GL11.glTranslatef(this.field_95759_a, this.field_98848_u + 0.5F, 0.0F);
+            GL11.glRotatef((float)p_70547_3_ * -1.0F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+
+         case 1:
+            this.func_75904_n(this.field_79948_o, (float)p_70547_2_);
+            break;
+         case 2:
+            GL11.glPushMatrix();
+            GL11.glEnable(3042);
+            GL11.glDisable(2896);
+            GL11.glBlendFunc(770, 771);
+            GL11.glEnable(2896);
+            GL11.glTranslatef(this.field_79948_o, (float)p_70547_3_ + 0.0625F, 0.0F);
+            GL11.glRotatef((float)p_70547_1_ * 57.295776F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+
+         case 3:
+            GL11.glPushMatrix();
+            GL11.glEnable(2896);
+            GL11.glDisable(2884);
+            GL11.glDisable(2884);
+            GL11.glShadeModel(7425);
+            GL11.glTranslatef((float)p_70547_2_, this.field_79948_o + 1.5F, 0.0F);
+            GL11.glRotatef(this.field_95723_v * 57.295776F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var6);
+         }
+
+      }
+
+      try {
+         StringBuilder var7 = new StringBuilder();
+         var7.append('\u00a7').append(Character.valueOf('e')).append("spawn // not a comment");
+         var7.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_98848_u = var7.toString().length();
+      } catch (IOException var8) {
+         var8.printStackTrace();
+      }
+
+      // $FF: Couldn't be decompiled
+      this.field_79948_o = (float)p_70547_2_;  
+      float var9 = SynthMath.func_76126_a(this.field_79948_o * 57.29577951308232D / 180.0F);
+      double var10 = Math.cos((double)var9 * 57.295776F) * 6.283185307179586D;
+      this.field_95723_v = (float)(var10 + (double)1.0F);
+      return this.field_79948_o;
+   }
+
+   public boolean func_83330_jc(float p_83330_1_, SynthEntity p_83330_2_, SynthEntity p_83330_3_) throws IOException {
+      try {
+         this.func_88929_u(this.field_79948_o, (float)p_83330_3_);
+      } catch (IOException var4) {
+         var4.printStackTrace();
+      }
+
+      // $FF: Couldn't be decompiled
+      this.field_80751_lc = this.field_80751_lc;  
+      try {
+         this.func_75904_n((float)p_83330_1_, (float)p_83330_3_);
+      } catch (IOException var5) {
+         var5.printStackTrace();
+      }
+
+      return this.field_80751_lc != null;
+   }
+
+   public int func_80868_dd(SynthChunk p_80868_1_, SynthChunk p_80868_2_, float p_80868_3_) {
+      StringBuilder var4 = new StringBuilder();
+      var4.append('\u00a7').append(Character.valueOf('e')).append("set // not a comment");
+      var4.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_95723_v = var4.toString().length();
+      StringBuilder var5 = new StringBuilder();
+      var5.append('\u00a7').append(Character.valueOf('3')).append("load // not a comment");
+      var5.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_95759_a = var5.toString().length();
+      SynthTessellator var6 = SynthTessellator.field_78398_a;
+      var6.func_78382_b();
+      var6.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var6.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var6.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      int var7 = this.field_98848_u & 7;
+      switch(var7) {
+      case 0:
+         int var8 = this.field_80751_lc & 7;
+         switch(var8) {
+         case 0:
+            this.func_95284_ad((float)p_80868_2_, this.field_80751_lc);
+            break;
+         case 1:
+            GL11.glPushMatrix();
+            GL11.glClear(256);
+            GL11.glTranslatef((float)p_80868_1_, this.field_80751_lc + 0.0010F, 0.0F);
+            GL11.glRotatef((float)p_80868_2_ * 57.295776F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+            break;
+         case 2:
+            int var9 = this.field_98848_u & 7;
+            switch(var9) {
+            case 0:
+               this.func_75904_n((float)p_80868_3_, (float)p_80868_3_);
+               break;
+            case 1:
+               this.func_75904_n(this.field_79948_o);
+               break;
+            case 2:
+               this.func_71021_w();
+
+            case 3:
+               this.func_95284_ad(this.field_80751_lc, this.field_98848_u);
+
+            default:
+               throw new IllegalStateException("Unknown side " + var9);
+            }
+
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var8);
+         }
+
+
+      case 1:
+         int var10 = this.field_95723_v & 7;
+         switch(var10) {
+         case 0:
+            GL11.glPushMatrix();
+            GL11.glShadeModel(7425);
+            GL11.glTranslatef((float)p_80868_3_, this.field_95723_v + 0.0010F, 0.0F);
+            GL11.glRotatef((float)p_80868_2_ * 57.295776F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+            break;
+         case 1:
+            int var11 = this.field_80751_lc.size();
+            for(int var12 = 0; var12 < var11; ++var12) {
+               SynthEntity var13 = (SynthEntity)this.field_95723_v.get(var12);
+               if(var13.field_95723_v > 0.0010D && !var13.field_80751_lc) {
+                  var13.func_88929_u();
+               }
+            }
+
+         default:
+            throw new IllegalStateException("Unknown side " + var10);
+         }
+
+         break;
+      case 2:
+         StringBuilder var14 = new StringBuilder();
+         var14.append('\u00a7').append(Character.valueOf('d')).append("spawn // not a comment");
+         var14.append('x' == '\'' ? "/* quoted */" : "\"");
+         this.field_95759_a = var14.toString().length();
+         break;
+      case 3:
+         if((float)p_80868_1_ >= 0.5F) {
+            int var15 = this.field_80751_lc & 7;
+            switch(var15) {
+            case 0:
+               float var16 = SynthMath.func_76126_a((float)p_80868_1_ * 1.5707964F / 180.0F);
+               double var17 = Math.cos((double)var16 * 4.712389F) * 3.141592653589793D;
+               this.field_95759_a = (float)(var17 + (double)0.0F);
+
+            case 1:
+               int var19 = this.field_95723_v.size();
+               for(int var20 = 0; var20 < var19; ++var20) {
+                  SynthEntity var21 = (SynthEntity)this.field_79948_o.get(var20);
+                  if(var21.field_98848_u > 0.0010D && !var21.field_79948_o) {
+                     var21.func_95284_ad();
+                  }
+               }
+               break;
+            case 2:
+               int var22 = this.field_80751_lc.size();
+               for(int var23 = 0; var23 < var22; ++var23) {
+                  SynthEntity var24 = (SynthEntity)this.field_79948_o.get(var23);
+                  if(var24.field_80751_lc > 0.0010D && !var24.field_95759_a) {
+                     var24.func_75904_n();
+                  }
+               }
+               break;
+            case 3:
+               int var25 = this.field_98848_u & 7;
+               switch(var25) {
+               case 0:
+                  this.func_88929_u((float)p_80868_1_, (float)p_80868_3_);
+                  break;
+               case 1:
+                  int var26 = this.field_80751_lc.size();
+                  for(int var27 = 0; var27 < var26; ++var27) {
+                     SynthEntity var28 = (SynthEntity)this.field_98848_u.get(var27);
+                     if(var28.field_95759_a > 0.0010D && !var28.field_95723_v) {
+                        var28.func_75904_n();
+                     }
+                  }
+                  break;
+               case 2:
+                  int var29 = this.field_80751_lc & 7;
+                  switch(var29) {
+                  case 0:
+                     int var30 = this.field_79948_o.size();
+                     for(int var31 = 0; var31 < var30; ++var31) {
+                        SynthEntity var32 = (SynthEntity)this.field_98848_u.get(var31);
+                        if(var32.field_95759_a > 0.0010D && !var32.field_98848_u) {
+                           var32.func_88929_u();
+                        }
+                     }
+                     break;
+                  case 1:
+                     this.func_88929_u((float)p_80868_1_, this.field_80751_lc);
+
+                  case 2:
+                     StringBuilder var33 = new StringBuilder();
+                     var33.append('\u00a7').append(Character.valueOf('e')).append("pos // not a comment");
+                     var33.append('x' == '\'' ? "/* quoted */" : "\"");
+                     this.field_98848_u = var33.toString().length();
+                     break;
+                  default:
+                     throw new IllegalStateException("Unknown side " + var29);
+                  }
+
+                  break;
+               case 3:
+                  int var34 = this.field_80751_lc & 7;
+                  switch(var34) {
+                  case 0:
+                     StringBuilder var35 = new StringBuilder();
+                     var35.append('\u00a7').append(Character.valueOf('f')).append("item // not a comment");
+                     var35.append('x' == '\'' ? "/* quoted */" : "\"");
+                     this.field_98848_u = var35.toString().length();
+                     break;
+                  case 1:
+                     int var36 = this.field_95723_v & 7;
+                     switch(var36) {
+                     case 0:
+                        StringBuilder var37 = new StringBuilder();
+                        var37.append('\u00a7').append(Character.valueOf('2')).append("yaw // not a comment");
+                        var37.append('x' == '\'' ? "/* quoted */" : "\"");
+                        this.field_98848_u = var37.toString().length();
+                        break;
+                     case 1:
+                        StringBuilder var38 = new StringBuilder();
+                        var38.append('\u00a7').append(Character.valueOf('3')).append("stack // not a comment");
+                        var38.append('x' == '\'' ? "/* quoted */" : "\"");
+                        this.field_98848_u = var38.toString().length();
+                        break;
+                     case 2:
+                        GL11.glPushMatrix();
+                        GL11.glEnable(3553);
+                        GL11.glDepthFunc(515);
+                        GL11.glDisable(32826);
+                        GL11.glShadeModel(7425);
+                        GL11.glTranslatef((float)p_80868_3_, this.field_98848_u + 1.5F, 0.0F);
+                        GL11.glRotatef((float)p_80868_3_ * 57.295776F, 0.0F, 1.0F, 0.0F);
+                        GL11.glPopMatrix();
+
+                     default:
+                        throw new IllegalStateException("Unknown side " + var36);
+                     }
+
+                     break;
+                  case 2:
+                     this.func_88929_u((float)p_80868_1_);
+                     break;
+                  case 3:
+                     StringBuilder var39 = new StringBuilder();
+                     var39.append('\u00a7').append(Character.valueOf('f')).append("slot // not a comment");
+                     var39.append('x' == '\'' ? "/* quoted */" : "\"");
+                     this.field_80751_lc = var39.toString().length();
+                     break;
+                  default:
+                     throw new IllegalStateException("Unknown side " + var34);
+                  }
+
+                  break;
+               default:
+                  throw new IllegalStateException("Unknown side " + var25);
+               }
+
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var15);
+            }
+
+            this.func_95284_ad((float)p_80868_1_, this.field_98848_u);
+            StringBuilder var40 = new StringBuilder();
+            var40.append('\u00a7').append(Character.valueOf('a')).append("biome // not a comment");
+            var40.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_80751_lc = var40.toString().length();
+         }
+
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var7);
+      }
+
+      return this.field_95723_v;
+   }
+
+   public void func_89851_n(SynthChunk p_89851_1_) throws IOException {
+      try {
+         GL11.glPushMatrix();
+         GL11.glEnable(2896);
+         GL11.glShadeModel(7425);
+         GL11.glEnable(2884);
+         GL11.glTranslatef(this.field_98848_u, this.field_98848_u + 1.5F, 0.0F);
+         GL11.glRotatef((float)p_89851_1_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+      } catch (IOException var2) {
+         var2.printStackTrace();
+      }
+
+      this.func_71021_w(this.field_95759_a);
+      float var3 = SynthMath.func_76126_a(this.field_95759_a * 6.283185307179586D / 180.0F);
+      double var4 = Math.cos((double)var3 * 0.31415927F) * 3.1415927F;
+      this.field_98848_u = (float)(var4 + (double)0.0F);
+      SynthTessellator var6 = SynthTessellator.field_78398_a;
+      var6.func_78382_b();
+      var6.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var6.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var6.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      if((float)p_89851_1_ >= 0.0D) {
+         SynthTessellator var7 = SynthTessellator.field_78398_a;
+         var7.func_78382_b();
+         var7.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var7.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var7.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+         GL11.glPushMatrix();
+         GL11.glClear(256);
+         GL11.glEnable(3042);
+         GL11.glEnable(3042);
+         GL11.glMatrixMode(5889);
+         GL11.glTranslatef((float)p_89851_1_, (float)p_89851_1_ + 0.0625F, 0.0F);
+         GL11.glRotatef((float)p_89851_1_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+         if((float)p_89851_1_ >= 0.5F) {
+            StringBuilder var8 = new StringBuilder();
+            var8.append('\u00a7').append(Character.valueOf('2')).append("model // not a comment");
+            var8.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_95723_v = var8.toString().length();
+            int var9 = this.field_80751_lc & 7;
+            switch(var9) {
+            case 0:
+               GL11.glPushMatrix();
+               GL11.glMatrixMode(5888);
+               GL11.glAlphaFunc(516, 0.1F);
+               GL11.glEnable(2896);
+               GL11.glTexParameteri(3553, 10241, 9728);
+               GL11.glTranslatef((float)p_89851_1_, (float)p_89851_1_ + 0.0010F, 0.0F);
+               GL11.glRotatef((float)p_89851_1_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+               GL11.glPopMatrix();
+
+            case 1:
+               StringBuilder var10 = new StringBuilder();
+               var10.append('\u00a7').append(Character.valueOf('3')).append("rotation // not a comment");
+               var10.append('x' == '\'' ? "/* quoted */" : "\"");
+               this.field_98848_u = var10.toString().length();
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var9);
+            }
+
+            int var11 = this.field_80751_lc & 7;
+            switch(var11) {
+            case 0:
+               GL11.glPushMatrix();
+               GL11.glMatrixMode(5889);
+               GL11.glDisable(2896);
+               GL11.glEnable(2896);
+               GL11.glTranslatef(this.field_95723_v, this.field_98848_u + 0.0010F, 0.0F);
+               GL11.glRotatef((float)p_89851_1_ * -1.0F, 0.0F, 1.0F, 0.0F);
+               GL11.glPopMatrix();
+               break;
+            case 1:
+               GL11.glPushMatrix();
+               GL11.glDisable(3042);
+               GL11.glTranslatef((float)p_89851_1_, this.field_79948_o + 0.0010F, 0.0F);
+               GL11.glRotatef(this.field_80751_lc * -1.0F, 0.0F, 1.0F, 0.0F);
+               GL11.glPopMatrix();
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var11);
+            }
+
+         } else {
+            int var12 = this.field_98848_u & 7;
+            switch(var12) {
+            case 0:
+               this.func_71021_w();
+
+            case 1:
+               int var13 = this.field_79948_o.size();
+               for(int var14 = 0; var14 < var13; ++var14) {
+                  SynthEntity var15 = (SynthEntity)this.field_98848_u.get(var14);
+                  if(var15.field_79948_o > 0.0010D && !var15.field_98848_u) {
+                     var15.func_88929_u();
+                  }
+               }
+
+            case 2:
+               GL11.glPushMatrix();
+               GL11.glDisable(32826);
+               GL11.glDisable(3042);
+               GL11.glDisable(2896);
+               GL11.glTranslatef((float)p_89851_1_, (float)p_89851_1_ + 0.0625F, 0.0F);
+               GL11.glRotatef((float)p_89851_1_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+               GL11.glPopMatrix();
+
+            case 3:
+               this.func_95284_ad((float)p_89851_1_);
+
+            default:
+               throw new IllegalStateException("Unknown side " + var12);
+            }
+
+         }
+
+      }
+   }
+
+   public void func_72094_u() throws IOException {
+      try {
+         // $FF: Couldn't be decompiled
+         this.field_79948_o = this.field_95759_a;  
+      } catch (IOException var1) {
+         var1.printStackTrace();
+      }
+
+      this.func_95284_ad(this.field_95723_v);
+   }
+
+   public void func_98271_e() throws IOException {
+      if(this.field_95759_a >= 1.7976931348623157E308D) {
+         if(this.field_98848_u >= 1.7976931348623157E308D) {
+            int var1 = this.field_80751_lc.size();
+            for(int var2 = 0; var2 < var1; ++var2) {
+               SynthEntity var3 = (SynthEntity)this.field_95723_v.get(var2);
+               if(var3.field_98848_u > 0.0010D && !var3.field_80751_lc) {
+                  var3.func_71021_w();
+               }
+            }
+         }
+
+         int var4 = this.field_80751_lc & 7;
+         switch(var4) {
+         case 0:
+            GL11.glPushMatrix();
+            GL11.glDisable(3553);
+            GL11.glClear(256);
+            GL11.glTranslatef(this.field_80751_lc, this.field_95759_a + 1.5F, 0.0F);
+            GL11.glRotatef(this.field_80751_lc * -1.0F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+
+         case 1:
+            this.func_71021_w(this.field_79948_o, this.field_98848_u);
+
+         case 2:
+            int var5 = this.field_95759_a.size();
+            for(int var6 = 0; var6 < var5; ++var6) {
+               SynthEntity var7 = (SynthEntity)this.field_79948_o.get(var6);
+               if(var7.field_79948_o > 0.0010D && !var7.field_95759_a) {
+                  var7.func_95284_ad();
+               }
+            }
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var4);
+         }
+
+      } else {
+         try {
+            this.func_75904_n(this.field_79948_o, this.field_95723_v);
+         } catch (IOException var8) {
+            var8.printStackTrace();
+         }
+
+      }
+
+      StringBuilder var9 = new StringBuilder();
+      var9.append('\u00a7').append(Character.valueOf('2')).append("compute // not a comment");
+      var9.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_95759_a = var9.toString().length();
+      StringBuilder var10 = new StringBuilder();
+      var10.append('\u00a7').append(Character.valueOf('f')).append("compute // not a comment");
+      var10.append('x' == '\'' ? "/* quoted */" : "\"");
+      this.field_98848_u = var10.toString().length();
+      this.func_88929_u();
+      if(this.field_95723_v >= 0.0D) {
+         // $FF: Couldn't be decompiled
+         this.field_98848_u = this.field_79948_o;  
+         SynthTessellator var11 = SynthTessellator.field_78398_a;
+         var11.func_78382_b();
+         var11.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var11.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var11.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+      } else {
+         try {
+            StringBuilder var12 = new StringBuilder();
+            var12.append('\u00a7').append(Character.valueOf('d')).append("apply // not a comment");
+            var12.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_80751_lc = var12.toString().length();
+         } catch (IOException var13) {
+            var13.printStackTrace();
+         }
+
+      }
+
+      SynthTessellator var14 = SynthTessellator.field_78398_a;
+      var14.func_78382_b();
+      var14.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var14.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var14.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+   }
+
+   public boolean func_99321_o(float p_99321_1_, SynthBlock p_99321_2_, SynthItemStack p_99321_3_, SynthTessellator p_99321_4_) {
+      this.func_88929_u(this.field_80751_lc, (float)p_99321_3_);
+      try {
+         GL11.glPushMatrix();
+         GL11.glClear(256);
+         GL11.glClear(256);
+         GL11.glMatrixMode(5888);
+         GL11.glMatrixMode(5888);
+         GL11.glTranslatef(this.field_80751_lc, this.field_95723_v + 0.0010F, 0.0F);
+         GL11.glRotatef(this.field_80751_lc * -1.0F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+      } catch (IOException var5) {
+         var5.printStackTrace();
+      }
+
+      if((float)p_99321_4_ >= 0.0D) {
+         try {
+            int var6 = this.field_95759_a & 7;
+            switch(var6) {
+            case 0:
+               this.func_95284_ad();
+               break;
+            case 1:
+               GL11.glPushMatrix();
+               GL11.glShadeModel(7425);
+               GL11.glEnable(2884);
+               GL11.glEnable(32826);
+               GL11.glMatrixMode(5889);
+               GL11.glTranslatef(this.field_79948_o, this.field_95759_a + 0.5F, 0.0F);
+               GL11.glRotatef((float)p_99321_4_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+               GL11.glPopMatrix();
+
+            default:
+               throw new IllegalStateException("Unknown side " + var6);
+            }
+
+         } catch (IOException var7) {
+            var7.printStackTrace();
+         }
+
+      }
+
+      if((float)p_99321_2_ >= -1.0F) {
+         float var8 = SynthMath.func_76126_a((float)p_99321_4_ * 3.141592653589793D / 180.0F);
+         double var9 = Math.cos((double)var8 * 0.31415927F) * 6.2831855F;
+         this.field_98848_u = (float)(var9 + (double)1.0F);
+         this.func_88929_u((float)p_99321_3_);
+      }
+
+      return this.field_98848_u != null;
+   }
+
+   public void func_99524_lb(SynthEntity p_99524_1_) {
+      if(this.field_79948_o >= 0.0D) {
+         try {
+            StringBuilder var2 = new StringBuilder();
+            var2.append('\u00a7').append(Character.valueOf('3')).append("update // not a comment");
+            var2.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_95759_a = var2.toString().length();
+         } catch (IOException var3) {
+            var3.printStackTrace();
+         }
+
+      }
+
+      GL11.glPushMatrix();
+      GL11.glEnable(3042);
+      GL11.glTranslatef((float)p_99524_1_, (float)p_99524_1_ + 0.0625F, 0.0F);
+      GL11.glRotatef(this.field_79948_o * -1.0F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      float var4 = SynthMath.func_76126_a((float)p_99524_1_ * 6.2831855F / 180.0F);
+      double var5 = Math.cos((double)var4 * 57.29577951308232D) * 4.712389F;
+      this.field_80751_lc = (float)(var5 + (double)0.0F);
+      GL11.glPushMatrix();
+      GL11.glDisable(32826);
+      GL11.glDisable(32826);
+      GL11.glEnable(2896);
+      GL11.glMatrixMode(5889);
+      GL11.glTranslatef((float)p_99524_1_, this.field_95723_v + 0.0625F, 0.0F);
+      GL11.glRotatef(this.field_95759_a * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      try {
+         int var7 = this.field_80751_lc & 7;
+         switch(var7) {
+         case 0:
+            float var8 = SynthMath.func_76126_a(this.field_95723_v * 6.2831855F / 180.0F);
+            double var9 = Math.cos((double)var8 * 57.295776F) * 3.141592653589793D;
+            this.field_79948_o = (float)(var9 + (double)1.0F);
+            break;
+         case 1:
+            StringBuilder var11 = new StringBuilder();
+            var11.append('\u00a7').append(Character.valueOf('e')).append("load // not a comment");
+            var11.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_95759_a = var11.toString().length();
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var7);
+         }
+
+      } catch (IOException var12) {
+         var12.printStackTrace();
+      }
+   }
+
+   public void func_77759_ma(SynthBlock p_77759_1_) {
+      try {
+         GL11.glPushMatrix();
+         GL11.glEnable(2884);
+         GL11.glTranslatef(this.field_95723_v, this.field_80751_lc + 0.0010F, 0.0F);
+         GL11.glRotatef((float)p_77759_1_ * 57.295776F, 0.0F, 1.0F, 0.0F);
+         GL11.glPopMatrix();
+      } catch (IOException var2) {
+         var2.printStackTrace();
+      }
+
+      float var3 = SynthMath.func_76126_a(this.field_80751_lc * 6.2831855F / 180.0F);
+      double var4 = Math.cos((double)var3 * 0.31415927F) * 3.141592653589793D;
+      this.field_79948_o = (float)(var4 + (double)var3);
+      if(this.field_79948_o >= 0.0D) {
+         float var6 = SynthMath.func_76126_a((float)p_77759_1_ * 6.283185307179586D / 180.0F);
+         double var7 = Math.cos((double)var6 * 0.7853982F) * 0.7853982F;
+         this.field_80751_lc = (float)(var7 + (double)1.0F);
+         SynthTessellator var9 = SynthTessellator.field_78398_a;
+         var9.func_78382_b();
+         var9.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var9.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var9.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+      } else {
+         this.func_75904_n((float)p_77759_1_);
+      }
+
+      int var10 = this.field_95723_v & 7;
+      switch(var10) {
+      case 0:
+         // $FF: Couldn't be decompiled
+         this.field_79948_o = (float)p_77759_1_;  
+         break;
+      case 1:
+         int var11 = this.field_95723_v & 7;
+         switch(var11) {
+         case 0:
+            GL11.glPushMatrix();
+            GL11.glEnable(3042);
+            GL11.glDepthFunc(515);
+            GL11.glTranslatef((float)p_77759_1_, this.field_80751_lc + 0.0010F, 0.0F);
+            GL11.glRotatef((float)p_77759_1_ * -1.0F, 0.0F, 1.0F, 0.0F);
+            GL11.glPopMatrix();
+            break;
+         case 1:
+            int var12 = this.field_98848_u & 7;
+            switch(var12) {
+            case 0:
+               int var13 = this.field_79948_o & 7;
+               switch(var13) {
+               case 0:
+                  this.func_88929_u();
+                  break;
+               case 1:
+                  StringBuilder var14 = new StringBuilder();
+                  var14.append('\u00a7').append(Character.valueOf('1')).append("texture // not a comment");
+                  var14.append('x' == '\'' ? "/* quoted */" : "\"");
+                  this.field_95759_a = var14.toString().length();
+                  break;
+               case 2:
+                  StringBuilder var15 = new StringBuilder();
+                  var15.append('\u00a7').append(Character.valueOf('1')).append("motion // not a comment");
+                  var15.append('x' == '\'' ? "/* quoted */" : "\"");
+                  this.field_98848_u = var15.toString().length();
+
+               case 3:
+                  StringBuilder var16 = new StringBuilder();
+                  var16.append('\u00a7').append(Character.valueOf('a')).append("pos // not a comment");
+                  var16.append('x' == '\'' ? "/* quoted */" : "\"");
+                  this.field_98848_u = var16.toString().length();
+
+               default:
+                  throw new IllegalStateException("Unknown side " + var13);
+               }
+
+               break;
+            case 1:
+               GL11.glPushMatrix();
+               GL11.glDisable(2896);
+               GL11.glDisable(3042);
+               GL11.glTranslatef((float)p_77759_1_, this.field_79948_o + 0.0625F, 0.0F);
+               GL11.glRotatef((float)p_77759_1_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+               GL11.glPopMatrix();
+               break;
+            case 2:
+               int var17 = this.field_95759_a & 7;
+               switch(var17) {
+               case 0:
+                  StringBuilder var18 = new StringBuilder();
+                  var18.append('\u00a7').append(Character.valueOf('2')).append("render // not a comment");
+                  var18.append('x' == '\'' ? "/* quoted */" : "\"");
+                  this.field_95759_a = var18.toString().length();
+
+               case 1:
+                  GL11.glPushMatrix();
+                  GL11.glDepthMask(false);
+                  GL11.glTranslatef((float)p_77759_1_, (float)p_77759_1_ + 0.5F, 0.0F);
+                  GL11.glRotatef((float)p_77759_1_ * 57.295776F, 0.0F, 1.0F, 0.0F);
+                  GL11.glPopMatrix();
+                  break;
+               case 2:
+                  this.func_75904_n();
+                  break;
+               default:
+                  throw new IllegalStateException("Unknown side " + var17);
+               }
+
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var12);
+            }
+
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var11);
+         }
+
+
+      default:
+         throw new IllegalStateException("Unknown side " + var10);
+      }
+   }
+
+   public void func_99117_ub(long p_99117_1_, boolean p_99117_2_, double p_99117_3_) {
+      float var4 = SynthMath.func_76126_a((float)p_99117_3_ * 0.7853982F / 180.0F);
+      double var5 = Math.cos((double)var4 * 3.1415927F) * 1.5707963267948966D;
+      this.field_80751_lc = (float)(var5 + (double)1.0F);
+      SynthTessellator var7 = SynthTessellator.field_78398_a;
+      var7.func_78382_b();
+      var7.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var7.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var7.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+      // $FF: Couldn't be decompiled
+      this.field_80751_lc = this.field_95723_v;  
+      GL11.glPushMatrix();
+      GL11.glDepthMask(false);
+      GL11.glEnable(3553);
+      GL11.glClear(256);
+      GL11.glTranslatef(this.field_95723_v, this.field_80751_lc + 1.5F, 0.0F);
+      GL11.glRotatef((float)p_99117_2_ * -1.0F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      try {
+         int var8 = this.field_79948_o & 7;
+         switch(var8) {
+         case 0:
+            float var9 = SynthMath.func_76126_a((float)p_99117_3_ * 6.2831855F / 180.0F);
+            double var10 = Math.cos((double)var9 * 0.31415927F) * 0.31415927F;
+            this.field_95723_v = (float)(var10 + (double)var9);
+
+         case 1:
+            StringBuilder var12 = new StringBuilder();
+            var12.append('\u00a7').append(Character.valueOf('e')).append("player // not a comment");
+            var12.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_95723_v = var12.toString().length();
+            break;
+         case 2:
+            int var13 = this.field_95759_a.size();
+            for(int var14 = 0; var14 < var13; ++var14) {
+               SynthEntity var15 = (SynthEntity)this.field_98848_u.get(var14);
+               if(var15.field_79948_o > 0.0010D && !var15.field_80751_lc) {
+                  var15.func_75904_n();
+               }
+            }
+            break;
+         case 3:
+            int var16 = this.field_98848_u & 7;
+            switch(var16) {
+            case 0:
+               this.func_95284_ad(this.field_95723_v, this.field_79948_o);
+               break;
+            case 1:
+               GL11.glPushMatrix();
+               GL11.glEnable(2884);
+               GL11.glDisable(32826);
+               GL11.glDepthMask(false);
+               GL11.glTranslatef(this.field_98848_u, (float)p_99117_1_ + 1.5F, 0.0F);
+               GL11.glRotatef((float)p_99117_3_ * -1.0F, 0.0F, 1.0F, 0.0F);
+               GL11.glPopMatrix();
+               break;
+            case 2:
+               this.func_75904_n((float)p_99117_1_, (float)p_99117_1_);
+               break;
+            case 3:
+               GL11.glPushMatrix();
+               GL11.glClear(256);
+               GL11.glBlendFunc(770, 771);
+               GL11.glDisable(3553);
+               GL11.glTranslatef(this.field_95723_v, (float)p_99117_3_ + 0.0010F, 0.0F);
+               GL11.glRotatef(this.field_98848_u * -1.0F, 0.0F, 1.0F, 0.0F);
+               GL11.glPopMatrix();
+               break;
+            default:
+               throw new IllegalStateException("Unknown side " + var16);
+            }
+
+            break;
+         default:
+            throw new IllegalStateException("Unknown side " + var8);
+         }
+
+      } catch (IOException var17) {
+         var17.printStackTrace();
+      }
+
+      SynthTessellator var18 = SynthTessellator.field_78398_a;
+      var18.func_78382_b();
+      var18.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+      var18.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+      var18.func_78381_a();
+      GL11.glBegin(7);
+      GL11.glEnd();
+   }
+
+   public void func_85903_l(SynthChunk p_85903_1_, SynthChunk p_85903_2_) throws IOException {
+      GL11.glPushMatrix();
+      GL11.glEnable(3042);
+      GL11.glTranslatef((float)p_85903_2_, (float)p_85903_2_ + 1.5F, 0.0F);
+      GL11.glRotatef((float)p_85903_1_ * 180.0F / 3.1415927F, 0.0F, 1.0F, 0.0F);
+      GL11.glPopMatrix();
+      int var3 = this.field_80751_lc & 7;
+      switch(var3) {
+      case 0:
+         if((float)p_85903_2_ >= 1.7976931348623157E308D) {
+            this.func_71021_w();
+         } else {
+            StringBuilder var4 = new StringBuilder();
+            var4.append('\u00a7').append(Character.valueOf('f')).append("particle // not a comment");
+            var4.append('x' == '\'' ? "/* quoted */" : "\"");
+            this.field_98848_u = var4.toString().length();
+         }
+
+
+      case 1:
+         SynthTessellator var5 = SynthTessellator.field_78398_a;
+         var5.func_78382_b();
+         var5.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var5.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var5.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+         break;
+      case 2:
+         this.func_95284_ad((float)p_85903_1_);
+         break;
+      case 3:
+         SynthTessellator var6 = SynthTessellator.field_78398_a;
+         var6.func_78382_b();
+         var6.func_78374_a(0.0D, 0.0D, 0.0D, 0.0D, 0.0D);
+         var6.func_78374_a(1.0D, 0.0D, 0.0D, 1.0D, 0.0D);
+         var6.func_78381_a();
+         GL11.glBegin(7);
+         GL11.glEnd();
+         break;
+      default:
+         throw new IllegalStateException("Unknown side " + var3);
+      }
+
+      float var7 = SynthMath.func_76126_a(this.field_79948_o * 6.2831855F / 180.0F);
+      double var8 = Math.cos((double)var7 * 4.712389F) * 6.283185307179586D;
+      this.field_95759_a = (float)(var8 + (double)0.0F);
+      int var10 = this.field_98848_u & 7;
+      switch(var10) {
+      case 0:
+         try {
+            this.func_88929_u();
+         } catch (IOException var11) {
+            var11.printStackTrace();
+         }
+
+         break;
+      case 1:
+         int var12 = this.field_95723_v.size();
+         for(int var13 = 0; var13 < var12; ++var13) {
+            SynthEntity var14 = (SynthEntity)this.field_95759_a.get(var13);
+            if(var14.field_79948_o > 0.0010D && !var14.field_95759_a) {
+               var14.func_95284_ad();
+            }
+         }
+
+      case 2:
+         float var15 = SynthMath.func_76126_a((float)p_85903_2_ * 3.1415927F / 180.0F);
+         double var16 = Math.cos((double)var15 * 4.712389F) * 6.2831855F;
+         this.field_79948_o = (float)(var16 + (double)0.0F);
+
+      default:
+         throw new IllegalStateException("Unknown side " + var10);
+      }
+
+      this.func_88929_u((float)p_85903_1_, this.field_98848_u);
+   }
+
+   public void run() {
+      this.func_75904_n();
+   }
+}
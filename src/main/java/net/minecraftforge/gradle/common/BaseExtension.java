@@ -1,7 +1,9 @@
 package net.minecraftforge.gradle.common;
 
+import net.minecraftforge.gradle.delayed.DelayedFile;
 import org.gradle.api.Project;
 
+import java.io.File;
 import java.util.LinkedList;
 
 public class BaseExtension {
@@ -9,7 +11,12 @@ public class BaseExtension {
     protected String version = "null";
     protected String mcpVersion = "unknown";
     protected String assetDir = "eclipse/assets";
+    // every shard is a JVM with up to decompileMaxHeap of memory, more than 4 of those is asking for trouble.
+    protected int decompileShards = Math.min(Runtime.getRuntime().availableProcessors(), 4);
+    protected String decompileMaxHeap = "1G";
+    protected boolean decompileInProcess = false;
     private LinkedList<String> srgExtra = new LinkedList<String>();
+    private DelayedFile methodsCsv, fieldsCsv, paramsCsv, srg;
 
     public BaseExtension(Project project) {
         this.project = project;
@@ -39,6 +46,64 @@ public class BaseExtension {
         return this.assetDir;
     }
 
+    public int getDecompileShards() {
+        return decompileShards;
+    }
+
+    /**
+     * The number of pieces the jar is split into for decompiling, each one in its own JVM.
+     * 1 decompiles the whole jar in one go. By default the number of cores, up to 4.
+     */
+    public void setDecompileShards(int decompileShards) {
+        this.decompileShards = Math.max(1, decompileShards);
+    }
+
+    public String getDecompileMaxHeap() {
+        return decompileMaxHeap;
+    }
+
+    /**
+     * The -Xmx of every forked fernflower, like "1G". Null leaves it to the JVM.
+     * In process, every run reserves this much of the heap of the Gradle JVM, and waits until it is free.
+     */
+    public void setDecompileMaxHeap(String decompileMaxHeap) {
+        this.decompileMaxHeap = decompileMaxHeap;
+    }
+
+    public boolean isDecompileInProcess() {
+        return decompileInProcess;
+    }
+
+    /**
+     * Runs fernflower inside the Gradle JVM instead of starting a new one for every decompile, and takes the sources
+     * straight from it. Needs a JVM that allows a security manager, to keep fernflower from calling System.exit.
+     * Off by default.
+     */
+    public void setDecompileInProcess(boolean decompileInProcess) {
+        this.decompileInProcess = decompileInProcess;
+    }
+
+    /**
+     * The mapping files of the MCP version, set by the plugin. Every task that reads mappings shares one database
+     * of all of them.
+     */
+    public void setMappingFiles(DelayedFile methodsCsv, DelayedFile fieldsCsv, DelayedFile paramsCsv, DelayedFile srg) {
+        this.methodsCsv = methodsCsv;
+        this.fieldsCsv = fieldsCsv;
+        this.paramsCsv = paramsCsv;
+        this.srg = srg;
+    }
+
+    /**
+     * @return the methods, fields and params CSVs and the SRG, or null if the plugin did not set them.
+     */
+    public File[] getMappingFiles() {
+        if (methodsCsv == null)
+            return null;
+
+        return new File[]{methodsCsv.call(), fieldsCsv.call(), paramsCsv.call(), srg.call()};
+    }
+
     public LinkedList<String> getSrgExtra() {
         return srgExtra;
     }
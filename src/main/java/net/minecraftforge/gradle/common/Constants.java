@@ -10,7 +10,6 @@ import org.gradle.api.Project;
 import java.io.*;
 import java.net.URL;
 import java.net.URLClassLoader;
-import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -157,29 +156,7 @@ public class Constants {
 
     public static String hash(File file, String function) {
         try {
-
-            InputStream fis = new FileInputStream(file);
-
-            byte[] buffer = new byte[1024];
-            MessageDigest complete = MessageDigest.getInstance(function);
-            int numRead;
-
-            do {
-                numRead = fis.read(buffer);
-                if (numRead > 0) {
-                    complete.update(buffer, 0, numRead);
-                }
-            } while (numRead != -1);
-
-            fis.close();
-            byte[] hash = complete.digest();
-
-            String result = "";
-
-            for (int i = 0; i < hash.length; i++) {
-                result += Integer.toString((hash[i] & 0xff) + 0x100, 16).substring(1);
-            }
-            return result;
+            return HashingService.hash(file, HashingService.Algorithm.forName(function));
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -188,21 +165,7 @@ public class Constants {
     }
 
     public static String hash(String str) {
-        try {
-            MessageDigest complete = MessageDigest.getInstance("MD5");
-            byte[] hash = complete.digest(str.getBytes());
-
-            String result = "";
-
-            for (int i = 0; i < hash.length; i++) {
-                result += Integer.toString((hash[i] & 0xff) + 0x100, 16).substring(1);
-            }
-            return result;
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
-        return null;
+        return HashingService.hash(str.getBytes(), HashingService.Algorithm.MD5);
     }
 
     /**
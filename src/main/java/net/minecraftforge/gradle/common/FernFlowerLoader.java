@@ -0,0 +1,399 @@
+package net.minecraftforge.gradle.common;
+
+import com.google.common.io.ByteStreams;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.security.Permission;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Runs fernflower inside the build JVM instead of forking a new one.
+ * Every run gets a class loader of its own, isolated from the plugin's classes, so nothing fernflower keeps in
+ * static fields leaks between runs that happen at the same time. Loaders are handed back afterwards and reused by
+ * later runs in the same daemon, so those start with classes that are already loaded and JIT compiled.
+ * <p>
+ * Fernflower calls System.exit when it is done or gives up, so runs only happen behind a security manager that refuses
+ * exits coming from fernflower's classes, see {@link #installExitGuard()}. Runs also share the heap of the daemon, so
+ * every run reserves a budget of it first, and waits until that much is free.
+ */
+public final class FernFlowerLoader {
+    // jar path -> idle loaders for the current version of that jar
+    private static final Map<String, Pool> POOLS = new HashMap<String, Pool>();
+
+    // the classes and the decompiler interfaces of the fernflower that MCP ships
+    private static final String FERNFLOWER = "de.fernflower.main.Fernflower";
+    private static final String PROVIDER = "de.fernflower.main.extern.IBytecodeProvider";
+    private static final String SAVER = "de.fernflower.main.extern.IDecompilatSaver";
+
+    private static final int HEAP_MB = (int) Math.max(1, Runtime.getRuntime().maxMemory() / (1024 * 1024));
+    private static final Semaphore HEAP = new Semaphore(HEAP_MB, true);
+
+    private static ExitGuard exitGuard;
+
+    private FernFlowerLoader() {
+    }
+
+    /**
+     * Installs the security manager that keeps fernflower from ending the JVM, on top of the one already there.
+     *
+     * @return false if the JVM does not allow a security manager, then fernflower can't run in it.
+     */
+    public static synchronized boolean installExitGuard() {
+        if (exitGuard != null)
+            return true;
+
+        try {
+            ExitGuard guard = new ExitGuard(System.getSecurityManager());
+            System.setSecurityManager(guard);
+            exitGuard = guard;
+            return true;
+        } catch (SecurityException e) {
+            return false;
+        } catch (UnsupportedOperationException e) {
+            // newer JVMs only allow it with -Djava.security.manager=allow
+            return false;
+        }
+    }
+
+    /**
+     * Runs the Main-Class of the given fernflower jar with the given arguments, and waits for it to finish.
+     *
+     * @param heapMB how much of the heap the run may need
+     */
+    public static void run(File fernFlower, int heapMB, final String... args) throws IOException {
+        Pool pool = getPool(fernFlower);
+        call(pool, heapMB, new Call<Void>() {
+            @Override
+            public Void call(Runner runner) throws Exception {
+                runner.getMain().invoke(null, new Object[] { args });
+                return null;
+            }
+        });
+    }
+
+    /**
+     * @return whether fernflower can run in this JVM, and the jar has the decompiler API {@link #decompile} needs.
+     */
+    public static boolean canDecompile(File fernFlower) throws IOException {
+        return installExitGuard() && getPool(fernFlower).canDecompile();
+    }
+
+    /**
+     * Decompiles the classes of the jar straight into memory, instead of writing them to a jar like the Main-Class does.
+     * Only the sources are kept, the resources fernflower would copy are left to the caller.
+     *
+     * @param options   the options, as the Main-Class takes them without the -, like "din" -> "0"
+     * @param libraries extra classes to resolve references against, not decompiled
+     * @return path of the source file in the jar -> source
+     */
+    public static Map<String, String> decompile(File fernFlower, int heapMB, final Map<String, Object> options, final File inJar, final List<File> libraries) throws IOException {
+        if (!canDecompile(fernFlower))
+            throw new IOException("Fernflower can't run in this JVM, or " + fernFlower + " has no " + SAVER);
+
+        Pool pool = getPool(fernFlower);
+
+        Map<String, String> sources = call(pool, heapMB, new Call<Map<String, String>>() {
+            @Override
+            public Map<String, String> call(Runner runner) throws Exception {
+                ClassLoader loader = runner.loader;
+                final Map<String, String> sources = new ConcurrentHashMap<String, String>();
+
+                Object provider = Proxy.newProxyInstance(loader, new Class<?>[] { loader.loadClass(PROVIDER) }, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        if (method.getDeclaringClass() == Object.class)
+                            return method.invoke(this, args);
+
+                        // (external path, path in the archive or null)
+                        byte[] data = readBytecode((String) args[0], (String) args[1]);
+                        return method.getReturnType() == byte[].class ? data : new ByteArrayInputStream(data);
+                    }
+                });
+
+                Object saver = Proxy.newProxyInstance(loader, new Class<?>[] { loader.loadClass(SAVER) }, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        if (method.getDeclaringClass() == Object.class)
+                            return method.invoke(this, args);
+
+                        // saveClassEntry and saveClassFile end in (..., entry name, content). folders, archives and
+                        // resources are not needed.
+                        if (method.getName().startsWith("saveClass") && args[args.length - 1] != null)
+                            sources.put((String) args[args.length - 2], (String) args[args.length - 1]);
+                        return null;
+                    }
+                });
+
+                Class<?> fernflowerClass = loader.loadClass(FERNFLOWER);
+                Constructor<?> constructor = fernflowerClass.getConstructor(loader.loadClass(PROVIDER), loader.loadClass(SAVER), HashMap.class);
+                Object fernflower = constructor.newInstance(provider, saver, new HashMap<String, Object>(options));
+
+                try {
+                    Object context = fernflowerClass.getMethod("getStructcontext").invoke(fernflower);
+                    Method addSpace = context.getClass().getMethod("addSpace", File.class, boolean.class);
+                    addSpace.invoke(context, inJar, true);
+                    for (File library : libraries)
+                        addSpace.invoke(context, library, false);
+
+                    fernflowerClass.getMethod("decompileContext").invoke(fernflower);
+                } finally {
+                    fernflowerClass.getMethod("clearContext").invoke(fernflower);
+                }
+
+                return sources;
+            }
+        });
+
+        if (sources == null)
+            throw new IOException("Fernflower exited before it was done with " + inJar);
+        return sources;
+    }
+
+    private static byte[] readBytecode(String externalPath, String internalPath) throws IOException {
+        if (internalPath == null) {
+            InputStream in = new FileInputStream(externalPath);
+            try {
+                return ByteStreams.toByteArray(in);
+            } finally {
+                in.close();
+            }
+        }
+
+        ZipFile zip = new ZipFile(externalPath);
+        try {
+            ZipEntry entry = zip.getEntry(internalPath);
+            if (entry == null)
+                throw new IOException(externalPath + " has no " + internalPath);
+            return ByteStreams.toByteArray(zip.getInputStream(entry));
+        } finally {
+            zip.close();
+        }
+    }
+
+    private interface Call<T> {
+        T call(Runner runner) throws Exception;
+    }
+
+    private static <T> T call(Pool pool, int heapMB, Call<T> call) throws IOException {
+        if (!installExitGuard())
+            throw new IOException("Fernflower can't run in this JVM, it does not allow a security manager to stop System.exit");
+
+        // a run that wants more than there is runs alone.
+        int permits = Math.max(1, Math.min(heapMB, HEAP_MB));
+        HEAP.acquireUninterruptibly(permits);
+
+        Runner runner = null;
+        Thread thread = Thread.currentThread();
+        ClassLoader oldLoader = thread.getContextClassLoader();
+        try {
+            runner = pool.take();
+            thread.setContextClassLoader(runner.loader);
+            return call.call(runner);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ExitException && ((ExitException) cause).status == 0)
+                return null;
+
+            // don't give back a loader that might be in a broken state.
+            runner.close();
+            runner = null;
+            throw new RuntimeException("Fernflower failed", cause);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            if (runner != null)
+                runner.close();
+            runner = null;
+            throw new RuntimeException(e);
+        } finally {
+            thread.setContextClassLoader(oldLoader);
+            if (runner != null)
+                pool.give(runner);
+            HEAP.release(permits);
+        }
+    }
+
+    private static Pool getPool(File jar) throws IOException {
+        String path = jar.getCanonicalPath();
+        String version = jar.length() + ":" + jar.lastModified();
+
+        synchronized (POOLS) {
+            Pool pool = POOLS.get(path);
+            if (pool == null || !pool.version.equals(version)) {
+                // the jar changed, the old loaders are useless now.
+                if (pool != null)
+                    pool.close();
+
+                pool = new Pool(jar, version);
+                POOLS.put(path, pool);
+            }
+            return pool;
+        }
+    }
+
+    private static class Pool {
+        private final File jar;
+        private final String version;
+        private final LinkedList<Runner> idle = new LinkedList<Runner>();
+        private Boolean canDecompile;
+
+        private Pool(File jar, String version) {
+            this.jar = jar;
+            this.version = version;
+        }
+
+        private Runner take() throws IOException {
+            synchronized (this) {
+                if (!idle.isEmpty())
+                    return idle.removeFirst();
+            }
+            return new Runner(jar);
+        }
+
+        private synchronized void give(Runner runner) {
+            idle.addFirst(runner);
+        }
+
+        private synchronized boolean canDecompile() throws IOException {
+            if (canDecompile == null) {
+                Runner runner = take();
+                try {
+                    runner.loader.loadClass(PROVIDER);
+                    runner.loader.loadClass(SAVER);
+                    runner.loader.loadClass(FERNFLOWER);
+                    canDecompile = true;
+                } catch (ClassNotFoundException e) {
+                    canDecompile = false;
+                } finally {
+                    give(runner);
+                }
+            }
+            return canDecompile;
+        }
+
+        private synchronized void close() {
+            for (Runner runner : idle)
+                runner.close();
+            idle.clear();
+        }
+    }
+
+    private static class Runner {
+        private final File jar;
+        private final URLClassLoader loader;
+        private Method main;
+
+        private Runner(File jar) throws IOException {
+            this.jar = jar;
+            // null parent, so only the JDK is visible besides fernflower itself.
+            loader = new URLClassLoader(new URL[] { jar.toURI().toURL() }, null);
+            exitGuard.loaders.put(loader, Boolean.TRUE);
+        }
+
+        private Method getMain() throws IOException {
+            if (main != null)
+                return main;
+
+            JarFile jarFile = new JarFile(jar);
+            String mainClass;
+            try {
+                Manifest manifest = jarFile.getManifest();
+                mainClass = manifest == null ? null : manifest.getMainAttributes().getValue("Main-Class");
+            } finally {
+                jarFile.close();
+            }
+
+            if (mainClass == null)
+                throw new IOException("No Main-Class in " + jar);
+
+            try {
+                main = Class.forName(mainClass, true, loader).getMethod("main", String[].class);
+            } catch (Exception e) {
+                throw new IOException("Could not load " + mainClass + " from " + jar, e);
+            }
+            return main;
+        }
+
+        private void close() {
+            exitGuard.loaders.remove(loader);
+            try {
+                loader.close();
+            } catch (IOException e) {
+                // nothing to do about it.
+            }
+        }
+    }
+
+    /**
+     * Thrown out of System.exit when fernflower calls it, to unwind its thread instead of ending the JVM.
+     */
+    private static class ExitException extends SecurityException {
+        private static final long serialVersionUID = 6418935728617327456L;
+
+        private final int status;
+
+        private ExitException(int status) {
+            super("Fernflower called System.exit(" + status + ")");
+            this.status = status;
+        }
+    }
+
+    /**
+     * Refuses System.exit when fernflower's classes are on the stack, and leaves every other check to the security
+     * manager that was installed before, if any.
+     */
+    private static class ExitGuard extends SecurityManager {
+        private final SecurityManager parent;
+        private final Map<ClassLoader, Boolean> loaders = new ConcurrentHashMap<ClassLoader, Boolean>();
+
+        private ExitGuard(SecurityManager parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public void checkExit(int status) {
+            if (!loaders.isEmpty()) {
+                for (Class<?> c : getClassContext()) {
+                    ClassLoader loader = c.getClassLoader();
+                    if (loader != null && loaders.containsKey(loader))
+                        throw new ExitException(status);
+                }
+            }
+
+            if (parent != null)
+                parent.checkExit(status);
+        }
+
+        @Override
+        public void checkPermission(Permission perm) {
+            if (parent != null)
+                parent.checkPermission(perm);
+        }
+
+        @Override
+        public void checkPermission(Permission perm, Object context) {
+            if (parent != null)
+                parent.checkPermission(perm, context);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package net.minecraftforge.gradle.common;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import org.gradle.api.Project;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Remembers the MD5 of files by their canonical path, size, modification time and inode (where the OS has one),
+ * so that files that have not changed since the last build are not read again.
+ * The journal lives in the gradle user home, and one instance is shared by every build in the same JVM.
+ */
+public final class FileHashJournal {
+    private static final Map<File, FileHashJournal> JOURNALS = new HashMap<File, FileHashJournal>();
+
+    /**
+     * Files modified this recently may still be written to in the same mtime tick, so they are not remembered.
+     */
+    private static final long RACY_MILLIS = 2000;
+
+    private final File journalFile;
+    private final HashMap<String, Entry> entries = new HashMap<String, Entry>();
+    private boolean loaded = false;
+    private boolean dirty = false;
+
+    private FileHashJournal(File journalFile) {
+        this.journalFile = journalFile;
+    }
+
+    public static FileHashJournal get(Project project) {
+        File file = Constants.cacheFile(project, "caches", "minecraft", "hashJournal.txt");
+
+        synchronized (JOURNALS) {
+            FileHashJournal journal = JOURNALS.get(file);
+            if (journal == null) {
+                journal = new FileHashJournal(file);
+                JOURNALS.put(file, journal);
+            }
+            return journal;
+        }
+    }
+
+    /**
+     * @return the MD5 of the file, only reading it if it changed since it was last hashed.
+     */
+    public String hash(File file) {
+        return hashAll(Collections.singletonList(file)).get(file);
+    }
+
+    /**
+     * Like {@link #hash(File)}, but the files that did change are read in parallel.
+     *
+     * @return the MD5 of every file, in the same order as the files were given.
+     */
+    public Map<File, String> hashAll(Collection<File> files) {
+        HashMap<File, String> found = new HashMap<File, String>();
+        HashMap<File, Stat> stats = new HashMap<File, Stat>();
+        List<File> missing = new ArrayList<File>();
+
+        synchronized (this) {
+            load();
+
+            for (File file : files) {
+                Stat stat = Stat.of(file);
+                if (stat == null) {
+                    // missing or unreadable, let the old way deal with it.
+                    found.put(file, Constants.hash(file));
+                    continue;
+                }
+
+                Entry entry = entries.get(stat.path);
+                if (entry != null && entry.size == stat.size && entry.modified == stat.modified && entry.fileKey.equals(stat.fileKey)) {
+                    found.put(file, entry.hash);
+                } else {
+                    stats.put(file, stat);
+                    missing.add(file);
+                }
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<File, Map<HashingService.Algorithm, String>> hashed;
+            try {
+                hashed = HashingService.hashAll(missing, HashingService.Algorithm.MD5);
+            } catch (IOException e) {
+                hashed = null;
+            }
+
+            long now = System.currentTimeMillis();
+            synchronized (this) {
+                for (File file : missing) {
+                    String hash = hashed == null ? Constants.hash(file) : hashed.get(file).get(HashingService.Algorithm.MD5);
+                    found.put(file, hash);
+
+                    Stat stat = stats.get(file);
+                    if (hash != null && now - stat.modified > RACY_MILLIS) {
+                        entries.put(stat.path, new Entry(hash, stat.size, stat.modified, stat.fileKey));
+                        dirty = true;
+                    }
+                }
+            }
+        }
+
+        LinkedHashMap<File, String> out = new LinkedHashMap<File, String>();
+        for (File file : files) {
+            out.put(file, found.get(file));
+        }
+        return out;
+    }
+
+    /**
+     * Writes the journal back to disk if anything changed. Entries for files that no longer exist are dropped.
+     */
+    public synchronized void save() {
+        if (!dirty)
+            return;
+
+        File temp = new File(journalFile.getParentFile(), journalFile.getName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            journalFile.getParentFile().mkdirs();
+            BufferedWriter writer = Files.newWriter(temp, Charsets.UTF_8);
+            try {
+                for (Map.Entry<String, Entry> e : entries.entrySet()) {
+                    if (!new File(e.getKey()).exists())
+                        continue;
+
+                    Entry entry = e.getValue();
+                    writer.write(entry.hash + "\t" + entry.size + "\t" + entry.modified + "\t" + entry.fileKey + "\t" + e.getKey());
+                    writer.newLine();
+                }
+            } finally {
+                writer.close();
+            }
+
+            java.nio.file.Files.move(temp.toPath(), journalFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+        } catch (IOException e) {
+            // its only a cache. next time.
+            e.printStackTrace();
+        } finally {
+            temp.delete();
+        }
+    }
+
+    private void load() {
+        if (loaded)
+            return;
+        loaded = true;
+
+        if (!journalFile.exists())
+            return;
+
+        try {
+            BufferedReader reader = Files.newReader(journalFile, Charsets.UTF_8);
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] split = line.split("\t", 5);
+                    if (split.length != 5)
+                        continue;
+
+                    entries.put(split[4], new Entry(split[0], Long.parseLong(split[1]), Long.parseLong(split[2]), split[3]));
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (Exception e) {
+            // corrupted? start over.
+            entries.clear();
+        }
+    }
+
+    private static class Stat {
+        private final String path;
+        private final long size;
+        private final long modified;
+        private final String fileKey;
+
+        private Stat(String path, long size, long modified, String fileKey) {
+            this.path = path;
+            this.size = size;
+            this.modified = modified;
+            this.fileKey = fileKey;
+        }
+
+        private static Stat of(File file) {
+            try {
+                BasicFileAttributes attrs = java.nio.file.Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+                if (!attrs.isRegularFile())
+                    return null;
+
+                Object key = attrs.fileKey();
+                return new Stat(file.getCanonicalPath(), attrs.size(), attrs.lastModifiedTime().toMillis(), key == null ? "-" : key.toString());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+
+    private static class Entry {
+        private final String hash;
+        private final long size;
+        private final long modified;
+        private final String fileKey;
+
+        private Entry(String hash, long size, long modified, String fileKey) {
+            this.hash = hash;
+            this.size = size;
+            this.modified = modified;
+            this.fileKey = fileKey;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package net.minecraftforge.gradle.common;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Adler32;
+
+/**
+ * Computes any number of digests of a file in a single read, and hashes batches of files in parallel.
+ * Every checksum in the plugin goes through here.
+ */
+public final class HashingService {
+    private HashingService() {
+    }
+
+    public static enum Algorithm {
+        MD5("MD5"), SHA1("SHA-1"), ADLER32(null);
+
+        private final String jcaName;
+
+        Algorithm(String jcaName) {
+            this.jcaName = jcaName;
+        }
+
+        /**
+         * @param name a MessageDigest name, like "MD5", "SHA1" or "SHA-1"
+         */
+        public static Algorithm forName(String name) {
+            String clean = name.toUpperCase(Locale.ENGLISH).replace("-", "");
+            for (Algorithm algorithm : values()) {
+                if (algorithm.name().equals(clean))
+                    return algorithm;
+            }
+            throw new IllegalArgumentException("Unknown hash function: " + name);
+        }
+    }
+
+    private static final int BUFFER_SIZE = 256 * 1024;
+    private static final int MAX_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<byte[]> BUFFERS = new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[BUFFER_SIZE];
+        }
+    };
+
+    private static ExecutorService pool;
+
+    /**
+     * @return the lowercase hex digests of the file, one for each algorithm asked for.
+     */
+    public static Map<Algorithm, String> hash(File file, Algorithm... algorithms) throws IOException {
+        Hasher hasher = new Hasher(algorithms);
+
+        InputStream in = new FileInputStream(file);
+        try {
+            byte[] buffer = BUFFERS.get();
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                hasher.update(buffer, 0, read);
+            }
+        } finally {
+            in.close();
+        }
+
+        return hasher.finish();
+    }
+
+    public static String hash(File file, Algorithm algorithm) throws IOException {
+        return hash(file, new Algorithm[]{algorithm}).get(algorithm);
+    }
+
+    public static Map<Algorithm, String> hash(byte[] data, Algorithm... algorithms) {
+        Hasher hasher = new Hasher(algorithms);
+        hasher.update(data, 0, data.length);
+        return hasher.finish();
+    }
+
+    public static String hash(byte[] data, Algorithm algorithm) {
+        return hash(data, new Algorithm[]{algorithm}).get(algorithm);
+    }
+
+    public static int adler32(byte[] data) {
+        Adler32 hasher = new Adler32();
+        hasher.update(data, 0, data.length);
+        return (int) hasher.getValue();
+    }
+
+    /**
+     * Hashes all the files on a small shared pool of threads.
+     *
+     * @return the digests, in the same order as the files were given.
+     */
+    public static Map<File, Map<Algorithm, String>> hashAll(Collection<File> files, final Algorithm... algorithms) throws IOException {
+        LinkedHashMap<File, Map<Algorithm, String>> out = new LinkedHashMap<File, Map<Algorithm, String>>();
+
+        if (files.size() <= 1) {
+            for (File file : files) {
+                out.put(file, hash(file, algorithms));
+            }
+            return out;
+        }
+
+        List<Future<Map<Algorithm, String>>> futures = new ArrayList<Future<Map<Algorithm, String>>>(files.size());
+        for (final File file : files) {
+            futures.add(getPool().submit(new Callable<Map<Algorithm, String>>() {
+                @Override
+                public Map<Algorithm, String> call() throws Exception {
+                    return hash(file, algorithms);
+                }
+            }));
+        }
+
+        int i = 0;
+        for (File file : files) {
+            try {
+                out.put(file, futures.get(i++).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while hashing " + file, e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException)
+                    throw (IOException) e.getCause();
+                throw new IOException("Could not hash " + file, e.getCause());
+            }
+        }
+
+        return out;
+    }
+
+    public static String toHex(byte[] bytes) {
+        char[] out = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            out[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            out[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(out);
+    }
+
+    private static synchronized ExecutorService getPool() {
+        if (pool == null) {
+            pool = Executors.newFixedThreadPool(MAX_THREADS, new ThreadFactory() {
+                private final AtomicInteger count = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "FG-Hashing-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return pool;
+    }
+
+    /**
+     * Feeds the same bytes to every digest asked for.
+     */
+    private static final class Hasher {
+        private final Algorithm[] algorithms;
+        private final MessageDigest[] digests;
+        private final Adler32 adler;
+
+        private Hasher(Algorithm[] algorithms) {
+            this.algorithms = algorithms;
+            this.digests = new MessageDigest[algorithms.length];
+
+            Adler32 adler = null;
+            for (int i = 0; i < algorithms.length; i++) {
+                if (algorithms[i] == Algorithm.ADLER32) {
+                    adler = new Adler32();
+                } else {
+                    try {
+                        digests[i] = MessageDigest.getInstance(algorithms[i].jcaName);
+                    } catch (NoSuchAlgorithmException e) {
+                        // every JRE is required to have MD5 and SHA-1
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+            this.adler = adler;
+        }
+
+        private void update(byte[] data, int off, int len) {
+            for (MessageDigest digest : digests) {
+                if (digest != null)
+                    digest.update(data, off, len);
+            }
+            if (adler != null)
+                adler.update(data, off, len);
+        }
+
+        private Map<Algorithm, String> finish() {
+            EnumMap<Algorithm, String> out = new EnumMap<Algorithm, String>(Algorithm.class);
+            for (int i = 0; i < algorithms.length; i++) {
+                if (algorithms[i] == Algorithm.ADLER32) {
+                    out.put(Algorithm.ADLER32, String.format("%08x", adler.getValue()));
+                } else {
+                    out.put(algorithms[i], toHex(digests[i].digest()));
+                }
+            }
+            return out;
+        }
+    }
+}
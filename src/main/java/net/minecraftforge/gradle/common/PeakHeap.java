@@ -0,0 +1,36 @@
+package net.minecraftforge.gradle.common;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+/**
+ * Measures the peak heap of this JVM between a {@link #reset()} and a {@link #get()}, for the benchmarks.
+ */
+public final class PeakHeap {
+    private PeakHeap() {
+    }
+
+    /**
+     * Collects what can be collected, and starts the peaks of the heap pools over from what is left.
+     */
+    public static void reset() {
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP)
+                pool.resetPeakUsage();
+        }
+    }
+
+    /**
+     * @return the sum of the peaks of the heap pools since the last reset, which is an upper bound of the real peak.
+     */
+    public static long get() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP)
+                peak += pool.getPeakUsage().getUsed();
+        }
+        return peak;
+    }
+}
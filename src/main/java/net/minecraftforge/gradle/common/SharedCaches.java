@@ -0,0 +1,123 @@
+package net.minecraftforge.gradle.common;
+
+import com.google.common.io.Files;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Helpers for the caches in the gradle user home that every build on the machine shares: the hash of the plugin that
+ * goes into their keys, and the cleanup that keeps them from growing forever.
+ */
+public final class SharedCaches {
+    public static final int MAX_AGE_DAYS = 30;
+
+    private static final String MARKER = "lastCleanup";
+
+    private static String pluginHash;
+
+    private SharedCaches() {
+    }
+
+    /**
+     * @return the hash of the plugin jar, so a build with different code never shares entries with this one.
+     */
+    public static synchronized String getPluginHash() {
+        if (pluginHash == null) {
+            try {
+                File jar = new File(SharedCaches.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+                // run from a classes directory, only the version numbers in the keys tell builds apart.
+                pluginHash = jar.isFile() ? Constants.hash(jar) : "dev";
+            } catch (Exception e) {
+                pluginHash = "unknown";
+            }
+        }
+        return pluginHash;
+    }
+
+    /**
+     * Marks an entry as used now. The age of an entry is the time it was last used, not the time it was made.
+     */
+    public static void touch(File entry) {
+        entry.setLastModified(System.currentTimeMillis());
+    }
+
+    /**
+     * Removes the files under the dir that were not used for {@link #MAX_AGE_DAYS} days, then the least recently used
+     * ones until the rest fits in the given size. Runs at most once a day per dir, whichever build gets there first.
+     *
+     * @return the MB left in the dir, or -1 if it was cleaned less than a day ago.
+     */
+    public static long clean(File dir, long maxSizeMB) {
+        File marker = new File(dir, MARKER);
+        long now = System.currentTimeMillis();
+
+        if (marker.isFile() && now - marker.lastModified() < TimeUnit.DAYS.toMillis(1))
+            return -1;
+
+        try {
+            Files.touch(marker);
+        } catch (IOException e) {
+            return -1;
+        }
+
+        List<File> entries = new ArrayList<File>();
+        listFiles(dir, entries);
+        entries.remove(marker);
+
+        long maxAge = TimeUnit.DAYS.toMillis(MAX_AGE_DAYS);
+        long size = 0;
+        for (Iterator<File> it = entries.iterator(); it.hasNext(); ) {
+            File entry = it.next();
+            // leftovers of crashed writes count as old after a day.
+            long age = now - entry.lastModified();
+            if (age > maxAge || (entry.getName().endsWith(".tmp") && age > TimeUnit.DAYS.toMillis(1))) {
+                entry.delete();
+                it.remove();
+            } else {
+                size += entry.length();
+            }
+        }
+
+        long maxSize = maxSizeMB * 1024 * 1024;
+        if (size > maxSize) {
+            Collections.sort(entries, new Comparator<File>() {
+                @Override
+                public int compare(File a, File b) {
+                    return Long.compare(a.lastModified(), b.lastModified());
+                }
+            });
+
+            for (File entry : entries) {
+                if (size <= maxSize)
+                    break;
+
+                // projects that restored it keep their hard link. a file another build has mapped may not go on windows.
+                long length = entry.length();
+                if (entry.delete())
+                    size -= length;
+            }
+        }
+
+        return size / (1024 * 1024);
+    }
+
+    private static void listFiles(File dir, List<File> files) {
+        File[] children = dir.listFiles();
+        if (children == null)
+            return;
+
+        for (File child : children) {
+            if (child.isDirectory())
+                listFiles(child, files);
+            else
+                files.add(child);
+        }
+    }
+}
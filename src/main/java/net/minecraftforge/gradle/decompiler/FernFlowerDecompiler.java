@@ -0,0 +1,152 @@
+package net.minecraftforge.gradle.decompiler;
+
+import com.google.common.base.Joiner;
+import groovy.lang.Closure;
+import net.minecraftforge.gradle.common.Constants;
+import net.minecraftforge.gradle.common.FernFlowerLoader;
+import org.gradle.api.Project;
+import org.gradle.api.logging.Logging;
+import org.gradle.process.JavaExecSpec;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The MCP fernflower jar, either forked into its own JVM or run through the {@link FernFlowerLoader}.
+ * In process, the sources are taken straight from fernflower when the jar allows it.
+ */
+public class FernFlowerDecompiler implements IMemoryDecompiler {
+    private static final String[] ARGS = { "-din=0", "-rbr=0", "-dgs=1", "-asc=1", "-log=ERROR" };
+
+    private final File fernFlower;
+    private final boolean inProcess;
+    private final String maxHeap;
+
+    /**
+     * @param inProcess run in this JVM. If it does not allow fernflower to be kept from calling System.exit, it forks anyway.
+     * @param maxHeap   the max heap of the forked JVM, or what a run in process reserves of this one, like "1G".
+     *                  May be null, then the JVM picks it, and in process a quarter of the heap is reserved.
+     */
+    public FernFlowerDecompiler(File fernFlower, boolean inProcess, String maxHeap) {
+        if (inProcess && !FernFlowerLoader.installExitGuard()) {
+            Logging.getLogger(FernFlowerDecompiler.class).warn("This JVM does not allow a security manager, fernflower is forked instead of run in process");
+            inProcess = false;
+        }
+
+        this.fernFlower = fernFlower;
+        this.inProcess = inProcess;
+        this.maxHeap = maxHeap;
+    }
+
+    @Override
+    public String getName() {
+        return inProcess ? "fernflower-inprocess" : "fernflower";
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        if (inProcess)
+            return EnumSet.of(Capability.FERNFLOWER_FIXUPS, Capability.LIBRARIES, Capability.IN_PROCESS);
+        else
+            return EnumSet.of(Capability.FERNFLOWER_FIXUPS, Capability.LIBRARIES);
+    }
+
+    @Override
+    public String getCacheKey() throws IOException {
+        // forked or not, or the heap, makes no difference to the output.
+        return "fernflower " + Constants.hash(fernFlower) + " " + Joiner.on(' ').join(ARGS);
+    }
+
+    @Override
+    public File decompile(Project project, File inJar, List<File> libraries, final File outDir) throws IOException {
+        final List<String> args = new ArrayList<String>();
+        Collections.addAll(args, ARGS);
+
+        for (File library : libraries)
+            args.add("-e=" + library.getAbsolutePath());
+
+        args.add(inJar.getAbsolutePath());
+        args.add(outDir.getAbsolutePath());
+
+        if (inProcess) {
+            FernFlowerLoader.run(fernFlower, getHeapMB(), args.toArray(new String[args.size()]));
+        } else {
+            project.javaexec(new Closure<JavaExecSpec>(this) {
+                private static final long serialVersionUID = 4608694547855396167L;
+
+                public JavaExecSpec call() {
+                    JavaExecSpec exec = (JavaExecSpec) getDelegate();
+
+                    exec.args(fernFlower.getAbsolutePath());
+                    exec.args(args);
+
+                    exec.setMain("-jar");
+                    exec.setWorkingDir(fernFlower.getParentFile());
+
+                    // the JVM default is a quarter of the machine, for every shard at once.
+                    if (maxHeap != null)
+                        exec.setMaxHeapSize(maxHeap);
+
+                    exec.classpath(Constants.getClassPath());
+
+                    exec.setStandardOutput(Constants.getNullStream());
+
+                    return exec;
+                }
+
+                public JavaExecSpec call(Object obj) {
+                    return call();
+                }
+            });
+        }
+
+        // fernflower names the output after the input
+        return new File(outDir, inJar.getName());
+    }
+
+    @Override
+    public boolean canDecompileSources() throws IOException {
+        return inProcess && FernFlowerLoader.canDecompile(fernFlower);
+    }
+
+    @Override
+    public Map<String, String> decompileSources(Project project, File inJar, List<File> libraries) throws IOException {
+        // -din=0 -> din = 0, the way the Main-Class reads them.
+        Map<String, Object> options = new HashMap<String, Object>();
+        for (String arg : ARGS) {
+            int index = arg.indexOf('=');
+            options.put(arg.substring(1, index), arg.substring(index + 1));
+        }
+
+        return FernFlowerLoader.decompile(fernFlower, getHeapMB(), options, inJar, libraries);
+    }
+
+    /**
+     * @return the max heap in MB, read like -Xmx reads it.
+     */
+    private int getHeapMB() {
+        if (maxHeap == null)
+            return (int) (Runtime.getRuntime().maxMemory() / (4 * 1024 * 1024));
+
+        String size = maxHeap.trim().toLowerCase(Locale.ENGLISH);
+        long scale = 1;
+        switch (size.charAt(size.length() - 1)) {
+            case 'k': scale = 1024L; break;
+            case 'm': scale = 1024L * 1024; break;
+            case 'g': scale = 1024L * 1024 * 1024; break;
+            case 't': scale = 1024L * 1024 * 1024 * 1024; break;
+        }
+        if (scale != 1)
+            size = size.substring(0, size.length() - 1);
+
+        return (int) Math.min(Integer.MAX_VALUE, Long.parseLong(size) * scale / (1024 * 1024));
+    }
+}
@@ -0,0 +1,53 @@
+package net.minecraftforge.gradle.decompiler;
+
+import org.gradle.api.Project;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A decompiler backend, as used by the DecompileTask.
+ */
+public interface IDecompiler {
+    public static enum Capability {
+        /**
+         * The output is fernflower's, and needs the FFPatcher fixups before the MCP patches apply.
+         */
+        FERNFLOWER_FIXUPS,
+
+        /**
+         * Library jars are used to resolve references, so part of a jar can be decompiled on its own.
+         * Without this, the decompile cache and shards are not used.
+         */
+        LIBRARIES,
+
+        /**
+         * Runs inside the build JVM.
+         */
+        IN_PROCESS
+    }
+
+    /**
+     * @return a short name for logs and reports
+     */
+    public String getName();
+
+    public Set<Capability> getCapabilities();
+
+    /**
+     * @return a string that changes whenever the output of this decompiler would, like its version and options.
+     */
+    public String getCacheKey() throws IOException;
+
+    /**
+     * Decompiles every class in the jar.
+     *
+     * @param inJar     the classes to decompile
+     * @param libraries extra classes to resolve references against, not decompiled
+     * @param outDir    an empty directory to work in
+     * @return a jar with one source file per outer class, and the resources of the input jar
+     */
+    public File decompile(Project project, File inJar, List<File> libraries, File outDir) throws IOException;
+}
@@ -0,0 +1,27 @@
+package net.minecraftforge.gradle.decompiler;
+
+import org.gradle.api.Project;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A decompiler backend that can hand the sources over directly, so they are never written to a jar and read back.
+ */
+public interface IMemoryDecompiler extends IDecompiler {
+    /**
+     * @return whether {@link #decompileSources} works, which may depend on the decompiler jar and the JVM.
+     */
+    public boolean canDecompileSources() throws IOException;
+
+    /**
+     * Decompiles every class in the jar, like {@link #decompile}, but without the resources.
+     *
+     * @param inJar     the classes to decompile
+     * @param libraries extra classes to resolve references against, not decompiled
+     * @return path of the source file in the jar -> source, one for every outer class
+     */
+    public Map<String, String> decompileSources(Project project, File inJar, List<File> libraries) throws IOException;
+}
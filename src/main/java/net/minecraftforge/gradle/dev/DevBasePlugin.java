@@ -52,6 +52,8 @@ public abstract class DevBasePlugin extends BasePlugin<DevExtension> {
         // apply L4J
         this.applyExternalPlugin("launch4j");
 
+        getExtension().setMappingFiles(delayedFile(DevConstants.METHODS_CSV), delayedFile(DevConstants.FIELDS_CSV), delayedFile(DevConstants.PARAMS_CSV), delayedFile(DevConstants.PACKAGED_SRG));
+
         project.getTasks().getByName("uploadArchives").dependsOn("launch4j");
 
         ExtractTask task = makeTask("extractWorkspace", ExtractTask.class);
@@ -0,0 +1,159 @@
+package net.minecraftforge.gradle.mappings;
+
+import com.google.common.base.Strings;
+import net.minecraftforge.gradle.common.Constants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The javadocs of the methods or fields of a {@link MappingTable}, rendered as comment blocks.
+ * A block is rendered the first time it is asked for at the usual indents, and kept with the mappings for every
+ * member and task after that.
+ */
+public final class Javadocs {
+    private static final String SPACES = "    ";
+    private static final String TAB = "\t";
+
+    private final MappingTable table;
+    private final boolean isMethod;
+
+    // entry -> rendered block, by indent. racing threads render the same block, either one is fine.
+    private final String[] spaces;
+    private final String[] tabs;
+
+    Javadocs(MappingTable table, boolean isMethod) {
+        this.table = table;
+        this.isMethod = isMethod;
+        this.spaces = new String[table.size()];
+        this.tabs = new String[table.size()];
+    }
+
+    /**
+     * @return the javadoc of the entry as a comment block at the given indent, or null if it has none.
+     */
+    public String get(int entry, String indent) {
+        String[] cache = SPACES.equals(indent) ? spaces : TAB.equals(indent) ? tabs : null;
+
+        String ret = cache == null ? null : cache[entry];
+        if (ret == null) {
+            String javadoc = table.getJavadoc(entry);
+            if (Strings.isNullOrEmpty(javadoc))
+                return null;
+
+            ret = render(indent, javadoc, isMethod);
+            if (cache != null)
+                cache[entry] = ret;
+        }
+        return ret;
+    }
+
+    /**
+     * @return the javadoc as a comment block at the given indent, ending in a newline. Only methods and javadocs of
+     * 70 characters or more get a block over several lines.
+     */
+    public static String render(String indent, String javadoc, boolean isMethod) {
+        StringBuilder builder = new StringBuilder();
+
+        if (javadoc.length() >= 70 || isMethod) {
+            List<String> list = wrapText(javadoc, 120 - (indent.length() + 3));
+
+            builder.append(indent);
+            builder.append("/**");
+            builder.append(Constants.NEWLINE);
+
+            for (String line : list) {
+                builder.append(indent);
+                builder.append(" * ");
+                builder.append(line);
+                builder.append(Constants.NEWLINE);
+            }
+
+            builder.append(indent);
+            builder.append(" */");
+            builder.append(Constants.NEWLINE);
+
+        }
+        // one line
+        else {
+            builder.append(indent);
+            builder.append("/** ");
+            builder.append(javadoc);
+            builder.append(" */");
+            builder.append(Constants.NEWLINE);
+        }
+
+        return builder.toString().replace(indent, indent);
+    }
+
+    private static List<String> wrapText(String text, int len) {
+        // return empty array for null text
+        if (text == null) {
+            return new ArrayList<String>();
+        }
+
+        // return text if len is zero or less
+        if (len <= 0) {
+            return new ArrayList<String>(Arrays.asList(text));
+        }
+
+        // return text if less than length
+        if (text.length() <= len) {
+            return new ArrayList<String>(Arrays.asList(text));
+        }
+
+        List<String> lines = new ArrayList<String>();
+        StringBuilder line = new StringBuilder();
+        StringBuilder word = new StringBuilder();
+        int tempNum;
+
+        // each char in array
+        for (char c : text.toCharArray()) {
+            // its a wordBreaking character.
+            if (c == ' ' || c == ',' || c == '-') {
+                // add the character to the word
+                word.append(c);
+
+                // its a space. set TempNum to 1, otherwise leave it as a wrappable char
+                tempNum = Character.isWhitespace(c) ? 1 : 0;
+
+                // subtract tempNum from the length of the word
+                if ((line.length() + word.length() - tempNum) > len) {
+                    lines.add(line.toString());
+                    line.delete(0, line.length());
+                }
+
+                // new word, add it to the next line and clear the word
+                line.append(word);
+                word.delete(0, word.length());
+
+            }
+            // not a linebreak char
+            else {
+                // add it to the word and move on
+                word.append(c);
+            }
+        }
+
+        // handle any extra chars in current word
+        if (word.length() > 0) {
+            if ((line.length() + word.length()) > len) {
+                lines.add(line.toString());
+                line.delete(0, line.length());
+            }
+            line.append(word);
+        }
+
+        // handle extra line
+        if (line.length() > 0) {
+            lines.add(line.toString());
+        }
+
+        List<String> temp = new ArrayList<String>(lines.size());
+        for (String s : lines) {
+            temp.add(s.trim());
+        }
+        return temp;
+    }
+}
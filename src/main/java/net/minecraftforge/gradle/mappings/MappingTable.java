@@ -0,0 +1,237 @@
+package net.minecraftforge.gradle.mappings;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The MCP names and javadocs of one kind of SRG name, like func_ or field_.
+ * <p>
+ * Entries are found by the numbers in the SRG name, parsed straight from the text it was found in, through an
+ * open addressing table of ints. The SRG name is compared after that, so lookups never allocate.
+ * Every string is stored once in a pool, so the repeated names and the many empty javadocs cost an int per entry.
+ */
+public final class MappingTable {
+    private final StringPool strings;
+
+    // entry -> index in the string pool
+    private final int[] srgs;
+    private final int[] names;
+    private final int[] javadocs;
+
+    // slot -> key, and entry + 1, 0 being an empty slot
+    private final int[] keys;
+    private final int[] slots;
+    private final int mask;
+
+    MappingTable(StringPool strings, int[] srgs, int[] names, int[] javadocs) {
+        this.strings = strings;
+        this.srgs = srgs;
+        this.names = names;
+        this.javadocs = javadocs;
+
+        // at most half full
+        int size = Integer.highestOneBit(Math.max(srgs.length, 8) * 2) * 2;
+        keys = new int[size];
+        slots = new int[size];
+        mask = size - 1;
+
+        for (int i = 0; i < srgs.length; i++) {
+            String srg = strings.get(srgs[i]);
+            int key = key(srg, 0, srg.length());
+            int slot = slot(key);
+            while (slots[slot] != 0)
+                slot = (slot + 1) & mask;
+
+            keys[slot] = key;
+            slots[slot] = i + 1;
+        }
+    }
+
+    /**
+     * @return the entry for the SRG name at the given part of the text, or -1 if there is none.
+     */
+    public int find(CharSequence text, int start, int end) {
+        int key = key(text, start, end);
+        for (int slot = slot(key); slots[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == key && regionEquals(strings.get(srgs[slots[slot] - 1]), text, start, end))
+                return slots[slot] - 1;
+        }
+        return -1;
+    }
+
+    public int find(String srg) {
+        return find(srg, 0, srg.length());
+    }
+
+    /**
+     * @return the MCP name of the SRG name, or null if it has none.
+     */
+    public String getName(String srg) {
+        int entry = find(srg);
+        return entry < 0 ? null : getName(entry);
+    }
+
+    public String getSrg(int entry) {
+        return strings.get(srgs[entry]);
+    }
+
+    public String getName(int entry) {
+        return strings.get(names[entry]);
+    }
+
+    /**
+     * @return the javadoc of the entry, which is often empty.
+     */
+    public String getJavadoc(int entry) {
+        return strings.get(javadocs[entry]);
+    }
+
+    public int size() {
+        return srgs.length;
+    }
+
+    /**
+     * Writes the entries and the slots, so {@link #read} doesn't need to hash the names again.
+     */
+    void write(DataOutputStream out) throws IOException {
+        writeInts(out, srgs);
+        writeInts(out, names);
+        writeInts(out, javadocs);
+        writeInts(out, keys);
+        writeInts(out, slots);
+    }
+
+    static MappingTable read(ByteBuffer buf, StringPool strings) {
+        return new MappingTable(strings, readInts(buf), readInts(buf), readInts(buf), readInts(buf), readInts(buf));
+    }
+
+    private MappingTable(StringPool strings, int[] srgs, int[] names, int[] javadocs, int[] keys, int[] slots) {
+        if (srgs.length != names.length || srgs.length != javadocs.length || keys.length != slots.length || Integer.bitCount(keys.length) != 1)
+            throw new IllegalArgumentException("Broken mapping table");
+
+        this.strings = strings;
+        this.srgs = srgs;
+        this.names = names;
+        this.javadocs = javadocs;
+        this.keys = keys;
+        this.slots = slots;
+        this.mask = keys.length - 1;
+    }
+
+    static void writeInts(DataOutputStream out, int[] ints) throws IOException {
+        out.writeInt(ints.length);
+        for (int i : ints)
+            out.writeInt(i);
+    }
+
+    static int[] readInts(ByteBuffer buf) {
+        int[] ret = new int[buf.getInt()];
+        buf.asIntBuffer().get(ret);
+        buf.position(buf.position() + ret.length * 4);
+        return ret;
+    }
+
+    /**
+     * @return the SRG id, func_71410_x being 71410. Numbers after the first one, as in p_71410_1_, are mixed in.
+     */
+    static int key(CharSequence text, int start, int end) {
+        int key = 0;
+        int number = 0;
+        boolean digits = false;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                number = number * 10 + (c - '0');
+                digits = true;
+            } else if (digits) {
+                key = key * 31 + number;
+                number = 0;
+                digits = false;
+            }
+        }
+        return digits ? key * 31 + number : key;
+    }
+
+    private int slot(int key) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ hash >>> 16) & mask;
+    }
+
+    private static boolean regionEquals(String str, CharSequence text, int start, int end) {
+        if (str.length() != end - start)
+            return false;
+
+        for (int i = 0; i < str.length(); i++) {
+            if (str.charAt(i) != text.charAt(start + i))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Collects the entries of a table. A later entry with the same SRG name replaces the earlier one.
+     */
+    public static final class Builder {
+        private final Map<String, Integer> pool;
+        private final List<String> strings;
+        private final Map<String, Integer> entries = new HashMap<String, Integer>();
+        private final List<int[]> rows = new ArrayList<int[]>();
+
+        public Builder() {
+            this(new HashMap<String, Integer>(), new ArrayList<String>());
+        }
+
+        /**
+         * A builder that shares its string pool with other builders, see {@link McpMappings}.
+         */
+        Builder(Map<String, Integer> pool, List<String> strings) {
+            this.pool = pool;
+            this.strings = strings;
+        }
+
+        public Builder add(String srg, String name, String javadoc) {
+            int[] row = { intern(srg), intern(name), intern(javadoc == null ? "" : javadoc) };
+
+            Integer old = entries.get(srg);
+            if (old == null) {
+                entries.put(srg, rows.size());
+                rows.add(row);
+            } else {
+                rows.set(old, row);
+            }
+            return this;
+        }
+
+        private int intern(String str) {
+            Integer index = pool.get(str);
+            if (index == null) {
+                index = strings.size();
+                strings.add(str);
+                pool.put(str, index);
+            }
+            return index;
+        }
+
+        public MappingTable build() {
+            return build(new StringPool(strings.toArray(new String[strings.size()])));
+        }
+
+        MappingTable build(StringPool strings) {
+            int[] srgs = new int[rows.size()];
+            int[] names = new int[rows.size()];
+            int[] javadocs = new int[rows.size()];
+            for (int i = 0; i < rows.size(); i++) {
+                int[] row = rows.get(i);
+                srgs[i] = row[0];
+                names[i] = row[1];
+                javadocs[i] = row[2];
+            }
+            return new MappingTable(strings, srgs, names, javadocs);
+        }
+    }
+}
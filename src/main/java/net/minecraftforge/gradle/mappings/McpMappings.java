@@ -0,0 +1,345 @@
+package net.minecraftforge.gradle.mappings;
+
+import au.com.bytecode.opencsv.CSVParser;
+import au.com.bytecode.opencsv.CSVReader;
+import com.google.common.base.Joiner;
+import com.google.common.io.Files;
+import net.minecraftforge.gradle.common.BaseExtension;
+import net.minecraftforge.gradle.common.Constants;
+import net.minecraftforge.gradle.common.FileHashJournal;
+import net.minecraftforge.gradle.common.SharedCaches;
+import org.gradle.api.Project;
+import org.gradle.api.logging.Logging;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardCopyOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The methods, fields and params CSVs of an MCP mapping, read into {@link MappingTable}s that share one string pool,
+ * and the records of an SRG file, split into their parts so the class names they repeat are only stored once.
+ * <p>
+ * The first time a set of files is used, it is compiled to a database in the cache dir, named after the hashes of the
+ * files. After that the database is memory mapped, and a string is only decoded when it is asked for. Databases nobody
+ * used for a while are removed, see {@link SharedCaches#clean(File, long)}.
+ * The mappings are also kept in memory while memory allows, for the other tasks of the build. Tasks asking for the
+ * files the extension configures all get the one database of every one of them, whichever part they use.
+ * <p>
+ * The layout of the database, all numbers being big endian ints:
+ * <pre>
+ * magic, version
+ * string count, string offset count, string offset*, byte count, UTF-8 bytes
+ * methods, fields, params: (entry count, srg*), (entry count, name*), (entry count, javadoc*), (slot count, key*), (slot count, entry*)
+ * SRG: (record count + 1, first part of each record*, part count), (part count, part*)
+ * </pre>
+ * Strings are indices into the string pool.
+ */
+public final class McpMappings {
+    private static final int MAGIC = 0x46474D44; // FGMD
+    private static final int VERSION = 2;
+    private static final long CACHE_MAX_SIZE_MB = 512;
+
+    private static final Map<File, SoftReference<McpMappings>> CACHE = new HashMap<File, SoftReference<McpMappings>>();
+
+    private final StringPool strings;
+    private final MappingTable methods;
+    private final MappingTable fields;
+    private final MappingTable params;
+    private final int[] srgStarts;
+    private final int[] srgParts;
+
+    private Javadocs methodJavadocs;
+    private Javadocs fieldJavadocs;
+
+    private McpMappings(StringPool strings, MappingTable methods, MappingTable fields, MappingTable params, int[] srgStarts, int[] srgParts) {
+        this.strings = strings;
+        this.methods = methods;
+        this.fields = fields;
+        this.params = params;
+        this.srgStarts = srgStarts;
+        this.srgParts = srgParts;
+    }
+
+    /**
+     * Loads the compiled mappings of the files from the cache dir, or compiles them there first.
+     * If the files are among the ones the extension configures, the mappings of all those are returned instead.
+     *
+     * @param paramsCsv may be null, then there are no params.
+     * @param srg       may be null, then there are no SRG records.
+     */
+    public static McpMappings get(Project project, File methodsCsv, File fieldsCsv, File paramsCsv, File srg) throws IOException {
+        BaseExtension ext = (BaseExtension) project.getExtensions().findByName(Constants.EXT_NAME_MC);
+        File[] all = ext == null ? null : ext.getMappingFiles();
+        if (all != null && same(methodsCsv, all[0]) && same(fieldsCsv, all[1])
+                && (paramsCsv == null || same(paramsCsv, all[2])) && (srg == null || same(srg, all[3]))) {
+            // some MCP versions have no params, and the SRG may not be made yet.
+            paramsCsv = all[2].isFile() ? all[2] : null;
+            srg = all[3].isFile() ? all[3] : null;
+        }
+
+        List<File> files = new ArrayList<File>(Arrays.asList(methodsCsv, fieldsCsv));
+        if (paramsCsv != null)
+            files.add(paramsCsv);
+        if (srg != null)
+            files.add(srg);
+
+        Map<File, String> hashes = FileHashJournal.get(project).hashAll(files);
+        String key = Joiner.on(' ').join(VERSION, hashes.get(methodsCsv), hashes.get(fieldsCsv), paramsCsv == null ? "-" : hashes.get(paramsCsv), srg == null ? "-" : hashes.get(srg));
+        File database = Constants.cacheFile(project, "caches", "minecraft", "mappings", Constants.hash(key) + ".bin");
+
+        synchronized (CACHE) {
+            SoftReference<McpMappings> ref = CACHE.get(database);
+            McpMappings ret = ref == null ? null : ref.get();
+            if (ret == null) {
+                ret = get(database, methodsCsv, fieldsCsv, paramsCsv, srg);
+                CACHE.put(database, new SoftReference<McpMappings>(ret));
+                SharedCaches.clean(database.getParentFile(), CACHE_MAX_SIZE_MB);
+            }
+            return ret;
+        }
+    }
+
+    private static boolean same(File a, File b) {
+        return a.getAbsoluteFile().equals(b.getAbsoluteFile());
+    }
+
+    /**
+     * Loads the database, or reads the files and saves them to the database first.
+     * The database should be named after a hash of the files, it is never checked against them.
+     */
+    public static McpMappings get(File database, File methodsCsv, File fieldsCsv, File paramsCsv, File srg) throws IOException {
+        if (database.isFile()) {
+            try {
+                McpMappings ret = load(database);
+                SharedCaches.touch(database);
+                return ret;
+            } catch (IOException e) {
+                // broken or old, make it again.
+            }
+        }
+
+        McpMappings ret = read(methodsCsv, fieldsCsv, paramsCsv, srg);
+        try {
+            ret.save(database);
+        } catch (IOException e) {
+            // a read only gradle home, or windows refusing to replace a database another build has mapped.
+            Logging.getLogger(McpMappings.class).warn("Could not save mappings database " + database + ": " + e.getMessage());
+        }
+        return ret;
+    }
+
+    public static McpMappings read(File methodsCsv, File fieldsCsv, File paramsCsv, File srg) throws IOException {
+        HashMap<String, Integer> pool = new HashMap<String, Integer>();
+        List<String> strings = new ArrayList<String>();
+
+        MappingTable.Builder methods = readCsv(methodsCsv, true, new MappingTable.Builder(pool, strings));
+        MappingTable.Builder fields = readCsv(fieldsCsv, true, new MappingTable.Builder(pool, strings));
+        MappingTable.Builder params = new MappingTable.Builder(pool, strings);
+        if (paramsCsv != null)
+            readCsv(paramsCsv, false, params);
+
+        List<Integer> starts = new ArrayList<Integer>();
+        List<Integer> parts = new ArrayList<Integer>();
+        if (srg != null) {
+            BufferedReader reader = Files.newReader(srg, Charset.defaultCharset());
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    starts.add(parts.size());
+
+                    // -1 keeps trailing empty parts, so joining the parts gives the line back.
+                    for (String part : line.split(" ", -1)) {
+                        Integer index = pool.get(part);
+                        if (index == null) {
+                            index = strings.size();
+                            strings.add(part);
+                            pool.put(part, index);
+                        }
+                        parts.add(index);
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+        starts.add(parts.size());
+
+        StringPool array = new StringPool(strings.toArray(new String[strings.size()]));
+        return new McpMappings(array, methods.build(array), fields.build(array), params.build(array), toArray(starts), toArray(parts));
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] ret = new int[list.size()];
+        for (int i = 0; i < ret.length; i++)
+            ret[i] = list.get(i);
+        return ret;
+    }
+
+    /**
+     * The first column is the SRG name and the second the MCP name. For methods and fields, the fourth is the javadoc.
+     */
+    private static MappingTable.Builder readCsv(File file, boolean javadocs, MappingTable.Builder builder) throws IOException {
+        CSVReader reader = getReader(file);
+        try {
+            for (String[] s : reader.readAll()) {
+                builder.add(s[0], s[1], javadocs && s.length > 3 ? s[3] : null);
+            }
+        } finally {
+            reader.close();
+        }
+        return builder;
+    }
+
+    /**
+     * @return a reader that skips the header line.
+     */
+    public static CSVReader getReader(File file) throws IOException {
+        return new CSVReader(Files.newReader(file, Charset.defaultCharset()), CSVParser.DEFAULT_SEPARATOR, CSVParser.DEFAULT_QUOTE_CHARACTER, CSVParser.DEFAULT_ESCAPE_CHARACTER, 1, false);
+    }
+
+    public static McpMappings load(File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        MappedByteBuffer buf;
+        try {
+            buf = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length());
+        } finally {
+            raf.close();
+        }
+
+        try {
+            if (buf.getInt() != MAGIC || buf.getInt() != VERSION)
+                throw new IOException("Not a mappings database, or an old one: " + file);
+
+            int count = buf.getInt();
+            int[] offsets = MappingTable.readInts(buf);
+            if (offsets.length != count + 1)
+                throw new IOException("Broken mappings database " + file);
+
+            int length = buf.getInt();
+            ByteBuffer data = buf.slice();
+            data.limit(length);
+            buf.position(buf.position() + length);
+            StringPool strings = new StringPool(data, offsets);
+
+            MappingTable methods = MappingTable.read(buf, strings);
+            MappingTable fields = MappingTable.read(buf, strings);
+            MappingTable params = MappingTable.read(buf, strings);
+            int[] srgStarts = MappingTable.readInts(buf);
+            int[] srgParts = MappingTable.readInts(buf);
+            if (srgStarts.length == 0 || srgStarts[srgStarts.length - 1] != srgParts.length)
+                throw new IOException("Broken mappings database " + file);
+
+            return new McpMappings(strings, methods, fields, params, srgStarts, srgParts);
+        } catch (RuntimeException e) {
+            // truncated or otherwise broken
+            throw new IOException("Could not read mappings database " + file, e);
+        }
+    }
+
+    /**
+     * Writes the database to a temporary file next to the given one, and moves it in place.
+     */
+    public void save(File file) throws IOException {
+        int[] offsets = new int[strings.size() + 1];
+        List<byte[]> data = new ArrayList<byte[]>(strings.size());
+        for (int i = 0; i < strings.size(); i++) {
+            byte[] bytes = strings.get(i).getBytes(StringPool.UTF8);
+            data.add(bytes);
+            offsets[i + 1] = offsets[i] + bytes.length;
+        }
+
+        file.getParentFile().mkdirs();
+        File temp = new File(file.getParentFile(), file.getName() + "." + UUID.randomUUID() + ".tmp");
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+
+            out.writeInt(strings.size());
+            MappingTable.writeInts(out, offsets);
+            out.writeInt(offsets[strings.size()]);
+            for (byte[] bytes : data)
+                out.write(bytes);
+
+            methods.write(out);
+            fields.write(out);
+            params.write(out);
+            MappingTable.writeInts(out, srgStarts);
+            MappingTable.writeInts(out, srgParts);
+        } finally {
+            out.close();
+        }
+
+        try {
+            java.nio.file.Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            temp.delete();
+            throw e;
+        }
+    }
+
+    public MappingTable getMethods() {
+        return methods;
+    }
+
+    public MappingTable getFields() {
+        return fields;
+    }
+
+    public MappingTable getParams() {
+        return params;
+    }
+
+    /**
+     * @return the rendered method javadocs, shared by everything that uses these mappings.
+     */
+    public synchronized Javadocs getMethodJavadocs() {
+        if (methodJavadocs == null)
+            methodJavadocs = new Javadocs(methods, true);
+        return methodJavadocs;
+    }
+
+    public synchronized Javadocs getFieldJavadocs() {
+        if (fieldJavadocs == null)
+            fieldJavadocs = new Javadocs(fields, false);
+        return fieldJavadocs;
+    }
+
+    /**
+     * @return the records of the SRG file, each one being its line split on spaces. PK: and CL: records have the type
+     * and two names, FD: the type and two field paths, MD: the type and a path and descriptor for each side.
+     */
+    public List<String[]> getSrgRecords() {
+        return new AbstractList<String[]>() {
+            @Override
+            public String[] get(int index) {
+                String[] ret = new String[srgStarts[index + 1] - srgStarts[index]];
+                for (int i = 0; i < ret.length; i++)
+                    ret[i] = strings.get(srgParts[srgStarts[index] + i]);
+                return ret;
+            }
+
+            @Override
+            public int size() {
+                return srgStarts.length - 1;
+            }
+        };
+    }
+}
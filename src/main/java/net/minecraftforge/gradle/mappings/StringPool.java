@@ -0,0 +1,47 @@
+package net.minecraftforge.gradle.mappings;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * The strings of a {@link McpMappings}, by index. Strings loaded from a database are only decoded when first asked for.
+ */
+final class StringPool {
+    static final Charset UTF8 = Charset.forName("UTF-8");
+
+    // UTF-8 bytes, and where every string starts in them, plus the end. null if the strings were never saved.
+    private final ByteBuffer data;
+    private final int[] offsets;
+    private final String[] strings;
+
+    StringPool(String[] strings) {
+        this.data = null;
+        this.offsets = null;
+        this.strings = strings;
+    }
+
+    StringPool(ByteBuffer data, int[] offsets) {
+        this.data = data;
+        this.offsets = offsets;
+        this.strings = new String[offsets.length - 1];
+    }
+
+    String get(int index) {
+        String ret = strings[index];
+        if (ret == null) {
+            // racing threads decode the same string, either one is fine.
+            byte[] bytes = new byte[offsets[index + 1] - offsets[index]];
+            ByteBuffer buf = data.duplicate();
+            buf.position(offsets[index]);
+            buf.get(bytes);
+
+            ret = new String(bytes, UTF8);
+            strings[index] = ret;
+        }
+        return ret;
+    }
+
+    int size() {
+        return strings.length;
+    }
+}
@@ -47,7 +47,11 @@ import org.apache.commons.io.IOUtils;
 import java.io.*;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -82,10 +86,14 @@ public final class ContextualPatch {
 
 
     private File context;
+    private List<SinglePatch> patches;
     private BufferedReader patchReader;
     private String patchLine;
     private boolean patchLineRead;
     private int lastPatchedLine;    // the last line that was successfuly patched
+    private LineIndex lineIndex;     // where each line of the current target is, see findHunkIndex
+    private int candidatesTried;     // positions the current hunk was tried at
+    private final Map<Hunk, String[]> hunkKeys = new IdentityHashMap<Hunk, String[]>(); // normalized hunk lines
 
     public static ContextualPatch create(File patchFile, File context) {
         return new ContextualPatch(patchFile, context);
@@ -95,6 +103,15 @@ public final class ContextualPatch {
         return new ContextualPatch(patchString, context);
     }
 
+    /**
+     * For patches that were already read, see {@link PatchBundle}.
+     */
+    static ContextualPatch create(List<SinglePatch> patches, IContextProvider context) {
+        ContextualPatch patch = new ContextualPatch((String) null, context);
+        patch.patches = patches;
+        return patch;
+    }
+
     private ContextualPatch(String patchString, IContextProvider context) {
         this.patchString = patchString;
         this.contextProvider = context;
@@ -130,6 +147,40 @@ public final class ContextualPatch {
      */
     public List<PatchReport> patch(boolean dryRun) throws PatchException, IOException {
         List<PatchReport> report = new ArrayList<PatchReport>();
+        List<SinglePatch> patches = getPatches();
+        computeContext(patches);
+        for (SinglePatch patch : patches) {
+            try {
+                report.add(applyPatch(patch, dryRun));
+                //report.add(new PatchReport(patch.targetFile, computeBackup(patch.targetFile), patch.binary, PatchStatus.Patched, null));
+            } catch (Exception e) {
+                report.add(new PatchReport(patch.targetPath, patch.binary, PatchStatus.Failure, e, new ArrayList<HunkReport>()));
+            }
+        }
+        return report;
+    }
+
+    /**
+     * @return the paths of the files this patch changes, as they are written in the patch. May contain null for a nameless target.
+     * @throws PatchException
+     * @throws IOException
+     */
+    public List<String> getTargets() throws PatchException, IOException {
+        List<String> targets = new ArrayList<String>();
+        for (SinglePatch patch : getPatches()) {
+            targets.add(patch.targetPath);
+        }
+        return targets;
+    }
+
+    /**
+     * The patch is only read once, later calls return the same patches.
+     */
+    List<SinglePatch> getPatches() throws PatchException, IOException {
+        if (patches != null) {
+            return patches;
+        }
+
         init();
         try {
             patchLine = patchReader.readLine();
@@ -141,16 +192,8 @@ public final class ContextualPatch {
                 }
                 patches.add(patch);
             }
-            computeContext(patches);
-            for (SinglePatch patch : patches) {
-                try {
-                    report.add(applyPatch(patch, dryRun));
-                    //report.add(new PatchReport(patch.targetFile, computeBackup(patch.targetFile), patch.binary, PatchStatus.Patched, null));
-                } catch (Exception e) {
-                    report.add(new PatchReport(patch.targetPath, patch.binary, PatchStatus.Failure, e, new ArrayList<HunkReport>()));
-                }
-            }
-            return report;
+            this.patches = patches;
+            return patches;
         } finally {
             if (patchReader != null) {
                 try {
@@ -194,6 +237,11 @@ public final class ContextualPatch {
         if (this.contextProvider != null) {
             List<String> target = contextProvider.getData(patch.targetPath);
 
+            if (target != null && dryRun) {
+                // hunks are applied for real even on a dry run, and the provider may hand out the lines it keeps.
+                target = new ArrayList<String>(target);
+            }
+
             if (target != null && !patch.binary) {
                 if (patchCreatesNewFileThatAlreadyExists(patch, target)) { //Check if the patch doesn't need to be applied...
                     for (int x = 0; x < patch.hunks.length; x++) {
@@ -338,6 +386,8 @@ public final class ContextualPatch {
     private HunkReport applyHunk(List<String> target, Hunk hunk, int hunkID) throws PatchException {
         int idx = -1;
         int fuzz = 0;
+        candidatesTried = 0;
+        getLineIndex(target); // so the index follows the changes this hunk makes
         for (; idx == -1 && fuzz <= this.maxFuzz; fuzz++) {
             idx = findHunkIndex(target, hunk, fuzz, hunkID);
             if (idx != -1) {
@@ -345,29 +395,154 @@ public final class ContextualPatch {
             }
         }
         if (idx == -1) {
-            throw new PatchException("Cannot find hunk target");
+            throw new PatchException("Cannot find hunk target (" + candidatesTried + " candidates tried)");
         }
-        return applyHunk(target, hunk, idx, false, fuzz, hunkID);
+        HunkReport report = applyHunk(target, hunk, idx, false, fuzz, hunkID);
+        report.candidates = candidatesTried;
+        return report;
     }
 
+    /**
+     * Tries the hinted line first, then every line before it down to the last patched line, then every line after it.
+     * Only the lines where the anchor of the hunk matches are actually tried, which gives the same result as trying them all.
+     */
     private int findHunkIndex(List<String> target, Hunk hunk, int fuzz, int hunkID) throws PatchException {
         int idx = hunk.modifiedStart;  // first guess from the hunk range specification
-        if (idx >= lastPatchedLine && applyHunk(target, hunk, idx, true, fuzz, hunkID).getStatus().isSuccess()) {
+
+        // the anchor is the first line that has to match, its offset how many target lines come before it in the hunk.
+        int offset = 0;
+        String anchor = null;
+        for (int x = 0; x < hunk.lines.size(); x++) {
+            String hunkLine = hunk.lines.get(x);
+            if (isAdditionLine(hunkLine))
+                continue;
+
+            if (fuzz == 0 || isRemovalLine(hunkLine) || (x >= fuzz && x < hunk.lines.size() - fuzz)) {
+                anchor = hunkLine.substring(1);
+                break;
+            }
+            offset++;
+        }
+
+        if (anchor == null) {
+            // every line is fuzzed, so anything goes.
+            if (idx >= lastPatchedLine && tryHunk(target, hunk, idx, fuzz, hunkID)) {
+                return idx;
+            } else {
+                // try to search for the context
+                for (int i = idx - 1; i >= lastPatchedLine; i--) {
+                    if (tryHunk(target, hunk, i, fuzz, hunkID)) {
+                        return i;
+                    }
+                }
+                for (int i = idx + 1; i < target.size(); i++) {
+                    if (tryHunk(target, hunk, i, fuzz, hunkID)) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        // hunk starts are 1-based, target positions 0-based
+        List<Integer> positions = getLineIndex(target).get(normalize(anchor));
+        int shift = 1 - offset;
+
+        if (idx >= lastPatchedLine && Collections.binarySearch(positions, idx - shift) >= 0 && tryHunk(target, hunk, idx, fuzz, hunkID)) {
             return idx;
+        }
+
+        // try to search for the context
+        for (int k = positions.size() - 1; k >= 0; k--) {
+            int i = positions.get(k) + shift;
+            if (i >= idx) {
+                continue;
+            } else if (i < lastPatchedLine) {
+                break;
+            }
+
+            if (tryHunk(target, hunk, i, fuzz, hunkID)) {
+                return i;
+            }
+        }
+        for (int k = 0; k < positions.size(); k++) {
+            int i = positions.get(k) + shift;
+            if (i <= idx) {
+                continue;
+            } else if (i >= target.size()) {
+                break;
+            }
+
+            if (tryHunk(target, hunk, i, fuzz, hunkID)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean tryHunk(List<String> target, Hunk hunk, int idx, int fuzz, int hunkID) throws PatchException {
+        candidatesTried++;
+        return applyHunk(target, hunk, idx, true, fuzz, hunkID).getStatus().isSuccess();
+    }
+
+    private LineIndex getLineIndex(List<String> target) {
+        if (lineIndex != null && lineIndex.target == target && lineIndex.matches(c14nWhitespace, c14nAccess)) {
+            return lineIndex;
+        }
+
+        // lines that come from a provider may carry the index of an earlier patch with them
+        SourceLines lines = target instanceof SourceLines ? (SourceLines) target : null;
+        if (lines != null && lines.index != null && lines.index.target == target && lines.index.matches(c14nWhitespace, c14nAccess)) {
+            lineIndex = lines.index;
         } else {
-            // try to search for the context
-            for (int i = idx - 1; i >= lastPatchedLine; i--) {
-                if (applyHunk(target, hunk, i, true, fuzz, hunkID).getStatus().isSuccess()) {
-                    return i;
+            lineIndex = new LineIndex(target, c14nWhitespace, c14nAccess);
+            if (lines != null) {
+                lines.index = lineIndex;
+            }
+        }
+        return lineIndex;
+    }
+
+    private String[] getHunkKeys(Hunk hunk) {
+        String[] keys = hunkKeys.get(hunk);
+        if (keys == null) {
+            keys = new String[hunk.lines.size()];
+            for (int x = 0; x < keys.length; x++) {
+                String hunkLine = hunk.lines.get(x);
+                if (!isAdditionLine(hunkLine)) {
+                    keys[x] = normalize(hunkLine.substring(1));
                 }
             }
-            for (int i = idx + 1; i < target.size(); i++) {
-                if (applyHunk(target, hunk, i, true, fuzz, hunkID).getStatus().isSuccess()) {
-                    return i;
+            hunkKeys.put(hunk, keys);
+        }
+        return keys;
+    }
+
+    private String normalize(String line) {
+        return normalize(line, c14nWhitespace, c14nAccess);
+    }
+
+    /**
+     * @return a key that is equal for two lines exactly when they are {@link #similar(String, String, char)}
+     */
+    static String normalize(String line, boolean c14nWhitespace, boolean c14nAccess) {
+        if (c14nWhitespace) {
+            line = line.replaceAll("[\t| ]+", " ");
+        }
+        if (c14nAccess) {
+            // every token is length-prefixed, and access modifiers all become the same marker
+            String[] tokens = line.split(" ");
+            StringBuilder buf = new StringBuilder(line.length() + tokens.length * 3);
+            for (String token : tokens) {
+                if (isAccess(token)) {
+                    buf.append("*;");
+                } else {
+                    buf.append(token.length()).append(':').append(token);
                 }
             }
+            line = buf.toString();
         }
-        return -1;
+        return line;
     }
 
     /**
@@ -388,7 +563,8 @@ public final class ContextualPatch {
                         throw new PatchException("Unapplicable hunk #" + hunkID + " @@ " + startIdx);
                     }
                 }
-                boolean match = similar(target.get(idx), hunkLine.substring(1), hunkLine.charAt(0));
+                String targetKey = lineIndex != null && lineIndex.target == target ? lineIndex.keys.get(idx) : normalize(target.get(idx));
+                boolean match = targetKey.equals(getHunkKeys(hunk)[hunkIdx]);
                 if (!match && fuzz != 0 && !isRemovalLine(hunkLine)) {
                     match = (hunkIdx < fuzz || hunkIdx >= hunk.lines.size() - fuzz ? true : match);
                 }
@@ -407,8 +583,14 @@ public final class ContextualPatch {
             } else {
                 if (isAddition) {
                     target.add(idx, hunkLine.substring(1));
+                    if (lineIndex != null && lineIndex.target == target) {
+                        lineIndex.added(idx, hunkLine.substring(1));
+                    }
                 } else if (isRemovalLine(hunkLine)) {
                     target.remove(idx);
+                    if (lineIndex != null && lineIndex.target == target) {
+                        lineIndex.removed(idx);
+                    }
                     idx--;
                 }
             }
@@ -843,7 +1025,7 @@ public final class ContextualPatch {
         return new File(context, patch.targetPath);
     }
 
-    private static class SinglePatch {
+    static class SinglePatch {
         //String targetIndex;
         String targetPath;
         Hunk[] hunks;
@@ -936,6 +1118,7 @@ public final class ContextualPatch {
         private int index;
         private int fuzz;
         private int hunkID;
+        private int candidates;
 
         public HunkReport(PatchStatus status, Throwable failure, int index, int fuzz, int hunkID) {
             this.status = status;
@@ -964,40 +1147,78 @@ public final class ContextualPatch {
         public int getHunkID() {
             return hunkID;
         }
+
+        /**
+         * @return how many positions the hunk was tried at before it applied
+         */
+        public int getCandidates() {
+            return candidates;
+        }
     }
 
     private boolean similar(String target, String hunk, char lineType) {
-        if (c14nAccess) {
-            if (c14nWhitespace) {
-                target = target.replaceAll("[\t| ]+", " ");
-                hunk = hunk.replaceAll("[\t| ]+", " ");
-            }
-            String[] t = target.split(" ");
-            String[] h = hunk.split(" ");
-            if (t.length != h.length) {
-                return false;
-            }
-            for (int x = 0; x < t.length; x++) {
-                if (isAccess(t[x]) && isAccess(h[x])) {
-                    continue;
-                } else {
-                    if (!t[x].equals(h[x])) {
-                        return false;
+        return normalize(target).equals(normalize(hunk));
+    }
+
+    private static boolean isAccess(String data) {
+        return data.equalsIgnoreCase("public") ||
+                data.equalsIgnoreCase("private") ||
+                data.equalsIgnoreCase("protected");
+    }
+
+    /**
+     * The normalized lines of a target, and where each of them is.
+     * Kept up to date as hunks are applied, the positions are recomputed when they are next needed.
+     */
+    static class LineIndex {
+        private final List<String> target;
+        private final boolean c14nWhitespace;
+        private final boolean c14nAccess;
+        private final List<String> keys;
+        private Map<String, List<Integer>> positions;
+
+        private LineIndex(List<String> target, boolean c14nWhitespace, boolean c14nAccess) {
+            this.target = target;
+            this.c14nWhitespace = c14nWhitespace;
+            this.c14nAccess = c14nAccess;
+            this.keys = new ArrayList<String>(target.size());
+            for (String line : target) {
+                keys.add(normalize(line, c14nWhitespace, c14nAccess));
+            }
+        }
+
+        private boolean matches(boolean c14nWhitespace, boolean c14nAccess) {
+            return this.c14nWhitespace == c14nWhitespace && this.c14nAccess == c14nAccess;
+        }
+
+        /**
+         * @return the sorted positions of the lines with that key
+         */
+        private List<Integer> get(String key) {
+            if (positions == null) {
+                positions = new HashMap<String, List<Integer>>();
+                for (int x = 0; x < keys.size(); x++) {
+                    List<Integer> list = positions.get(keys.get(x));
+                    if (list == null) {
+                        list = new ArrayList<Integer>(1);
+                        positions.put(keys.get(x), list);
                     }
+                    list.add(x);
                 }
             }
-            return true;
+
+            List<Integer> ret = positions.get(key);
+            return ret == null ? Collections.<Integer>emptyList() : ret;
         }
-        if (c14nWhitespace) {
-            return target.replaceAll("[\t| ]+", " ").equals(hunk.replaceAll("[\t| ]+", " "));
-        } else {
-            return target.equals(hunk);
+
+        private void added(int idx, String line) {
+            keys.add(idx, normalize(line, c14nWhitespace, c14nAccess));
+            positions = null;
         }
-    }
 
-    private boolean isAccess(String data) {
-        return data.equalsIgnoreCase("public") ||
-                data.equalsIgnoreCase("private") ||
-                data.equalsIgnoreCase("protected");
+        private void removed(int idx) {
+            keys.remove(idx);
+            positions = null;
+        }
     }
-}
\ No newline at end of file
+}
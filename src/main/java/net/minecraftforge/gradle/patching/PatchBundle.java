@@ -0,0 +1,306 @@
+package net.minecraftforge.gradle.patching;
+
+import com.cloudbees.diff.Hunk;
+import com.cloudbees.diff.PatchException;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * A set of patch files that were already read, so they don't need to be parsed again.
+ * Saved as a binary file with every distinct line stored once, and read back through a memory map.
+ * <p>
+ * The layout, all numbers being big endian ints:
+ * <pre>
+ * magic, version
+ * string count, (byte length, UTF-8 bytes)*
+ * patch file count, (name, single patch count, (target, flags, mode, hunk count, (baseStart, baseCount, modifiedStart, modifiedCount, line count, line*)*)*)*
+ * target count, (target, patch file count, patch file*)*
+ * </pre>
+ * Strings are indices into the string table, -1 being null.
+ */
+public final class PatchBundle {
+    private static final int MAGIC = 0x46475042; // FGPB
+    private static final int VERSION = 1;
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private static final int FLAG_NO_ENDING_NEWLINE = 1;
+    private static final int FLAG_BINARY = 2;
+
+    // patch file name -> its patches, in order
+    private final LinkedHashMap<String, List<ContextualPatch.SinglePatch>> files;
+    // target -> patch files
+    private final TreeMap<String, List<String>> targets;
+
+    private PatchBundle(LinkedHashMap<String, List<ContextualPatch.SinglePatch>> files, TreeMap<String, List<String>> targets) {
+        this.files = files;
+        this.targets = targets;
+    }
+
+    /**
+     * Where the patch text comes from when there is no bundle yet.
+     */
+    public static interface IPatchSource {
+        /**
+         * @return patch file name -> contents, in the order they should be applied
+         */
+        public Map<String, String> getPatches() throws IOException;
+    }
+
+    /**
+     * Loads the bundle from the file, or reads the patches from the source and saves them to the file first.
+     * The file should be named after a hash of the patches, it is never checked against them.
+     */
+    public static PatchBundle get(File bundle, IPatchSource source) throws IOException {
+        if (bundle.isFile()) {
+            try {
+                return load(bundle);
+            } catch (IOException e) {
+                // broken or old, make it again.
+            }
+        }
+
+        PatchBundle ret = compile(source.getPatches());
+        ret.save(bundle);
+        return ret;
+    }
+
+    /**
+     * @param patches patch file name -> contents, in the order they should be applied
+     */
+    public static PatchBundle compile(Map<String, String> patches) throws IOException {
+        LinkedHashMap<String, List<ContextualPatch.SinglePatch>> files = new LinkedHashMap<String, List<ContextualPatch.SinglePatch>>();
+        TreeMap<String, List<String>> targets = new TreeMap<String, List<String>>();
+
+        for (Map.Entry<String, String> e : patches.entrySet()) {
+            List<ContextualPatch.SinglePatch> parsed;
+            try {
+                parsed = ContextualPatch.create(e.getValue(), null).getPatches();
+            } catch (PatchException ex) {
+                throw new IOException("Could not read patch " + e.getKey(), ex);
+            }
+
+            files.put(e.getKey(), parsed);
+            for (ContextualPatch.SinglePatch patch : parsed) {
+                addTarget(targets, patch.targetPath, e.getKey());
+            }
+        }
+
+        return new PatchBundle(files, targets);
+    }
+
+    private static void addTarget(TreeMap<String, List<String>> targets, String target, String file) {
+        if (target == null)
+            return;
+
+        List<String> list = targets.get(target);
+        if (list == null) {
+            list = new ArrayList<String>();
+            targets.put(target, list);
+        }
+        if (!list.contains(file))
+            list.add(file);
+    }
+
+    public static PatchBundle load(File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        MappedByteBuffer buf;
+        try {
+            buf = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length());
+        } finally {
+            raf.close();
+        }
+
+        try {
+            if (buf.getInt() != MAGIC || buf.getInt() != VERSION)
+                throw new IOException("Not a patch bundle, or an old one: " + file);
+
+            String[] strings = new String[buf.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] data = new byte[buf.getInt()];
+                buf.get(data);
+                strings[i] = new String(data, UTF8);
+            }
+
+            LinkedHashMap<String, List<ContextualPatch.SinglePatch>> files = new LinkedHashMap<String, List<ContextualPatch.SinglePatch>>();
+            int fileCount = buf.getInt();
+            for (int i = 0; i < fileCount; i++) {
+                String name = string(strings, buf.getInt());
+                List<ContextualPatch.SinglePatch> patches = new ArrayList<ContextualPatch.SinglePatch>();
+
+                int patchCount = buf.getInt();
+                for (int j = 0; j < patchCount; j++) {
+                    ContextualPatch.SinglePatch patch = new ContextualPatch.SinglePatch();
+                    patch.targetPath = string(strings, buf.getInt());
+                    int flags = buf.getInt();
+                    patch.noEndingNewline = (flags & FLAG_NO_ENDING_NEWLINE) != 0;
+                    patch.binary = (flags & FLAG_BINARY) != 0;
+                    int mode = buf.getInt();
+                    patch.mode = mode < 0 ? null : ContextualPatch.Mode.values()[mode];
+
+                    patch.hunks = new Hunk[buf.getInt()];
+                    for (int k = 0; k < patch.hunks.length; k++) {
+                        Hunk hunk = new Hunk();
+                        hunk.baseStart = buf.getInt();
+                        hunk.baseCount = buf.getInt();
+                        hunk.modifiedStart = buf.getInt();
+                        hunk.modifiedCount = buf.getInt();
+
+                        int lineCount = buf.getInt();
+                        for (int l = 0; l < lineCount; l++) {
+                            hunk.lines.add(string(strings, buf.getInt()));
+                        }
+                        patch.hunks[k] = hunk;
+                    }
+                    patches.add(patch);
+                }
+                files.put(name, patches);
+            }
+
+            TreeMap<String, List<String>> targets = new TreeMap<String, List<String>>();
+            int targetCount = buf.getInt();
+            for (int i = 0; i < targetCount; i++) {
+                String target = string(strings, buf.getInt());
+                int count = buf.getInt();
+                List<String> list = new ArrayList<String>(count);
+                for (int j = 0; j < count; j++) {
+                    list.add(string(strings, buf.getInt()));
+                }
+                targets.put(target, list);
+            }
+
+            return new PatchBundle(files, targets);
+        } catch (RuntimeException e) {
+            // truncated or otherwise broken
+            throw new IOException("Could not read patch bundle " + file, e);
+        }
+    }
+
+    private static String string(String[] strings, int index) {
+        return index < 0 ? null : strings[index];
+    }
+
+    /**
+     * Writes the bundle to a temporary file next to the given one, and moves it in place.
+     */
+    public void save(File file) throws IOException {
+        // every distinct string gets an index
+        HashMap<String, Integer> indices = new HashMap<String, Integer>();
+        List<String> strings = new ArrayList<String>();
+
+        // the body first, so the string table is complete when it is written
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(body);
+
+        out.writeInt(files.size());
+        for (Map.Entry<String, List<ContextualPatch.SinglePatch>> e : files.entrySet()) {
+            out.writeInt(index(e.getKey(), indices, strings));
+            out.writeInt(e.getValue().size());
+            for (ContextualPatch.SinglePatch patch : e.getValue()) {
+                out.writeInt(index(patch.targetPath, indices, strings));
+                out.writeInt((patch.noEndingNewline ? FLAG_NO_ENDING_NEWLINE : 0) | (patch.binary ? FLAG_BINARY : 0));
+                out.writeInt(patch.mode == null ? -1 : patch.mode.ordinal());
+                out.writeInt(patch.hunks.length);
+                for (Hunk hunk : patch.hunks) {
+                    out.writeInt(hunk.baseStart);
+                    out.writeInt(hunk.baseCount);
+                    out.writeInt(hunk.modifiedStart);
+                    out.writeInt(hunk.modifiedCount);
+                    out.writeInt(hunk.lines.size());
+                    for (String line : hunk.lines) {
+                        out.writeInt(index(line, indices, strings));
+                    }
+                }
+            }
+        }
+
+        out.writeInt(targets.size());
+        for (Map.Entry<String, List<String>> e : targets.entrySet()) {
+            out.writeInt(index(e.getKey(), indices, strings));
+            out.writeInt(e.getValue().size());
+            for (String name : e.getValue()) {
+                out.writeInt(index(name, indices, strings));
+            }
+        }
+        out.close();
+
+        file.getParentFile().mkdirs();
+        File temp = new File(file.getParentFile(), file.getName() + "." + UUID.randomUUID() + ".tmp");
+        out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(strings.size());
+            for (String str : strings) {
+                byte[] data = str.getBytes(UTF8);
+                out.writeInt(data.length);
+                out.write(data);
+            }
+            body.writeTo(out);
+        } finally {
+            out.close();
+        }
+
+        try {
+            java.nio.file.Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            temp.delete();
+            throw e;
+        }
+    }
+
+    private static int index(String str, Map<String, Integer> indices, List<String> strings) {
+        if (str == null)
+            return -1;
+
+        Integer ret = indices.get(str);
+        if (ret == null) {
+            ret = strings.size();
+            strings.add(str);
+            indices.put(str, ret);
+        }
+        return ret;
+    }
+
+    /**
+     * @return the names of the patch files, in the order they should be applied
+     */
+    public List<String> getNames() {
+        return new ArrayList<String>(files.keySet());
+    }
+
+    /**
+     * @return target path -> the names of the patch files that change it, as the targets are written in the patches
+     */
+    public Map<String, List<String>> getTargets() {
+        return Collections.unmodifiableMap(targets);
+    }
+
+    /**
+     * @return a new patch for the given patch file, that works on the given provider
+     */
+    public ContextualPatch create(String name, ContextualPatch.IContextProvider provider) {
+        List<ContextualPatch.SinglePatch> patches = files.get(name);
+        if (patches == null)
+            throw new IllegalArgumentException("No patch file " + name + " in this bundle");
+
+        return ContextualPatch.create(patches, provider);
+    }
+}
@@ -0,0 +1,37 @@
+package net.minecraftforge.gradle.patching;
+
+import com.google.common.base.Joiner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * The lines of a source file, for an IContextProvider to hand out instead of splitting the text again for every patch.
+ * Patches change it in place, and the normalized lines they search through stay with it, so several patches to the
+ * same file only split and normalize it once.
+ */
+public class SourceLines extends ArrayList<String> {
+    private static final long serialVersionUID = 1L;
+    private static final Pattern NEWLINES = Pattern.compile("\r\n|\r|\n");
+
+    // the index the last patch to this file used, see ContextualPatch.getLineIndex
+    transient ContextualPatch.LineIndex index;
+
+    public SourceLines(String text) {
+        super(Arrays.asList(NEWLINES.split(text)));
+    }
+
+    /**
+     * @return the lines as they would be if they were joined to text and split again: that drops trailing empty lines.
+     * That is the same list if nothing would change.
+     */
+    public static SourceLines of(List<String> lines) {
+        if (lines instanceof SourceLines && !lines.isEmpty() && !lines.get(lines.size() - 1).isEmpty()) {
+            return (SourceLines) lines;
+        }
+
+        return new SourceLines(Joiner.on('\n').join(lines));
+    }
+}
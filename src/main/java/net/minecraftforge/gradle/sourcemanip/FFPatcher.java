@@ -1,6 +1,5 @@
 package net.minecraftforge.gradle.sourcemanip;
 
-import com.google.code.regexp.Matcher;
 import com.google.code.regexp.Pattern;
 import com.google.common.base.Joiner;
 import com.google.common.base.Strings;
@@ -9,7 +8,9 @@ import net.minecraftforge.gradle.common.Constants;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class FFPatcher {
     static final String MODIFIERS = "public|protected|private|static|abstract|final|native|synchronized|transient|volatile|strict";
@@ -41,101 +42,97 @@ public class FFPatcher {
 
     public static final String ENUM_VALS = "(?m)^ +// \\$FF: synthetic field(\\r\\n|\\n|\\r) +private static final %s\\[\\] [$\\w]+ = new %s\\[\\]\\{.*?\\};(\\r\\n|\\n|\\r)";
 
+    private static final Pattern TRAILING_REG = Pattern.compile(TRAILING);
+    private static final Pattern NEWLINES_REG = Pattern.compile(NEWLINES);
+    private static final Pattern EMPTY_SUPER_REG = Pattern.compile(EMPTY_SUPER);
+    private static final Pattern TRAILINGZERO_REG = Pattern.compile(TRAILINGZERO);
+    private static final Pattern LINE_ENDING_REG = Pattern.compile("(\\r\\n|\\r|\\n)");
+
+    private static final String[] MODIFIER_LIST = MODIFIERS.split("\\|");
+
     public static String processFile(String fileName, String text) throws IOException {
         String classname = fileName.split("\\.")[0];
 
-        text = text.replaceAll(TRAILING, "");
+        text = TRAILING_REG.matcher(text).replaceAll("");
+
+        // matches are found in the text as it was, and replaced in the text as it is.
+        String original = text;
+        EnumMatch match;
+        int from = 0;
+        while ((match = EnumMatch.find(original, from)) != null) {
+            from = match.endIndex;
 
-        Matcher match = ENUM_CLASS.matcher(text);
-        while (match.find()) {
             // defaults.. inc ase the body isnt there
-            if (!classname.equals(match.group("name"))) {
+            if (!classname.equals(match.name)) {
                 throw new RuntimeException("ERROR PARSING ENUM !!!!! Class Name != File Name");
             }
 
-            // find all modifiers
-            ArrayList<String> mods = new ArrayList<String>();
-            Matcher modMatch = MODIFIERS_REG.matcher(match.group("modifiers"));
-            while (modMatch.find()) {
-                mods.add(modMatch.group());
-            }
-
-            // check modifiers
-            if (!Strings.isNullOrEmpty(match.group("modifiers")) && mods.isEmpty()) {
-                throw new RuntimeException("ERROR PARSING ENUM !!!!! no modifiers!");
-            }
-
             List<String> interfaces = new ArrayList<String>();
-            if (!Strings.isNullOrEmpty(match.group("implements"))) {
-                interfaces = Arrays.asList(match.group("implements").split(LIST));
+            if (!Strings.isNullOrEmpty(match.interfaces)) {
+                interfaces = Arrays.asList(match.interfaces.split(LIST));
             }
 
-            text = text.replace(match.group(), processEnum(classname, match.group("type"), mods, interfaces, match.group("body"), match.group("end")));
+            text = text.replace(match.group, processEnum(classname, match.type, match.modifiers, interfaces, match.body, match.end));
         }
 
-        text = text.replaceAll(EMPTY_SUPER, "");
-        text = text.replaceAll(TRAILINGZERO, "$1$2");
-        text = text.replaceAll(NEWLINES, Constants.NEWLINE);
+        text = EMPTY_SUPER_REG.matcher(text).replaceAll("");
+        text = TRAILINGZERO_REG.matcher(text).replaceAll("$1$2");
+        text = NEWLINES_REG.matcher(text).replaceAll(Constants.NEWLINE);
 
-        text = text.replaceAll("(\\r\\n|\\r|\\n)", Constants.NEWLINE);
-        text = text.replaceAll("(\r\n|\r|\n)", Constants.NEWLINE);
+        text = LINE_ENDING_REG.matcher(text).replaceAll(Constants.NEWLINE);
 
         return text;
     }
 
     private static String processEnum(String classname, String classtype, List<String> modifiers, List<String> interfaces, String body, String end) {
-        Matcher match = ENUM_ENTRIES.matcher(body);
-        while (match.find()) {
+        List<EntryMatch> entries = new ArrayList<EntryMatch>();
+        EntryMatch entry;
+        int from = 0;
+        while ((entry = EntryMatch.find(body, from)) != null) {
+            from = entry.endIndex;
+
             // defaults.. in case the body isnt there
             String entryBody = "";
 
-            if (!Strings.isNullOrEmpty(match.group("body"))) {
-                entryBody = "(" + match.group("body") + ")";
+            if (!Strings.isNullOrEmpty(entry.body)) {
+                entryBody = "(" + entry.body + ")";
             }
 
-            body = body.replace(match.group(), "   " + match.group("name") + entryBody + match.group("end"));
+            entry.replacement = "   " + entry.name + entryBody + entry.end;
+            entries.add(entry);
         }
 
-        String valuesRegex = String.format(ENUM_VALS, classname, classname);
-        body = body.replaceAll(valuesRegex, "");
+        body = replaceEntries(body, entries);
 
-        String conRegex = String.format(CONSTRUCTOR, classname);
-        match = Pattern.compile(conRegex).matcher(body);
+        body = removeValues(body, classname);
 
         // process constructors
-        while (match.find()) {
-            // find all modifiers
-            ArrayList<String> mods = new ArrayList<String>();
-            Matcher modMatch = MODIFIERS_REG.matcher(match.group("modifiers"));
-            while (modMatch.find()) {
-                mods.add(modMatch.group());
-            }
-
-            // check modifiers
-            if (!Strings.isNullOrEmpty(match.group("modifiers")) && mods.isEmpty()) {
-                throw new RuntimeException("ERROR PARSING ENUM CONSTRUCTOR! !!!!! no modifiers!");
-            }
+        String original = body;
+        ConstructorMatch match;
+        from = 0;
+        while ((match = ConstructorMatch.find(original, from, classname)) != null) {
+            from = match.endIndex;
 
             List<String> params = new ArrayList<String>();
-            if (!Strings.isNullOrEmpty(match.group("parameters"))) {
-                params = Arrays.asList(match.group("parameters").split(LIST));
+            if (!Strings.isNullOrEmpty(match.parameters)) {
+                params = Arrays.asList(match.parameters.split(LIST));
             }
 
             List<String> exc = new ArrayList<String>();
-            if (!Strings.isNullOrEmpty(match.group("throws"))) {
-                exc = Arrays.asList(match.group("throws").split(LIST));
+            if (!Strings.isNullOrEmpty(match.exceptions)) {
+                exc = Arrays.asList(match.exceptions.split(LIST));
             }
 
             String methodBody, methodEnd;
-            if (!Strings.isNullOrEmpty(match.group("empty"))) {
+            if (!Strings.isNullOrEmpty(match.empty)) {
                 methodBody = "";
-                methodEnd = match.group("empty");
+                methodEnd = match.empty;
             } else {
-                methodBody = match.group("body");
-                methodEnd = match.group("end");
+                methodBody = match.body;
+                methodEnd = match.end;
             }
 
-            body = body.replace(match.group(), processConstructor(classname, mods, params, exc, methodBody, methodEnd));
+            body = body.replace(match.group, processConstructor(classname, match.modifiers, params, exc, methodBody, methodEnd));
         }
 
         // rebuild enum
@@ -156,6 +153,450 @@ public class FFPatcher {
         return out.toString();
     }
 
+    /**
+     * Replaces each entry where it was found. Replacing every copy of each entry in turn, as this used to do, comes to the
+     * same thing unless the text of an entry is somewhere else too. Only then is that done instead.
+     */
+    private static String replaceEntries(String body, List<EntryMatch> entries) {
+        if (!isUnique(body, entries)) {
+            for (EntryMatch entry : entries) {
+                body = body.replace(entry.group, entry.replacement);
+            }
+            return body;
+        }
+
+        StringBuilder out = new StringBuilder(body.length());
+        int copied = 0;
+        for (EntryMatch entry : entries) {
+            out.append(body, copied, entry.start).append(entry.replacement);
+            copied = entry.endIndex;
+        }
+        return out.append(body, copied, body.length()).toString();
+    }
+
+    /**
+     * @return false if the text of an entry could be somewhere else in the body, before or after the others are replaced.
+     * An entry is spaces, then the rest of a line, then line endings. So another copy would be at the end of a line after a space.
+     */
+    private static boolean isUnique(String body, List<EntryMatch> entries) {
+        // entry line without the indent -> where it starts
+        Map<String, Integer> lines = new HashMap<String, Integer>();
+        for (EntryMatch entry : entries) {
+            if (lines.put(body.substring(entry.lineStart, entry.lineEnd), entry.lineStart) != null)
+                return false;
+        }
+
+        if (lines.isEmpty())
+            return true;
+
+        int start = 0;
+        for (int i = 0; i <= body.length(); i++) {
+            if (i == body.length() || isLineEnding(body.charAt(i))) {
+                if (!isUnique(body, start, i, lines, true))
+                    return false;
+                start = i + 1;
+            }
+        }
+
+        for (EntryMatch entry : entries) {
+            String line = entry.replacement;
+            int end = line.length();
+            while (isLineEnding(line.charAt(end - 1)))
+                end--;
+            if (!isUnique(line, 0, end, lines, false))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * @param original true if the text is the body, where an entry line is not a copy of itself
+     */
+    private static boolean isUnique(String text, int start, int end, Map<String, Integer> lines, boolean original) {
+        // entries end with ); or ),
+        if (end - start < 3 || text.charAt(end - 2) != ')' || (text.charAt(end - 1) != ';' && text.charAt(end - 1) != ','))
+            return true;
+
+        for (int i = start + 1; i < end; i++) {
+            if (text.charAt(i - 1) != ' ' || text.charAt(i) == ' ')
+                continue;
+
+            Integer found = lines.get(text.substring(i, end));
+            if (found != null && (!original || found != i))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Removes the synthetic $VALUES fields, same as replacing ENUM_VALS.
+     */
+    private static String removeValues(String body, String classname) {
+        // a $ in the name would be an anchor in the pattern, which never matches
+        if (classname.indexOf('$') >= 0)
+            return body;
+
+        String field = "private static final " + classname + "[] ";
+        String init = " = new " + classname + "[]{";
+
+        StringBuilder out = null;
+        int copied = 0;
+        for (int i = nextLineStart(body, 0); i >= 0; ) {
+            int end = matchValues(body, i, field, init);
+            if (end < 0) {
+                i = nextLineStart(body, i + 1);
+                continue;
+            }
+
+            if (out == null)
+                out = new StringBuilder(body.length());
+            out.append(body, copied, i);
+            copied = end;
+            i = nextLineStart(body, end);
+        }
+
+        if (out == null)
+            return body;
+
+        return out.append(body, copied, body.length()).toString();
+    }
+
+    // ^ +// \$FF: synthetic field(\r\n|\n|\r) +private static final %s\[\] [$\w]+ = new %s\[\]\{.*?\};(\r\n|\n|\r)
+    private static int matchValues(String text, int i, String field, String init) {
+        i = skipSpaces(text, i);
+        if (i < 0 || !text.startsWith("// $FF: synthetic field", i))
+            return -1;
+
+        i = skipLineEnding(text, i + 23);
+        if (i < 0)
+            return -1;
+
+        i = skipSpaces(text, i);
+        if (i < 0 || !text.startsWith(field, i))
+            return -1;
+
+        i = skipWord(text, i + field.length(), false);
+        if (i < 0 || !text.startsWith(init, i))
+            return -1;
+
+        for (i += init.length(); i < text.length() && !isLineTerminator(text.charAt(i)); i++) {
+            if (text.startsWith("};", i) && i + 2 < text.length() && isLineEnding(text.charAt(i + 2)))
+                return skipLineEnding(text, i + 2);
+        }
+        return -1;
+    }
+
+    /**
+     * An enum class, found the same as ENUM_CLASS does: a declaration at the start of a line,
+     * and everything up to the first line that starts with a }.
+     */
+    private static final class EnumMatch {
+        String group, type, name, interfaces, body, end;
+        List<String> modifiers = new ArrayList<String>();
+        int endIndex;
+
+        static EnumMatch find(String text, int from) {
+            for (int i = nextLineStart(text, from); i >= 0; i = nextLineStart(text, i + 1)) {
+                EnumMatch match = match(text, i);
+                if (match != null)
+                    return match;
+            }
+            return null;
+        }
+
+        private static EnumMatch match(String text, int start) {
+            EnumMatch match = new EnumMatch();
+            int i = skipModifiers(text, start, match.modifiers);
+            if (!text.startsWith("enum ", i))
+                return null;
+
+            int nameEnd = skipWord(text, i + 5, false);
+            if (nameEnd < 0)
+                return null;
+
+            int brace = -1;
+            if (text.startsWith(" implements ", nameEnd)) {
+                int listEnd = skipList(text, nameEnd + 12);
+                if (listEnd >= 0 && text.startsWith(" {", listEnd)) {
+                    match.interfaces = text.substring(nameEnd + 12, listEnd);
+                    brace = listEnd;
+                }
+            }
+            if (brace < 0) {
+                if (!text.startsWith(" {", nameEnd))
+                    return null;
+                brace = nameEnd;
+            }
+
+            int bodyStart = skipLineEnding(text, brace + 2);
+            if (bodyStart < 0)
+                return null;
+
+            int end = bodyStart;
+            while (end < text.length() && text.charAt(end) != '}') {
+                end = skipLine(text, end);
+                if (end < 0)
+                    return null;
+            }
+            if (end == text.length())
+                return null;
+
+            match.type = "enum";
+            match.name = text.substring(i + 5, nameEnd);
+            match.body = text.substring(bodyStart, end);
+            match.end = "}";
+            match.endIndex = end + 1;
+            match.group = text.substring(start, match.endIndex);
+            return match;
+        }
+    }
+
+    /**
+     * An enum entry as fernflower writes it, with its name and ordinal. Same as ENUM_ENTRIES.
+     */
+    private static final class EntryMatch {
+        String group, name, body, end, replacement;
+        // the match, and the part of it after the indent and before the line endings
+        int start, endIndex, lineStart, lineEnd;
+
+        static EntryMatch find(String text, int from) {
+            for (int i = nextLineStart(text, from); i >= 0; i = nextLineStart(text, i + 1)) {
+                EntryMatch match = match(text, i);
+                if (match != null)
+                    return match;
+            }
+            return null;
+        }
+
+        private static EntryMatch match(String text, int start) {
+            int i = skipSpaces(text, start);
+            if (i < 0)
+                return null;
+
+            int nameEnd = skipWord(text, i, false);
+            if (nameEnd < 0 || !text.startsWith("(\"", nameEnd))
+                return null;
+
+            int quoted = skipWord(text, nameEnd + 2, false);
+            if (quoted < 0 || !text.startsWith("\", ", quoted))
+                return null;
+
+            int ordinalEnd = quoted + 3;
+            while (ordinalEnd < text.length() && text.charAt(ordinalEnd) >= '0' && text.charAt(ordinalEnd) <= '9')
+                ordinalEnd++;
+            if (ordinalEnd == quoted + 3)
+                return null;
+
+            EntryMatch match = new EntryMatch();
+            int close = -1;
+            if (text.startsWith(", ", ordinalEnd)) {
+                // the shortest body that is followed by the end
+                for (int j = ordinalEnd + 2; j < text.length() && !isLineTerminator(text.charAt(j)); j++) {
+                    if (isEntryEnd(text, j)) {
+                        match.body = text.substring(ordinalEnd + 2, j);
+                        close = j;
+                        break;
+                    }
+                }
+            } else if (isEntryEnd(text, ordinalEnd)) {
+                close = ordinalEnd;
+            }
+
+            if (close < 0)
+                return null;
+
+            match.name = text.substring(i, nameEnd);
+            match.start = start;
+            match.lineStart = i;
+            match.lineEnd = close + 2;
+            match.endIndex = skipLineEndings(text, close + 2);
+            match.end = text.substring(close + 1, match.endIndex);
+            match.group = text.substring(start, match.endIndex);
+            return match;
+        }
+
+        // \)(?:;|,)(?:\r\n|\n|\r)+
+        private static boolean isEntryEnd(String text, int i) {
+            return i + 2 < text.length() && text.charAt(i) == ')' && (text.charAt(i + 1) == ';' || text.charAt(i + 1) == ',') && isLineEnding(text.charAt(i + 2));
+        }
+    }
+
+    /**
+     * A constructor of the enum, either empty or up to the first line that is an indented }. Same as CONSTRUCTOR.
+     */
+    private static final class ConstructorMatch {
+        String group, parameters, exceptions, empty, body, end;
+        List<String> modifiers = new ArrayList<String>();
+        int endIndex;
+
+        static ConstructorMatch find(String text, int from, String classname) {
+            // a $ in the name would be an anchor in the pattern, which never matches
+            if (classname.indexOf('$') >= 0)
+                return null;
+
+            for (int i = nextLineStart(text, from); i >= 0; i = nextLineStart(text, i + 1)) {
+                ConstructorMatch match = match(text, i, classname);
+                if (match != null)
+                    return match;
+            }
+            return null;
+        }
+
+        private static ConstructorMatch match(String text, int start, String classname) {
+            int i = skipSpaces(text, start);
+            if (i < 0)
+                return null;
+
+            ConstructorMatch match = new ConstructorMatch();
+            i = skipModifiers(text, i, match.modifiers);
+            if (!text.startsWith(classname, i) || !text.startsWith("(", i + classname.length()))
+                return null;
+
+            // the shortest parameters that are followed by the rest
+            int params = i + classname.length() + 1;
+            for (int close = params; close < text.length() && !isLineTerminator(text.charAt(close)); close++) {
+                if (text.charAt(close) == ')' && matchRest(text, close + 1, match)) {
+                    match.parameters = text.substring(params, close);
+                    match.group = text.substring(start, match.endIndex);
+                    return match;
+                }
+            }
+            return null;
+        }
+
+        private static boolean matchRest(String text, int i, ConstructorMatch match) {
+            if (text.startsWith(" throws ", i)) {
+                int listEnd = skipList(text, i + 8);
+                if (listEnd >= 0 && text.startsWith(" {", listEnd) && matchBody(text, listEnd + 2, match)) {
+                    match.exceptions = text.substring(i + 8, listEnd);
+                    return true;
+                }
+            }
+
+            return text.startsWith(" {", i) && matchBody(text, i + 2, match);
+        }
+
+        private static boolean matchBody(String text, int start, ConstructorMatch match) {
+            if (start + 1 < text.length() && text.charAt(start) == '}' && isLineEnding(text.charAt(start + 1))) {
+                match.endIndex = skipLineEndings(text, start + 1);
+                match.empty = text.substring(start, match.endIndex);
+                return true;
+            }
+
+            int i = skipLineEnding(text, start);
+            while (i >= 0) {
+                if (text.startsWith("   }", i) && i + 4 < text.length() && isLineEnding(text.charAt(i + 4))) {
+                    match.body = text.substring(start, i);
+                    match.endIndex = skipLineEndings(text, i + 4);
+                    match.end = text.substring(i, match.endIndex);
+                    return true;
+                }
+                i = skipLine(text, i);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * @return the next index where ^ matches in multiline mode: the start of the text, or after a line terminator,
+     * but not between \r and \n or at the end of the text. -1 if there is none.
+     */
+    private static int nextLineStart(String text, int i) {
+        for (; i < text.length(); i++) {
+            if (i == 0)
+                return i;
+
+            char prev = text.charAt(i - 1);
+            if (isLineTerminator(prev) && (prev != '\r' || text.charAt(i) != '\n'))
+                return i;
+        }
+        return -1;
+    }
+
+    // what . doesn't match
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static boolean isLineEnding(char c) {
+        return c == '\n' || c == '\r';
+    }
+
+    // \r\n|\r|\n
+    private static int skipLineEnding(String text, int i) {
+        if (i >= text.length() || !isLineEnding(text.charAt(i)))
+            return -1;
+
+        if (text.charAt(i) == '\r' && i + 1 < text.length() && text.charAt(i + 1) == '\n')
+            return i + 2;
+
+        return i + 1;
+    }
+
+    // (?:\r\n|\r|\n)+
+    private static int skipLineEndings(String text, int i) {
+        while (i < text.length() && isLineEnding(text.charAt(i)))
+            i++;
+        return i;
+    }
+
+    // .*(?:\r\n|\r|\n)
+    private static int skipLine(String text, int i) {
+        while (i < text.length() && !isLineTerminator(text.charAt(i)))
+            i++;
+        return skipLineEnding(text, i);
+    }
+
+    // ' +'
+    private static int skipSpaces(String text, int i) {
+        int start = i;
+        while (i < text.length() && text.charAt(i) == ' ')
+            i++;
+        return i == start ? -1 : i;
+    }
+
+    // [\w$]+ or [\w$.]+
+    private static int skipWord(String text, int i, boolean dots) {
+        int start = i;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '$' || (dots && c == '.')))
+                break;
+            i++;
+        }
+        return i == start ? -1 : i;
+    }
+
+    // [\w$.]+(?:, [\w$.]+)*
+    private static int skipList(String text, int i) {
+        i = skipWord(text, i, true);
+        while (i >= 0 && text.startsWith(", ", i)) {
+            int next = skipWord(text, i + 2, true);
+            if (next < 0)
+                break;
+            i = next;
+        }
+        return i;
+    }
+
+    // (?:(?:MODIFIERS) )*
+    private static int skipModifiers(String text, int i, List<String> mods) {
+        boolean found = true;
+        while (found) {
+            found = false;
+            for (String mod : MODIFIER_LIST) {
+                if (text.startsWith(mod, i) && text.startsWith(" ", i + mod.length())) {
+                    mods.add(mod);
+                    i += mod.length() + 1;
+                    found = true;
+                    break;
+                }
+            }
+        }
+        return i;
+    }
+
     private static String processConstructor(String classname, List<String> mods, List<String> params, List<String> exc, String methodBody, String methodEnd) {
         if (params.size() >= 2) {
             // special case?
@@ -20,6 +20,7 @@ public class FmlCleanup {
     private static final Pattern ARRAY = Pattern.compile("(\\[|\\.\\.\\.)");
     private static final Pattern VAR_CALL = Pattern.compile("(?i)[a-z_$][a-z0-9_\\[\\]]+ var\\d+");
     private static final Pattern VAR = Pattern.compile("var\\d+");
+    private static final Pattern LINES = Pattern.compile("(\r\n|\r|\n)");
 
     private static final Comparator<String> COMPARATOR = new Comparator<String>() {
         @Override
@@ -29,11 +30,18 @@ public class FmlCleanup {
     };
 
     public static String renameClass(String text) {
-        String[] lines = text.split("(\r\n|\r|\n)");
-        String output = "";
+        return renameClass(Arrays.asList(LINES.split(text)), text.length());
+    }
+
+    /**
+     * @param lines  the lines of the text, as renameClass(String) splits them
+     * @param length the length of the text, to size the output
+     */
+    static String renameClass(List<String> lines, int length) {
+        StringBuilder output = new StringBuilder(length + length / 8);
 
         boolean insideMethod = false;
-        String method = "";
+        StringBuilder method = new StringBuilder();
         ArrayList<String> methodVars = new ArrayList<String>();
         boolean skip = false;
 
@@ -49,7 +57,7 @@ public class FmlCleanup {
                     }
                 }
 
-                method += line + Constants.NEWLINE;
+                method.append(line).append(Constants.NEWLINE);
                 // method += line
 
                 // single line method?
@@ -74,7 +82,7 @@ public class FmlCleanup {
                     continue;
                 }
 
-                method += line + Constants.NEWLINE;
+                method.append(line).append(Constants.NEWLINE);
 
                 Matcher matcher = CATCH_REG.matcher(line);
                 if (matcher.find()) {
@@ -88,7 +96,7 @@ public class FmlCleanup {
                     }
                 }
             } else {
-                if (!Strings.isNullOrEmpty(method)) {
+                if (method.length() > 0) {
                     FmlCleanup namer = new FmlCleanup();
                     HashMap<String, String> todo = new HashMap<String, String>();
 
@@ -101,21 +109,11 @@ public class FmlCleanup {
                         }
                     }
 
-                    List<String> sortedKeys = new ArrayList<String>(todo.keySet());
-                    Collections.sort(sortedKeys, COMPARATOR);
-
-                    // closure changes the sort, to sort by the return value of the closure.
-                    for (String key : sortedKeys) {
-                        if (VAR.matcher(key).matches()) {
-                            method = method.replace(key, todo.get(key));
-                        }
-                    }
-
-                    output += method;
+                    renameVars(method, todo, output);
 
                     // clear methods.
                     methodVars.clear();
-                    method = "";
+                    method.setLength(0);
                 }
 
                 if (skip) {
@@ -123,11 +121,93 @@ public class FmlCleanup {
                     continue;
                 }
 
-                output += line + Constants.NEWLINE;
+                output.append(line).append(Constants.NEWLINE);
+            }
+        }
+
+        return output.toString();
+    }
+
+    /**
+     * Appends the method to the output, with every varN in the map replaced by its new name.
+     * Like replacing the names one after another, longest first, this also replaces them inside longer words.
+     */
+    private static void renameVars(CharSequence method, Map<String, String> todo, StringBuilder output) {
+        HashMap<String, String> names = new HashMap<String, String>();
+        for (Map.Entry<String, String> e : todo.entrySet()) {
+            if (VAR.matcher(e.getKey()).matches()) {
+                names.put(e.getKey(), e.getValue());
             }
         }
 
-        return output;
+        if (names.isEmpty()) {
+            output.append(method);
+            return;
+        }
+
+        for (String name : names.values()) {
+            if (!isSafeName(name)) {
+                output.append(renameVarsSlow(method.toString(), names));
+                return;
+            }
+        }
+
+        int pos = 0;
+        int index;
+        String str = method.toString();
+        while ((index = str.indexOf("var", pos)) >= 0) {
+            int end = index + 3;
+            while (end < str.length() && str.charAt(end) >= '0' && str.charAt(end) <= '9') {
+                end++;
+            }
+
+            // the longest known name that starts here
+            String name = null;
+            for (; end > index + 3; end--) {
+                name = names.get(str.substring(index, end));
+                if (name != null) {
+                    break;
+                }
+            }
+
+            if (name == null) {
+                output.append(str, pos, index + 3);
+            } else {
+                output.append(str, pos, index).append(name);
+            }
+            pos = end;
+        }
+        output.append(str, pos, str.length());
+    }
+
+    /**
+     * @return false if the name could make a new varN when it is put in the text, which a later replace would pick up.
+     */
+    private static boolean isSafeName(String name) {
+        if (name.isEmpty() || name.equals("a") || name.contains("var") || name.endsWith("v") || name.endsWith("va")) {
+            return false;
+        }
+
+        // the end of a var, or the digits after one
+        int start = name.startsWith("r") ? 1 : name.startsWith("ar") ? 2 : 0;
+        if (start == name.length()) {
+            return false;
+        }
+
+        char c = name.charAt(start);
+        return c < '0' || c > '9';
+    }
+
+    private static String renameVarsSlow(String method, Map<String, String> names) {
+        List<String> sortedKeys = new ArrayList<String>(names.keySet());
+        Collections.sort(sortedKeys, COMPARATOR);
+
+        // closure changes the sort, to sort by the return value of the closure.
+        for (String key : sortedKeys) {
+            method = method.replace(key, names.get(key));
+        }
+
+        return method;
     }
 
     HashMap<String, Holder> last;
@@ -11,6 +11,9 @@ import net.minecraftforge.gradle.common.Constants;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -32,17 +35,75 @@ public class GLConstantFixer {
     };
 
     private static final JdomParser JDOM_PARSER = new JdomParser();
-    private final JsonRootNode json;
+    // "package.method" -> constant -> replacement, read from the gl.json once
+    private static Map<String, Map<String, String>> cache;
+    private final Map<String, Map<String, String>> index;
     public static final Pattern CALL_REGEX = Pattern.compile("(" + Joiner.on("|").join(PACKAGES) + ")\\.([\\w]+)\\(.+\\)");
     public static final Pattern CONSTANT_REGEX = Pattern.compile("(?<![-.\\w])\\d+(?![.\\w])");
     private static final String ADD_AFTER = "org.lwjgl.opengl.GL11";
     private static final String CHECK = "org.lwjgl.opengl.";
     private static final String IMPORT_CHECK = "import " + CHECK;
     private static final String IMPORT_REPLACE = "import " + ADD_AFTER + ";";
+    // what tells that a package is used, and its import, for each of the PACKAGES
+    private static final String[] USES = new String[PACKAGES.length];
+    private static final String[] IMPORTS = new String[PACKAGES.length];
+
+    static {
+        for (int i = 0; i < PACKAGES.length; i++) {
+            USES[i] = PACKAGES[i] + ".";
+            IMPORTS[i] = "import " + CHECK + PACKAGES[i] + ";";
+        }
+    }
 
+    /**
+     * The fixer holds no state of its own, so one can be shared by any number of threads.
+     */
     public GLConstantFixer() throws IOException, InvalidSyntaxException {
-        String text = Resources.toString(Resources.getResource("gl.json"), Charset.defaultCharset());
-        json = JDOM_PARSER.parse(text);
+        index = getIndex();
+    }
+
+    private static synchronized Map<String, Map<String, String>> getIndex() throws IOException, InvalidSyntaxException {
+        if (cache == null) {
+            String text = Resources.toString(Resources.getResource("gl.json"), Charset.defaultCharset());
+            cache = buildIndex(JDOM_PARSER.parse(text));
+        }
+
+        return cache;
+    }
+
+    /**
+     * Every group of the JSON is a list of methods per package, and the constants those methods take.
+     * If several groups know the same constant for a method, the last one wins, as the groups are read in order.
+     */
+    private static Map<String, Map<String, String>> buildIndex(JsonRootNode json) {
+        Map<String, Map<String, String>> ret = new HashMap<String, Map<String, String>>();
+
+        for (JsonNode group : json.getElements()) {
+            Map<JsonStringNode, JsonNode> methods = group.getElements().get(0).getFields();
+            Map<JsonStringNode, JsonNode> constants = group.getElements().get(1).getFields();
+
+            for (Map.Entry<JsonStringNode, JsonNode> pack : methods.entrySet()) {
+                for (JsonNode method : pack.getValue().getElements()) {
+                    String key = pack.getKey().getText() + "." + method.getText();
+                    Map<String, String> known = ret.get(key);
+                    if (known == null) {
+                        known = new HashMap<String, String>();
+                        ret.put(key, known);
+                    }
+
+                    for (Map.Entry<JsonStringNode, JsonNode> entry : constants.entrySet()) {
+                        for (JsonStringNode constant : entry.getValue().getFields().keySet()) {
+                            known.put(constant.getText(), entry.getKey().getText() + "." + entry.getValue().getStringValue(constant.getText()));
+                        }
+                    }
+                }
+            }
+        }
+
+        for (Map.Entry<String, Map<String, String>> e : ret.entrySet()) {
+            e.setValue(Collections.unmodifiableMap(e.getValue()));
+        }
+        return Collections.unmodifiableMap(ret);
     }
 
     public String fixOGL(String text) {
@@ -51,61 +112,118 @@ public class GLConstantFixer {
             return text;
         }
 
-        text = annotateConstants(text);
+        SourceLines lines = SourceLines.split(text);
+        StringBuilder out = new StringBuilder(text.length() + 256);
+        Lines stage = new Lines(out);
+        for (int i = 0; i < lines.count; i++) {
+            int start = out.length();
+            out.append(lines.text, lines.starts[i], lines.ends[i] - lines.starts[i]);
+            if (mayUseGL(lines.text, lines.starts[i], lines.ends[i]))
+                stage.line(start);
+            out.append(SourceLines.NEWLINES[lines.newlines[i]]);
+        }
+        stage.finish();
+
+        return out.toString();
+    }
+
+    /**
+     * @return the fixer as a stage of the cleanup that writes the lines to out, or null if the file doesn't import
+     * anything of openGL. The lines have to have every "import " at the start of a line for that.
+     */
+    Lines newStage(SourceLines lines, StringBuilder out) {
+        return lines.hasImport(IMPORT_CHECK) ? new Lines(out) : null;
+    }
+
+    /**
+     * @return false if there is no GL or ARB in the line, nothing in it is of any interest to the fixer then
+     */
+    private static boolean mayUseGL(char[] text, int start, int end) {
+        for (int i = start; i < end - 1; i++) {
+            if ((text[i] == 'G' && text[i + 1] == 'L') || (text[i] == 'A' && SourceLines.startsWith(text, i, end, "ARB")))
+                return true;
+        }
+        return false;
+    }
 
-        for (String pack : PACKAGES) {
-            if (text.contains(pack + ".")) {
-                text = updateImports(text, CHECK + pack);
+    /**
+     * Does what fixOGL does, to the lines as they are written. The constants of the calls in a line are fixed right
+     * away, as no call goes over a line break, and the imports are added by {@link #finish()}, once it is known
+     * which packages are used. Only the lines that have GL or ARB in them have to be handed to it.
+     */
+    final class Lines {
+        private final StringBuilder out;
+        // bits of the PACKAGES that are used, and that are imported
+        private int used;
+        private int imported;
+        // where the imports go, right after every import of GL11
+        private final List<Integer> anchors = new ArrayList<Integer>();
+
+        private Lines(StringBuilder out) {
+            this.out = out;
+        }
+
+        /**
+         * Fixes the line from start to the end of out, which has no line terminator yet.
+         */
+        void line(int start) {
+            String line = out.substring(start);
+            String fixed = annotateConstants(line);
+            if (!fixed.equals(line)) {
+                out.setLength(start);
+                out.append(fixed);
+            }
+
+            for (int i = 0; i < PACKAGES.length; i++) {
+                if (fixed.contains(USES[i]))
+                    used |= 1 << i;
+                if (fixed.contains(IMPORTS[i]))
+                    imported |= 1 << i;
             }
+
+            for (int at = fixed.indexOf(IMPORT_REPLACE); at >= 0; at = fixed.indexOf(IMPORT_REPLACE, at + IMPORT_REPLACE.length()))
+                anchors.add(start + at + IMPORT_REPLACE.length());
         }
 
-        return text;
+        /**
+         * Adds the imports of the packages that are used but not imported.
+         */
+        void finish() {
+            // each one went right after GL11, in front of the ones before it
+            StringBuilder add = new StringBuilder();
+            for (int i = PACKAGES.length - 1; i >= 0; i--) {
+                if ((used & ~imported & 1 << i) != 0)
+                    add.append(Constants.NEWLINE).append(IMPORTS[i]);
+            }
+
+            if (add.length() == 0)
+                return;
+
+            for (int i = anchors.size() - 1; i >= 0; i--)
+                out.insert(anchors.get(i), add);
+        }
     }
 
     private String annotateConstants(String text) {
         Matcher rootMatch = CALL_REGEX.matcher(text);
-        String pack, method, fullCall;
-        JsonNode listNode;
         StringBuffer out = new StringBuffer(text.length());
-        StringBuffer innerOut;
 
         // search with regex.
         while (rootMatch.find()) {
-            // helper variables
-            fullCall = rootMatch.group();
-            pack = rootMatch.group(1);
-            method = rootMatch.group(2);
+            Map<String, String> known = index.get(rootMatch.group(1) + "." + rootMatch.group(2));
+
+            // nothing to replace in calls the JSON doesn't know.
+            if (known == null) {
+                continue;
+            }
 
+            String fullCall = rootMatch.group();
             Matcher constantMatcher = CONSTANT_REGEX.matcher(fullCall);
-            innerOut = new StringBuffer(fullCall.length());
+            StringBuffer innerOut = new StringBuffer(fullCall.length());
 
             // search for hardcoded numbers
             while (constantMatcher.find()) {
-                // helper variables and return variable.
-                String constant = constantMatcher.group();
-                String answer = null;
-
-                // iterrate over the JSON
-                for (JsonNode group : json.getElements()) {
-                    // the list part object
-                    listNode = group.getElements().get(0);
-
-                    // ensure that the package and method are defined
-                    if (listNode.isNode(pack) && jsonArrayContains(listNode.getArrayNode(pack), method)) {
-                        // now the map part object
-                        listNode = group.getElements().get(1);
-
-                        // itterrate through the map.
-                        for (Map.Entry<JsonStringNode, JsonNode> entry : listNode.getFields().entrySet()) {
-                            // find the actual constant for the number from the regex
-                            if (entry.getValue().isNode(constant)) {
-                                // construct the final line
-                                answer = entry.getKey().getText() + "." + entry.getValue().getStringValue(constant);
-                            }
-                        }
-                    }
-
-                }
+                String answer = known.get(constantMatcher.group());
 
                 // replace the final line.
                 if (answer != null) {
@@ -114,34 +232,11 @@ public class GLConstantFixer {
             }
             constantMatcher.appendTail(innerOut);
 
-            // replace the final line.
-            if (fullCall != null) {
-                rootMatch.appendReplacement(out, Matcher.quoteReplacement(innerOut.toString()));
-            }
+            rootMatch.appendReplacement(out, Matcher.quoteReplacement(innerOut.toString()));
         }
         rootMatch.appendTail(out);
 
         return out.toString();
     }
 
-    private boolean jsonArrayContains(List<JsonNode> nodes, String str) {
-        boolean hasMethod = false;
-        for (JsonNode testMethod : nodes) {
-            hasMethod = testMethod.getText().equals(str);
-            if (hasMethod) {
-                return hasMethod;
-            }
-        }
-
-        return false;
-    }
-
-    private String updateImports(String text, String imp) {
-        if (!text.contains("import " + imp + ";")) {
-            text = text.replace(IMPORT_REPLACE, IMPORT_REPLACE + Constants.NEWLINE + "import " + imp + ";");
-        }
-
-        return text;
-    }
-
 }
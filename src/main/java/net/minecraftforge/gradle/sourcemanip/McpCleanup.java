@@ -2,99 +2,274 @@ package net.minecraftforge.gradle.sourcemanip;
 
 import net.minecraftforge.gradle.common.Constants;
 
-import java.io.StringReader;
-import java.io.StringWriter;
-import java.util.regex.Matcher;
+import java.util.Arrays;
 import java.util.regex.Pattern;
 
 public class McpCleanup {
     public static final Pattern COMMENTS_TRAILING = Pattern.compile("(?m)[ \\t]+$");
     public static final Pattern COMMENTS_NEWLINES = Pattern.compile("(?m)^(?:\\r\\n|\\r|\\n){2,}");
 
+    /**
+     * Strips the comments, then the trailing whitespace like {@link #COMMENTS_TRAILING}, and squashes empty lines like
+     * {@link #COMMENTS_NEWLINES}, all in one walk over the chars of the text.
+     * <p>
+     * The comments are found the way they always were, patches are made against the result: a char literal is
+     * its quote and the two chars after it, and a * or / copies the char after it as is, even in a block comment
+     * or a string. Only the end of the text is handled differently, it used to hang in a line comment there.
+     */
     public static String stripComments(String text) {
-        StringReader in = new StringReader(text);
-        StringWriter out = new StringWriter(text.length());
-        boolean inComment = false;
-        boolean inString = false;
-        char c;
-        int ci;
-        try {
-            while ((ci = in.read()) != -1) {
-                c = (char) ci;
+        return lex(text).toString();
+    }
+
+    /**
+     * Does what {@link #stripComments(String)} does, and hands on the lines of the result, as the comment stripper
+     * finds them while it writes the text. This is the only time the text itself is walked before the layout.
+     */
+    static SourceLines lex(String text) {
+        return new CommentStripper(text).strip();
+    }
+
+    private static final class CommentStripper {
+        // the ASCII chars comments are found by, and the whitespace and line breaks, anything else is copied as it is
+        private static final boolean[] SPECIAL = new boolean[128];
+
+        static {
+            for (char c : "\\\"'*/ \t\r\n".toCharArray())
+                SPECIAL[c] = true;
+        }
+
+        private final char[] in;
+        private int pos;
+        // the output never gets longer than the input, but it is grown like a StringBuilder all the same
+        private char[] out;
+        private int length;
+
+        private final SourceLines lines = new SourceLines();
+        // where the line that is being written starts
+        private int lineStart;
+
+        private boolean inComment;
+        private boolean inString;
+
+        // where the spaces and tabs at the end of the output start, -1 if there are none
+        private int spaces = -1;
+        // where the \r and \n before them start, -1 if there are none
+        private int breaks = -1;
+
+        CommentStripper(String text) {
+            in = text.toCharArray();
+            out = new char[in.length + 16];
+        }
+
+        SourceLines strip() {
+            while (pos < in.length) {
+                char c = in[pos++];
                 switch (c) {
                     case '\\': {
-                        out.write(c);
-                        out.write(in.read());//Skip escaped chars
+                        write(c);
+                        copy(); // skip escaped chars
                         break;
                     }
                     case '\"': {
                         if (!inComment) {
-                            out.write(c);
+                            write(c);
                             inString = !inString;
                         }
                         break;
                     }
                     case '\'': {
                         if (!inComment) {
-                            out.write(c);
-                            out.write(in.read());
-                            out.write(in.read());
+                            write(c);
+                            copy();
+                            copy();
                         }
                         break;
                     }
                     case '*': {
-                        char c2 = (char) in.read();
-                        if (inComment && c2 == '/') {
+                        if (inComment && pos < in.length && in[pos] == '/') {
+                            pos++;
                             inComment = false;
-                            out.write(' ');//Allows int x = 3; int y = -/**/-x; to work
+                            write(' '); // allows int x = 3; int y = -/**/-x; to work
                         } else {
-                            out.write(c);
-                            out.write(c2);
+                            write(c);
+                            copy();
                         }
                         break;
                     }
                     case '/': {
-                        if (!inString) {
-                            char c2 = (char) in.read();
-                            switch (c2) {
-                                case '/':
-                                    char c3 = 0;
-                                    while (c3 != '\n' && c3 != '\r') {
-                                        c3 = (char) in.read();
-                                    }
-                                    out.write(c3);//write newline
-                                    break;
-                                case '*':
-                                    inComment = true;
-                                    break;
-                                default:
-                                    out.write(c);
-                                    out.write(c2);
-                                    break;
-                            }
+                        if (inString || pos == in.length) {
+                            write(c);
+                        } else if (in[pos] == '/') {
+                            // keep the line break
+                            while (++pos < in.length && in[pos] != '\n' && in[pos] != '\r')
+                                ;
+                            copy();
+                        } else if (in[pos] == '*') {
+                            pos++;
+                            inComment = true;
                         } else {
-                            out.write(c);
+                            write(c);
+                            copy();
                         }
                         break;
                     }
                     default: {
-                        if (!inComment) {
-                            out.write(c);
+                        int start = pos - 1;
+                        if (inComment) {
+                            // only these do anything in a comment
+                            while (pos < in.length && in[pos] != '\\' && in[pos] != '*' && in[pos] != '/')
+                                pos++;
+                        } else if (isPlain(c)) {
+                            while (pos < in.length && isPlain(in[pos]))
+                                pos++;
+                            endBreaks();
+                            spaces = -1;
+                            append(in, start, pos - start);
+                        } else if (c == ' ' || c == '\t') {
+                            // indents
+                            while (pos < in.length && (in[pos] == ' ' || in[pos] == '\t'))
+                                pos++;
+                            startSpaces(c);
+                            append(in, start, pos - start);
+                        } else {
+                            write(c);
                         }
                         break;
                     }
                 }
             }
-            out.close();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+
+            trimSpaces();
+            endBreaks();
+            lines.add(out, lineStart, length, SourceLines.NONE);
+            lines.setText(out, length);
+            return lines;
+        }
+
+        private static boolean isPlain(char c) {
+            return c < 128 ? !SPECIAL[c] : !isOtherBreak(c);
         }
-        text = out.toString();
 
-        text = COMMENTS_TRAILING.matcher(text).replaceAll("");
-        text = COMMENTS_NEWLINES.matcher(text).replaceAll(Constants.NEWLINE);
+        /**
+         * @return true for the line terminators other than \r and \n
+         */
+        private static boolean isOtherBreak(char c) {
+            return c == '\u0085' || c == '\u2028' || c == '\u2029';
+        }
 
-        return text;
+        /**
+         * Writes the next char as it is, if there is one.
+         */
+        private void copy() {
+            if (pos < in.length)
+                write(in[pos++]);
+        }
+
+        private void write(char c) {
+            if (c == ' ' || c == '\t') {
+                startSpaces(c);
+            } else if (c == '\r' || c == '\n') {
+                trimSpaces();
+                if (breaks < 0)
+                    breaks = length;
+            } else if (isOtherBreak(c)) {
+                trimSpaces();
+                endBreaks();
+                lines.add(out, lineStart, length, SourceLines.kindOf(c));
+                append(c);
+                lineStart = length;
+                return;
+            } else {
+                if (c == '*' && length > 0 && out[length - 1] == '/')
+                    lines.commentStart = true;
+                endBreaks();
+                spaces = -1;
+            }
+            append(c);
+        }
+
+        /**
+         * Notes where the spaces and tabs at the end start, if the char is the first of them.
+         */
+        private void startSpaces(char c) {
+            if (spaces >= 0)
+                return;
+
+            // an "import " that doesn't start its line
+            if (c == ' ' && length - 6 > lineStart && out[length - 1] == 't' && SourceLines.startsWith(out, length - 6, length, "import"))
+                lines.importElsewhere = true;
+            spaces = length;
+        }
+
+        private void trimSpaces() {
+            if (spaces >= 0) {
+                length = spaces;
+                spaces = -1;
+            }
+        }
+
+        /**
+         * Squashes the line breaks before the trailing spaces, if there are two or more after the first one.
+         * Like the pattern, a \r\n counts as one line break first, and as two after that.
+         * The lines the breaks end are done then.
+         */
+        private void endBreaks() {
+            if (breaks < 0)
+                return;
+
+            int first = breaks;
+            int start = breaks;
+            int end = spaces >= 0 ? spaces : length;
+            breaks = -1;
+
+            // the pattern starts at the start of a line
+            if (start > 0 && !isOtherBreak(out[start - 1]))
+                start += start + 1 < end && out[start] == '\r' && out[start + 1] == '\n' ? 2 : 1;
+
+            if (end - start >= 2) {
+                int delta = replace(start, end, Constants.NEWLINE);
+                if (spaces >= 0)
+                    spaces += delta;
+                end += delta;
+            }
+
+            int line = lineStart;
+            for (int i = first; i < end; ) {
+                byte newline = out[i] == '\n' ? SourceLines.LF : i + 1 < end && out[i + 1] == '\n' ? SourceLines.CRLF : SourceLines.CR;
+                lines.add(out, line, i, newline);
+                i += newline == SourceLines.CRLF ? 2 : 1;
+                line = i;
+            }
+            lineStart = end;
+        }
+
+        private void append(char c) {
+            grow(1);
+            out[length++] = c;
+        }
+
+        private void append(char[] chars, int start, int count) {
+            grow(count);
+            System.arraycopy(chars, start, out, length, count);
+            length += count;
+        }
+
+        /**
+         * @return by how much the output got longer
+         */
+        private int replace(int start, int end, String str) {
+            int delta = str.length() - (end - start);
+            grow(delta);
+            System.arraycopy(out, end, out, end + delta, length - end);
+            str.getChars(0, str.length(), out, start);
+            length += delta;
+            return delta;
+        }
+
+        private void grow(int count) {
+            if (length + count > out.length)
+                out = Arrays.copyOf(out, Math.max(out.length * 2, length + count));
+        }
     }
 
     //---------------------------------------------
@@ -211,65 +386,629 @@ public class McpCleanup {
     // 5.8119...F to ((float)Math.PI * 185F / 100F)
     public static final Pattern CLEANUP_185pi100F = Pattern.compile("0\\.8119[0-9]*[Ff]");
 
+    // the pi constants, as prefix, double replacement, float replacement. Same as the CLEANUP_pi patterns above.
+    private static final String[][] PI_CONSTANTS = {
+            { "3.1415", "Math.PI", "(float)Math.PI" },
+            { "6.2831", "(Math.PI * 2D)", "((float)Math.PI * 2F)" },
+            { "1.5707", "(Math.PI / 2D)", "((float)Math.PI / 2F)" },
+            { "4.7123", "(Math.PI * 3D / 2D)", "((float)Math.PI * 3F / 2F)" },
+            { "0.7853", "(Math.PI / 4D)", "((float)Math.PI / 4F)" },
+            { "0.6283", "(Math.PI / 5D)", "((float)Math.PI / 5F)" },
+            { "57.295", "(180D / Math.PI)", "(180F / (float)Math.PI)" },
+            { "0.6981", "(Math.PI * 2D / 9D)", "((float)Math.PI * 2F / 9F)" },
+            { "0.3141", "(Math.PI / 10D)", "((float)Math.PI / 10F)" },
+            { "1.2566", "(Math.PI * 2D / 5D)", "((float)Math.PI * 2F / 5F)" },
+            { "0.21991", "(Math.PI * 7D / 100D)", "((float)Math.PI * 7F / 100F)" },
+            { "5.8119", "(Math.PI * 185D / 100D)", null },
+            { "0.8119", null, "((float)Math.PI * 185F / 100F)" },
+    };
+
+    /**
+     * Does the same as the patterns above, in the order they are listed, with the same output, in one pass over the
+     * lines of the text: the layout works out the whitespace between the lines, and hands every line it is done with
+     * to the literals, which write it out.
+     */
     public static String cleanup(String text) {
-        // simple replacements
-        text = CLEANUP_header.matcher(text).replaceAll("");
-        text = CLEANUP_footer.matcher(text).replaceAll("");
-        text = CLEANUP_trailing.matcher(text).replaceAll("");
-        text = CLEANUP_newlines.matcher(text).replaceAll(Constants.NEWLINE);
-        text = CLEANUP_ifstarts.matcher(text).replaceAll("$1" + Constants.NEWLINE + "$2");
-        text = CLEANUP_blockstarts.matcher(text).replaceAll("");
-        text = CLEANUP_blockends.matcher(text).replaceAll("");
-        text = CLEANUP_gl.matcher(text).replaceAll("");
-        text = CLEANUP_maxD.matcher(text).replaceAll("Double.MAX_VALUE");
-
-        // unicode chars
-        {
-            Matcher matcher = CLEANUP_unicode.matcher(text);
-            int val;
-            StringBuffer buffer = new StringBuffer(text.length());
-
-            while (matcher.find()) {
-                val = Integer.parseInt(matcher.group(1), 16);
-                // work around the replace('\u00a7', '$') call in MinecraftServer and a couple of '\u0000'
-                if (val > 255) {
-                    matcher.appendReplacement(buffer, Matcher.quoteReplacement("" + val));
+        StringBuilder out = new StringBuilder(text.length());
+        cleanup(SourceLines.split(text), out, null);
+        return out.toString();
+    }
+
+    /**
+     * Does {@link #cleanup(String)} on the lines, and writes the result to out. The lines the GL constant fixer may
+     * have something to do in go to it as they are written, if there is one.
+     */
+    static void cleanup(SourceLines lines, StringBuilder out, GLConstantFixer.Lines gl) {
+        Literals literals = new Literals(out, gl);
+        if (!lines.commentStart) {
+            new Layout(lines, literals).walk();
+            return;
+        }
+
+        // a GL comment takes the line breaks around it with it, so they go from the laid out text as a whole
+        final StringBuilder laidOut = new StringBuilder(lines.length);
+        new Layout(lines, new SourceLines.Sink() {
+            @Override
+            public void line(char[] text, int start, int end, String newline) {
+                laidOut.append(text, start, end - start).append(newline);
+            }
+        }).walk();
+        SourceLines.split(removeGLComments(laidOut.toString())).writeTo(literals);
+    }
+
+    /**
+     * @return true for the whitespace other than line breaks, as \s has it
+     */
+    private static boolean isBlank(char c) {
+        return c == ' ' || c == '\t' || c == '\u000B' || c == '\f';
+    }
+
+    private static boolean isBreak(char c) {
+        return c == '\n' || c == '\r';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Does what the header, footer, trailing, newlines, ifstarts, blockstarts and blockends patterns do, in that order.
+     * <p>
+     * None of them changes anything but the whitespace between the last char of a line that has something in it and
+     * the first char of the next line that has, so the layout goes from one such run of whitespace to the next, and
+     * does to each what the patterns would. The chars around the run are all that tells it what to do. Most runs are
+     * a single line break before an indent, those are done without looking at anything else.
+     */
+    private static final class Layout {
+        private final SourceLines lines;
+        private final char[] text;
+        private final SourceLines.Sink sink;
+
+        // the run that is being laid out, and the blank lines of it that are written from here
+        private final StringBuilder run = new StringBuilder();
+        private char[] scratch = new char[16];
+
+        // the run before got the empty line for an if, the pattern can't match the line with the if again then
+        private boolean ifBefore;
+
+        Layout(SourceLines lines, SourceLines.Sink sink) {
+            this.lines = lines;
+            this.text = lines.text;
+            this.sink = sink;
+        }
+
+        void walk() {
+            int last = lines.count - 1;
+
+            // header
+            int i = next(-1);
+            while (i < last && isBlank(i) && SourceLines.isSpaceBreak(lines.newlines[i]))
+                i = next(i);
+            int from = lead(i);
+
+            while (true) {
+                byte newline = lines.newlines[i];
+                boolean blank = isBlank(i);
+                int runStart = blank ? from : trail(i);
+
+                // the run goes on over the blank lines after it, to a line with something in it or another terminator
+                int stop = i;
+                if (SourceLines.isSpaceBreak(newline)) {
+                    do {
+                        stop = next(stop);
+                    } while (stop < last && isBlank(stop) && SourceLines.isSpaceBreak(lines.newlines[stop]));
+                }
+                boolean toCode = stop != i && !isBlank(stop);
+                int runEnd = toCode ? lead(stop) : lines.ends[stop];
+
+                if (toCode && !blank && stop == next(i) && runStart == lines.ends[i] && (newline == SourceLines.LF || newline == SourceLines.CRLF)
+                        && isIndent(lines.starts[stop], runEnd) && !isIf(stop, runEnd)) {
+                    // a single line break, only blockstarts and blockends can make a \r\n a \n there
+                    boolean closes = newline == SourceLines.CRLF && closesUp(text[runStart - 1], text[runEnd]);
+                    sink.line(text, from, runStart, closes ? "\n" : SourceLines.NEWLINES[newline]);
+                    ifBefore = false;
+                    from = lines.starts[stop];
+                    i = stop;
+                    continue;
+                }
+
+                run.setLength(0);
+                if (stop != i) {
+                    run.append(text, runStart, lines.ends[i] - runStart).append(SourceLines.NEWLINES[newline]);
+                    for (int j = next(i); j != stop; j = next(j))
+                        run.append(text, lines.starts[j], lines.ends[j] - lines.starts[j]).append(SourceLines.NEWLINES[lines.newlines[j]]);
+                    run.append(text, lines.starts[stop], runEnd - lines.starts[stop]);
+                } else {
+                    run.append(text, runStart, runEnd - runStart);
+                }
+
+                // the terminator after the run, if it ends at one
+                byte after = toCode ? SourceLines.NONE : lines.newlines[stop];
+                boolean atEnd = !toCode && (after == SourceLines.NONE || (next(stop) == last && lines.starts[last] == lines.ends[last]));
+                int prev = blank ? -1 : text[runStart - 1];
+                int next = toCode ? text[runEnd] : after == SourceLines.NONE ? -1 : SourceLines.NEWLINES[after].charAt(0);
+                boolean ifCandidate = toCode && !blank && isIf(stop, runEnd) && hasCode(from, runStart);
+                layout(atEnd, blank, !toCode, prev, next, ifCandidate);
+
+                // the run is the end of this line, the blank lines it has left, and the indent of the line it stops at
+                int length = run.length();
+                int segment = -1;
+                for (int k = 0; k < length; k++) {
+                    char c = run.charAt(k);
+                    if (!isBreak(c))
+                        continue;
+
+                    String terminator = c == '\n' ? "\n" : k + 1 < length && run.charAt(k + 1) == '\n' ? "\r\n" : "\r";
+                    if (segment < 0)
+                        sink.line(text, from, runStart + k, terminator);
+                    else
+                        writeBlank(segment, k, terminator);
+                    k += terminator.length() - 1;
+                    segment = k + 1;
+                }
+
+                if (segment < 0) {
+                    sink.line(text, from, runStart + length, SourceLines.NEWLINES[after]);
+                } else if (toCode) {
+                    from = runEnd - (length - segment);
+                    i = stop;
+                    continue;
+                } else {
+                    writeBlank(segment, length, SourceLines.NEWLINES[after]);
+                }
+
+                if (stop == last)
+                    break;
+                i = next(stop);
+                from = lines.starts[i];
+            }
+        }
+
+        /**
+         * Does what the patterns do to the run.
+         *
+         * @param atLineStart the run starts a line
+         * @param atBreak     the run is followed by a line terminator other than \r and \n, or is at the end
+         * @param prev        the char before the run, -1 if it starts a line
+         * @param next        the char after the run, -1 if it is at the end
+         * @param ifCandidate the line before the run has code in it, and the line after it starts with an if
+         */
+        private void layout(boolean atEnd, boolean atLineStart, boolean atBreak, int prev, int next, boolean ifCandidate) {
+            // footer
+            if (atEnd)
+                run.setLength(0);
+
+            // trailing
+            for (int k = 0; k < run.length(); ) {
+                char c = run.charAt(k);
+                if (c != ' ' && c != '\t') {
+                    k++;
+                    continue;
                 }
+
+                int end = k + 1;
+                while (end < run.length() && (run.charAt(end) == ' ' || run.charAt(end) == '\t'))
+                    end++;
+                if (end < run.length() ? isBreak(run.charAt(end)) : atBreak)
+                    run.delete(k, end);
+                else
+                    k = end;
             }
-            matcher.appendTail(buffer);
-            text = buffer.toString();
-        }
-
-        // charval.. its stupid.
-        text = CLEANUP_charval.matcher(text).replaceAll("$1"); // TESTING NEEDED
-
-        //		 pi?   true
-        text = CLEANUP_piD.matcher(text).replaceAll("Math.PI");
-        text = CLEANUP_piF.matcher(text).replaceAll("(float)Math.PI");
-        text = CLEANUP_2piD.matcher(text).replaceAll("(Math.PI * 2D)");
-        text = CLEANUP_2piF.matcher(text).replaceAll("((float)Math.PI * 2F)");
-        text = CLEANUP_pi2D.matcher(text).replaceAll("(Math.PI / 2D)");
-        text = CLEANUP_pi2F.matcher(text).replaceAll("((float)Math.PI / 2F)");
-        text = CLEANUP_3pi2D.matcher(text).replaceAll("(Math.PI * 3D / 2D)");
-        text = CLEANUP_3pi2F.matcher(text).replaceAll("((float)Math.PI * 3F / 2F)");
-        text = CLEANUP_pi4D.matcher(text).replaceAll("(Math.PI / 4D)");
-        text = CLEANUP_pi4F.matcher(text).replaceAll("((float)Math.PI / 4F)");
-        text = CLEANUP_pi5D.matcher(text).replaceAll("(Math.PI / 5D)");
-        text = CLEANUP_pi5F.matcher(text).replaceAll("((float)Math.PI / 5F)");
-        text = CLEANUP_180piD.matcher(text).replaceAll("(180D / Math.PI)");
-        text = CLEANUP_180piF.matcher(text).replaceAll("(180F / (float)Math.PI)");
-        text = CLEANUP_2pi9D.matcher(text).replaceAll("(Math.PI * 2D / 9D)");
-        text = CLEANUP_2pi9F.matcher(text).replaceAll("((float)Math.PI * 2F / 9F)");
-        text = CLEANUP_pi10D.matcher(text).replaceAll("(Math.PI / 10D)");
-        text = CLEANUP_pi10F.matcher(text).replaceAll("((float)Math.PI / 10F)");
-        text = CLEANUP_2pi5D.matcher(text).replaceAll("(Math.PI * 2D / 5D)");
-        text = CLEANUP_2pi5F.matcher(text).replaceAll("((float)Math.PI * 2F / 5F)");
-        text = CLEANUP_7pi100D.matcher(text).replaceAll("(Math.PI * 7D / 100D)");
-        text = CLEANUP_7pi100F.matcher(text).replaceAll("((float)Math.PI * 7F / 100F)");
-        text = CLEANUP_185pi100D.matcher(text).replaceAll("(Math.PI * 185D / 100D)");
-        text = CLEANUP_185pi100F.matcher(text).replaceAll("((float)Math.PI * 185F / 100F)");
-
-        return text;
+
+            // newlines: from the first line start in the run to the last two line breaks in a row
+            int length = run.length();
+            int lineStart = atLineStart ? 0 : -1;
+            for (int k = 1; lineStart < 0 && k < length; k++) {
+                char c = run.charAt(k - 1);
+                if (c == '\n' || (c == '\r' && run.charAt(k) != '\n'))
+                    lineStart = k;
+            }
+            if (lineStart >= 0) {
+                for (int k = length - 2; k >= lineStart; k--) {
+                    if (isBreak(run.charAt(k)) && isBreak(run.charAt(k + 1))) {
+                        run.replace(lineStart, k + 2, Constants.NEWLINE);
+                        break;
+                    }
+                }
+            }
+
+            // ifstarts: the run has to be a single line break before the indent of the if
+            boolean matched = false;
+            if (ifCandidate && !ifBefore) {
+                int breakEnd = -1;
+                for (int k = 0; k < run.length(); k++) {
+                    if (!isBreak(run.charAt(k)))
+                        continue;
+                    if (breakEnd >= 0) {
+                        breakEnd = -1;
+                        break;
+                    }
+                    breakEnd = run.charAt(k) == '\r' && k + 1 < run.length() && run.charAt(k + 1) == '\n' ? ++k + 1 : k + 1;
+                }
+
+                if (breakEnd >= 0 && breakEnd < run.length() && isIndent(run, breakEnd)) {
+                    run.insert(breakEnd, Constants.NEWLINE);
+                    matched = true;
+                }
+            }
+            ifBefore = matched;
+
+            // blockstarts and blockends: the whitespace goes up to the last line break
+            if (prev == '{' ? next >= 0 : (prev == ';' || prev == '}') && next == '}') {
+                int last = run.length() - 1;
+                while (last >= 0 && !isBreak(run.charAt(last)))
+                    last--;
+                if (last > 0 && (prev != '{' || isIndent(run, last + 1)))
+                    run.delete(0, last);
+            }
+        }
+
+        /**
+         * Writes part of the run as a line of its own.
+         */
+        private void writeBlank(int start, int end, String newline) {
+            if (scratch.length < end - start)
+                scratch = new char[end - start];
+            run.getChars(start, end, scratch, 0);
+            sink.line(scratch, 0, end - start, newline);
+        }
+
+        /**
+         * @return the next line that is not removed
+         */
+        private int next(int line) {
+            do {
+                line++;
+            } while (lines.removed != null && lines.removed[line]);
+            return line;
+        }
+
+        /**
+         * @return where the whitespace at the start of the line ends
+         */
+        private int lead(int line) {
+            int i = lines.starts[line];
+            while (i < lines.ends[line] && McpCleanup.isBlank(text[i]))
+                i++;
+            return i;
+        }
+
+        /**
+         * @return where the whitespace at the end of the line starts
+         */
+        private int trail(int line) {
+            int i = lines.ends[line];
+            while (i > lines.starts[line] && McpCleanup.isBlank(text[i - 1]))
+                i--;
+            return i;
+        }
+
+        private boolean isBlank(int line) {
+            return lead(line) == lines.ends[line];
+        }
+
+        private boolean isIf(int line, int lead) {
+            return SourceLines.startsWith(text, lead, lines.ends[line], "if");
+        }
+
+        private boolean isIndent(int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (text[i] != ' ' && text[i] != '\t')
+                    return false;
+            }
+            return true;
+        }
+
+        private static boolean isIndent(StringBuilder run, int start) {
+            for (int i = start; i < run.length(); i++) {
+                if (run.charAt(i) != ' ' && run.charAt(i) != '\t')
+                    return false;
+            }
+            return true;
+        }
+
+        /**
+         * @return true if there is something other than whitespace and braces in the text
+         */
+        private boolean hasCode(int start, int end) {
+            for (int i = start; i < end; i++) {
+                char c = text[i];
+                if (!McpCleanup.isBlank(c) && c != '{' && c != '}')
+                    return true;
+            }
+            return false;
+        }
+
+        private static boolean closesUp(char prev, char next) {
+            return prev == '{' || ((prev == ';' || prev == '}') && next == '}');
+        }
+    }
+
+    // Removes what CLEANUP_gl matches, the GL comments and the whitespace around them
+    private static String removeGLComments(String text) {
+        StringBuilder out = null;
+        int copied = 0;
+        for (int at = text.indexOf("/*"); at >= 0; at = text.indexOf("/*", at + 1)) {
+            int end = matchGLComment(text, at);
+            if (end < 0)
+                continue;
+
+            int start = at;
+            while (start > copied && isSpace(text.charAt(start - 1)))
+                start--;
+            while (end < text.length() && isSpace(text.charAt(end)))
+                end++;
+
+            if (out == null)
+                out = new StringBuilder(text.length());
+            out.append(text, copied, start);
+            copied = end;
+            at = end - 1;
+        }
+
+        if (out == null)
+            return text;
+        return out.append(text, copied, text.length()).toString();
+    }
+
+    // \/\*\s*GL_[^*]+\*\/
+    private static int matchGLComment(String text, int at) {
+        int i = at + 2;
+        while (i < text.length() && isSpace(text.charAt(i)))
+            i++;
+        if (!text.startsWith("GL_", i))
+            return -1;
+
+        i += 3;
+        if (i == text.length() || text.charAt(i) == '*')
+            return -1;
+
+        int star = text.indexOf('*', i);
+        return star >= 0 && star + 1 < text.length() && text.charAt(star + 1) == '/' ? star + 2 : -1;
+    }
+
+    private static boolean isSpace(char c) {
+        return isBlank(c) || isBreak(c);
+    }
+
+    // the chars the literals start with, and those of the GL names
+    private static final boolean[] LITERAL_STARTS = new boolean[128];
+
+    static {
+        for (char c : "0123456789'CGA".toCharArray())
+            LITERAL_STARTS[c] = true;
+    }
+
+    // rewriteLiterals saw something that could be a GL call or import in the line
+    private static final int GL_NAME = 1;
+
+    /**
+     * Does what the maxD, unicode, charval and pi patterns do to the lines it gets, and writes them out.
+     */
+    private static final class Literals implements SourceLines.Sink {
+        private final StringBuilder out;
+        private final GLConstantFixer.Lines gl;
+
+        Literals(StringBuilder out, GLConstantFixer.Lines gl) {
+            this.out = out;
+            this.gl = gl;
+        }
+
+        @Override
+        public void line(char[] text, int start, int end, String newline) {
+            int lineStart = out.length();
+            int found = rewriteLiterals(text, start, end, out);
+            if (found < 0) {
+                out.setLength(lineStart);
+                out.append(rewriteLiteralsInOrder(new String(text, start, end - start)));
+                found = GL_NAME;
+            }
+
+            if (gl != null && found == GL_NAME)
+                gl.line(lineStart);
+            out.append(newline);
+        }
+    }
+
+    /**
+     * Does what the maxD, unicode, charval and pi patterns do to a line, in that order.
+     * None of their matches can overlap, so they are all looked for at once. A replacement can make a new match
+     * for the patterns after it though, if it ends up next to a number. That can't happen in code that compiles,
+     * so this gives up and returns -1 then.
+     *
+     * @return GL_NAME if the line has GL or ARB in it, 0 if it doesn't
+     */
+    private static int rewriteLiterals(char[] text, int start, int end, StringBuilder out) {
+        int found = 0;
+        int copied = start;
+        int i = start;
+        while (i < end) {
+            char c = text[i];
+            if (c >= 128 || !LITERAL_STARTS[c]) {
+                i++;
+                continue;
+            }
+
+            char prev = i > start ? text[i - 1] : 0;
+            int next = -1;
+            String replacement = null;
+
+            if (isDigit(c)) {
+                next = matchMaxDouble(text, i, end);
+                if (next >= 0) {
+                    // the D of Double could end a pi constant
+                    if (isDigit(prev) || prev == '\'')
+                        return -1;
+                    replacement = "Double.MAX_VALUE";
+                } else {
+                    // there's only one constant for any number, they all start differently
+                    for (String[] constant : PI_CONSTANTS) {
+                        int suffix = matchPi(text, i, end, constant[0]);
+                        if (suffix < 0)
+                            continue;
+
+                        char kind = text[suffix];
+                        replacement = kind == 'D' || kind == 'd' ? constant[1] : kind == 'F' || kind == 'f' ? constant[2] : null;
+                        if (replacement != null)
+                            next = suffix + 1;
+                        break;
+                    }
+                }
+            } else if (c == '\'') {
+                next = matchUnicode(text, i, end);
+                if (next >= 0) {
+                    int val = Integer.parseInt(new String(text, i + 3, 4), 16);
+                    // work around the replace('\u00a7', '$') call in MinecraftServer and a couple of '\u0000'
+                    if (val > 255) {
+                        // the digits could be part of a pi constant
+                        char after = next < end ? text[next] : 0;
+                        if (isDigit(prev) || prev == '.' || prev == '\'' || isDigit(after) || after == '.' || after == '\'')
+                            return -1;
+                        replacement = Integer.toString(val);
+                    }
+                }
+            } else if (c == 'C') {
+                next = matchCharValue(text, i, end);
+                if (next >= 0)
+                    replacement = new String(text, i + 18, 3);
+            } else if (c == 'G' ? i + 1 < end && text[i + 1] == 'L' : SourceLines.startsWith(text, i, end, "ARB")) {
+                found = GL_NAME;
+            }
+
+            if (next < 0) {
+                i++;
+                continue;
+            }
+
+            if (replacement != null) {
+                out.append(text, copied, i - copied).append(replacement);
+                copied = next;
+            }
+            i = next;
+        }
+
+        out.append(text, copied, end - copied);
+        return found;
+    }
+
+    /**
+     * Does what the maxD, unicode, charval and pi patterns do to a line, one pattern after the other, for the lines
+     * {@link #rewriteLiterals} gives up on.
+     */
+    private static String rewriteLiteralsInOrder(String line) {
+        for (int pattern = 0; pattern < 3 + PI_CONSTANTS.length * 2; pattern++)
+            line = rewriteLiterals(line, pattern);
+        return line;
+    }
+
+    /**
+     * @param pattern maxD, unicode, charval, then the D and the F pattern of each of the PI_CONSTANTS
+     */
+    private static String rewriteLiterals(String line, int pattern) {
+        char[] text = line.toCharArray();
+        int end = text.length;
+        StringBuilder out = null;
+        int copied = 0;
+        int i = 0;
+        while (i < end) {
+            int next = -1;
+            String replacement = null;
+
+            if (pattern == 0) {
+                next = matchMaxDouble(text, i, end);
+                replacement = "Double.MAX_VALUE";
+            } else if (pattern == 1) {
+                next = matchUnicode(text, i, end);
+                if (next >= 0) {
+                    int val = Integer.parseInt(new String(text, i + 3, 4), 16);
+                    replacement = val > 255 ? Integer.toString(val) : null;
+                }
+            } else if (pattern == 2) {
+                next = matchCharValue(text, i, end);
+                if (next >= 0)
+                    replacement = new String(text, i + 18, 3);
+            } else {
+                String[] constant = PI_CONSTANTS[(pattern - 3) / 2];
+                boolean isFloat = (pattern - 3) % 2 == 1;
+                int suffix = matchPi(text, i, end, constant[0]);
+                replacement = constant[isFloat ? 2 : 1];
+                if (suffix >= 0 && replacement != null) {
+                    char kind = text[suffix];
+                    if (isFloat ? kind == 'F' || kind == 'f' : kind == 'D' || kind == 'd')
+                        next = suffix + 1;
+                }
+            }
+
+            if (next < 0) {
+                i++;
+                continue;
+            }
+
+            if (replacement != null) {
+                if (out == null)
+                    out = new StringBuilder(end + 16);
+                out.append(text, copied, i - copied).append(replacement);
+                copied = next;
+            }
+            i = next;
+        }
+
+        if (out == null)
+            return line;
+        return out.append(text, copied, end - copied).toString();
+    }
+
+    /**
+     * @return the end of the digits that start at the index
+     */
+    private static int skipDigits(char[] text, int i, int end) {
+        while (i < end && isDigit(text[i]))
+            i++;
+        return i;
+    }
+
+    // 1\.7976[0-9]*[Ee]\+308[Dd]
+    private static int matchMaxDouble(char[] text, int i, int end) {
+        if (!SourceLines.startsWith(text, i, end, "1.7976"))
+            return -1;
+
+        i = skipDigits(text, i + 6, end);
+        if (i + 6 > end || (text[i] != 'E' && text[i] != 'e') || !SourceLines.startsWith(text, i + 1, end, "+308") || (text[i + 5] != 'D' && text[i + 5] != 'd'))
+            return -1;
+
+        return i + 6;
+    }
+
+    /**
+     * @return where the D or F would be if there is a pi constant with the prefix at the index, -1 if there is none
+     */
+    private static int matchPi(char[] text, int i, int end, String prefix) {
+        if (!SourceLines.startsWith(text, i, end, prefix))
+            return -1;
+
+        int suffix = skipDigits(text, i + prefix.length(), end);
+        return suffix < end ? suffix : -1;
+    }
+
+    // '\\u([0-9a-fA-F]{4})'
+    private static int matchUnicode(char[] text, int i, int end) {
+        if (i + 8 > end || text[i] != '\'' || text[i + 1] != '\\' || text[i + 2] != 'u' || text[i + 7] != '\'')
+            return -1;
+
+        for (int j = i + 3; j < i + 7; j++) {
+            char c = text[j];
+            if (!isDigit(c) && (c < 'a' || c > 'f') && (c < 'A' || c > 'F'))
+                return -1;
+        }
+        return i + 8;
+    }
+
+    // Character\.valueOf\(('.')\)
+    private static int matchCharValue(char[] text, int i, int end) {
+        if (i + 22 > end || !SourceLines.startsWith(text, i, end, "Character.valueOf('") || text[i + 20] != '\'' || text[i + 21] != ')')
+            return -1;
+
+        return i + 22;
     }
 
     /**
@@ -279,18 +1018,57 @@ public class McpCleanup {
      * @return
      */
     public static String fixImports(String text) {
-        Matcher match = CLEANUP_package.matcher(text);
-        if (match.find()) {
-            String pack = match.group(1);
-
-            Matcher match2 = CLEANUP_import.matcher(text);
-            while (match2.find()) {
-                if (match2.group(1).equals(pack)) {
-                    text = text.replace(match2.group(), "");
-                }
+        return fixImports(SourceLines.split(text)).toString();
+    }
+
+    /**
+     * Does {@link #fixImports(String)} to the lines, by taking out the lines of the imports.
+     * That is the same as replacing their text if it is only ever at the start of a line. If it isn't, or an import
+     * ends in a \r that another one could end in too, their text is replaced after all.
+     */
+    static SourceLines fixImports(SourceLines lines) {
+        String pack = lines.getPackage();
+        if (pack == null)
+            return lines;
+
+        for (int i = 0; i < lines.importCount; i++) {
+            int line = lines.importLines[i];
+            if (SourceLines.isSpaceBreak(lines.newlines[line]) && isImportFrom(lines.text, lines.starts[line], lines.ends[line], pack)) {
+                if (lines.removed == null)
+                    lines.removed = new boolean[lines.count];
+                lines.removed[line] = true;
             }
         }
 
-        return text;
+        if (lines.removed == null || (!lines.importElsewhere && !lines.loneCR))
+            return lines;
+
+        String text = new String(lines.text, 0, lines.length);
+        for (int i = 0; i < lines.importCount; i++) {
+            int line = lines.importLines[i];
+            if (lines.removed[line])
+                text = text.replace(lines.getLine(line), "");
+        }
+        return SourceLines.split(text);
+    }
+
+    // ^import (?:([\w.]*?)\.)?(?:[\w]+);$ with the package as the group
+    private static boolean isImportFrom(char[] text, int start, int end, String pack) {
+        if (text[end - 1] != ';')
+            return false;
+
+        int dot = -1;
+        for (int i = start + 7; i < end - 1; i++) {
+            char c = text[i];
+            if (c == '.')
+                dot = i;
+            else if (!SourceLines.isWord(c))
+                return false;
+        }
+
+        // the pattern has no package for an import without a dot, the original threw there
+        if (dot < 0 || dot == end - 2)
+            return false;
+        return dot - start - 7 == pack.length() && SourceLines.startsWith(text, start + 7, dot, pack);
     }
 }
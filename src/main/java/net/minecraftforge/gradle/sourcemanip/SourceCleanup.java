@@ -0,0 +1,157 @@
+package net.minecraftforge.gradle.sourcemanip;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * The cleanup of a decompiled and patched file, in the two halves that go before and after the formatter.
+ * <p>
+ * Before the formatter, the comments, imports, literals and GL constants are fixed in two passes. The comment stripper
+ * walks the text once, and finds its lines while it writes it. The import, layout, literal and GL stages then go over
+ * those lines once, each handing the lines it is done with to the next, so none of them walks the whole text again.
+ * Only a GL comment, or an import that doesn't start its line, makes a stage take the text as a whole.
+ * <p>
+ * After the formatter, the blank lines around case labels go and the local variables are renamed, from one split of
+ * the text in lines: the lines the {@link #BEFORE} and {@link #AFTER} patterns would join are dropped from the list,
+ * and the rest go to {@link FmlCleanup} as they are.
+ */
+public final class SourceCleanup {
+    public static final Pattern BEFORE = Pattern.compile("(?m)((case|default).+(?:\\r\\n|\\r|\\n))(?:\\r\\n|\\r|\\n)");
+    public static final Pattern AFTER = Pattern.compile("(?m)(?:\\r\\n|\\r|\\n)((?:\\r\\n|\\r|\\n)[ \\t]+(case|default))");
+
+    private final GLConstantFixer fixer;
+
+    /**
+     * The cleanup holds no state of its own, so one can be shared by any number of threads, like the fixer.
+     */
+    public SourceCleanup(GLConstantFixer fixer) {
+        this.fixer = fixer;
+    }
+
+    /**
+     * @return the text with the MCP cleanup done, ready for the formatter
+     */
+    public String beforeFormat(String text) {
+        SourceLines lines = McpCleanup.fixImports(McpCleanup.lex(text));
+        StringBuilder out = new StringBuilder(text.length());
+
+        if (lines.importElsewhere || lines.commentStart) {
+            // the lines can't tell if the text imports openGL, after the cleanup
+            McpCleanup.cleanup(lines, out, null);
+            return fixer.fixOGL(out.toString());
+        }
+
+        GLConstantFixer.Lines gl = fixer.newStage(lines, out);
+        McpCleanup.cleanup(lines, out, gl);
+        if (gl != null)
+            gl.finish();
+        return out.toString();
+    }
+
+    /**
+     * @return the formatted text with the FML cleanup done. Line breaks become the platform newline, as FmlCleanup writes them.
+     */
+    public static String afterFormat(String text) {
+        // the lines as the patterns and FmlCleanup see them, with their line breaks. The other terminators are part of a line
+        List<String> lines = new ArrayList<String>();
+        List<String> breaks = new ArrayList<String>();
+        int pos = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '\r') {
+                lines.add(text.substring(pos, i));
+                if (c == '\r' && i + 1 < length && text.charAt(i + 1) == '\n') {
+                    breaks.add("\r\n");
+                    i++;
+                } else {
+                    breaks.add(String.valueOf(c));
+                }
+                pos = i + 1;
+            }
+        }
+
+        if (lines.isEmpty())
+            return FmlCleanup.renameClass(Collections.singletonList(text), text.length());
+
+        // the last line has no line break, the patterns need one after a blank line
+        lines.add(text.substring(pos));
+        breaks.add("");
+
+        // BEFORE: a line with a label and something after it swallows the blank line after it
+        List<String> beforeLines = new ArrayList<String>(lines.size());
+        List<String> beforeBreaks = new ArrayList<String>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            addLine(beforeLines, beforeBreaks, lines.get(i), breaks.get(i));
+            if (i + 2 < lines.size() && lines.get(i + 1).isEmpty() && hasLabel(lines.get(i)))
+                i++;
+        }
+
+        // AFTER: a blank line before an indented label goes, with the line break before it
+        List<String> after = new ArrayList<String>(beforeLines.size());
+        List<String> afterBreaks = new ArrayList<String>(beforeLines.size());
+        for (int i = 0; i < beforeLines.size(); i++) {
+            if (i + 2 < beforeLines.size() && beforeLines.get(i + 1).isEmpty() && startsWithLabel(beforeLines.get(i + 2))) {
+                addLine(after, afterBreaks, beforeLines.get(i), beforeBreaks.get(i + 1));
+                i++;
+            } else {
+                addLine(after, afterBreaks, beforeLines.get(i), beforeBreaks.get(i));
+            }
+        }
+
+        // like String.split, without the empty lines at the end
+        int size = after.size();
+        while (size > 0 && after.get(size - 1).isEmpty())
+            size--;
+
+        return FmlCleanup.renameClass(after.subList(0, size), text.length());
+    }
+
+    /**
+     * Adds the line to the lines the text has after a pattern took something out. A lone \r that ends up right before
+     * the \n of a blank line makes a \r\n with it, the blank line is gone then.
+     */
+    private static void addLine(List<String> lines, List<String> breaks, String line, String newline) {
+        int last = breaks.size() - 1;
+        if (line.isEmpty() && newline.equals("\n") && last >= 0 && breaks.get(last).equals("\r")) {
+            breaks.set(last, "\r\n");
+            return;
+        }
+
+        lines.add(line);
+        breaks.add(newline);
+    }
+
+    /**
+     * @return true if "case" or "default" is in the line, with something after it. The . of the pattern doesn't go
+     * over the other line terminators, so only what comes after the last of them counts.
+     */
+    private static boolean hasLabel(String line) {
+        for (int i = line.length() - 1; i >= 0; i--) {
+            char c = line.charAt(i);
+            if (c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                line = line.substring(i + 1);
+                break;
+            }
+        }
+
+        int index = line.indexOf("case");
+        if (index >= 0 && index + 4 < line.length())
+            return true;
+
+        index = line.indexOf("default");
+        return index >= 0 && index + 7 < line.length();
+    }
+
+    /**
+     * @return true if the line starts with spaces or tabs, and then "case" or "default"
+     */
+    private static boolean startsWithLabel(String line) {
+        int i = 0;
+        while (i < line.length() && (line.charAt(i) == ' ' || line.charAt(i) == '\t'))
+            i++;
+        return i > 0 && (line.startsWith("case", i) || line.startsWith("default", i));
+    }
+}
@@ -0,0 +1,225 @@
+package net.minecraftforge.gradle.sourcemanip;
+
+import java.util.Arrays;
+
+/**
+ * A text and its lines, which is what the cleanup stages before the formatter hand on instead of the text itself.
+ * The lines are found once, by the comment stripper as it writes the text, or by {@link #split} for a text from
+ * anywhere else, and a stage only looks at the chars of the lines it has something to do with.
+ * <p>
+ * A line ends at any of the terminators the patterns of the cleanup know: \n, \r\n, \r, and the unicode next line,
+ * line separator and paragraph separator.
+ * Along with the lines come the few facts about the text the stages need before they start, so none of them has to
+ * search the text for them.
+ */
+final class SourceLines {
+    // the line terminators, by the kinds stored for the lines
+    static final String[] NEWLINES = { "", "\n", "\r\n", "\r", "\u0085", "\u2028", "\u2029" };
+    static final byte NONE = 0, LF = 1, CRLF = 2, CR = 3;
+
+    char[] text;
+    int length;
+
+    int count;
+    int[] starts = new int[64];
+    int[] ends = new int[64];
+    byte[] newlines = new byte[64];
+
+    // lines fixImports takes out, null if there are none
+    boolean[] removed;
+
+    // the first line that is a package declaration, -1 if there is none
+    int packageLine = -1;
+    // the lines that start with "import "
+    int[] importLines = new int[16];
+    int importCount;
+
+    // "import " somewhere other than at the start of a line, the facts about imports don't cover the text then
+    boolean importElsewhere;
+    // a \r that is not part of a \r\n
+    boolean loneCR;
+    // a "/*" is left in the text, in a string or after a backslash, the GL comments may be there
+    boolean commentStart;
+
+    /**
+     * A stage the lines are handed to, one after the other.
+     */
+    interface Sink {
+        /**
+         * @param text    has the chars of the line from start to end, it is only good for the call
+         * @param newline the line terminator after it, empty after the last line
+         */
+        void line(char[] text, int start, int end, String newline);
+    }
+
+    /**
+     * @return the lines of a text that did not come from the comment stripper
+     */
+    static SourceLines split(String str) {
+        SourceLines lines = new SourceLines();
+        char[] text = str.toCharArray();
+        int start = 0;
+        for (int i = 0; i < text.length; i++) {
+            char c = text[i];
+            byte newline = kindOf(c);
+            if (newline != NONE) {
+                if (newline == CR && i + 1 < text.length && text[i + 1] == '\n')
+                    newline = CRLF;
+                lines.add(text, start, i, newline);
+                if (newline == CRLF)
+                    i++;
+                start = i + 1;
+            } else if (c == 'i' && i > start && startsWith(text, i, text.length, "import ")) {
+                lines.importElsewhere = true;
+            } else if (c == '/' && i + 1 < text.length && text[i + 1] == '*') {
+                lines.commentStart = true;
+            }
+        }
+        lines.add(text, start, text.length, NONE);
+        lines.setText(text, text.length);
+        return lines;
+    }
+
+    /**
+     * @return the kind of line terminator the char starts, with a \r taken as a lone one, or NONE if it is none
+     */
+    static byte kindOf(char c) {
+        switch (c) {
+            case '\n':
+                return LF;
+            case '\r':
+                return CR;
+            case '\u0085':
+                return 4;
+            case '\u2028':
+                return 5;
+            case '\u2029':
+                return 6;
+            default:
+                return NONE;
+        }
+    }
+
+    /**
+     * @return true for \n, \r\n and \r, which are whitespace too, unlike the other terminators
+     */
+    static boolean isSpaceBreak(byte newline) {
+        return newline == LF || newline == CRLF || newline == CR;
+    }
+
+    void setText(char[] text, int length) {
+        this.text = text;
+        this.length = length;
+    }
+
+    /**
+     * Adds the next line. Its chars have to be in the text already, they are looked at for the facts.
+     */
+    void add(char[] text, int start, int end, byte newline) {
+        if (count == starts.length) {
+            starts = Arrays.copyOf(starts, count * 2);
+            ends = Arrays.copyOf(ends, count * 2);
+            newlines = Arrays.copyOf(newlines, count * 2);
+        }
+
+        starts[count] = start;
+        ends[count] = end;
+        newlines[count] = newline;
+
+        if (end - start > 8) {
+            if (text[start] == 'i' && startsWith(text, start, end, "import ")) {
+                if (importCount == importLines.length)
+                    importLines = Arrays.copyOf(importLines, importCount * 2);
+                importLines[importCount++] = count;
+            } else if (packageLine < 0 && text[start] == 'p' && isPackage(text, start, end)) {
+                packageLine = count;
+            }
+        }
+
+        if (newline == CR)
+            loneCR = true;
+        count++;
+    }
+
+    // ^package ([\w.]+);$
+    private static boolean isPackage(char[] text, int start, int end) {
+        if (end - start < 10 || !startsWith(text, start, end, "package ") || text[end - 1] != ';')
+            return false;
+
+        for (int i = start + 8; i < end - 1; i++) {
+            if (!isWord(text[i]) && text[i] != '.')
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return the name of the package the file is in, null if it has no package declaration
+     */
+    String getPackage() {
+        if (packageLine < 0)
+            return null;
+        return new String(text, starts[packageLine] + 8, ends[packageLine] - starts[packageLine] - 9);
+    }
+
+    /**
+     * @return true if a line that is not removed starts with the prefix, which has to start with "import ".
+     * Only the whole truth if there is no {@link #importElsewhere}.
+     */
+    boolean hasImport(String prefix) {
+        for (int i = 0; i < importCount; i++) {
+            int line = importLines[i];
+            if ((removed == null || !removed[line]) && startsWith(text, starts[line], ends[line], prefix))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return the line with its terminator, as it is in the text
+     */
+    String getLine(int line) {
+        return new String(text, starts[line], ends[line] - starts[line]) + NEWLINES[newlines[line]];
+    }
+
+    /**
+     * Hands the lines that are not removed to the sink as they are.
+     */
+    void writeTo(Sink sink) {
+        for (int i = 0; i < count; i++) {
+            if (removed == null || !removed[i])
+                sink.line(text, starts[i], ends[i], NEWLINES[newlines[i]]);
+        }
+    }
+
+    /**
+     * @return the text, without the removed lines
+     */
+    @Override
+    public String toString() {
+        if (removed == null)
+            return new String(text, 0, length);
+
+        StringBuilder out = new StringBuilder(length);
+        for (int i = 0; i < count; i++) {
+            if (!removed[i])
+                out.append(text, starts[i], ends[i] - starts[i]).append(NEWLINES[newlines[i]]);
+        }
+        return out.toString();
+    }
+
+    static boolean isWord(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    static boolean startsWith(char[] text, int i, int end, String prefix) {
+        if (end - i < prefix.length())
+            return false;
+
+        for (int j = 0; j < prefix.length(); j++) {
+            if (text[i + j] != prefix.charAt(j))
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,224 @@
+package net.minecraftforge.gradle.tasks;
+
+import com.google.common.base.Joiner;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.Files;
+import net.minecraftforge.gradle.common.BaseExtension;
+import net.minecraftforge.gradle.common.Constants;
+import net.minecraftforge.gradle.common.PeakHeap;
+import net.minecraftforge.gradle.decompiler.FernFlowerDecompiler;
+import net.minecraftforge.gradle.decompiler.IDecompiler;
+import net.minecraftforge.gradle.delayed.DelayedFile;
+import net.minecraftforge.gradle.patching.ContextualPatch;
+import net.minecraftforge.gradle.sourcemanip.FFPatcher;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.tasks.TaskAction;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Decompiles the same jar with every decompiler, and reports how long each took, how much memory it used,
+ * and how many of the MCP patch hunks still apply to its output.
+ */
+public class BenchmarkDecompilersTask extends DefaultTask {
+    private DelayedFile inJar;
+    private DelayedFile fernFlower;
+    private DelayedFile patch;
+    private DelayedFile report;
+
+    private List<IDecompiler> decompilers = new ArrayList<IDecompiler>();
+
+    @TaskAction
+    public void doTask() throws IOException {
+        List<IDecompiler> decompilers = getDecompilers();
+        String patches = Files.toString(getPatch(), Charset.defaultCharset());
+
+        List<String> lines = new ArrayList<String>();
+        lines.add(Joiner.on('\t').join("decompiler", "seconds", "peakHeapMB", "hunksApplied", "hunksFuzzed", "hunksTotal"));
+
+        for (IDecompiler decompiler : decompilers) {
+            getLogger().lifecycle("Decompiling with " + decompiler.getName());
+
+            File outDir = new File(getTemporaryDir(), decompiler.getName());
+            getProject().delete(outDir);
+            outDir.mkdirs();
+
+            boolean inProcess = decompiler.getCapabilities().contains(IDecompiler.Capability.IN_PROCESS);
+            if (inProcess)
+                PeakHeap.reset();
+
+            long start = System.nanoTime();
+            File out = decompiler.decompile(getProject(), getInJar(), new ArrayList<File>(), outDir);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            // the heap of a forked JVM can't be seen from here.
+            String peak = inProcess ? Long.toString(PeakHeap.get() / (1024 * 1024)) : "n/a";
+
+            int[] hunks = countHunks(patches, readSources(out, decompiler.getCapabilities().contains(IDecompiler.Capability.FERNFLOWER_FIXUPS)));
+
+            String line = Joiner.on('\t').join(decompiler.getName(), String.format("%.2f", seconds), peak, hunks[0], hunks[1], hunks[2]);
+            getLogger().lifecycle(line);
+            lines.add(line);
+        }
+
+        if (report != null) {
+            File file = getReport();
+            file.getParentFile().mkdirs();
+            Files.write(Joiner.on(Constants.NEWLINE).join(lines) + Constants.NEWLINE, file, Charset.defaultCharset());
+            getLogger().lifecycle("Report written to " + file);
+        }
+    }
+
+    private static Map<String, String> readSources(File jar, boolean fernFlowerFixes) throws IOException {
+        HashMap<String, String> sources = new HashMap<String, String>();
+
+        ZipInputStream zin = new ZipInputStream(new FileInputStream(jar));
+        ZipEntry entry;
+        while ((entry = zin.getNextEntry()) != null) {
+            if (entry.isDirectory() || !entry.getName().endsWith(".java"))
+                continue;
+
+            String text = new String(ByteStreams.toByteArray(zin), Charset.defaultCharset());
+            if (fernFlowerFixes)
+                text = FFPatcher.processFile(new File(entry.getName()).getName(), text);
+
+            sources.put(entry.getName(), text);
+        }
+        zin.close();
+
+        return sources;
+    }
+
+    /**
+     * @return applied, fuzzed and total hunks
+     */
+    private static int[] countHunks(String patches, Map<String, String> sources) throws IOException {
+        int[] ret = new int[3];
+
+        List<ContextualPatch.PatchReport> reports;
+        try {
+            reports = ContextualPatch.create(patches, new ContextProvider(sources)).patch(true);
+        } catch (Exception e) {
+            throw new IOException("Could not read the patches", e);
+        }
+
+        for (ContextualPatch.PatchReport report : reports) {
+            for (ContextualPatch.HunkReport hunk : report.getHunks()) {
+                ret[2]++;
+                if (hunk.getStatus() == ContextualPatch.PatchStatus.Fuzzed)
+                    ret[1]++;
+                else if (hunk.getStatus().isSuccess())
+                    ret[0]++;
+            }
+        }
+
+        return ret;
+    }
+
+    /**
+     * @return the decompilers set on this task, or fernflower both forked and in process if there are none.
+     */
+    public List<IDecompiler> getDecompilers() {
+        if (!decompilers.isEmpty())
+            return decompilers;
+
+        String maxHeap = ((BaseExtension) getProject().getExtensions().getByName(Constants.EXT_NAME_MC)).getDecompileMaxHeap();
+
+        List<IDecompiler> ret = new ArrayList<IDecompiler>();
+        ret.add(new FernFlowerDecompiler(getFernFlower(), false, maxHeap));
+        ret.add(new FernFlowerDecompiler(getFernFlower(), true, maxHeap));
+        return ret;
+    }
+
+    public void setDecompilers(List<IDecompiler> decompilers) {
+        this.decompilers = decompilers;
+    }
+
+    public void decompiler(IDecompiler decompiler) {
+        decompilers.add(decompiler);
+    }
+
+    public File getInJar() {
+        return inJar.call();
+    }
+
+    public void setInJar(DelayedFile inJar) {
+        this.inJar = inJar;
+    }
+
+    public File getFernFlower() {
+        return fernFlower.call();
+    }
+
+    public void setFernFlower(DelayedFile fernFlower) {
+        this.fernFlower = fernFlower;
+    }
+
+    public File getPatch() {
+        return patch.call();
+    }
+
+    public void setPatch(DelayedFile patch) {
+        this.patch = patch;
+    }
+
+    public File getReport() {
+        return report.call();
+    }
+
+    public void setReport(DelayedFile report) {
+        this.report = report;
+    }
+
+    /**
+     * Same as the one in the DecompileTask, but never writes anything.
+     */
+    private static class ContextProvider implements ContextualPatch.IContextProvider {
+        private Map<String, String> fileMap;
+
+        private final int STRIP = 1;
+
+        public ContextProvider(Map<String, String> fileMap) {
+            this.fileMap = fileMap;
+        }
+
+        private String strip(String target) {
+            target = target.replace('\\', '/');
+            int index = 0;
+            for (int x = 0; x < STRIP; x++) {
+                index = target.indexOf('/', index) + 1;
+            }
+            return target.substring(index);
+        }
+
+        @Override
+        public List<String> getData(String target) {
+            target = strip(target);
+
+            if (fileMap.containsKey(target)) {
+                String[] lines = fileMap.get(target).split("\r\n|\r|\n");
+                List<String> ret = new ArrayList<String>();
+                for (String line : lines) {
+                    ret.add(line);
+                }
+                return ret;
+            }
+
+            return null;
+        }
+
+        @Override
+        public void setData(String target, List<String> data) {
+            // dry run
+        }
+    }
+}
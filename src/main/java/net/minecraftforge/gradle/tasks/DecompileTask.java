@@ -4,30 +4,47 @@ import argo.saj.InvalidSyntaxException;
 import com.github.abrarsyed.jastyle.ASFormatter;
 import com.github.abrarsyed.jastyle.OptParser;
 import com.google.common.base.Joiner;
+import com.google.common.base.Throwables;
 import com.google.common.io.ByteStreams;
 import com.google.common.io.Files;
-import groovy.lang.Closure;
+import com.google.common.io.Resources;
+import net.minecraftforge.gradle.common.BaseExtension;
 import net.minecraftforge.gradle.common.Constants;
+import net.minecraftforge.gradle.common.HashingService;
+import net.minecraftforge.gradle.common.SharedCaches;
+import net.minecraftforge.gradle.decompiler.FernFlowerDecompiler;
+import net.minecraftforge.gradle.decompiler.IDecompiler;
+import net.minecraftforge.gradle.decompiler.IMemoryDecompiler;
 import net.minecraftforge.gradle.delayed.DelayedFile;
 import net.minecraftforge.gradle.patching.ContextualPatch;
+import net.minecraftforge.gradle.patching.PatchBundle;
+import net.minecraftforge.gradle.patching.SourceLines;
 import net.minecraftforge.gradle.sourcemanip.FFPatcher;
-import net.minecraftforge.gradle.sourcemanip.FmlCleanup;
 import net.minecraftforge.gradle.sourcemanip.GLConstantFixer;
-import net.minecraftforge.gradle.sourcemanip.McpCleanup;
+import net.minecraftforge.gradle.sourcemanip.SourceCleanup;
 import net.minecraftforge.gradle.tasks.abstractutil.CachedTask;
 import org.gradle.api.logging.LogLevel;
+import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.InputFile;
 import org.gradle.api.tasks.OutputFile;
 import org.gradle.api.tasks.TaskAction;
-import org.gradle.process.JavaExecSpec;
 
 import java.io.*;
 import java.nio.charset.Charset;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -49,11 +66,19 @@ public class DecompileTask extends CachedTask {
     @Cached
     private DelayedFile outJar;
 
+    private IDecompiler decompiler;
+
     private HashMap<String, String> sourceMap = new HashMap<String, String>();
     private HashMap<String, byte[]> resourceMap = new HashMap<String, byte[]>();
 
-    private static final Pattern BEFORE = Pattern.compile("(?m)((case|default).+(?:\\r\\n|\\r|\\n))(?:\\r\\n|\\r|\\n)");
-    private static final Pattern AFTER = Pattern.compile("(?m)(?:\\r\\n|\\r|\\n)((?:\\r\\n|\\r|\\n)[ \\t]+(case|default))");
+    /**
+     * Bump this whenever the cleanup code changes what it produces, so old cached sources are not used.
+     */
+    private static final int CACHE_VERSION = 1;
+
+    private static final long CACHE_MAX_SIZE_MB = 1024;
+
+    private static final int MAX_THREADS = Runtime.getRuntime().availableProcessors();
 
     /**
      * This method outputs to the cleanSrc
@@ -63,57 +88,323 @@ public class DecompileTask extends CachedTask {
         // define files.
         File temp = new File(getTemporaryDir(), getInJar().getName());
 
-        getLogger().info("Decompiling Jar");
-        decompile(getInJar(), getTemporaryDir(), getFernFlower());
+        IDecompiler decompiler = getDecompiler();
+        boolean partial = decompiler.getCapabilities().contains(IDecompiler.Capability.LIBRARIES);
+        boolean fixups = decompiler.getCapabilities().contains(IDecompiler.Capability.FERNFLOWER_FIXUPS);
+        // straight from the decompiler, without a jar in between.
+        boolean inMemory = decompiler instanceof IMemoryDecompiler && ((IMemoryDecompiler) decompiler).canDecompileSources();
 
-        getLogger().info("Loading decompiled jar");
-        readJarAndFix(temp);
+        getLogger().info("Checking decompile cache");
+        TreeMap<String, Map<String, byte[]>> groups = readClassGroups(getInJar());
+        Map<String, String> keys = getCacheKeys(decompiler, groups);
+        // without libraries, classes can only be decompiled all together.
+        Map<String, String> cached = partial ? readCache(keys) : new HashMap<String, String>();
+
+        for (String outer : cached.keySet()) {
+            groups.remove(outer.substring(0, outer.length() - ".java".length()));
+        }
+        getLogger().info("Classes cached: " + cached.size() + "/" + keys.size());
+
+        int shards = partial ? getExtension().getDecompileShards() : 1;
+        Map<String, String> sources = null;
+        if (cached.isEmpty() && shards <= 1) {
+            getLogger().info("Decompiling Jar with " + decompiler.getName());
+            if (inMemory)
+                sources = ((IMemoryDecompiler) decompiler).decompileSources(getProject(), getInJar(), Collections.<File>emptyList());
+            else
+                temp = decompiler.decompile(getProject(), getInJar(), Collections.<File>emptyList(), getTemporaryDir());
+        } else {
+            getLogger().info("Decompiling " + groups.size() + " classes in " + Math.min(shards, groups.size()) + " shards with " + decompiler.getName());
+            sources = decompileSharded(decompiler, inMemory, groups, getInJar(), temp, shards);
+        }
+        groups = null;
+
+        if (sources != null) {
+            getLogger().info("Loading decompiled sources");
+            readSourcesAndFix(getInJar(), sources, fixups);
+        } else {
+            getLogger().info("Loading decompiled jar");
+            readJarAndFix(temp, fixups);
+        }
+        sources = null;
 
         getLogger().info("Applying MCP patches");
-        applyMcpPatches(getPatch());
+        applyMcpPatches(getPatch(), cached.keySet());
 
         getLogger().info("Cleaning source");
         applyMcpCleanup(getAstyleConfig());
 
+        getLogger().info("Updating decompile cache");
+        writeCache(keys);
+        sourceMap.putAll(cached);
+
         getLogger().info("Saving Jar");
         saveJar(getOutJar());
     }
 
-    private void decompile(final File inJar, final File outJar, final File fernFlower) {
-        getProject().javaexec(new Closure<JavaExecSpec>(this) {
-            private static final long serialVersionUID = 4608694547855396167L;
+    /**
+     * @return the class files of the jar, grouped by the source file they decompile to. Inner classes go with their outer class.
+     */
+    private static TreeMap<String, Map<String, byte[]>> readClassGroups(File jar) throws IOException {
+        TreeMap<String, Map<String, byte[]>> groups = new TreeMap<String, Map<String, byte[]>>();
+
+        ZipInputStream zin = new ZipInputStream(new FileInputStream(jar));
+        ZipEntry entry;
+        while ((entry = zin.getNextEntry()) != null) {
+            if (entry.isDirectory() || !entry.getName().endsWith(".class"))
+                continue;
+
+            String name = entry.getName();
+            String outer = name.substring(0, name.length() - ".class".length());
+            int index = outer.indexOf('$', outer.lastIndexOf('/') + 1);
+            if (index > 0)
+                outer = outer.substring(0, index);
+
+            Map<String, byte[]> group = groups.get(outer);
+            if (group == null) {
+                group = new TreeMap<String, byte[]>();
+                groups.put(outer, group);
+            }
+            group.put(name, ByteStreams.toByteArray(zin));
+        }
+        zin.close();
+
+        return groups;
+    }
+
+    /**
+     * The key covers the bytes of the outer class and all its inner classes, and everything else that changes the final source:
+     * the decompiler and its options, the MCP patches, the astyle config, the GL constants and the cleanup code of the plugin.
+     *
+     * @return source file -> cache key
+     */
+    private Map<String, String> getCacheKeys(IDecompiler decompiler, Map<String, Map<String, byte[]>> groups) throws IOException {
+        List<String> config = new ArrayList<String>();
+        config.add("v" + CACHE_VERSION);
+        config.add(decompiler.getCacheKey());
+        config.add(Constants.hash(getPatch()));
+        config.add(Constants.hash(getAstyleConfig()));
+        config.add(HashingService.hash(Resources.toByteArray(Resources.getResource("gl.json")), HashingService.Algorithm.MD5));
+        config.add(SharedCaches.getPluginHash());
+        String configHash = Constants.hash(Joiner.on(Constants.NEWLINE).join(config));
+
+        HashMap<String, String> keys = new HashMap<String, String>();
+        for (Map.Entry<String, Map<String, byte[]>> group : groups.entrySet()) {
+            List<String> key = new ArrayList<String>();
+            key.add(configHash);
+            for (Map.Entry<String, byte[]> e : group.getValue().entrySet()) {
+                key.add(e.getKey() + "=" + HashingService.hash(e.getValue(), HashingService.Algorithm.MD5));
+            }
 
-            public JavaExecSpec call() {
-                JavaExecSpec exec = (JavaExecSpec) getDelegate();
+            keys.put(group.getKey() + ".java", Constants.hash(Joiner.on(Constants.NEWLINE).join(key)));
+        }
 
-                exec.args(
-                        fernFlower.getAbsolutePath(),
-                        "-din=0",
-                        "-rbr=0",
-                        "-dgs=1",
-                        "-asc=1",
-                        "-log=ERROR",
-                        inJar.getAbsolutePath(),
-                        outJar.getAbsolutePath()
-                );
+        return keys;
+    }
 
-                exec.setMain("-jar");
-                exec.setWorkingDir(fernFlower.getParentFile());
+    private File getCacheDir() {
+        return Constants.cacheFile(getProject(), "caches", "minecraft", "decompCache");
+    }
 
-                exec.classpath(Constants.getClassPath());
+    private File getCacheFile(String key) {
+        return new File(getCacheDir(), key.substring(0, 2) + "/" + key + ".java");
+    }
+
+    /**
+     * @return source file -> cleaned source, for every source file found in the cache
+     */
+    private Map<String, String> readCache(Map<String, String> keys) {
+        HashMap<String, String> cached = new HashMap<String, String>();
+        for (Map.Entry<String, String> e : keys.entrySet()) {
+            File file = getCacheFile(e.getValue());
+            if (!file.isFile())
+                continue;
+
+            try {
+                cached.put(e.getKey(), Files.toString(file, Charset.defaultCharset()));
+                SharedCaches.touch(file);
+            } catch (IOException ex) {
+                // just decompile it again.
+                getLogger().debug("Could not read cached source " + file, ex);
+            }
+        }
+        return cached;
+    }
 
-                exec.setStandardOutput(Constants.getNullStream());
+    private void writeCache(Map<String, String> keys) {
+        for (Map.Entry<String, String> e : sourceMap.entrySet()) {
+            String key = keys.get(e.getKey());
+            if (key == null)
+                continue;
 
-                return exec;
+            File file = getCacheFile(key);
+            File temp = new File(file.getParentFile(), file.getName() + "." + UUID.randomUUID() + ".tmp");
+            try {
+                file.getParentFile().mkdirs();
+                Files.write(e.getValue(), temp, Charset.defaultCharset());
+                java.nio.file.Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException ex) {
+                // a missing entry only costs time next run.
+                getLogger().debug("Could not cache source " + file, ex);
+                temp.delete();
             }
+        }
+
+        long left = SharedCaches.clean(getCacheDir(), CACHE_MAX_SIZE_MB);
+        if (left >= 0)
+            getLogger().info("Decompile cache cleaned, " + left + " MB left");
+    }
+
+    /**
+     * Splits the classes into shards, decompiles them all at once, and merges the outputs and the jar's resources into the given jar.
+     * Inner classes always end up in the same shard as their outer class, and every shard sees the full jar as a library.
+     *
+     * @param inMemory take the sources straight from the decompiler, then nothing is merged into the jar.
+     * @return the sources of all shards if inMemory, otherwise null
+     */
+    private Map<String, String> decompileSharded(final IDecompiler decompiler, final boolean inMemory, final Map<String, Map<String, byte[]>> groups, final File inJar, final File outJar, int shardNum) throws IOException {
+        File shardDir = new File(getTemporaryDir(), "shards");
+        getProject().delete(shardDir);
+        shardDir.mkdirs();
+
+        final Map<String, Long> sizes = new HashMap<String, Long>();
+        for (Map.Entry<String, Map<String, byte[]>> group : groups.entrySet()) {
+            long size = 0;
+            for (byte[] data : group.getValue().values())
+                size += data.length;
+            sizes.put(group.getKey(), size);
+        }
 
-            public JavaExecSpec call(Object obj) {
-                return call();
+        shardNum = Math.min(shardNum, groups.size());
+
+        // biggest groups first, each into the currently smallest shard.
+        List<String> order = new ArrayList<String>(groups.keySet());
+        Collections.sort(order, new Comparator<String>() {
+            @Override
+            public int compare(String a, String b) {
+                int ret = sizes.get(b).compareTo(sizes.get(a));
+                return ret != 0 ? ret : a.compareTo(b);
             }
         });
+
+        long[] shardSizes = new long[shardNum];
+        List<List<String>> shards = new ArrayList<List<String>>(shardNum);
+        for (int i = 0; i < shardNum; i++)
+            shards.add(new ArrayList<String>());
+
+        for (String outer : order) {
+            int smallest = 0;
+            for (int i = 1; i < shardNum; i++) {
+                if (shardSizes[i] < shardSizes[smallest])
+                    smallest = i;
+            }
+
+            shards.get(smallest).add(outer);
+            shardSizes[smallest] += sizes.get(outer);
+        }
+
+        // write the shard jars
+        final File[] shardJars = new File[shardNum];
+        final File[] shardOuts = new File[shardNum];
+        for (int i = 0; i < shardNum; i++) {
+            shardJars[i] = new File(shardDir, "shard" + i + ".jar");
+            shardOuts[i] = new File(shardDir, "out" + i);
+            shardOuts[i].mkdirs();
+
+            ZipOutputStream zout = new ZipOutputStream(new FileOutputStream(shardJars[i]));
+            for (String outer : shards.get(i)) {
+                for (Map.Entry<String, byte[]> e : groups.get(outer).entrySet()) {
+                    zout.putNextEntry(new ZipEntry(e.getKey()));
+                    zout.write(e.getValue());
+                    zout.closeEntry();
+                }
+            }
+            zout.close();
+        }
+
+        // decompile them all at once
+        final File[] shardResults = new File[shardNum];
+        final Map<?, ?>[] shardSources = new Map<?, ?>[shardNum];
+        final Throwable[] errors = new Throwable[shardNum];
+        Thread[] threads = new Thread[shardNum];
+        for (int i = 0; i < shardNum; i++) {
+            final int shard = i;
+            threads[i] = new Thread("Decompile-" + i) {
+                @Override
+                public void run() {
+                    try {
+                        if (inMemory)
+                            shardSources[shard] = ((IMemoryDecompiler) decompiler).decompileSources(getProject(), shardJars[shard], Collections.singletonList(inJar));
+                        else
+                            shardResults[shard] = decompiler.decompile(getProject(), shardJars[shard], Collections.singletonList(inJar), shardOuts[shard]);
+                    } catch (Throwable t) {
+                        errors[shard] = t;
+                    }
+                }
+            };
+            threads[i].start();
+        }
+
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+
+        for (Throwable t : errors) {
+            if (t != null)
+                throw Throwables.propagate(t);
+        }
+
+        if (inMemory) {
+            HashMap<String, String> sources = new HashMap<String, String>();
+            for (Map<?, ?> shard : shardSources) {
+                for (Map.Entry<?, ?> e : shard.entrySet())
+                    sources.put((String) e.getKey(), (String) e.getValue());
+            }
+            return sources;
+        }
+
+        // merge it all back into what a normal run would have produced
+        HashSet<String> written = new HashSet<String>();
+        ZipOutputStream zout = new ZipOutputStream(new FileOutputStream(outJar));
+
+        for (int i = 0; i < shardNum; i++) {
+            copyEntries(shardResults[i], zout, written, false);
+        }
+
+        // decompilers copy over the resources, so get those from the original jar.
+        copyEntries(inJar, zout, written, true);
+
+        zout.close();
+        return null;
     }
 
-    private void readJarAndFix(final File jar) throws IOException {
+    private static void copyEntries(File jar, ZipOutputStream zout, Set<String> written, boolean skipClasses) throws IOException {
+        ZipInputStream zin = new ZipInputStream(new FileInputStream(jar));
+        ZipEntry entry;
+        while ((entry = zin.getNextEntry()) != null) {
+            if (skipClasses && entry.getName().endsWith(".class"))
+                continue;
+
+            if (!written.add(entry.getName()))
+                continue;
+
+            zout.putNextEntry(new ZipEntry(entry.getName()));
+            ByteStreams.copy(zin, zout);
+            zout.closeEntry();
+        }
+        zin.close();
+    }
+
+    private BaseExtension getExtension() {
+        return (BaseExtension) getProject().getExtensions().getByName(Constants.EXT_NAME_MC);
+    }
+
+    private void readJarAndFix(final File jar, boolean fernFlowerFixes) throws IOException {
         // begin reading jar
         final ZipInputStream zin = new ZipInputStream(new FileInputStream(jar));
         ZipEntry entry = null;
@@ -132,23 +423,55 @@ public class DecompileTask extends CachedTask {
                 // source!
                 fileStr = new String(ByteStreams.toByteArray(zin), Charset.defaultCharset());
 
-                // fix
-                fileStr = FFPatcher.processFile(new File(entry.getName()).getName(), fileStr);
-
-                sourceMap.put(entry.getName(), fileStr);
+                addSource(entry.getName(), fileStr, fernFlowerFixes);
             }
         }
 
         zin.close();
     }
 
-    private void applyMcpPatches(File patchFile) throws Throwable {
-        ContextualPatch patch = ContextualPatch.create(Files.toString(patchFile, Charset.defaultCharset()), new ContextProvider(sourceMap));
+    /**
+     * Takes the sources as the decompiler handed them over, and the resources from the jar it decompiled, as the
+     * decompiler would have copied them.
+     */
+    private void readSourcesAndFix(File inJar, Map<String, String> sources, boolean fernFlowerFixes) throws IOException {
+        ZipInputStream zin = new ZipInputStream(new FileInputStream(inJar));
+        ZipEntry entry;
+        while ((entry = zin.getNextEntry()) != null) {
+            if (entry.getName().contains("META-INF") || entry.getName().endsWith(".class"))
+                continue;
+
+            resourceMap.put(entry.getName(), ByteStreams.toByteArray(zin));
+        }
+        zin.close();
+
+        for (Map.Entry<String, String> e : sources.entrySet())
+            addSource(e.getKey(), e.getValue(), fernFlowerFixes);
+    }
+
+    private void addSource(String name, String text, boolean fernFlowerFixes) {
+        // fix
+        if (fernFlowerFixes)
+            text = FFPatcher.processFile(new File(name).getName(), text);
+
+        sourceMap.put(name, text);
+    }
+
+    /**
+     * @param cached source files that come from the cache, and so are already patched.
+     */
+    private void applyMcpPatches(File patchFile, Set<String> cached) throws Throwable {
+        ContextProvider provider = new ContextProvider(sourceMap, cached);
+        ContextualPatch patch = getPatchBundle(patchFile).create("mcp", provider);
 
         boolean fuzzed = false;
 
         List<ContextualPatch.PatchReport> errors = patch.patch(false);
+        provider.flush();
         for (ContextualPatch.PatchReport report : errors) {
+            if (provider.isSkipped(report.getTarget()))
+                continue;
+
             // catch failed patches
             if (!report.getStatus().isSuccess()) {
                 getLogger().log(LogLevel.ERROR, "Patching failed: " + report.getTarget(), report.getFailure());
@@ -182,6 +505,11 @@ public class DecompileTask extends CachedTask {
             // sucesful patches
             else {
                 getLogger().info("Patch succeeded: " + report.getTarget());
+
+                // how hard each hunk was to find, to spot slow patches
+                for (ContextualPatch.HunkReport hunk : report.getHunks()) {
+                    getLogger().debug("Hunk " + hunk.getHunkID() + " tried " + hunk.getCandidates() + " candidates");
+                }
             }
         }
 
@@ -189,49 +517,78 @@ public class DecompileTask extends CachedTask {
             getLogger().lifecycle("Patches Fuzzed!");
     }
 
+    /**
+     * The MCP patch is big, so it is only parsed the first time and kept as a bundle after that.
+     */
+    private PatchBundle getPatchBundle(final File patchFile) throws IOException {
+        File bundle = Constants.cacheFile(getProject(), "caches", "minecraft", "patchBundles", hashFiles(patchFile) + ".bin");
+        return PatchBundle.get(bundle, new PatchBundle.IPatchSource() {
+            @Override
+            public Map<String, String> getPatches() throws IOException {
+                return Collections.singletonMap("mcp", Files.toString(patchFile, Charset.defaultCharset()));
+            }
+        });
+    }
+
     private void applyMcpCleanup(File conf) throws IOException, InvalidSyntaxException {
-        ASFormatter formatter = new ASFormatter();
-        OptParser parser = new OptParser(formatter);
-        parser.parseOptionFile(conf);
+        // sorted, so the work is handed out the same way every time.
+        ConcurrentLinkedQueue<String> filesLeft = new ConcurrentLinkedQueue<String>(new TreeSet<String>(sourceMap.keySet()));
+        ConcurrentHashMap<String, String> cleaned = new ConcurrentHashMap<String, String>();
 
-        Reader reader;
-        Writer writer;
+        int threadNum = Math.max(1, Math.min(MAX_THREADS, filesLeft.size()));
+        ArrayList<CleanupThread> threads = new ArrayList<CleanupThread>(threadNum);
 
-        GLConstantFixer fixer = new GLConstantFixer();
+        // the formatter is not safe to share, so every thread gets its own. the cleanup is.
+        SourceCleanup cleanup = new SourceCleanup(new GLConstantFixer());
+        for (int i = 0; i < threadNum; i++) {
+            ASFormatter formatter = new ASFormatter();
+            OptParser parser = new OptParser(formatter);
+            parser.parseOptionFile(conf);
 
-        for (String file : sourceMap.keySet()) {
-            String text = sourceMap.get(file);
+            threads.add(new CleanupThread(filesLeft, cleaned, formatter, cleanup));
+        }
 
-            getLogger().debug("Processing file: " + file);
+        for (CleanupThread thread : threads)
+            thread.start();
 
-            getLogger().debug("processing comments");
-            text = McpCleanup.stripComments(text);
+        Throwable error = null;
+        for (CleanupThread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
 
-            getLogger().debug("fixing imports comments");
-            text = McpCleanup.fixImports(text);
+            if (error == null && thread.error != null)
+                error = thread.error;
+        }
 
-            getLogger().debug("various other cleanup");
-            text = McpCleanup.cleanup(text);
+        if (error != null) {
+            Throwables.propagateIfPossible(error, IOException.class);
+            throw Throwables.propagate(error);
+        }
 
-            getLogger().debug("fixing OGL constants");
-            text = fixer.fixOGL(text);
+        sourceMap.putAll(cleaned);
+    }
 
-            getLogger().debug("formatting source");
-            reader = new StringReader(text);
-            writer = new StringWriter();
-            formatter.format(reader, writer);
-            reader.close();
-            writer.flush();
-            writer.close();
-            text = writer.toString();
+    private String cleanFile(String file, String text, ASFormatter formatter, SourceCleanup cleanup) throws IOException {
+        getLogger().debug("Processing file: " + file);
 
-            getLogger().debug("applying FML transformations");
-            text = BEFORE.matcher(text).replaceAll("$1");
-            text = AFTER.matcher(text).replaceAll("$1");
-            text = FmlCleanup.renameClass(text);
+        getLogger().debug("applying MCP cleanup");
+        String clean = cleanup.beforeFormat(text);
 
-            sourceMap.put(file, text);
-        }
+        getLogger().debug("formatting source");
+        Reader reader = new StringReader(clean);
+        Writer writer = new StringWriter();
+        formatter.format(reader, writer);
+        reader.close();
+        writer.flush();
+        writer.close();
+        text = writer.toString();
+
+        getLogger().debug("applying FML transformations");
+        return SourceCleanup.afterFormat(text);
     }
 
     private void saveJar(File output) throws IOException {
@@ -270,6 +627,28 @@ public class DecompileTask extends CachedTask {
         this.astyleConfig = astyleConfig;
     }
 
+    /**
+     * @return the decompiler set on this task, or fernflower if there is none.
+     */
+    public IDecompiler getDecompiler() {
+        if (decompiler != null)
+            return decompiler;
+
+        return new FernFlowerDecompiler(getFernFlower(), getExtension().isDecompileInProcess(), getExtension().getDecompileMaxHeap());
+    }
+
+    /**
+     * @return what the decompiler output depends on besides the jar, so switching backends reruns the task.
+     */
+    @Input
+    public String getDecompilerKey() throws IOException {
+        return getDecompiler().getCacheKey();
+    }
+
+    public void setDecompiler(IDecompiler decompiler) {
+        this.decompiler = decompiler;
+    }
+
     public File getFernFlower() {
         return fernFlower.call();
     }
@@ -310,16 +689,59 @@ public class DecompileTask extends CachedTask {
         this.resourceMap = resourceMap;
     }
 
+    /**
+     * Cleans files off the shared queue until it runs dry.
+     */
+    private class CleanupThread extends Thread {
+        private final ConcurrentLinkedQueue<String> filesLeft;
+        private final Map<String, String> cleaned;
+        private final ASFormatter formatter;
+        private final SourceCleanup cleanup;
+        private Throwable error;
+
+        public CleanupThread(ConcurrentLinkedQueue<String> filesLeft, Map<String, String> cleaned, ASFormatter formatter, SourceCleanup cleanup) {
+            this.filesLeft = filesLeft;
+            this.cleaned = cleaned;
+            this.formatter = formatter;
+            this.cleanup = cleanup;
+            this.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            String file;
+            while ((file = filesLeft.poll()) != null) {
+                try {
+                    cleaned.put(file, cleanFile(file, sourceMap.get(file), formatter, cleanup));
+                } catch (Throwable t) {
+                    error = t;
+                    // no point in carrying on, the task is going to fail anyways.
+                    filesLeft.clear();
+                    return;
+                }
+            }
+        }
+    }
+
     /**
      * A private inner class to be used with the MCPPatches only.
      */
     private class ContextProvider implements ContextualPatch.IContextProvider {
         private Map<String, String> fileMap;
+        private Set<String> skipped;
+        // lines handed out to the patches, and the last lines each patched file was set to
+        private Map<String, SourceLines> lines = new HashMap<String, SourceLines>();
+        private Map<String, List<String>> changed = new HashMap<String, List<String>>();
 
         private final int STRIP = 1;
 
-        public ContextProvider(Map<String, String> fileMap) {
+        public ContextProvider(Map<String, String> fileMap, Set<String> skipped) {
             this.fileMap = fileMap;
+            this.skipped = skipped;
+        }
+
+        public boolean isSkipped(String target) {
+            return skipped.contains(strip(target));
         }
 
         private String strip(String target) {
@@ -333,23 +755,42 @@ public class DecompileTask extends CachedTask {
 
         @Override
         public List<String> getData(String target) {
+            if (isSkipped(target)) {
+                // never set, so whatever the patches do to these lines is thrown away.
+                target = strip(target);
+                return fileMap.containsKey(target) ? new SourceLines(fileMap.get(target)) : null;
+            }
+
             target = strip(target);
 
-            if (fileMap.containsKey(target)) {
-                String[] lines = fileMap.get(target).split("\r\n|\r|\n");
-                List<String> ret = new ArrayList<String>();
-                for (String line : lines) {
-                    ret.add(line);
-                }
-                return ret;
+            SourceLines ret = lines.get(target);
+            if (ret == null && fileMap.containsKey(target)) {
+                ret = new SourceLines(fileMap.get(target));
+                lines.put(target, ret);
             }
 
-            return null;
+            return ret;
         }
 
         @Override
         public void setData(String target, List<String> data) {
-            fileMap.put(strip(target), Joiner.on(Constants.NEWLINE).join(data));
+            if (isSkipped(target))
+                return;
+
+            target = strip(target);
+            lines.put(target, SourceLines.of(data));
+            changed.put(target, data);
+        }
+
+        /**
+         * Turns the changed lines back into text, once all the patches are done with them.
+         */
+        public void flush() {
+            for (Map.Entry<String, List<String>> e : changed.entrySet()) {
+                fileMap.put(e.getKey(), Joiner.on(Constants.NEWLINE).join(e.getValue()));
+            }
+            changed.clear();
+            lines.clear();
         }
     }
 }
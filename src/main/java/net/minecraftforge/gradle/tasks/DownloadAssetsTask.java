@@ -4,6 +4,7 @@ import com.google.common.io.ByteStreams;
 import com.google.common.io.Files;
 import groovy.lang.Closure;
 import net.minecraftforge.gradle.common.Constants;
+import net.minecraftforge.gradle.common.HashingService;
 import net.minecraftforge.gradle.common.version.AssetIndex;
 import net.minecraftforge.gradle.common.version.AssetIndex.AssetEntry;
 import net.minecraftforge.gradle.delayed.DelayedFile;
@@ -150,24 +151,23 @@ public class DownloadAssetsTask extends DefaultTask {
                         }
 
                         File localMc = new File(minecraftDir, asset.path);
-                        BufferedInputStream stream;
 
-                        // check for local copy
-                        if (localMc.exists() && Constants.hash(localMc, "SHA1").equals(asset.hash))
-                            // if so, copy
-                            stream = new BufferedInputStream(Files.newInputStreamSupplier(localMc).getInput());
-                        else
-                            // otherwise download
-                            stream = new BufferedInputStream(new URL(Constants.ASSETS_URL + "/" + asset.path).openStream());
+                        // check for local copy, its already verified if so.
+                        if (localMc.exists() && asset.hash.equals(Constants.hash(localMc, "SHA1"))) {
+                            Files.copy(localMc, file);
+                            break;
+                        }
 
-                        Files.write(ByteStreams.toByteArray(stream), file);
+                        // otherwise download, and check the hash before it ever hits the disk
+                        BufferedInputStream stream = new BufferedInputStream(new URL(Constants.ASSETS_URL + "/" + asset.path).openStream());
+                        byte[] data = ByteStreams.toByteArray(stream);
                         stream.close();
 
-                        // check hash...
-                        String hash = Constants.hash(file, "SHA1");
-                        if (asset.hash.equals(hash))
+                        String hash = HashingService.hash(data, HashingService.Algorithm.SHA1);
+                        if (asset.hash.equals(hash)) {
+                            Files.write(data, file);
                             break; // hashes are fine;
-                        else {
+                        } else {
                             file.delete();
                             getLogger().error("download attempt " + i + " failed! : " + asset.hash + " != " + hash);
                         }
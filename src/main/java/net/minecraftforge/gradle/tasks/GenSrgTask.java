@@ -1,19 +1,19 @@
 package net.minecraftforge.gradle.tasks;
 
-import au.com.bytecode.opencsv.CSVReader;
+import com.google.common.base.Joiner;
 import com.google.common.io.Files;
 import net.minecraftforge.gradle.delayed.DelayedFile;
+import net.minecraftforge.gradle.mappings.MappingTable;
+import net.minecraftforge.gradle.mappings.McpMappings;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.tasks.InputFile;
 import org.gradle.api.tasks.OutputFile;
 import org.gradle.api.tasks.TaskAction;
 
-import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
-import java.util.HashMap;
 
 public class GenSrgTask extends DefaultTask {
 
@@ -37,21 +37,10 @@ public class GenSrgTask extends DefaultTask {
 
     @TaskAction
     public void doTask() throws IOException {
-        HashMap<String, String> methods = new HashMap<String, String>();
-        HashMap<String, String> fields = new HashMap<String, String>();
-
-        // read methods
-        CSVReader csvReader = RemapSourcesTask.getReader(getMethodsCsv());
-        for (String[] s : csvReader.readAll()) {
-            methods.put(s[0], s[1]);
-        }
-
-        // read fields
-        csvReader = RemapSourcesTask.getReader(getFieldsCsv());
-        for (String[] s : csvReader.readAll()) {
-            fields.put(s[0], s[1]);
-        }
-
+        // read methods, fields and the SRG
+        McpMappings mappings = McpMappings.get(getProject(), getMethodsCsv(), getFieldsCsv(), null, getInSrg());
+        MappingTable methods = mappings.getMethods();
+        MappingTable fields = mappings.getFields();
 
         File deobfFile = getNotchToMcpSrg();
         File reobfFile = getMcpToSrgSrg();
@@ -67,7 +56,6 @@ public class GenSrgTask extends DefaultTask {
         }
 
         // create streams
-        BufferedReader srgIn = Files.newReader(getInSrg(), Charset.defaultCharset());
         BufferedWriter notch2Mcp = Files.newWriter(getNotchToMcpSrg(), Charset.defaultCharset());
         BufferedWriter mcpToSrg = Files.newWriter(getMcpToSrgSrg(), Charset.defaultCharset());
         BufferedWriter mcpToNotch = Files.newWriter(getMcpToNotchSrg(), Charset.defaultCharset());
@@ -81,10 +69,11 @@ public class GenSrgTask extends DefaultTask {
         // reobf
         // mcp -> srg
 
-        String line, temp, in, out;
-        String[] split;
-        while ((line = srgIn.readLine()) != null) {
-            if (line.startsWith("PK:")) {
+        String temp, in, out, name, line;
+        for (String[] split : mappings.getSrgRecords()) {
+            if (split[0].startsWith("PK:")) {
+                line = Joiner.on(' ').join(split);
+
                 // nobody cares about the packages.
                 notch2Mcp.write(line);
                 notch2Mcp.newLine();
@@ -94,28 +83,29 @@ public class GenSrgTask extends DefaultTask {
 
                 mcpToNotch.write(line);
                 mcpToNotch.newLine();
-            } else if (line.startsWith("CL:")) {
+            } else if (split[0].startsWith("CL:")) {
                 // deobf:  no change here...
-                notch2Mcp.write(line);
+                notch2Mcp.write(Joiner.on(' ').join(split));
                 notch2Mcp.newLine();
 
                 // reobf: same classes on both sides.
-                split = line.split(" "); // 0=type  1=notch  2=srg=mcp
+                // 0=type  1=notch  2=srg=mcp
                 mcpToSrg.write("CL: " + split[2] + " " + split[2]);
                 mcpToSrg.newLine();
 
                 // output is notch
                 mcpToNotch.write("CL: " + split[2] + " " + split[1]);
                 mcpToNotch.newLine();
-            } else if (line.startsWith("FD:")) {
+            } else if (split[0].startsWith("FD:")) {
                 // deobf: need to rename that method.
-                split = line.split(" "); // 0=type  1=notch  2=srg
+                // 0=type  1=notch  2=srg
 
                 temp = split[2].substring(split[2].lastIndexOf('/') + 1);
                 out = split[2];
 
-                if (fields.containsKey(temp))
-                    out = split[2].replace(temp, fields.get(temp));
+                name = fields.getName(temp);
+                if (name != null)
+                    out = split[2].replace(temp, name);
 
                 notch2Mcp.write("FD: " + split[1] + " " + out);
                 notch2Mcp.newLine();
@@ -127,16 +117,17 @@ public class GenSrgTask extends DefaultTask {
                 // output is notch
                 mcpToNotch.write("FD: " + out + " " + split[1]);
                 mcpToNotch.newLine();
-            } else if (line.startsWith("MD:")) {
+            } else if (split[0].startsWith("MD:")) {
                 // deobf: rename that method.
-                split = line.split(" "); // 0=type  1-2=notch  3-4=srg
+                // 0=type  1-2=notch  3-4=srg
                 temp = split[3].substring(split[3].lastIndexOf('/') + 1);
 
                 in = split[1] + " " + split[2]; // notch
                 out = split[3] + " " + split[4]; // srg
 
-                if (methods.containsKey(temp))
-                    out = out.replace(temp, methods.get(temp)); // now MCP
+                name = methods.getName(temp);
+                if (name != null)
+                    out = out.replace(temp, name); // now MCP
 
                 notch2Mcp.write("MD: " + in + " " + out);
                 notch2Mcp.newLine();
@@ -151,8 +142,6 @@ public class GenSrgTask extends DefaultTask {
             }
         }
 
-        srgIn.close();
-
         notch2Mcp.flush();
         notch2Mcp.close();
 
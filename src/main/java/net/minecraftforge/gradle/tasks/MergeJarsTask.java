@@ -1,6 +1,7 @@
 package net.minecraftforge.gradle.tasks;
 
 import com.google.common.base.Objects;
+import com.google.common.base.Throwables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.google.common.io.ByteStreams;
@@ -22,6 +23,11 @@ import org.objectweb.asm.tree.MethodNode;
 import java.io.*;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import java.util.zip.ZipOutputStream;
@@ -46,6 +52,7 @@ public class MergeJarsTask extends CachedTask {
     private static HashSet<String> dontAnnotate = new HashSet<String>();
     private static HashSet<String> dontProcess = new HashSet<String>();
     private static final boolean DEBUG = false;
+    private static final int MAX_THREADS = Runtime.getRuntime().availableProcessors();
 
     @TaskAction
     public void doTask() throws IOException {
@@ -116,23 +123,22 @@ public class MergeJarsTask extends CachedTask {
             HashMap<String, ZipEntry> sClasses = getClassEntries(sInJar, outJar, resources);
             HashSet<String> cAdded = new HashSet<String>();
 
-            // start processing
+            // every class is merged or copied on its own, in the pool. the jobs are in the order the classes go in the jar.
+            List<String> names = new ArrayList<String>();
+            List<Callable<byte[]>> jobs = new ArrayList<Callable<byte[]>>();
+
             for (Entry<String, ZipEntry> entry : cClasses.entrySet()) {
                 String name = entry.getKey();
                 ZipEntry cEntry = entry.getValue();
                 ZipEntry sEntry = sClasses.get(name);
 
                 if (sEntry == null) {
-                    if (!copyToServer.contains(name)) {
-                        copyClass(cInJar, cEntry, outJar, true);
-                        cAdded.add(name);
-                    } else {
-                        if (DEBUG) {
-                            System.out.println("Copy class c->s : " + name);
-                        }
-                        copyClass(cInJar, cEntry, outJar, true);
-                        cAdded.add(name);
+                    if (DEBUG && copyToServer.contains(name)) {
+                        System.out.println("Copy class c->s : " + name);
                     }
+                    names.add(cEntry.getName());
+                    jobs.add(copyJob(cInJar, cEntry, true));
+                    cAdded.add(name);
                     continue;
                 }
 
@@ -140,13 +146,8 @@ public class MergeJarsTask extends CachedTask {
                 ClassInfo info = new ClassInfo(name);
                 shared.put(name, info);
 
-                byte[] cData = readEntry(cInJar, entry.getValue());
-                byte[] sData = readEntry(sInJar, sEntry);
-                byte[] data = processClass(cData, sData, info);
-
-                ZipEntry newEntry = new ZipEntry(cEntry.getName());
-                outJar.putNextEntry(newEntry);
-                outJar.write(data);
+                names.add(cEntry.getName());
+                jobs.add(mergeJob(cInJar, cEntry, sInJar, sEntry, info));
                 cAdded.add(name);
             }
 
@@ -154,9 +155,12 @@ public class MergeJarsTask extends CachedTask {
                 if (DEBUG) {
                     System.out.println("Copy class s->c : " + entry.getKey());
                 }
-                copyClass(sInJar, entry.getValue(), outJar, false);
+                names.add(entry.getValue().getName());
+                jobs.add(copyJob(sInJar, entry.getValue(), false));
             }
 
+            writeInOrder(names, jobs, outJar);
+
             for (String name : new String[]{SideOnly.class.getName(), Side.class.getName()}) {
                 String eName = name.replace(".", "/");
                 String classPath = eName + ".class";
@@ -192,7 +196,61 @@ public class MergeJarsTask extends CachedTask {
         }
     }
 
-    private void copyClass(ZipFile inJar, ZipEntry entry, ZipOutputStream outJar, boolean isClientOnly) throws IOException {
+    private Callable<byte[]> copyJob(final ZipFile inJar, final ZipEntry entry, final boolean isClientOnly) {
+        return new Callable<byte[]>() {
+            @Override
+            public byte[] call() throws Exception {
+                return copyClass(inJar, entry, isClientOnly);
+            }
+        };
+    }
+
+    private Callable<byte[]> mergeJob(final ZipFile cInJar, final ZipEntry cEntry, final ZipFile sInJar, final ZipEntry sEntry, final ClassInfo info) {
+        return new Callable<byte[]>() {
+            @Override
+            public byte[] call() throws Exception {
+                return processClass(readEntry(cInJar, cEntry), readEntry(sInJar, sEntry), info);
+            }
+        };
+    }
+
+    /**
+     * Runs the jobs in a pool, and writes what they return from this thread, in the order of the jobs.
+     * So the jar comes out the same whatever the number of threads.
+     */
+    private static void writeInOrder(List<String> names, List<Callable<byte[]>> jobs, ZipOutputStream outJar) throws IOException {
+        int threads = Math.max(1, Math.min(MAX_THREADS, jobs.size()));
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<byte[]>> futures = new ArrayList<Future<byte[]>>(jobs.size());
+            for (Callable<byte[]> job : jobs) {
+                futures.add(pool.submit(job));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                byte[] data;
+                try {
+                    data = futures.get(i).get();
+                } catch (ExecutionException e) {
+                    Throwables.propagateIfPossible(e.getCause(), IOException.class);
+                    throw Throwables.propagate(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+
+                // done with it, don't keep every class around until the end
+                futures.set(i, null);
+
+                outJar.putNextEntry(new ZipEntry(names.get(i)));
+                outJar.write(data);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private byte[] copyClass(ZipFile inJar, ZipEntry entry, boolean isClientOnly) throws IOException {
         ClassReader reader = new ClassReader(readEntry(inJar, entry));
         ClassNode classNode = new ClassNode();
 
@@ -207,13 +265,7 @@ public class MergeJarsTask extends CachedTask {
 
         ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
         classNode.accept(writer);
-        byte[] data = writer.toByteArray();
-
-        ZipEntry newEntry = new ZipEntry(entry.getName());
-        if (outJar != null) {
-            outJar.putNextEntry(newEntry);
-            outJar.write(data);
-        }
+        return writer.toByteArray();
     }
 
     private byte[] readEntry(ZipFile inFile, ZipEntry entry) throws IOException {
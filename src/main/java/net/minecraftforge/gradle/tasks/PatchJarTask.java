@@ -5,8 +5,13 @@ import com.google.common.io.Files;
 import net.minecraftforge.gradle.common.Constants;
 import net.minecraftforge.gradle.delayed.DelayedFile;
 import net.minecraftforge.gradle.patching.ContextualPatch;
+import net.minecraftforge.gradle.patching.PatchBundle;
+import net.minecraftforge.gradle.patching.SourceLines;
 import net.minecraftforge.gradle.tasks.abstractutil.EditJarTask;
 import org.gradle.api.file.FileCollection;
+import org.gradle.api.file.FileTree;
+import org.gradle.api.file.FileVisitDetails;
+import org.gradle.api.file.FileVisitor;
 import org.gradle.api.logging.LogLevel;
 import org.gradle.api.tasks.InputFiles;
 
@@ -14,8 +19,17 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class PatchJarTask extends EditJarTask {
     @InputFiles
@@ -23,6 +37,8 @@ public class PatchJarTask extends EditJarTask {
 
     private ContextProvider PROVIDER;
 
+    private static final int MAX_THREADS = Runtime.getRuntime().availableProcessors();
+
     @Override
     public String asRead(String file) {
         return file;
@@ -30,22 +46,30 @@ public class PatchJarTask extends EditJarTask {
 
     @Override
     public void doStuffBefore() throws Throwable {
-        PROVIDER = new ContextProvider(sourceMap);
+        // the provider is made once the jar is read, see doStuffMiddle
     }
 
     @Override
     public void doStuffMiddle() throws Throwable {
+        // patches for different files run at the same time, so they get a map that can take it.
+        ConcurrentHashMap<String, String> files = new ConcurrentHashMap<String, String>(sourceMap);
+        PROVIDER = new ContextProvider(files);
+
         getLogger().info("Reading patches");
-        ArrayList<ContextualPatch> patches = readPatches(getInPatches());
+        ArrayList<ContextualPatch> patches = readPatches();
 
         boolean fuzzed = false;
 
         getLogger().info("Applying patches");
 
+        List<List<ContextualPatch.PatchReport>> results = applyPatches(patches);
+        PROVIDER.flush();
+        sourceMap.putAll(files);
+
         Throwable failure = null;
 
-        for (ContextualPatch patch : patches) {
-            List<ContextualPatch.PatchReport> errors = patch.patch(false);
+        // reports come out in the same order as the patches went in
+        for (List<ContextualPatch.PatchReport> errors : results) {
             for (ContextualPatch.PatchReport report : errors) {
                 // catch failed patches
                 if (!report.getStatus().isSuccess()) {
@@ -82,6 +106,11 @@ public class PatchJarTask extends EditJarTask {
                 // sucesful patches
                 else {
                     getLogger().info("Patch succeeded: " + PROVIDER.strip(report.getTarget()));
+
+                    // how hard each hunk was to find, to spot slow patches
+                    for (ContextualPatch.HunkReport hunk : report.getHunks()) {
+                        getLogger().debug("Hunk " + hunk.getHunkID() + " tried " + hunk.getCandidates() + " candidates");
+                    }
                 }
             }
         }
@@ -95,21 +124,148 @@ public class PatchJarTask extends EditJarTask {
         }
     }
 
-    private ArrayList<ContextualPatch> readPatches(FileCollection patchFiles) throws IOException {
-        ArrayList<ContextualPatch> patches = new ArrayList<ContextualPatch>();
+    /**
+     * Patches that share a target are applied one after another, in order. Everything else runs in parallel.
+     *
+     * @return the reports of every patch, in the same order as the patches
+     */
+    private List<List<ContextualPatch.PatchReport>> applyPatches(final List<ContextualPatch> patches) throws Throwable {
+        // group the patches by the files they touch, merging groups that share a file.
+        int[] group = new int[patches.size()];
+        HashMap<String, Integer> owners = new HashMap<String, Integer>();
+        for (int i = 0; i < patches.size(); i++) {
+            group[i] = i;
+            for (String target : patches.get(i).getTargets()) {
+                String key = target == null ? "" : PROVIDER.strip(target);
+                Integer owner = owners.get(key);
+                if (owner == null) {
+                    owners.put(key, i);
+                } else {
+                    union(group, owner, i);
+                }
+            }
+        }
+
+        TreeMap<Integer, List<Integer>> groups = new TreeMap<Integer, List<Integer>>();
+        for (int i = 0; i < patches.size(); i++) {
+            int root = find(group, i);
+            List<Integer> members = groups.get(root);
+            if (members == null) {
+                members = new ArrayList<Integer>();
+                groups.put(root, members);
+            }
+            members.add(i);
+        }
+
+        final List<List<ContextualPatch.PatchReport>> results = new ArrayList<List<ContextualPatch.PatchReport>>(patches.size());
+        for (int i = 0; i < patches.size(); i++) {
+            results.add(null);
+        }
 
-        for (File file : patchFiles.getFiles()) {
-            if (file.getPath().endsWith(".patch")) {
-                patches.add(readPatch(file));
+        int threads = Math.max(1, Math.min(MAX_THREADS, groups.size()));
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Object>> futures = new ArrayList<Future<Object>>(groups.size());
+            for (final List<Integer> members : groups.values()) {
+                futures.add(pool.submit(new Callable<Object>() {
+                    @Override
+                    public Object call() throws Exception {
+                        for (int i : members) {
+                            List<ContextualPatch.PatchReport> reports = patches.get(i).patch(false);
+                            synchronized (results) {
+                                results.set(i, reports);
+                            }
+                        }
+                        return null;
+                    }
+                }));
             }
+
+            for (Future<Object> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    throw e.getCause();
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        return results;
+    }
+
+    private static int find(int[] group, int i) {
+        while (group[i] != i) {
+            group[i] = group[group[i]];
+            i = group[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] group, int a, int b) {
+        a = find(group, a);
+        b = find(group, b);
+        // the lowest index is the root, so groups keep the order of the patches
+        if (a < b) {
+            group[b] = a;
+        } else if (b < a) {
+            group[a] = b;
+        }
+    }
+
+    private ArrayList<ContextualPatch> readPatches() throws IOException {
+        // the patches only get read and parsed the first time, after that the bundle is enough.
+        String hash = hashFiles(inPatches.call());
+        final File bundleFile = Constants.cacheFile(getProject(), "caches", "minecraft", "patchBundles", hash + ".bin");
+
+        PatchBundle bundle = PatchBundle.get(bundleFile, new PatchBundle.IPatchSource() {
+            @Override
+            public Map<String, String> getPatches() throws IOException {
+                getLogger().info("Compiling patch bundle " + bundleFile.getName());
+                return readPatchFiles(getInPatches());
+            }
+        });
+
+        ArrayList<ContextualPatch> patches = new ArrayList<ContextualPatch>();
+        for (String name : bundle.getNames()) {
+            patches.add(bundle.create(name, PROVIDER).setAccessC14N(true).setMaxFuzz(0));
         }
 
         return patches;
     }
 
-    public ContextualPatch readPatch(File file) throws IOException {
-        getLogger().debug("Reading patch file: " + file);
-        return ContextualPatch.create(Files.toString(file, Charset.defaultCharset()), PROVIDER).setAccessC14N(true).setMaxFuzz(0);
+    private Map<String, String> readPatchFiles(FileCollection patchFiles) throws IOException {
+        // sorted, so the reports always come out the same way
+        final TreeMap<String, File> files = new TreeMap<String, File>();
+
+        if (patchFiles instanceof FileTree) {
+            ((FileTree) patchFiles).visit(new FileVisitor() {
+                @Override
+                public void visitDir(FileVisitDetails details) {
+                }
+
+                @Override
+                public void visitFile(FileVisitDetails details) {
+                    files.put(details.getRelativePath().getPathString(), details.getFile());
+                }
+            });
+        } else {
+            // loose files can share a name across directories, and every one of them has to be applied
+            for (File file : patchFiles.getFiles()) {
+                files.put(file.getAbsolutePath(), file);
+            }
+        }
+
+        LinkedHashMap<String, String> patches = new LinkedHashMap<String, String>();
+        for (Map.Entry<String, File> e : files.entrySet()) {
+            if (e.getKey().endsWith(".patch")) {
+                getLogger().debug("Reading patch file: " + e.getValue());
+                patches.put(e.getKey(), Files.toString(e.getValue(), Charset.defaultCharset()));
+            }
+        }
+
+        return patches;
     }
 
     /**
@@ -117,6 +273,9 @@ public class PatchJarTask extends EditJarTask {
      */
     private class ContextProvider implements ContextualPatch.IContextProvider {
         private Map<String, String> fileMap;
+        // lines handed out to the patches, and the last lines each patched file was set to. Patches to different files run at the same time.
+        private Map<String, SourceLines> lines = new ConcurrentHashMap<String, SourceLines>();
+        private Map<String, List<String>> changed = new ConcurrentHashMap<String, List<String>>();
 
         private final int STRIP = 3;
 
@@ -137,22 +296,31 @@ public class PatchJarTask extends EditJarTask {
         public List<String> getData(String target) {
             target = strip(target);
 
-            if (fileMap.containsKey(target)) {
-                String[] lines = fileMap.get(target).split("\r\n|\r|\n");
-                List<String> ret = new ArrayList<String>();
-                for (String line : lines) {
-                    ret.add(line);
-                }
-                return ret;
+            SourceLines ret = lines.get(target);
+            if (ret == null && fileMap.containsKey(target)) {
+                ret = new SourceLines(fileMap.get(target));
+                lines.put(target, ret);
             }
 
-            return null;
+            return ret;
         }
 
         @Override
         public void setData(String target, List<String> data) {
             target = strip(target);
-            fileMap.put(target, Joiner.on(Constants.NEWLINE).join(data));
+            lines.put(target, SourceLines.of(data));
+            changed.put(target, data);
+        }
+
+        /**
+         * Turns the changed lines back into text, once all the patches are done with them.
+         */
+        public void flush() {
+            for (Map.Entry<String, List<String>> e : changed.entrySet()) {
+                fileMap.put(e.getKey(), Joiner.on(Constants.NEWLINE).join(e.getValue()));
+            }
+            changed.clear();
+            lines.clear();
         }
     }
 
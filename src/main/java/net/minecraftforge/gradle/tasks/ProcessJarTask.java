@@ -45,6 +45,7 @@ public class ProcessJarTask extends CachedTask {
     @Cached
     private DelayedFile outDirtyJar = new DelayedFile(getProject(), Constants.DEOBF_JAR); // dirty = has any other ATs
 
+    @InputFiles
     private ArrayList<DelayedFile> ats = new ArrayList<DelayedFile>();
 
     private boolean isClean = true;
@@ -1,19 +1,17 @@
 package net.minecraftforge.gradle.tasks;
 
-import au.com.bytecode.opencsv.CSVParser;
 import au.com.bytecode.opencsv.CSVReader;
-import com.google.common.base.Joiner;
-import com.google.common.base.Strings;
-import com.google.common.io.Files;
-import net.minecraftforge.gradle.StringUtils;
 import net.minecraftforge.gradle.common.Constants;
 import net.minecraftforge.gradle.delayed.DelayedFile;
+import net.minecraftforge.gradle.mappings.Javadocs;
+import net.minecraftforge.gradle.mappings.MappingTable;
+import net.minecraftforge.gradle.mappings.McpMappings;
 import net.minecraftforge.gradle.tasks.abstractutil.EditJarTask;
+import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.InputFile;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.Charset;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -28,240 +26,295 @@ public class RemapSourcesTask extends EditJarTask {
     @InputFile
     private DelayedFile paramsCsv;
 
+    @Input
     private boolean doesJavadocs = false;
 
-    private final Map<String, Map<String, String>> methods = new HashMap<String, Map<String, String>>();
-    private final Map<String, Map<String, String>> fields = new HashMap<String, Map<String, String>>();
-    private final Map<String, String> params = new HashMap<String, String>();
+    private MappingTable methods;
+    private MappingTable fields;
+    private MappingTable params;
+    private Javadocs methodJavadocs;
+    private Javadocs fieldJavadocs;
 
     private static final Pattern SRG_FINDER = Pattern.compile("func_[0-9]+_[a-zA-Z_]+|field_[0-9]+_[a-zA-Z_]+|p_[\\w]+_\\d+_");
-    private static final Pattern METHOD = Pattern.compile("^( {4}|\\t)(?:[\\w$.\\[\\]]+ )*(func_[0-9]+_[a-zA-Z_]+)\\(");
-    private static final Pattern FIELD = Pattern.compile("^( {4}|\\t)(?:[\\w$.\\[\\]]+ )*(field_[0-9]+_[a-zA-Z_]+) *(?:=|;)");
 
     @Override
     public void doStuffBefore() throws Throwable {
         readCsvFiles();
     }
 
+    /**
+     * Renames every SRG name in one walk over the text, a line at a time.
+     * <p>
+     * A line that declares a method or field gets its name replaced first, and the javadoc or a marker for it put in front.
+     * That is a line like <code>^( {4}|\t)(?:[\w$.\[\]]+ )*(func_[0-9]+_[a-zA-Z_]+)\(</code>, or one ending in
+     * <code>(field_[0-9]+_[a-zA-Z_]+) *(?:=|;)</code> for fields. Then every SRG name in the line and what was put in front,
+     * as {@link #SRG_FINDER} finds them, is renamed.
+     */
     @Override
     public String asRead(String text) {
-        Matcher matcher;
-
-        String prevLine = null;
-        ArrayList<String> newLines = new ArrayList<String>();
-        for (String line : StringUtils.lines(text)) {
-
-            // check method
-            matcher = METHOD.matcher(line);
-
-            if (matcher.find()) {
-                String name = matcher.group(2);
-
-                if (methods.containsKey(name) && methods.get(name).containsKey("name")) {
-                    line = line.replace(name, methods.get(name).get("name"));
-
-                    // get javadoc
-                    String javadoc = methods.get(name).get("javadoc");
-                    if (!Strings.isNullOrEmpty(javadoc)) {
-                        if (doesJavadocs) {
-                            line = buildJavadoc(matcher.group(1), javadoc, true) + line;
-                            if (!Strings.isNullOrEmpty(prevLine) && !prevLine.endsWith("{")) {
-                                line = Constants.NEWLINE + line;
-                            }
-                        } else {
-                            line = matcher.group(1) + "// JAVADOC METHOD $$ " + name + Constants.NEWLINE + line;
-                        }
-                    }
-                }
-            }
-
-            // check field
-            matcher = FIELD.matcher(line);
-
-            if (matcher.find()) {
-                String name = matcher.group(2);
-
-                if (fields.containsKey(name)) {
-                    line = line.replace(name, fields.get(name).get("name"));
-
-                    // get javadoc
-                    String javadoc = fields.get(name).get("javadoc");
-                    if (!Strings.isNullOrEmpty(javadoc)) {
-                        if (doesJavadocs) {
-                            line = buildJavadoc(matcher.group(1), javadoc, false) + line;
-                            if (!Strings.isNullOrEmpty(prevLine) && !prevLine.endsWith("{")) {
-                                line = Constants.NEWLINE + line;
-                            }
-                        } else {
-                            line = matcher.group(1) + "// JAVADOC FIELD $$ " + name + Constants.NEWLINE + line;
-                        }
-                    }
-                }
-            }
-
-            prevLine = line;
-            newLines.add(line);
-        }
+        int length = text.length();
+        if (length == 0)
+            return Constants.NEWLINE;
 
-        text = Joiner.on(Constants.NEWLINE).join(newLines) + Constants.NEWLINE;
+        StringBuilder out = new StringBuilder(length + length / 4);
 
-        // FAR all methods
-        StringBuffer buf = new StringBuffer();
-        matcher = SRG_FINDER.matcher(text);
-        while (matcher.find()) {
-            String find = matcher.group();
-
-            if (find.startsWith("p_"))
-                find = params.get(find);
-            else if (find.startsWith("func_"))
-                find = stupidMacro(methods, find);
-            else if (find.startsWith("field_"))
-                find = stupidMacro(fields, find);
+        // the last line was neither empty nor ended in {
+        boolean prevBreaks = false;
+        int pos = 0;
+        while (pos < length) {
+            int end = pos;
+            char c = 0;
+            while (end < length && (c = text.charAt(end)) != '\n' && c != '\r')
+                end++;
 
-            if (find == null)
-                find = matcher.group();
+            prevBreaks = remapLine(text, pos, end, prevBreaks, out);
+            out.append(Constants.NEWLINE);
 
-            matcher.appendReplacement(buf, find);
+            pos = end + (c == '\r' && end + 1 < length && text.charAt(end + 1) == '\n' ? 2 : 1);
         }
-        matcher.appendTail(buf);
 
-        return buf.toString();
+        return out.toString();
     }
 
-    private String stupidMacro(Map<String, Map<String, String>> map, String key) {
-        Map<String, String> s = map.get(key);
-        return s == null ? null : s.get("name");
-    }
+    /**
+     * @return if the line, as it was written, is neither empty nor ends in {
+     */
+    private boolean remapLine(String text, int start, int end, boolean prevBreaks, StringBuilder out) {
+        // only made if the line is a declaration
+        String line = null;
+        // the javadoc or marker that goes before it
+        String javadoc = null;
+        boolean marker = false;
+
+        // check method
+        int name = findDeclaration(text, start, end, true);
+        if (name >= 0) {
+            int nameEnd = srgEnd(text, name, end, "func_");
+            int entry = methods.find(text, name, nameEnd);
+
+            if (entry >= 0) {
+                line = text.substring(start, end).replace(text.substring(name, nameEnd), methods.getName(entry));
+                javadoc = methodJavadocs.get(entry, indent(line));
+                if (javadoc != null && !doesJavadocs) {
+                    javadoc = indent(line) + "// JAVADOC METHOD $$ " + text.substring(name, nameEnd) + Constants.NEWLINE;
+                    marker = true;
+                }
+            }
+        }
 
-    private void readCsvFiles() throws IOException {
-        CSVReader reader = getReader(getMethodsCsv());
-        for (String[] s : reader.readAll()) {
-            Map<String, String> temp = new HashMap<String, String>();
-            temp.put("name", s[1]);
-            temp.put("javadoc", s[3]);
-            methods.put(s[0], temp);
+        // check field, unless there is a javadoc in front now, which no field declaration starts with
+        if (javadoc == null) {
+            String current = line == null ? text : line;
+            int currentStart = line == null ? start : 0;
+            int currentEnd = line == null ? end : line.length();
+            name = findDeclaration(current, currentStart, currentEnd, false);
+            if (name >= 0) {
+                int nameEnd = srgEnd(current, name, currentEnd, "field_");
+                int entry = fields.find(current, name, nameEnd);
+
+                if (entry >= 0) {
+                    line = current.substring(currentStart, currentEnd).replace(current.substring(name, nameEnd), fields.getName(entry));
+                    javadoc = fieldJavadocs.get(entry, indent(line));
+                    if (javadoc != null && !doesJavadocs) {
+                        javadoc = indent(line) + "// JAVADOC FIELD $$ " + current.substring(name, nameEnd) + Constants.NEWLINE;
+                        marker = true;
+                    }
+                }
+            }
         }
 
-        reader = getReader(getFieldsCsv());
-        for (String[] s : reader.readAll()) {
-            Map<String, String> temp = new HashMap<String, String>();
-            temp.put("name", s[1]);
-            temp.put("javadoc", s[3]);
-            fields.put(s[0], temp);
+        if (line == null) {
+            remap(text, start, end, out);
+            return start < end && text.charAt(end - 1) != '{';
         }
 
-        reader = getReader(getParamsCsv());
-        for (String[] s : reader.readAll()) {
-            params.put(s[0], s[1]);
+        if (javadoc != null) {
+            if (marker) {
+                // the marker keeps the SRG name, so the javadoc can be found again.
+                out.append(javadoc);
+            } else {
+                if (prevBreaks)
+                    out.append(Constants.NEWLINE);
+                remap(javadoc, 0, javadoc.length(), out);
+            }
         }
+
+        remap(line, 0, line.length(), out);
+        return !line.endsWith("{");
     }
 
-    public static CSVReader getReader(File file) throws IOException {
-        return new CSVReader(Files.newReader(file, Charset.defaultCharset()), CSVParser.DEFAULT_SEPARATOR, CSVParser.DEFAULT_QUOTE_CHARACTER, CSVParser.DEFAULT_ESCAPE_CHARACTER, 1, false);
+    /**
+     * @return the indent of a declaration, which starts with 4 spaces or a tab.
+     */
+    private static String indent(String line) {
+        return line.charAt(0) == '\t' ? "\t" : "    ";
     }
 
-    private String buildJavadoc(String indent, String javadoc, boolean isMethod) {
-        StringBuilder builder = new StringBuilder();
+    /**
+     * @return where the name of the method or field declared in the line starts, or -1 if it is no declaration.
+     * If the name could start after several of the words before it, the last one is taken, as the regex would.
+     */
+    private static int findDeclaration(String text, int start, int end, boolean method) {
+        int pos;
+        if (end - start >= 4 && text.charAt(start) == ' ' && text.charAt(start + 1) == ' ' && text.charAt(start + 2) == ' ' && text.charAt(start + 3) == ' ')
+            pos = start + 4;
+        else if (start < end && text.charAt(start) == '\t')
+            pos = start + 1;
+        else
+            return -1;
+
+        int found = -1;
+        while (true) {
+            if (isDeclaredName(text, pos, end, method))
+                found = pos;
+
+            // the next word, if this one is followed by a single space
+            int word = pos;
+            while (word < end && isWordChar(text.charAt(word)))
+                word++;
+            if (word == pos || word >= end || text.charAt(word) != ' ')
+                return found;
+            pos = word + 1;
+        }
+    }
 
-        if (javadoc.length() >= 70 || isMethod) {
-            List<String> list = wrapText(javadoc, 120 - (indent.length() + 3));
+    private static boolean isDeclaredName(String text, int pos, int end, boolean method) {
+        int i = srgEnd(text, pos, end, method ? "func_" : "field_");
+        if (i < 0)
+            return false;
 
-            builder.append(indent);
-            builder.append("/**");
-            builder.append(Constants.NEWLINE);
+        if (method)
+            return i < end && text.charAt(i) == '(';
 
-            for (String line : list) {
-                builder.append(indent);
-                builder.append(" * ");
-                builder.append(line);
-                builder.append(Constants.NEWLINE);
-            }
+        while (i < end && text.charAt(i) == ' ')
+            i++;
+        return i < end && (text.charAt(i) == '=' || text.charAt(i) == ';');
+    }
 
-            builder.append(indent);
-            builder.append(" */");
-            builder.append(Constants.NEWLINE);
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '$' || c == '.' || c == '[' || c == ']';
+    }
 
-        }
-        // one line
-        else {
-            builder.append(indent);
-            builder.append("/** ");
-            builder.append(javadoc);
-            builder.append(" */");
-            builder.append(Constants.NEWLINE);
+    /**
+     * @return the end of the <code>prefix[0-9]+_[a-zA-Z_]+</code> at the position, or -1 if there is none.
+     */
+    private static int srgEnd(String text, int pos, int end, String prefix) {
+        if (end - pos < prefix.length())
+            return -1;
+        for (int i = 0; i < prefix.length(); i++) {
+            if (text.charAt(pos + i) != prefix.charAt(i))
+                return -1;
         }
 
-        return builder.toString().replace(indent, indent);
+        int i = pos + prefix.length();
+        int digits = i;
+        while (i < end && text.charAt(i) >= '0' && text.charAt(i) <= '9')
+            i++;
+        if (i == digits || i >= end || text.charAt(i) != '_')
+            return -1;
+
+        int letters = ++i;
+        char c;
+        while (i < end && (((c = text.charAt(i)) >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_'))
+            i++;
+        return i == letters ? -1 : i;
     }
 
-    private static List<String> wrapText(String text, int len) {
-        // return empty array for null text
-        if (text == null) {
-            return new ArrayList<String>();
-        }
-
-        // return text if len is zero or less
-        if (len <= 0) {
-            return new ArrayList<String>(Arrays.asList(text));
+    /**
+     * @return the end of the <code>p_[\w]+_\d+_</code> at the position, or -1 if there is none. Like the regex,
+     * that is the longest one.
+     */
+    private static int paramEnd(String text, int pos, int end) {
+        if (end - pos < 2 || text.charAt(pos) != 'p' || text.charAt(pos + 1) != '_')
+            return -1;
+
+        int run = pos + 2;
+        while (run < end && isIdentChar(text.charAt(run)))
+            run++;
+
+        // the last _ that is followed by digits and another _, with at least one character before it
+        for (int u = run - 1; u > pos + 2; u--) {
+            if (text.charAt(u) != '_')
+                continue;
+
+            int i = u + 1;
+            while (i < run && text.charAt(i) >= '0' && text.charAt(i) <= '9')
+                i++;
+            if (i > u + 1 && i < run && text.charAt(i) == '_')
+                return i + 1;
         }
+        return -1;
+    }
 
-        // return text if less than length
-        if (text.length() <= len) {
-            return new ArrayList<String>(Arrays.asList(text));
-        }
+    private static boolean isIdentChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
 
-        List<String> lines = new ArrayList<String>();
-        StringBuilder line = new StringBuilder();
-        StringBuilder word = new StringBuilder();
-        int tempNum;
-
-        // each char in array
-        for (char c : text.toCharArray()) {
-            // its a wordBreaking character.
-            if (c == ' ' || c == ',' || c == '-') {
-                // add the character to the word
-                word.append(c);
-
-                // its a space. set TempNum to 1, otherwise leave it as a wrappable char
-                tempNum = Character.isWhitespace(c) ? 1 : 0;
-
-                // subtract tempNum from the length of the word
-                if ((line.length() + word.length() - tempNum) > len) {
-                    lines.add(line.toString());
-                    line.delete(0, line.length());
+    /**
+     * Appends the text with every known SRG name replaced, finding them like {@link #SRG_FINDER} does.
+     */
+    private void remap(String text, int start, int end, StringBuilder out) {
+        int last = start;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+
+            MappingTable table;
+            int tokenEnd;
+            if (c == 'f') {
+                table = methods;
+                tokenEnd = srgEnd(text, i, end, "func_");
+                if (tokenEnd < 0) {
+                    table = fields;
+                    tokenEnd = srgEnd(text, i, end, "field_");
                 }
+            } else if (c == 'p') {
+                table = params;
+                tokenEnd = paramEnd(text, i, end);
+            } else {
+                continue;
+            }
 
-                // new word, add it to the next line and clear the word
-                line.append(word);
-                word.delete(0, word.length());
+            if (tokenEnd < 0)
+                continue;
 
+            // unknown names are left as they are
+            int entry = table.find(text, i, tokenEnd);
+            if (entry >= 0) {
+                out.append(text, last, i);
+                appendName(out, text.substring(i, tokenEnd), table.getName(entry));
+                last = tokenEnd;
             }
-            // not a linebreak char
-            else {
-                // add it to the word and move on
-                word.append(c);
-            }
-        }
 
-        // handle any extra chars in current word
-        if (word.length() > 0) {
-            if ((line.length() + word.length()) > len) {
-                lines.add(line.toString());
-                line.delete(0, line.length());
-            }
-            line.append(word);
+            i = tokenEnd - 1;
         }
+        out.append(text, last, end);
+    }
 
-        // handle extra line
-        if (line.length() > 0) {
-            lines.add(line.toString());
+    private static void appendName(StringBuilder out, String srg, String name) {
+        if (name.indexOf('$') < 0 && name.indexOf('\\') < 0) {
+            out.append(name);
+            return;
         }
 
-        List<String> temp = new ArrayList<String>(lines.size());
-        for (String s : lines) {
-            temp.add(s.trim());
-        }
-        return temp;
+        // the names were always used as regex replacements, keep what that made of $ and \
+        Matcher matcher = SRG_FINDER.matcher(srg);
+        matcher.find();
+        StringBuffer buf = new StringBuffer();
+        matcher.appendReplacement(buf, name);
+        out.append(buf);
+    }
+
+    private void readCsvFiles() throws IOException {
+        McpMappings mappings = McpMappings.get(getProject(), getMethodsCsv(), getFieldsCsv(), getParamsCsv(), null);
+        methods = mappings.getMethods();
+        fields = mappings.getFields();
+        params = mappings.getParams();
+        methodJavadocs = mappings.getMethodJavadocs();
+        fieldJavadocs = mappings.getFieldJavadocs();
+    }
+
+    public static CSVReader getReader(File file) throws IOException {
+        return McpMappings.getReader(file);
     }
 
     public File getMethodsCsv() {
@@ -1,31 +1,62 @@
 package net.minecraftforge.gradle.tasks.abstractutil;
 
 import com.google.common.base.Joiner;
+import com.google.common.base.Throwables;
 import com.google.common.io.Files;
 import groovy.lang.Closure;
 import net.minecraftforge.gradle.common.Constants;
+import net.minecraftforge.gradle.common.FileHashJournal;
+import net.minecraftforge.gradle.common.SharedCaches;
 import org.gradle.api.Action;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.Task;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.file.FileTree;
+import org.gradle.api.file.FileVisitDetails;
+import org.gradle.api.file.FileVisitor;
 import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.InputFile;
+import org.gradle.api.tasks.InputFiles;
 
 import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.nio.charset.Charset;
-import java.security.NoSuchAlgorithmException;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
 
 /**
  * This class offers some extra helper methods for caching files.
+ * Outputs are also published to a content-addressed store in the gradle user home, keyed by the inputs of the task,
+ * so that any other project on the machine with the same inputs can restore them instead of running the task.
+ * Entries nobody restored for {@link #STORE_MAX_AGE_DAYS} days are removed, and the oldest ones go when the store grows
+ * past {@link #STORE_MAX_SIZE_MB}. The whole store can be deleted at any time: caches/minecraft/outputCache in the
+ * gradle user home.
  */
 public abstract class CachedTask extends DefaultTask {
+    /**
+     * Part of every store key. Bump it when a task writes different output for the same inputs,
+     * so builds of the plugin that share a version never restore each other's outputs.
+     */
+    public static final int STORE_VERSION = 1;
+
+    public static final int STORE_MAX_AGE_DAYS = SharedCaches.MAX_AGE_DAYS;
+    public static final long STORE_MAX_SIZE_MB = 4096;
+
     private boolean doesCache = true;
+    private boolean sharedCache = true;
     private final ArrayList<Annotated> cachedList = new ArrayList<Annotated>();
     private final ArrayList<Annotated> inputList = new ArrayList<Annotated>();
 
@@ -41,11 +72,22 @@ public abstract class CachedTask extends DefaultTask {
                     addCachedField(new Annotated(clazz, f.getName()));
                 }
 
-                if (f.isAnnotationPresent(InputFile.class) || f.isAnnotationPresent(Input.class)) {
+                if (f.isAnnotationPresent(InputFile.class) || f.isAnnotationPresent(InputFiles.class) || f.isAnnotationPresent(Input.class)) {
                     inputList.add(new Annotated(clazz, f.getName()));
                 }
             }
 
+            // inputs that are worked out rather than set, like the decompiler's cache key.
+            TreeMap<String, Method> getters = new TreeMap<String, Method>();
+            for (Method m : clazz.getDeclaredMethods()) {
+                if (m.isAnnotationPresent(Input.class) && m.getParameterTypes().length == 0) {
+                    getters.put(m.getName(), m);
+                }
+            }
+            for (String name : getters.keySet()) {
+                inputList.add(new Annotated(clazz, name, true));
+            }
+
             clazz = (Class<? extends Task>) clazz.getSuperclass();
         }
 
@@ -57,6 +99,14 @@ public abstract class CachedTask extends DefaultTask {
 
             @Override
             public Boolean call(Object... objects) {
+                try {
+                    return shouldRun();
+                } finally {
+                    FileHashJournal.get(getProject()).save();
+                }
+            }
+
+            private boolean shouldRun() {
                 if (!doesCache())
                     return true;
 
@@ -68,13 +118,12 @@ public abstract class CachedTask extends DefaultTask {
                     try {
                         File file = getFile(field);
 
-                        // not there? do the task.
-                        if (!file.exists()) {
-                            return true;
-                        }
+                        // not there? maybe somebody else made it already.
+                        if (!file.exists() || !getHashFile(file).exists()) {
+                            if (restoreFromStore(field, file)) {
+                                continue;
+                            }
 
-                        File hashFile = getHashFile(file);
-                        if (!hashFile.exists()) {
                             return true;
                         }
 
@@ -89,6 +138,11 @@ public abstract class CachedTask extends DefaultTask {
                             getProject().getLogger().error(" Corrupted Cache!");
                             file.delete();
                             getHashFile(file).delete();
+
+                            if (restoreFromStore(field, file)) {
+                                continue;
+                            }
+
                             return true;
                         }
 
@@ -110,6 +164,25 @@ public abstract class CachedTask extends DefaultTask {
                 return getProject().file(f.get(getDelegate()));
             }
         });
+
+        // never write through an output that may be hard linked into the store,
+        // even with the store off: the link may be from an earlier build that had it on.
+        this.doFirst(new Action<Task>() {
+            @Override
+            public void execute(Task task) {
+                for (Annotated field : cachedList) {
+                    try {
+                        File file = getProject().file(field.getValue(task));
+                        if (file.isFile()) {
+                            file.delete();
+                            getHashFile(file).delete();
+                        }
+                    } catch (Exception e) {
+                        e.printStackTrace();
+                    }
+                }
+            }
+        });
     }
 
     private void addCachedField(final Annotated annot) {
@@ -126,6 +199,12 @@ public abstract class CachedTask extends DefaultTask {
                     if (outFile.exists()) {
                         File hashFile = getHashFile(outFile);
                         Files.write(getHashes(annot, inputList, task), hashFile, Charset.defaultCharset());
+
+                        if (usesSharedCache() && outFile.isFile()) {
+                            publishToStore(outFile, getStoreFile(annot, task));
+                        }
+
+                        FileHashJournal.get(getProject()).save();
                     }
                 }
                 // error? spit it and do the task.
@@ -140,28 +219,194 @@ public abstract class CachedTask extends DefaultTask {
         return new File(file.getParentFile(), file.getName() + ".md5");
     }
 
-    @SuppressWarnings("rawtypes")
-    private String getHashes(Annotated output, List<Annotated> inputs, Object instance) throws NoSuchFieldException, IllegalAccessException, NoSuchAlgorithmException {
+    private String getHashes(Annotated output, List<Annotated> inputs, Object instance) throws NoSuchFieldException, IllegalAccessException, IOException {
         ArrayList<String> hashes = new ArrayList<String>();
 
-        hashes.add(Constants.hash(getProject().file(output.getValue(instance))));
+        hashes.add(hashFile(getProject().file(output.getValue(instance))));
+        hashes.addAll(getInputHashes(inputs, instance));
 
-        for (Annotated input : inputs) {
-            Field f = input.getField();
+        return Joiner.on(Constants.NEWLINE).join(hashes);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private List<String> getInputHashes(List<Annotated> inputs, Object instance) throws NoSuchFieldException, IllegalAccessException, IOException {
+        ArrayList<String> hashes = new ArrayList<String>();
 
-            if (f.isAnnotationPresent(InputFile.class)) {
-                hashes.add(Constants.hash(getProject().file(input.getValue(instance))));
+        for (Annotated input : inputs) {
+            if (input.isAnnotationPresent(InputFile.class)) {
+                hashes.add(hashFile(getProject().file(input.getValue(instance))));
+            } else if (input.isAnnotationPresent(InputFiles.class)) {
+                hashes.add(hashFiles(input.getValue(instance)));
             } else {
                 Object obj = input.getValue(instance);
 
                 if (obj instanceof Closure)
                     obj = ((Closure) obj).call();
 
-                hashes.add(Constants.hash((String) obj));
+                hashes.add(Constants.hash(String.valueOf(obj)));
             }
         }
 
-        return Joiner.on(Constants.NEWLINE).join(hashes);
+        return hashes;
+    }
+
+    /**
+     * Hashes the contents of an @InputFiles field, or anything else that resolves to files. Only relative paths go
+     * into the hash, so the same files in different projects give the same result.
+     */
+    @SuppressWarnings("rawtypes")
+    protected String hashFiles(Object obj) throws IOException {
+        if (obj instanceof Closure)
+            obj = ((Closure) obj).call();
+
+        // files are hashed together at the end, so the journal can read the changed ones in parallel
+        final List<String> names = new ArrayList<String>();
+        final List<File> files = new ArrayList<File>();
+        final ArrayList<String> hashes = new ArrayList<String>();
+
+        if (obj == null) {
+            return Constants.hash("null");
+        } else if (obj instanceof FileTree) {
+            ((FileTree) obj).visit(new FileVisitor() {
+                @Override
+                public void visitDir(FileVisitDetails details) {
+                }
+
+                @Override
+                public void visitFile(FileVisitDetails details) {
+                    names.add(details.getRelativePath().getPathString());
+                    files.add(details.getFile());
+                }
+            });
+        } else if (obj instanceof FileCollection) {
+            for (File file : ((FileCollection) obj).getFiles()) {
+                names.add(file.getName());
+                files.add(file);
+            }
+        } else if (obj instanceof Iterable) {
+            for (Object o : (Iterable) obj) {
+                hashes.add(hashFiles(o));
+            }
+        } else {
+            File file = getProject().file(obj);
+            if (file.isDirectory()) {
+                listDir(file, "", names, files);
+            } else {
+                hashes.add(hashFile(file));
+            }
+        }
+
+        if (!files.isEmpty()) {
+            Map<File, String> fileHashes = FileHashJournal.get(getProject()).hashAll(files);
+            for (int i = 0; i < files.size(); i++) {
+                hashes.add(names.get(i) + "=" + fileHashes.get(files.get(i)));
+            }
+        }
+
+        Collections.sort(hashes);
+        return Constants.hash(Joiner.on(Constants.NEWLINE).join(hashes));
+    }
+
+    private String hashFile(File file) {
+        return FileHashJournal.get(getProject()).hash(file);
+    }
+
+    private void listDir(File dir, String prefix, List<String> names, List<File> files) {
+        File[] list = dir.listFiles();
+        if (list == null)
+            return;
+
+        for (File file : list) {
+            if (file.isDirectory())
+                listDir(file, prefix + file.getName() + "/", names, files);
+            else {
+                names.add(prefix + file.getName());
+                files.add(file);
+            }
+        }
+    }
+
+    /**
+     * @return the entry in the shared store for this output, named by the task type, the output field and the inputs.
+     */
+    private File getStoreFile(Annotated output, Object instance) throws NoSuchFieldException, IllegalAccessException, IOException {
+        ArrayList<String> key = new ArrayList<String>();
+        key.add("store v" + STORE_VERSION + " plugin " + SharedCaches.getPluginHash());
+        key.add(output.taskClass.getName() + "#" + output.fieldName);
+        key.addAll(getInputHashes(inputList, instance));
+
+        String hash = Constants.hash(Joiner.on(Constants.NEWLINE).join(key));
+        return new File(getStoreDir(), hash.substring(0, 2) + "/" + hash);
+    }
+
+    private File getStoreDir() {
+        return Constants.cacheFile(getProject(), "caches", "minecraft", "outputCache");
+    }
+
+    private boolean restoreFromStore(Annotated field, File file) {
+        if (!doesCache() || !usesSharedCache())
+            return false;
+
+        try {
+            File stored = getStoreFile(field, this);
+            if (!stored.isFile())
+                return false;
+
+            getProject().getLogger().info("Restoring " + file + " from shared cache " + stored);
+
+            SharedCaches.touch(stored);
+
+            file.delete();
+            file.getParentFile().mkdirs();
+
+            try {
+                java.nio.file.Files.createLink(file.toPath(), stored.toPath());
+            } catch (Exception e) {
+                // different filesystem, or no hard links at all.
+                File temp = new File(file.getParentFile(), file.getName() + "." + UUID.randomUUID() + ".tmp");
+                Files.copy(stored, temp);
+                java.nio.file.Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            Files.write(getHashes(field, inputList, this), getHashFile(file), Charset.defaultCharset());
+            return true;
+        } catch (Exception e) {
+            e.printStackTrace();
+            file.delete();
+            return false;
+        }
+    }
+
+    private void publishToStore(File file, File stored) {
+        if (stored.exists())
+            return;
+
+        stored.getParentFile().mkdirs();
+        File temp = new File(stored.getParentFile(), stored.getName() + "." + UUID.randomUUID() + ".tmp");
+
+        try {
+            Files.copy(file, temp);
+
+            // atomic, so other builds never see half an entry.
+            java.nio.file.Files.move(temp.toPath(), stored.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            getProject().getLogger().info("Published " + file + " to shared cache " + stored);
+        } catch (Exception e) {
+            // somebody else was faster, or the store is not writable. either way, not our problem.
+            getProject().getLogger().info("Could not publish " + file + " to shared cache: " + e.getMessage());
+        } finally {
+            temp.delete();
+        }
+
+        cleanStore();
+    }
+
+    /**
+     * Keeps the store within {@link #STORE_MAX_AGE_DAYS} and {@link #STORE_MAX_SIZE_MB}.
+     */
+    private void cleanStore() {
+        long left = SharedCaches.clean(getStoreDir(), STORE_MAX_SIZE_MB);
+        if (left >= 0)
+            getProject().getLogger().info("Shared cache cleaned, " + left + " MB left");
     }
 
     @Target(ElementType.FIELD)
@@ -172,17 +417,47 @@ public abstract class CachedTask extends DefaultTask {
     private class Annotated {
         private final Class<? extends Task> taskClass;
         private final String fieldName;
+        private final boolean getter;
 
         private Annotated(Class<? extends Task> taskClass, String fieldName) {
+            this(taskClass, fieldName, false);
+        }
+
+        private Annotated(Class<? extends Task> taskClass, String fieldName, boolean getter) {
             this.taskClass = taskClass;
             this.fieldName = fieldName;
+            this.getter = getter;
         }
 
         protected Field getField() throws NoSuchFieldException {
             return taskClass.getDeclaredField(fieldName);
         }
 
+        protected boolean isAnnotationPresent(Class<? extends Annotation> annotation) throws NoSuchFieldException {
+            if (getter) {
+                try {
+                    return taskClass.getDeclaredMethod(fieldName).isAnnotationPresent(annotation);
+                } catch (NoSuchMethodException e) {
+                    throw new NoSuchFieldException(fieldName);
+                }
+            }
+
+            return getField().isAnnotationPresent(annotation);
+        }
+
         protected Object getValue(Object instance) throws NoSuchFieldException, IllegalAccessException {
+            if (getter) {
+                try {
+                    Method m = taskClass.getDeclaredMethod(fieldName);
+                    m.setAccessible(true);
+                    return m.invoke(instance);
+                } catch (NoSuchMethodException e) {
+                    throw new NoSuchFieldException(fieldName);
+                } catch (InvocationTargetException e) {
+                    throw Throwables.propagate(e.getCause());
+                }
+            }
+
             Field f = getField();
             f.setAccessible(true);
             return f.get(instance);
@@ -196,4 +471,12 @@ public abstract class CachedTask extends DefaultTask {
     public void setDoesCache(boolean cacheStuff) {
         this.doesCache = cacheStuff;
     }
+
+    public boolean usesSharedCache() {
+        return sharedCache;
+    }
+
+    public void setSharedCache(boolean sharedCache) {
+        this.sharedCache = sharedCache;
+    }
 }
@@ -18,6 +18,13 @@ public class DownloadTask extends CachedTask {
     @Cached
     private DelayedFile output;
 
+    public DownloadTask() {
+        super();
+
+        // downloads already go to the gradle user home, a second copy in the store buys nothing.
+        setSharedCache(false);
+    }
+
     @TaskAction
     public void doTask() throws IOException {
         File outputFile = getProject().file(getOutput());
@@ -10,6 +10,7 @@ import com.google.common.io.LineProcessor;
 import com.nothome.delta.Delta;
 import lzma.streams.LzmaOutputStream;
 import net.minecraftforge.gradle.common.Constants;
+import net.minecraftforge.gradle.common.HashingService;
 import net.minecraftforge.gradle.delayed.DelayedFile;
 import net.minecraftforge.gradle.delayed.DelayedFileTree;
 import org.gradle.api.DefaultTask;
@@ -22,7 +23,6 @@ import java.nio.charset.Charset;
 import java.util.*;
 import java.util.jar.*;
 import java.util.jar.Pack200.Packer;
-import java.util.zip.Adler32;
 import java.util.zip.ZipEntry;
 
 public class GenBinaryPatches extends DefaultTask {
@@ -153,9 +153,7 @@ public class GenBinaryPatches extends DefaultTask {
     }
 
     private int adlerHash(byte[] input) {
-        Adler32 hasher = new Adler32();
-        hasher.update(input);
-        return (int) hasher.getValue();
+        return HashingService.adler32(input);
     }
 
     private byte[] createPatchJar(HashMap<String, byte[]> patches) throws Exception {
@@ -8,6 +8,7 @@ import com.google.common.io.ByteStreams;
 import com.nothome.delta.GDiffPatcher;
 import lzma.sdk.lzma.Decoder;
 import lzma.streams.LzmaInputStream;
+import net.minecraftforge.gradle.common.HashingService;
 import net.minecraftforge.gradle.delayed.DelayedFile;
 import net.minecraftforge.gradle.delayed.DelayedFileTree;
 import net.minecraftforge.gradle.tasks.abstractutil.CachedTask;
@@ -139,9 +140,7 @@ public class ApplyBinPatchesTask extends CachedTask {
     }
 
     private int adlerHash(byte[] input) {
-        Adler32 hasher = new Adler32();
-        hasher.update(input);
-        return (int) hasher.getValue();
+        return HashingService.adler32(input);
     }
 
     public void setup() {
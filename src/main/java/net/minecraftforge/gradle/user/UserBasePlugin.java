@@ -73,6 +73,8 @@ public abstract class UserBasePlugin extends BasePlugin<UserExtension> {
 
         addGitIgnore(); //Morons -.-
 
+        getExtension().setMappingFiles(delayedFile(METHOD_CSV), delayedFile(FIELD_CSV), delayedFile(PARAM_CSV), delayedFile(PACKAGED_SRG));
+
         configureDeps();
         configureCompilation();
         configureEclipse();
@@ -223,6 +225,15 @@ public abstract class UserBasePlugin extends BasePlugin<UserExtension> {
             decompile.dependsOn("downloadMcpTools", "deobfuscateJar", "genSrgs");
         }
 
+        BenchmarkDecompilersTask benchmark = makeTask("benchmarkDecompilers", BenchmarkDecompilersTask.class);
+        {
+            benchmark.setInJar(deobf.getDelayedOutput());
+            benchmark.setFernFlower(delayedFile(Constants.FERNFLOWER));
+            benchmark.setPatch(delayedFile(MCP_PATCH));
+            benchmark.setReport(delayedFile("{BUILD_DIR}/decompilerBenchmark.txt"));
+            benchmark.dependsOn("downloadMcpTools", "deobfuscateJar");
+        }
+
         doPostDecompTasks(clean, decompOut);
     }
 